@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.sort;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongObjectPagedHashMap;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares collecting the top hits of each bucket sorted on a numeric field
+ * with a {@link TopFieldCollector} per bucket, like {@code top_hits} does for
+ * sorts that can't be bucketed, against collecting them with a single
+ * {@link BucketedSort} for all buckets.
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(BucketedSortBenchmark.DOCS)
+@State(Scope.Benchmark)
+public class BucketedSortBenchmark {
+    static final int DOCS = 200_000;
+    private static final String FIELD = "number";
+    private static final Sort SORT = new Sort(new SortField(FIELD, SortField.Type.LONG));
+
+    /**
+     * The number of buckets that the documents are spread over.
+     */
+    @Param({ "10", "1000", "50000" })
+    public int buckets;
+
+    /**
+     * The number of top hits to collect per bucket.
+     */
+    @Param({ "3", "100" })
+    public int size;
+
+    private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
+    private final BigArrays bigArrays = new BigArrays(recycler, null, "REQUEST");
+
+    private Directory directory;
+    private IndexReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int doc = 0; doc < DOCS; doc++) {
+                Document document = new Document();
+                document.add(new NumericDocValuesField(FIELD, random.nextInt(10_000)));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public void collectorPerBucket(Blackhole bh) throws IOException {
+        try (LongObjectPagedHashMap<TopFieldCollector> collectors = new LongObjectPagedHashMap<>(1, bigArrays)) {
+            for (LeafReaderContext ctx : reader.leaves()) {
+                try (LongObjectPagedHashMap<LeafCollector> leafCollectors = new LongObjectPagedHashMap<>(1, bigArrays)) {
+                    for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                        long bucket = (ctx.docBase + doc) % buckets;
+                        LeafCollector leafCollector = leafCollectors.get(bucket);
+                        if (leafCollector == null) {
+                            TopFieldCollector collector = collectors.get(bucket);
+                            if (collector == null) {
+                                collector = TopFieldCollector.create(SORT, size, Integer.MAX_VALUE);
+                                collectors.put(bucket, collector);
+                            }
+                            leafCollector = collector.getLeafCollector(ctx);
+                            leafCollectors.put(bucket, leafCollector);
+                        }
+                        leafCollector.collect(doc);
+                    }
+                }
+            }
+            for (long bucket = 0; bucket < buckets; bucket++) {
+                bh.consume(collectors.get(bucket).topDocs());
+            }
+        }
+    }
+
+    @Benchmark
+    public void bucketedSort(Blackhole bh) throws IOException {
+        try (DocIds docIds = new DocIds(); BucketedSort sort = newBucketedSort(docIds)) {
+            for (LeafReaderContext ctx : reader.leaves()) {
+                BucketedSort.Leaf leaf = sort.forLeaf(ctx);
+                for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                    leaf.collect(doc, (ctx.docBase + doc) % buckets);
+                }
+            }
+            for (long bucket = 0; bucket < buckets; bucket++) {
+                bh.consume(sort.getValues(bucket, (index, sortValue) -> docIds.docs.get(index)));
+            }
+        }
+    }
+
+    private BucketedSort newBucketedSort(DocIds docIds) {
+        return new BucketedSort.ForLongs(bigArrays, SortOrder.ASC, DocValueFormat.RAW, size, docIds) {
+            @Override
+            public Leaf forLeaf(LeafReaderContext ctx) throws IOException {
+                NumericDocValues values = DocValues.getNumeric(ctx.reader(), FIELD);
+                return new Leaf(ctx) {
+                    private long value;
+
+                    @Override
+                    protected boolean advanceExact(int doc) throws IOException {
+                        if (values.advanceExact(doc)) {
+                            value = values.longValue();
+                            return true;
+                        }
+                        return false;
+                    }
+
+                    @Override
+                    protected long docValue() {
+                        return value;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Keeps the doc id of each competitive hit and breaks ties on it, like {@code top_hits} does.
+     */
+    private class DocIds implements BucketedSort.ExtraData, Releasable {
+        private IntArray docs = bigArrays.newIntArray(1, false);
+
+        @Override
+        public void swap(long lhs, long rhs) {
+            int tmp = docs.get(lhs);
+            docs.set(lhs, docs.get(rhs));
+            docs.set(rhs, tmp);
+        }
+
+        @Override
+        public boolean betterThan(long lhs, long rhs) {
+            return docs.get(lhs) < docs.get(rhs);
+        }
+
+        @Override
+        public Loader loader(LeafReaderContext ctx) {
+            return (index, doc) -> {
+                docs = bigArrays.grow(docs, index + 1);
+                docs.set(index, ctx.docBase + doc);
+            };
+        }
+
+        @Override
+        public void close() {
+            docs.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport.netty4;
+
+import io.netty.channel.FileRegion;
+import io.netty.util.AbstractReferenceCounted;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A message that consists of some bytes on the heap followed by a region of a file, which is sent with
+ * {@link FileChannel#transferTo} so that it does not need to be copied through the heap. Unlike netty's
+ * {@link io.netty.channel.DefaultFileRegion}, releasing this region does not close the file channel, which is shared with the other
+ * chunks of the same file and owned by whoever created the {@link FileChannelBytesReference}.
+ */
+final class Netty4FileRegion extends AbstractReferenceCounted implements FileRegion {
+
+    private final ByteBuffer header;
+    private final FileChannel file;
+    private final long filePosition;
+    private final long fileLength;
+    private long transferred;
+
+    Netty4FileRegion(BytesReference header, FileChannelBytesReference fileRegion) {
+        final BytesRef bytes = header.toBytesRef();
+        this.header = ByteBuffer.wrap(bytes.bytes, bytes.offset, bytes.length).slice();
+        this.file = fileRegion.channel();
+        this.filePosition = fileRegion.position();
+        this.fileLength = fileRegion.length();
+    }
+
+    @Override
+    public long position() {
+        return 0;
+    }
+
+    @Override
+    @Deprecated
+    public long transfered() {
+        return transferred;
+    }
+
+    @Override
+    public long transferred() {
+        return transferred;
+    }
+
+    @Override
+    public long count() {
+        return header.capacity() + fileLength;
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target, long position) throws IOException {
+        final int headerLength = header.capacity();
+        long written = 0;
+        if (position < headerLength) {
+            final ByteBuffer buffer = header.duplicate();
+            buffer.position(Math.toIntExact(position));
+            written = target.write(buffer);
+            if (buffer.hasRemaining()) {
+                transferred += written;
+                return written;
+            }
+            position = headerLength;
+        }
+        final long fileOffset = position - headerLength;
+        if (fileOffset < fileLength) {
+            final long fileWritten = file.transferTo(filePosition + fileOffset, fileLength - fileOffset, target);
+            if (fileWritten == 0 && file.size() < filePosition + fileLength) {
+                throw new IOException("file was truncated while sending [" + fileLength + "] bytes from position [" + filePosition
+                    + "]; size [" + file.size() + "]");
+            }
+            written += fileWritten;
+        }
+        transferred += written;
+        return written;
+    }
+
+    @Override
+    public FileRegion retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public FileRegion retain(int increment) {
+        super.retain(increment);
+        return this;
+    }
+
+    @Override
+    public FileRegion touch() {
+        return this;
+    }
+
+    @Override
+    public FileRegion touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        // the file channel is closed by its owner once all chunks of the file were sent
+    }
+}
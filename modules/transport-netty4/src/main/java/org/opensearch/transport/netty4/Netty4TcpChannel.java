@@ -35,10 +35,12 @@ package org.opensearch.transport.netty4;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.ssl.SslHandler;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
 import org.opensearch.common.concurrent.CompletableContext;
 import org.opensearch.transport.TcpChannel;
 import org.opensearch.transport.TransportException;
@@ -156,7 +158,15 @@ public class Netty4TcpChannel implements TcpChannel {
 
     @Override
     public void sendMessage(BytesReference reference, ActionListener<Void> listener) {
-        channel.writeAndFlush(Netty4Utils.toByteBuf(reference), addPromise(listener, channel));
+        final FileChannelBytesReference fileRegion = FileChannelBytesReference.trailingFileRegion(reference);
+        final Object message;
+        if (fileRegion != null && channel.pipeline().get(SslHandler.class) == null) {
+            // send the file region straight from the file, unless its bytes have to pass through the pipeline to be encrypted
+            message = new Netty4FileRegion(reference.slice(0, reference.length() - fileRegion.length()), fileRegion);
+        } else {
+            message = Netty4Utils.toByteBuf(reference);
+        }
+        channel.writeAndFlush(message, addPromise(listener, channel));
 
         if (channel.eventLoop().isShutdown()) {
             listener.onFailure(new TransportException("Cannot send message, event loop is shutting down."));
@@ -34,8 +34,12 @@ package org.opensearch.transport.netty4;
 
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.apache.lucene.util.SetOnce;
 import org.opensearch.bootstrap.JavaVersion;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.ClusterSettings;
@@ -44,23 +48,34 @@ import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.core.internal.net.NetUtils;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.indices.recovery.RecoveryFileChunkRequest;
 import org.opensearch.test.transport.MockTransportService;
 import org.opensearch.test.transport.StubbableTransport;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.AbstractSimpleTransportTestCase;
 import org.opensearch.transport.ConnectTransportException;
 import org.opensearch.transport.ConnectionProfile;
+import org.opensearch.transport.EmptyTransportResponseHandler;
 import org.opensearch.transport.Netty4NioSocketChannel;
 import org.opensearch.transport.SharedGroupFactory;
 import org.opensearch.transport.TcpChannel;
 import org.opensearch.transport.TcpTransport;
 import org.opensearch.transport.TestProfiles;
 import org.opensearch.transport.Transport;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportSettings;
 
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 
 import static java.util.Collections.emptyMap;
@@ -132,6 +147,38 @@ public class SimpleNetty4TransportTests extends AbstractSimpleTransportTestCase
         }
     }
 
+    public void testSendFileChunkFromFile() throws Exception {
+        final byte[] fileBytes = randomByteArrayOfLength(between(1, 1 << 20));
+        final Path file = createTempFile();
+        Files.write(file, fileBytes);
+        final int position = between(0, fileBytes.length - 1);
+        final int length = between(1, fileBytes.length - position);
+        final Settings settings = Settings.builder().put(TransportSettings.TRANSPORT_COMPRESS.getKey(), randomBoolean()).build();
+        try (MockTransportService serviceC = buildService("TS_C", Version.CURRENT, settings);
+             MockTransportService serviceD = buildService("TS_D", Version.CURRENT, Settings.EMPTY);
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            serviceC.start();
+            serviceC.acceptIncomingRequests();
+            serviceD.start();
+            serviceD.acceptIncomingRequests();
+
+            final SetOnce<BytesReference> receivedContent = new SetOnce<>();
+            serviceD.registerRequestHandler("internal:file_chunk", ThreadPool.Names.SAME, RecoveryFileChunkRequest::new,
+                (request, transportChannel, task) -> {
+                    receivedContent.set(new BytesArray(BytesReference.toBytes(request.content())));
+                    transportChannel.sendResponse(TransportResponse.Empty.INSTANCE);
+                });
+            serviceC.connectToNode(serviceD.getLocalDiscoNode());
+
+            final RecoveryFileChunkRequest request = new RecoveryFileChunkRequest(randomNonNegativeLong(), randomNonNegativeLong(),
+                new ShardId("index", "_na_", 0), new StoreFileMetadata("_0.cfs", fileBytes.length, "checksum",
+                org.apache.lucene.util.Version.LATEST), position, new FileChannelBytesReference(channel, position, length), true, 0, 0L);
+            serviceC.submitRequest(serviceD.getLocalDiscoNode(), "internal:file_chunk", request,
+                EmptyTransportResponseHandler.INSTANCE_SAME).txGet();
+            assertEquals(new BytesArray(fileBytes, position, length), receivedContent.get());
+        }
+    }
+
     private void checkDefaultKeepAliveOptions(TcpChannel channel) throws IOException {
         assertThat(channel, instanceOf(Netty4TcpChannel.class));
         Netty4TcpChannel nettyChannel = (Netty4TcpChannel) channel;
@@ -70,7 +70,11 @@ public class AnnotatedTextHighlighter extends UnifiedHighlighter {
         }
         // Store the annotations in the formatter and analyzer
         ((AnnotatedPassageFormatter) highlighter.getFormatter()).setAnnotations(annotations);
-        ((AnnotatedHighlighterAnalyzer) highlighter.getIndexAnalyzer()).setAnnotations(annotations);
+        Analyzer analyzer = highlighter.getIndexAnalyzer();
+        if (analyzer instanceof LimitTokenOffsetAnalyzer) {
+            analyzer = ((LimitTokenOffsetAnalyzer) analyzer).getDelegate();
+        }
+        ((AnnotatedHighlighterAnalyzer) analyzer).setAnnotations(annotations);
         return strings;
     }
 
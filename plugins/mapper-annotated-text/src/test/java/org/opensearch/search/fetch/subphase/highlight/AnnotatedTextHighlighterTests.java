@@ -132,7 +132,8 @@ public class AnnotatedTextHighlighterTests extends OpenSearchTestCase {
             expectedPassages.length,
             name -> "text".equals(name),
             Integer.MAX_VALUE,
-            Integer.MAX_VALUE
+            Integer.MAX_VALUE,
+            null
         );
         highlighter.setFieldMatcher((name) -> "text".equals(name));
         final Snippet[] snippets = highlighter.highlightField(getOnlyLeafReader(reader), topDocs.scoreDocs[0].doc, () -> rawValue);
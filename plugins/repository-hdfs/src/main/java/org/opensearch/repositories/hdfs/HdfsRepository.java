@@ -83,7 +83,7 @@ public final class HdfsRepository extends BlobStoreRepository {
         final ClusterService clusterService,
         final RecoverySettings recoverySettings) {
         super(metadata, metadata.settings().getAsBoolean("compress", false), namedXContentRegistry, clusterService,
-            recoverySettings);
+            recoverySettings, environment.tmpFile());
 
         this.environment = environment;
         this.chunkSize = metadata.settings().getAsBytesSize("chunk_size", null);
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.action.admin.indices.recovery.RecoveryResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.AbstractSnapshotIntegTestCase;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class SnapshotBasedPeerRecoveryIT extends AbstractSnapshotIntegTestCase {
+
+    public void testReplicaRecoversFilesFromSnapshot() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNodes(2);
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        createRepository(repoName, "fs", randomRepositorySettings().put(BlobStoreRepository.USE_FOR_PEER_RECOVERY_SETTING.getKey(), true));
+        setUseSnapshotsDuringRecovery(true);
+
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        final int numDocs = between(10, 100);
+        indexRandomDocs(indexName, numDocs);
+        createSnapshot(repoName, "test-snap", Collections.singletonList(indexName));
+
+        final RecoveryState recoveryState = addReplicaAndGetRecoveryState(indexName);
+        final RecoveryState.Index index = recoveryState.getIndex();
+        assertThat(index.recoveredFromSnapshotBytes(), greaterThan(0L));
+        // small files whose contents are stored in the shard level metadata of the repository are still sent by the source
+        assertThat(index.recoveredFromSnapshotBytes(), lessThanOrEqualTo(index.recoveredBytes()));
+        assertThat(index.recoveredBytes(), equalTo(index.totalRecoverBytes()));
+        assertReplicaDocCount(recoveryState, indexName, numDocs);
+    }
+
+    public void testRepositoryNotUsedForPeerRecoveryUnlessEnabled() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNodes(2);
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        final boolean enabledOnRepository = randomBoolean();
+        createRepository(repoName, "fs",
+            randomRepositorySettings().put(BlobStoreRepository.USE_FOR_PEER_RECOVERY_SETTING.getKey(), enabledOnRepository));
+        setUseSnapshotsDuringRecovery(enabledOnRepository == false);
+
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        final int numDocs = between(10, 100);
+        indexRandomDocs(indexName, numDocs);
+        createSnapshot(repoName, "test-snap", Collections.singletonList(indexName));
+
+        final RecoveryState recoveryState = addReplicaAndGetRecoveryState(indexName);
+        assertThat(recoveryState.getIndex().recoveredFromSnapshotBytes(), equalTo(0L));
+        assertThat(recoveryState.getIndex().recoveredBytes(), greaterThan(0L));
+        assertReplicaDocCount(recoveryState, indexName, numDocs);
+    }
+
+    public void testSnapshotOfEarlierIndexWithSameNameNotUsedForPeerRecovery() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNodes(2);
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        createRepository(repoName, "fs", randomRepositorySettings().put(BlobStoreRepository.USE_FOR_PEER_RECOVERY_SETTING.getKey(), true));
+        setUseSnapshotsDuringRecovery(true);
+
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        indexRandomDocs(indexName, between(10, 100));
+        createSnapshot(repoName, "snap-of-earlier-index", Collections.singletonList(indexName));
+        assertAcked(client().admin().indices().prepareDelete(indexName));
+
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        final int numDocs = between(10, 100);
+        indexRandomDocs(indexName, numDocs);
+        final boolean snapshotOfCurrentIndex = randomBoolean();
+        if (snapshotOfCurrentIndex) {
+            createSnapshot(repoName, "snap-of-current-index", Collections.singletonList(indexName));
+        }
+
+        final RecoveryState recoveryState = addReplicaAndGetRecoveryState(indexName);
+        if (snapshotOfCurrentIndex) {
+            assertThat(recoveryState.getIndex().recoveredFromSnapshotBytes(), greaterThan(0L));
+        } else {
+            assertThat(recoveryState.getIndex().recoveredFromSnapshotBytes(), equalTo(0L));
+        }
+        assertReplicaDocCount(recoveryState, indexName, numDocs);
+    }
+
+    private void setUseSnapshotsDuringRecovery(boolean useSnapshots) {
+        assertAcked(client().admin().cluster().prepareUpdateSettings().setTransientSettings(Settings.builder()
+            .put(RecoverySettings.INDICES_RECOVERY_USE_SNAPSHOTS_SETTING.getKey(), useSnapshots)));
+    }
+
+    private void assertReplicaDocCount(RecoveryState recoveryState, String indexName, long numDocs) {
+        assertHitCount(client(recoveryState.getTargetNode().getName()).prepareSearch(indexName).setPreference("_only_local")
+            .setSize(0).get(), numDocs);
+    }
+
+    private RecoveryState addReplicaAndGetRecoveryState(String indexName) {
+        assertAcked(client().admin().indices().prepareUpdateSettings(indexName)
+            .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)));
+        ensureGreen(indexName);
+        final RecoveryResponse response = client().admin().indices().prepareRecoveries(indexName).get();
+        final List<RecoveryState> peerRecoveries = response.shardRecoveryStates().get(indexName).stream()
+            .filter(state -> state.getRecoverySource().getType() == RecoverySource.Type.PEER)
+            .collect(Collectors.toList());
+        assertThat(peerRecoveries, hasSize(1));
+        return peerRecoveries.get(0);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.collapse;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchType;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.InnerHitBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class CollapseSearchIT extends OpenSearchIntegTestCase {
+
+    public void testExpandGroupsOfAllHits() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(indexSettings())
+            .addMapping("_doc", "group", "type=keyword", "num_group", "type=long", "sort", "type=long", "text", "type=text"));
+        List<IndexRequestBuilder> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            IndexRequestBuilder request = client().prepareIndex("test", "_doc", Integer.toString(i));
+            if (i % 7 == 0) {
+                request.setSource("sort", i, "text", randomFrom("foo", "foo bar"));
+            } else {
+                int group = randomIntBetween(0, 4);
+                request.setSource("group", "group-" + group, "num_group", group, "sort", i, "text", randomFrom("foo", "foo bar"));
+            }
+            requests.add(request);
+        }
+        indexRandom(true, requests);
+
+        for (String field : Arrays.asList("group", "num_group")) {
+            QueryBuilder query = randomBoolean() ? QueryBuilders.matchAllQuery() : QueryBuilders.matchQuery("text", "bar");
+            QueryBuilder postFilter = randomBoolean() ? null : QueryBuilders.rangeQuery("sort").gte(10);
+            // the scores of the groups and of the reference searches must be computed with the same term statistics
+            SearchResponse response = client().prepareSearch("test")
+                .setSearchType(SearchType.QUERY_THEN_FETCH)
+                .setQuery(query)
+                .setPostFilter(postFilter)
+                .setSize(10)
+                .setCollapse(new CollapseBuilder(field).setInnerHits(Arrays.asList(
+                    new InnerHitBuilder("first").setSize(3).addSort(SortBuilders.fieldSort("sort").order(SortOrder.ASC)),
+                    new InnerHitBuilder("best").setSize(2).setVersion(true))))
+                .get();
+            assertSearchResponse(response);
+            assertThat(response.getHits().getHits().length, greaterThan(1));
+            for (SearchHit hit : response.getHits()) {
+                Object collapseValue = hit.field(field).getValue();
+                BoolQueryBuilder groupQuery = QueryBuilders.boolQuery().must(query);
+                if (collapseValue == null) {
+                    groupQuery.mustNot(QueryBuilders.existsQuery(field));
+                } else {
+                    groupQuery.filter(QueryBuilders.termQuery(field, collapseValue));
+                }
+                if (postFilter != null) {
+                    groupQuery.filter(postFilter);
+                }
+                SearchResponse first = client().prepareSearch("test").setSearchType(SearchType.QUERY_THEN_FETCH)
+                    .setQuery(groupQuery).setSize(3).addSort("sort", SortOrder.ASC).get();
+                assertGroupHits(first.getHits(), hit.getInnerHits().get("first"), false);
+                SearchResponse best = client().prepareSearch("test").setSearchType(SearchType.QUERY_THEN_FETCH)
+                    .setQuery(groupQuery).setSize(2).get();
+                assertGroupHits(best.getHits(), hit.getInnerHits().get("best"), true);
+            }
+        }
+    }
+
+    public void testExpandGroupsBeyondInnerResultWindowOfIndex() throws Exception {
+        // the top hits of a group in a batch are bounded by the inner result window, unlike the hits of a search per group
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder().put(indexSettings()).put(IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING.getKey(), 2))
+            .addMapping("_doc", "group", "type=keyword"));
+        List<IndexRequestBuilder> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("group", "group-" + (i % 4)));
+        }
+        indexRandom(true, requests);
+
+        SearchResponse response = client().prepareSearch("test")
+            .setCollapse(new CollapseBuilder("group").setInnerHits(new InnerHitBuilder("hits").setSize(5)))
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getHits().length, equalTo(4));
+        for (SearchHit hit : response.getHits()) {
+            assertThat(hit.getInnerHits().get("hits").getHits().length, equalTo(5));
+        }
+    }
+
+    private static void assertGroupHits(SearchHits expected, SearchHits actual, boolean sortedByScore) {
+        assertThat(actual.getTotalHits().value, equalTo(expected.getTotalHits().value));
+        assertThat(actual.getHits().length, equalTo(expected.getHits().length));
+        for (int i = 0; i < expected.getHits().length; i++) {
+            if (sortedByScore) {
+                // documents with equal scores may be ordered differently across shards
+                assertThat(actual.getAt(i).getScore(), equalTo(expected.getAt(i).getScore()));
+                assertThat(actual.getAt(i).getVersion(), equalTo(1L));
+            } else {
+                assertThat(actual.getAt(i).getId(), equalTo(expected.getAt(i).getId()));
+            }
+        }
+    }
+}
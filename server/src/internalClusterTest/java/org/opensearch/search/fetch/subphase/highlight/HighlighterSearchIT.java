@@ -52,6 +52,7 @@ import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.AbstractIndexAnalyzerProvider;
 import org.opensearch.index.analysis.AnalyzerProvider;
 import org.opensearch.index.analysis.PreConfiguredTokenFilter;
@@ -3028,6 +3029,37 @@ public class HighlighterSearchIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testQueryMaxAnalyzedOffset() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder().put(IndexSettings.MAX_ANALYZED_OFFSET_SETTING.getKey(), 20))
+            .addMapping("_doc", "field1", "type=text"));
+        client().prepareIndex("test", "_doc", "1")
+            .setSource("field1", "The quick brown fox went to the forest and saw another fox.")
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
+            .get();
+
+        // the field is indexed without offsets and is longer than the maximum offset that can be analyzed
+        assertFailures(client().prepareSearch("test")
+                .setQuery(matchQuery("field1", "fox"))
+                .highlighter(new HighlightBuilder().field("field1").highlighterType("unified")),
+            RestStatus.BAD_REQUEST,
+            containsString("maximum allowed to be analyzed for highlighting"));
+
+        SearchResponse searchResponse = client().prepareSearch("test")
+            .setQuery(matchQuery("field1", "fox"))
+            .highlighter(new HighlightBuilder().field("field1").highlighterType("unified").maxAnalyzedOffset(10))
+            .get();
+        assertNotHighlighted(searchResponse, 0, "field1");
+
+        // the limit of the request can't exceed the limit of the index
+        searchResponse = client().prepareSearch("test")
+            .setQuery(matchQuery("field1", "fox"))
+            .highlighter(new HighlightBuilder().field(new Field("field1").maxAnalyzedOffset(100)).highlighterType("unified"))
+            .get();
+        assertHighlight(searchResponse, 0, "field1", 0, 1,
+            equalTo("The quick brown <em>fox</em> went to the forest and saw another fox."));
+    }
+
     public static class MockAnalysisPlugin extends Plugin implements AnalysisPlugin {
 
         public final class MockSnowBall extends TokenFilter {
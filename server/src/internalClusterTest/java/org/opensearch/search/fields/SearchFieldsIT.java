@@ -33,6 +33,7 @@
 package org.opensearch.search.fields;
 
 import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchPhaseExecutionException;
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.Strings;
@@ -47,6 +48,7 @@ import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.plugins.Plugin;
@@ -57,6 +59,7 @@ import org.opensearch.script.ScriptType;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.lookup.FieldLookup;
+import org.opensearch.search.profile.ProfileShardResult;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.InternalSettingsPlugin;
@@ -1237,4 +1240,58 @@ public class SearchFieldsIT extends OpenSearchIntegTestCase {
         assertThat(fields.get("field1"), nullValue());
         assertThat(fields.get("_routing").getValue().toString(), equalTo("1"));
     }
+
+    public void testFetchFieldsFromDocValues() throws Exception {
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder().put(IndexSettings.FETCH_FIELDS_FROM_DOC_VALUES_SETTING.getKey(), true))
+            .addMapping("_doc", jsonBuilder().startObject().startObject("_doc")
+                .startObject("_source").field("enabled", false).endObject()
+                .startObject("properties")
+                    .startObject("keyword_field").field("type", "keyword").endObject()
+                    .startObject("long_field").field("type", "long").endObject()
+                    .startObject("date_field").field("type", "date").field("format", "yyyy-MM-dd").endObject()
+                    .startObject("text_field").field("type", "text").endObject()
+                .endObject()
+            .endObject().endObject()));
+        indexRandom(true, client().prepareIndex("test", "_doc", "1")
+            .setSource("keyword_field", "foo", "long_field", 42, "date_field", "2021-03-04", "text_field", "bar"));
+
+        // the source is disabled, so the values can only come from doc values
+        SearchResponse response = client().prepareSearch("test")
+            .addFetchField("keyword_field")
+            .addFetchField("long_field")
+            .addFetchField("date_field")
+            .setProfile(true)
+            .get();
+        assertSearchResponse(response);
+        assertHitCount(response, 1);
+        SearchHit hit = response.getHits().getAt(0);
+        assertThat(hit.getId(), equalTo("1"));
+        assertThat(hit.field("keyword_field").getValues(), equalTo(Collections.singletonList("foo")));
+        assertThat(hit.field("long_field").getValues(), equalTo(Collections.singletonList(42L)));
+        assertThat(hit.field("date_field").getValues(), equalTo(Collections.singletonList("2021-03-04")));
+        int fetchProfiles = 0;
+        for (ProfileShardResult profileShardResult : response.getProfileResults().values()) {
+            if (profileShardResult.getFetchProfileResult() != null) {
+                fetchProfiles++;
+                assertThat(profileShardResult.getFetchProfileResult().getDebugInfo().get("fields_strategy"), equalTo("doc_values"));
+            }
+        }
+        assertThat(fetchProfiles, equalTo(1));
+
+        // text fields don't have doc values, so the fields have to come from the source
+        SearchPhaseExecutionException e = expectThrows(SearchPhaseExecutionException.class,
+            () -> client().prepareSearch("test")
+                .setAllowPartialSearchResults(false)
+                .addFetchField("keyword_field")
+                .addFetchField("text_field")
+                .get());
+        assertThat(e.toString(), containsString("since _source is disabled"));
+
+        assertAcked(client().admin().indices().prepareUpdateSettings("test")
+            .setSettings(Settings.builder().put(IndexSettings.FETCH_FIELDS_FROM_DOC_VALUES_SETTING.getKey(), false)));
+        e = expectThrows(SearchPhaseExecutionException.class,
+            () -> client().prepareSearch("test").setAllowPartialSearchResults(false).addFetchField("keyword_field").get());
+        assertThat(e.toString(), containsString("since _source is disabled"));
+    }
 }
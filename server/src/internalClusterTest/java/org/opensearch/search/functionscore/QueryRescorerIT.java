@@ -50,6 +50,7 @@ import org.opensearch.index.query.functionscore.ScoreFunctionBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.rescore.QueryRescoreMode;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.test.OpenSearchIntegTestCase;
@@ -439,6 +440,44 @@ public class QueryRescorerIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testPartitionedRescore() throws Exception {
+        // no dummy docs since merges can change scores while we run queries.
+        int numDocs = indexRandomNumbers("whitespace", -1, false);
+        try {
+            final int iters = scaledRandomIntBetween(10, 20);
+            for (int i = 0; i < iters; i++) {
+                String intToEnglish = English.intToEnglish(between(0, numDocs - 1));
+                String query = intToEnglish.split(" ")[0];
+                SearchRequestBuilder request = client().prepareSearch()
+                    .setSearchType(SearchType.QUERY_THEN_FETCH)
+                    .setPreference("test") // ensure we hit the same shards for tie-breaking
+                    .setQuery(QueryBuilders.matchQuery("field1", query).operator(Operator.OR))
+                    .setSize(numDocs)
+                    .setRescorer(new QueryRescorerBuilder(matchPhraseQuery("field1", intToEnglish).slop(3))
+                        .setScoreMode(randomFrom(QueryRescoreMode.values())), between(1, numDocs));
+
+                assertAcked(client().admin().cluster().prepareUpdateSettings()
+                    .setTransientSettings(Settings.builder().put(SearchService.RESCORE_MAX_PARTITIONS_SETTING.getKey(), 1)));
+                SearchResponse sequential = request.get();
+                assertAcked(client().admin().cluster().prepareUpdateSettings()
+                    .setTransientSettings(Settings.builder().put(SearchService.RESCORE_MAX_PARTITIONS_SETTING.getKey(), between(2, 8))));
+                SearchResponse partitioned = request.get();
+
+                assertNoFailures(partitioned);
+                SearchHit[] hits = sequential.getHits().getHits();
+                SearchHit[] partitionedHits = partitioned.getHits().getHits();
+                assertThat(partitionedHits.length, equalTo(hits.length));
+                for (int j = 0; j < hits.length; j++) {
+                    assertThat("query: " + query, partitionedHits[j].getId(), equalTo(hits[j].getId()));
+                    assertThat("query: " + query, partitionedHits[j].getScore(), equalTo(hits[j].getScore()));
+                }
+            }
+        } finally {
+            assertAcked(client().admin().cluster().prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(SearchService.RESCORE_MAX_PARTITIONS_SETTING.getKey())));
+        }
+    }
+
     public void testExplain() throws Exception {
         assertAcked(prepareCreate("test")
                 .addMapping(
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.query.InnerHitBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.lucene.search.join.ScoreMode.None;
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.index.query.QueryBuilders.nestedQuery;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class FetchProfilerIT extends OpenSearchIntegTestCase {
+
+    public void testFetchProfile() throws Exception {
+        assertAcked(prepareCreate("idx").addMapping("_doc", jsonBuilder().startObject().startObject("properties")
+            .startObject("text").field("type", "text").endObject()
+            .startObject("comments").field("type", "nested").startObject("properties")
+                .startObject("author").field("type", "keyword").endObject()
+            .endObject().endObject()
+            .endObject().endObject()));
+        int numDocs = randomIntBetween(5, 20);
+        List<IndexRequestBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            builders.add(client().prepareIndex("idx", "_doc").setSource(jsonBuilder().startObject()
+                .field("text", "quick brown fox " + i)
+                .startArray("comments").startObject().field("author", "author" + i).endObject().endArray()
+                .endObject()));
+        }
+        indexRandom(true, builders);
+
+        SearchResponse response = client().prepareSearch("idx")
+            .setProfile(true)
+            .setQuery(nestedQuery("comments", matchAllQuery(), None).innerHit(new InnerHitBuilder()))
+            .setPostFilter(matchQuery("text", "fox"))
+            .highlighter(new HighlightBuilder().field("text").highlightQuery(matchQuery("text", "fox")))
+            .setSize(numDocs)
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getHits().length, equalTo(numDocs));
+
+        Map<String, ProfileShardResult> profileResults = response.getProfileResults();
+        assertThat(profileResults, notNullValue());
+        long fetchedShards = 0;
+        for (ProfileShardResult profileShardResult : profileResults.values()) {
+            ProfileResult fetchProfile = profileShardResult.getFetchProfileResult();
+            if (fetchProfile == null) {
+                // shards without any of the top hits might not run a fetch phase
+                continue;
+            }
+            fetchedShards++;
+            assertThat(fetchProfile.getQueryName(), equalTo("fetch"));
+            assertThat(fetchProfile.getTime(), greaterThan(0L));
+            assertThat(fetchProfile.getTimeBreakdown().get("load_stored_fields_count"), greaterThan(0L));
+            assertThat(fetchProfile.getTimeBreakdown().get("next_reader_count"), greaterThan(0L));
+            Set<String> subPhases = fetchProfile.getProfiledChildren().stream()
+                .map(ProfileResult::getQueryName)
+                .collect(Collectors.toSet());
+            assertThat(subPhases, hasItems("FetchSourcePhase", "HighlightPhase", "InnerHitsPhase"));
+            for (ProfileResult subPhase : fetchProfile.getProfiledChildren()) {
+                assertThat(subPhase.getTimeBreakdown().get("process_count"), greaterThan(0L));
+                assertThat(subPhase.getProfiledChildren().isEmpty(), equalTo(true));
+                if (subPhase.getQueryName().equals("HighlightPhase")) {
+                    // the text field is indexed without offsets, so it is analyzed again to highlight it
+                    assertThat((Long) subPhase.getDebugInfo().get("unified_reanalyzed_fields"), greaterThan(0L));
+                    assertThat((Long) subPhase.getDebugInfo().get("unified_reanalyzed_chars"), greaterThan(0L));
+                    assertThat(subPhase.getDebugInfo().get("unified_truncated_fields"), equalTo(0L));
+                }
+            }
+        }
+        assertThat(fetchedShards, greaterThan(0L));
+    }
+
+    public void testNoFetchProfileWithoutProfiling() throws Exception {
+        createIndex("idx");
+        indexRandom(true, client().prepareIndex("idx", "_doc").setSource("text", "quick brown fox"));
+        SearchResponse response = client().prepareSearch("idx").get();
+        assertSearchResponse(response);
+        assertThat(response.getProfileResults().isEmpty(), equalTo(true));
+
+        response = client().prepareSearch("idx").setProfile(true).setSize(0).get();
+        assertSearchResponse(response);
+        for (ProfileShardResult profileShardResult : response.getProfileResults().values()) {
+            assertThat(profileShardResult.getFetchProfileResult(), nullValue());
+        }
+    }
+}
@@ -45,6 +45,7 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.profile.ProfileResult;
 import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchIntegTestCase;
 
@@ -619,6 +620,38 @@ public class QueryProfilerIT extends OpenSearchIntegTestCase {
     /**
      * This test makes sure no profile results are returned when profiling is disabled
      */
+    public void testRescore() throws Exception {
+        createIndex("test", Settings.builder().put("index.number_of_shards", 1).build());
+        int numDocs = randomIntBetween(100, 150);
+        IndexRequestBuilder[] docs = new IndexRequestBuilder[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            docs[i] = client().prepareIndex("test", "type1", String.valueOf(i)).setSource(
+                    "field1", English.intToEnglish(i),
+                    "field2", i
+            );
+        }
+
+        indexRandom(true, docs);
+        ensureGreen();
+
+        SearchResponse resp = client().prepareSearch()
+                .setQuery(QueryBuilders.matchQuery("field1", "one"))
+                .addRescorer(new QueryRescorerBuilder(QueryBuilders.matchPhraseQuery("field1", "one hundred")), 50)
+                .setProfile(true)
+                .setSearchType(SearchType.QUERY_THEN_FETCH)
+                .get();
+
+        Map<String, ProfileShardResult> p = resp.getProfileResults();
+        assertNotNull(p);
+        assertThat("Profile response should not be an empty array", resp.getProfileResults().size(), not(0));
+
+        for (Map.Entry<String, ProfileShardResult> shardResult : resp.getProfileResults().entrySet()) {
+            for (QueryProfileShardResult searchProfiles : shardResult.getValue().getQueryProfileResults()) {
+                assertThat(searchProfiles.getRescoreTime(), greaterThan(0L));
+            }
+        }
+    }
+
     public void testNoProfile() throws Exception {
         createIndex("test");
         ensureGreen();
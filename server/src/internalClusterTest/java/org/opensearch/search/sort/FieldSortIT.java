@@ -42,8 +42,10 @@ import org.opensearch.action.bulk.BulkRequestBuilder;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.search.SearchPhaseExecutionException;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchType;
 import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -1950,4 +1952,53 @@ public class FieldSortIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testSortWithGlobalBottomSortValues() throws Exception {
+        // the concurrent shard requests are limited per node, allocate all shards to the same node so that they are queried in turn
+        final String node = client().admin().cluster().prepareState().get().getState().nodes()
+            .getDataNodes().values().toArray(DiscoveryNode.class)[0].getName();
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder()
+                .put("index.number_of_shards", between(3, 5))
+                .put("index.number_of_replicas", 0)
+                .put("index.routing.allocation.require._name", node))
+            .addMapping("_doc", "long_field", "type=long"));
+        ensureGreen("test");
+        final int numDocs = between(200, 400);
+        List<IndexRequestBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            builders.add(client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("long_field", i));
+        }
+        indexRandom(true, builders);
+
+        for (SortOrder order : SortOrder.values()) {
+            SearchResponse pruned = client().prepareSearch("test")
+                .setSearchType(SearchType.QUERY_THEN_FETCH)
+                .addSort(new FieldSortBuilder("long_field").order(order))
+                .setTrackTotalHits(false)
+                .setMaxConcurrentShardRequests(1)
+                .setSize(5)
+                .get();
+            assertSearchResponse(pruned);
+            assertThat(pruned.getBottomSortFilteredShards(), greaterThan(0));
+
+            // documents are counted, so they can't be skipped
+            SearchResponse counted = client().prepareSearch("test")
+                .setSearchType(SearchType.QUERY_THEN_FETCH)
+                .addSort(new FieldSortBuilder("long_field").order(order))
+                .setTrackTotalHits(true)
+                .setMaxConcurrentShardRequests(1)
+                .setSize(5)
+                .get();
+            assertSearchResponse(counted);
+            assertThat(counted.getBottomSortFilteredShards(), equalTo(0));
+
+            assertThat(pruned.getHits().getHits().length, equalTo(5));
+            for (int i = 0; i < 5; i++) {
+                long expected = order == SortOrder.ASC ? i : numDocs - 1 - i;
+                assertThat(pruned.getHits().getAt(i).getSortValues()[0], equalTo(expected));
+                assertThat(counted.getHits().getAt(i).getSortValues()[0], equalTo(expected));
+            }
+        }
+    }
+
 }
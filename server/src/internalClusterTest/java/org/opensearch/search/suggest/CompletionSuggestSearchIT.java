@@ -35,6 +35,7 @@ import com.carrotsearch.randomizedtesting.generators.RandomStrings;
 import org.apache.lucene.analysis.TokenStreamToAutomaton;
 import org.apache.lucene.search.suggest.document.ContextSuggestField;
 import org.apache.lucene.util.LuceneTestCase.SuppressCodecs;
+import org.opensearch.action.admin.cluster.node.stats.NodeStats;
 import org.opensearch.action.admin.indices.forcemerge.ForceMergeResponse;
 import org.opensearch.action.admin.indices.segments.IndexShardSegments;
 import org.opensearch.action.admin.indices.segments.ShardSegments;
@@ -44,6 +45,7 @@ import org.opensearch.action.search.SearchPhaseExecutionException;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.common.FieldMemoryStats;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.Fuzziness;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -74,6 +76,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+import static org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest.Metric.BREAKER;
 import static org.opensearch.action.support.WriteRequest.RefreshPolicy.IMMEDIATE;
 import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_REPLICAS;
 import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_SHARDS;
@@ -834,6 +837,33 @@ public class CompletionSuggestSearchIT extends OpenSearchIntegTestCase {
         assertThat(regexSizeInBytes, is(totalSizeInBytes));
     }
 
+    public void testFstsAreLoadedAndAccountedOnRefresh() throws Exception {
+        createIndexAndMappingAndSettings(Settings.builder().put("index.number_of_replicas", 0).build(), completionMappingBuilder);
+        List<IndexRequestBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < randomIntBetween(10, 50); i++) {
+            builders.add(client().prepareIndex(INDEX, TYPE, "" + i)
+                .setSource(jsonBuilder().startObject().field(FIELD, "suggestion" + i).endObject()));
+        }
+        indexRandom(true, builders);
+
+        // the warmer loaded the FSTs, no suggest request needed to
+        long completionSizeInBytes = client().admin().indices().prepareStats(INDEX).setCompletion(true).get()
+            .getIndex(INDEX).getPrimaries().completion.getSizeInBytes();
+        assertThat(completionSizeInBytes, greaterThan(0L));
+        assertThat(fielddataBreakerEstimate(), equalTo(completionSizeInBytes));
+
+        assertAcked(client().admin().indices().prepareDelete(INDEX));
+        assertBusy(() -> assertThat(fielddataBreakerEstimate(), equalTo(0L)));
+    }
+
+    private long fielddataBreakerEstimate() {
+        long estimate = 0;
+        for (NodeStats stats : client().admin().cluster().prepareNodesStats().addMetric(BREAKER.metricName()).get().getNodes()) {
+            estimate += stats.getBreaker().getStats(CircuitBreaker.FIELDDATA).getEstimated();
+        }
+        return estimate;
+    }
+
     public void testThatSortingOnCompletionFieldReturnsUsefulException() throws Exception {
         createIndexAndMapping(completionMappingBuilder);
 
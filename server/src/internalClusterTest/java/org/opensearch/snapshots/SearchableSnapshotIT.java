@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.admin.cluster.node.stats.NodeStats;
+import org.opensearch.action.admin.cluster.node.stats.NodesStatsResponse;
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotRequest;
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.cluster.block.ClusterBlockException;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.store.remote.SearchableSnapshotStats;
+import org.opensearch.test.InternalTestCluster;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+
+public class SearchableSnapshotIT extends AbstractSnapshotIntegTestCase {
+
+    public void testMountSnapshotAsSearchableSnapshot() throws Exception {
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        final String mountedIndexName = "mounted-idx";
+        createRepository(repoName, "fs");
+        createIndex(indexName, indexSettingsNoReplicas(between(1, 3)).build());
+        final int numDocs = between(10, 100);
+        indexRandomDocs(indexName, numDocs);
+        createSnapshot(repoName, "test-snap", Collections.singletonList(indexName));
+
+        final RestoreSnapshotResponse restoreResponse = clusterAdmin().prepareRestoreSnapshot(repoName, "test-snap")
+            .setIndices(indexName)
+            .setRenamePattern(indexName)
+            .setRenameReplacement(mountedIndexName)
+            .setStorageType(RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT)
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(mountedIndexName);
+
+        final Settings settings = client().admin().indices().prepareGetSettings(mountedIndexName).get()
+            .getIndexToSettings().get(mountedIndexName);
+        assertThat(IndexModule.INDEX_STORE_TYPE_SETTING.get(settings), equalTo(IndexModule.REMOTE_SNAPSHOT_STORE_TYPE));
+        assertThat(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(settings), equalTo(repoName));
+        assertThat(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.get(settings), equalTo(0));
+
+        assertDocCount(mountedIndexName, numDocs);
+        assertHitCount(client().prepareSearch(mountedIndexName).setQuery(QueryBuilders.matchQuery("field1", "bar")).get(), numDocs);
+
+        final ClusterBlockException e = expectThrows(ClusterBlockException.class,
+            () -> client().prepareIndex(mountedIndexName, "_doc").setSource("field1", "baz").get());
+        assertThat(e.getMessage(), containsString("index write"));
+
+        final NodesStatsResponse nodesStats = clusterAdmin().prepareNodesStats()
+            .addMetric("searchable_snapshots").get();
+        long misses = 0;
+        long bytesDownloaded = 0;
+        for (NodeStats nodeStats : nodesStats.getNodes()) {
+            final SearchableSnapshotStats stats = nodeStats.getSearchableSnapshotStats();
+            assertNotNull(stats);
+            for (SearchableSnapshotStats.ShardStats shardStats : stats.getShards()) {
+                assertThat(shardStats.getShardId().getIndexName(), equalTo(mountedIndexName));
+                misses += shardStats.getMisses();
+                bytesDownloaded += shardStats.getBytesDownloaded();
+            }
+        }
+        assertThat(misses, greaterThan(0L));
+        assertThat(bytesDownloaded, greaterThan(0L));
+    }
+
+    public void testCannotDeleteSnapshotOfMountedIndex() throws Exception {
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        final String mountedIndexName = "mounted-idx";
+        createRepository(repoName, "fs");
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        final int numDocs = between(1, 10);
+        indexRandomDocs(indexName, numDocs);
+        createSnapshot(repoName, "test-snap", Collections.singletonList(indexName));
+        mount(repoName, "test-snap", indexName, mountedIndexName, Settings.EMPTY);
+
+        final Exception deleteSnapshot = expectThrows(Exception.class,
+            () -> clusterAdmin().prepareDeleteSnapshot(repoName, "test-snap").get());
+        assertThat(ExceptionsHelper.unwrapCause(deleteSnapshot), instanceOf(SnapshotException.class));
+        assertThat(deleteSnapshot.getMessage(), containsString("cannot delete snapshots that back the searchable snapshot indices"));
+        final Exception deleteRepository = expectThrows(Exception.class,
+            () -> clusterAdmin().prepareDeleteRepository(repoName).get());
+        assertThat(ExceptionsHelper.unwrapCause(deleteRepository), instanceOf(IllegalStateException.class));
+        assertThat(deleteRepository.getMessage(), containsString("that backs the searchable snapshot indices"));
+        assertDocCount(mountedIndexName, numDocs);
+
+        assertAcked(client().admin().indices().prepareDelete(mountedIndexName));
+        assertAcked(clusterAdmin().prepareDeleteSnapshot(repoName, "test-snap").get());
+    }
+
+    public void testRelocateReplicateAndReallocateMountedIndex() throws Exception {
+        final List<String> dataNodes = internalCluster().startDataOnlyNodes(3);
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        final String mountedIndexName = "mounted-idx";
+        createRepository(repoName, "fs");
+        createIndex(indexName, indexSettingsNoReplicas(between(1, 3)).build());
+        final int numDocs = between(10, 100);
+        indexRandomDocs(indexName, numDocs);
+        createSnapshot(repoName, "test-snap", Collections.singletonList(indexName));
+        mount(repoName, "test-snap", indexName, mountedIndexName,
+            Settings.builder().put("index.routing.allocation.require._name", dataNodes.get(0)).build());
+        ensureGreen(mountedIndexName);
+        assertDocCount(mountedIndexName, numDocs);
+
+        // relocating a shard doesn't copy any file, the target reads them from the repository
+        updateIndexSettings(mountedIndexName, Settings.builder().put("index.routing.allocation.require._name", dataNodes.get(1)));
+        ensureGreen(mountedIndexName);
+        assertShardsOn(mountedIndexName, dataNodes.get(1));
+        assertDocCount(mountedIndexName, numDocs);
+
+        // so does recovering a replica
+        updateIndexSettings(mountedIndexName, Settings.builder()
+            .putNull("index.routing.allocation.require._name")
+            .put("index.routing.allocation.include._name", dataNodes.get(1) + "," + dataNodes.get(2))
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1));
+        ensureGreen(mountedIndexName);
+        for (String node : dataNodes.subList(1, 3)) {
+            assertHitCount(client().prepareSearch(mountedIndexName).setSize(0).setPreference("_only_nodes:" + node).get(), numDocs);
+        }
+
+        // and a primary whose node left recovers from the repository on another node
+        updateIndexSettings(mountedIndexName, Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0));
+        ensureGreen(mountedIndexName);
+        updateIndexSettings(mountedIndexName, Settings.builder().put("index.routing.allocation.require._name", dataNodes.get(1)));
+        ensureGreen(mountedIndexName);
+        updateIndexSettings(mountedIndexName, Settings.builder().putNull("index.routing.allocation.require._name"));
+        internalCluster().stopRandomNode(InternalTestCluster.nameFilter(dataNodes.get(1)));
+        ensureGreen(mountedIndexName);
+        assertShardsOn(mountedIndexName, dataNodes.get(2));
+        assertDocCount(mountedIndexName, numDocs);
+    }
+
+    private void mount(String repoName, String snapshotName, String indexName, String mountedIndexName, Settings indexSettings) {
+        final RestoreSnapshotResponse restoreResponse = clusterAdmin().prepareRestoreSnapshot(repoName, snapshotName)
+            .setIndices(indexName)
+            .setRenamePattern(indexName)
+            .setRenameReplacement(mountedIndexName)
+            .setIndexSettings(indexSettings)
+            .setStorageType(RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT)
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreResponse.getRestoreInfo().failedShards(), equalTo(0));
+    }
+
+    private void updateIndexSettings(String indexName, Settings.Builder settings) {
+        assertAcked(client().admin().indices().prepareUpdateSettings(indexName).setSettings(settings));
+    }
+
+    private void assertShardsOn(String indexName, String nodeName) {
+        final ClusterState state = clusterAdmin().prepareState().get().getState();
+        final String nodeId = state.nodes().resolveNode(nodeName).getId();
+        for (ShardRouting shard : state.routingTable().allShards(indexName)) {
+            assertThat(shard.toString(), shard.currentNodeId(), equalTo(nodeId));
+        }
+    }
+
+    public void testCannotMountOverExistingIndex() throws Exception {
+        final String repoName = "test-repo";
+        final String indexName = "test-idx";
+        createRepository(repoName, "fs");
+        createIndex(indexName, indexSettingsNoReplicas(1).build());
+        indexRandomDocs(indexName, between(1, 10));
+        createFullSnapshot(repoName, "test-snap");
+        assertAcked(client().admin().indices().prepareClose(indexName));
+
+        final SnapshotRestoreException e = expectThrows(SnapshotRestoreException.class,
+            () -> clusterAdmin().prepareRestoreSnapshot(repoName, "test-snap")
+                .setIndices(indexName)
+                .setStorageType(RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT)
+                .setWaitForCompletion(true)
+                .get());
+        assertThat(e.getMessage(), containsString("an index with the same name already exists"));
+    }
+}
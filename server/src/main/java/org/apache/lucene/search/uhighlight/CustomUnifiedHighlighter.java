@@ -79,6 +79,10 @@ public class CustomUnifiedHighlighter extends UnifiedHighlighter {
     private final FieldHighlighter fieldHighlighter;
     private final int keywordIgnoreAbove;
     private final int maxAnalyzedOffset;
+    private final Integer queryMaxAnalyzedOffset;
+    private long reanalyzedFields;
+    private long reanalyzedChars;
+    private long truncatedFields;
 
     /**
      * Creates a new instance of {@link CustomUnifiedHighlighter}
@@ -100,6 +104,8 @@ public class CustomUnifiedHighlighter extends UnifiedHighlighter {
      * @param keywordIgnoreAbove if the field's value is longer than this we'll skip it
      * @param maxAnalyzedOffset if the field is more than this long we'll refuse to use the ANALYZED
      *                          offset source for it because it'd be super slow
+     * @param queryMaxAnalyzedOffset if set, fields that are longer than this are only highlighted up to this offset instead of being
+     *                               refused. The analyzer must stop its token streams at this offset.
      */
     public CustomUnifiedHighlighter(IndexSearcher searcher,
                                     Analyzer analyzer,
@@ -112,7 +118,8 @@ public class CustomUnifiedHighlighter extends UnifiedHighlighter {
                                     int maxPassages,
                                     Predicate<String> fieldMatcher,
                                     int keywordIgnoreAbove,
-                                    int maxAnalyzedOffset) throws IOException {
+                                    int maxAnalyzedOffset,
+                                    @Nullable Integer queryMaxAnalyzedOffset) throws IOException {
         super(searcher, analyzer);
         this.offsetSource = offsetSource;
         this.breakIterator = breakIterator;
@@ -124,6 +131,7 @@ public class CustomUnifiedHighlighter extends UnifiedHighlighter {
         this.setFieldMatcher(fieldMatcher);
         this.keywordIgnoreAbove = keywordIgnoreAbove;
         this.maxAnalyzedOffset = maxAnalyzedOffset;
+        this.queryMaxAnalyzedOffset = queryMaxAnalyzedOffset;
         fieldHighlighter = getFieldHighlighter(field, query, extractTerms(query), maxPassages);
     }
 
@@ -143,7 +151,7 @@ public class CustomUnifiedHighlighter extends UnifiedHighlighter {
         if (fieldValueLength > keywordIgnoreAbove) {
             return null; // skip highlighting keyword terms that were ignored during indexing
         }
-        if ((offsetSource == OffsetSource.ANALYSIS) && (fieldValueLength > maxAnalyzedOffset)) {
+        if ((offsetSource == OffsetSource.ANALYSIS) && (fieldValueLength > maxAnalyzedOffset) && (queryMaxAnalyzedOffset == null)) {
             throw new IllegalArgumentException(
                 "The length of ["
                     + field
@@ -157,14 +165,45 @@ public class CustomUnifiedHighlighter extends UnifiedHighlighter {
                     + "] - maximum allowed to be analyzed for highlighting. "
                     + "This maximum can be set by changing the ["
                     + IndexSettings.MAX_ANALYZED_OFFSET_SETTING.getKey()
-                    + "] index level setting. "
+                    + "] index level setting, or highlighting can be limited to the beginning of the field "
+                    + "with the [max_analyzed_offset] highlight option. "
                     + "For large texts, indexing with offsets or term vectors is recommended!"
             );
         }
+        if (fieldHighlighter.getOffsetSource() == OffsetSource.ANALYSIS) {
+            reanalyzedFields++;
+            if (queryMaxAnalyzedOffset != null && fieldValueLength > queryMaxAnalyzedOffset) {
+                truncatedFields++;
+                reanalyzedChars += queryMaxAnalyzedOffset;
+            } else {
+                reanalyzedChars += fieldValueLength;
+            }
+        }
         Snippet[] result = (Snippet[]) fieldHighlighter.highlightFieldForDoc(reader, docId, fieldValue);
         return result == null ? EMPTY_SNIPPET : result;
     }
 
+    /**
+     * The number of field values that had to be analyzed again to find the offsets of their matches.
+     */
+    public long getReanalyzedFields() {
+        return reanalyzedFields;
+    }
+
+    /**
+     * The number of chars of the field values that had to be analyzed again to find the offsets of their matches.
+     */
+    public long getReanalyzedChars() {
+        return reanalyzedChars;
+    }
+
+    /**
+     * The number of field values that were only analyzed up to the {@code max_analyzed_offset} of the request.
+     */
+    public long getTruncatedFields() {
+        return truncatedFields;
+    }
+
     @Override
     protected BreakIterator getBreakIterator(String field) {
         return breakIterator;
@@ -33,9 +33,12 @@
 package org.opensearch.action.admin.cluster.node.stats;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.action.shard.ShardStateBatchingStats;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.service.MasterServiceStats;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -43,9 +46,12 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.http.HttpStats;
+import org.opensearch.index.mapper.MappingDeduplicationStats;
 import org.opensearch.index.stats.IndexingPressureStats;
+import org.opensearch.index.store.remote.SearchableSnapshotStats;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.indices.breaker.AllCircuitBreakerStats;
+import org.opensearch.indices.recovery.RecoveryThrottlingStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.monitor.jvm.JvmStats;
@@ -112,6 +118,21 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
     @Nullable
     private IndexingPressureStats indexingPressureStats;
 
+    @Nullable
+    private MappingDeduplicationStats mappingDeduplicationStats;
+
+    @Nullable
+    private MasterServiceStats masterServiceStats;
+
+    @Nullable
+    private ShardStateBatchingStats shardStateBatchingStats;
+
+    @Nullable
+    private SearchableSnapshotStats searchableSnapshotStats;
+
+    @Nullable
+    private RecoveryThrottlingStats recoveryThrottlingStats;
+
     public NodeStats(StreamInput in) throws IOException {
         super(in);
         timestamp = in.readVLong();
@@ -147,6 +168,19 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         } else {
             indexingPressureStats = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            mappingDeduplicationStats = in.readOptionalWriteable(MappingDeduplicationStats::new);
+            masterServiceStats = in.readOptionalWriteable(MasterServiceStats::new);
+            shardStateBatchingStats = in.readOptionalWriteable(ShardStateBatchingStats::new);
+            searchableSnapshotStats = in.readOptionalWriteable(SearchableSnapshotStats::new);
+            recoveryThrottlingStats = in.readOptionalWriteable(RecoveryThrottlingStats::new);
+        } else {
+            mappingDeduplicationStats = null;
+            masterServiceStats = null;
+            shardStateBatchingStats = null;
+            searchableSnapshotStats = null;
+            recoveryThrottlingStats = null;
+        }
     }
 
     public NodeStats(DiscoveryNode node, long timestamp, @Nullable NodeIndicesStats indices,
@@ -158,7 +192,12 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
                      @Nullable IngestStats ingestStats,
                      @Nullable AdaptiveSelectionStats adaptiveSelectionStats,
                      @Nullable ScriptCacheStats scriptCacheStats,
-                     @Nullable IndexingPressureStats indexingPressureStats) {
+                     @Nullable IndexingPressureStats indexingPressureStats,
+                     @Nullable MappingDeduplicationStats mappingDeduplicationStats,
+                     @Nullable MasterServiceStats masterServiceStats,
+                     @Nullable ShardStateBatchingStats shardStateBatchingStats,
+                     @Nullable SearchableSnapshotStats searchableSnapshotStats,
+                     @Nullable RecoveryThrottlingStats recoveryThrottlingStats) {
         super(node);
         this.timestamp = timestamp;
         this.indices = indices;
@@ -176,6 +215,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         this.adaptiveSelectionStats = adaptiveSelectionStats;
         this.scriptCacheStats = scriptCacheStats;
         this.indexingPressureStats = indexingPressureStats;
+        this.mappingDeduplicationStats = mappingDeduplicationStats;
+        this.masterServiceStats = masterServiceStats;
+        this.shardStateBatchingStats = shardStateBatchingStats;
+        this.searchableSnapshotStats = searchableSnapshotStats;
+        this.recoveryThrottlingStats = recoveryThrottlingStats;
     }
 
     public long getTimestamp() {
@@ -280,6 +324,31 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         return indexingPressureStats;
     }
 
+    @Nullable
+    public MappingDeduplicationStats getMappingDeduplicationStats() {
+        return mappingDeduplicationStats;
+    }
+
+    @Nullable
+    public MasterServiceStats getMasterServiceStats() {
+        return masterServiceStats;
+    }
+
+    @Nullable
+    public ShardStateBatchingStats getShardStateBatchingStats() {
+        return shardStateBatchingStats;
+    }
+
+    @Nullable
+    public SearchableSnapshotStats getSearchableSnapshotStats() {
+        return searchableSnapshotStats;
+    }
+
+    @Nullable
+    public RecoveryThrottlingStats getRecoveryThrottlingStats() {
+        return recoveryThrottlingStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -309,6 +378,13 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_7_9_0)) {
             out.writeOptionalWriteable(indexingPressureStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(mappingDeduplicationStats);
+            out.writeOptionalWriteable(masterServiceStats);
+            out.writeOptionalWriteable(shardStateBatchingStats);
+            out.writeOptionalWriteable(searchableSnapshotStats);
+            out.writeOptionalWriteable(recoveryThrottlingStats);
+        }
     }
 
     @Override
@@ -378,6 +454,21 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (getIndexingPressureStats() != null) {
             getIndexingPressureStats().toXContent(builder, params);
         }
+        if (getMappingDeduplicationStats() != null) {
+            getMappingDeduplicationStats().toXContent(builder, params);
+        }
+        if (getMasterServiceStats() != null) {
+            getMasterServiceStats().toXContent(builder, params);
+        }
+        if (getShardStateBatchingStats() != null) {
+            getShardStateBatchingStats().toXContent(builder, params);
+        }
+        if (getSearchableSnapshotStats() != null) {
+            getSearchableSnapshotStats().toXContent(builder, params);
+        }
+        if (getRecoveryThrottlingStats() != null) {
+            getRecoveryThrottlingStats().toXContent(builder, params);
+        }
         return builder;
     }
 }
@@ -238,7 +238,12 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         INGEST("ingest"),
         ADAPTIVE_SELECTION("adaptive_selection"),
         SCRIPT_CACHE("script_cache"),
-        INDEXING_PRESSURE("indexing_pressure"),;
+        INDEXING_PRESSURE("indexing_pressure"),
+        MAPPING_DEDUPLICATION("mapping_deduplication"),
+        MASTER_SERVICE("master_service"),
+        SHARD_STATE_BATCHING("shard_state_batching"),
+        SEARCHABLE_SNAPSHOTS("searchable_snapshots"),
+        RECOVERY_THROTTLING("recovery_throttling"),;
 
         private String metricName;
 
@@ -97,7 +97,12 @@ public class TransportNodesStatsAction extends TransportNodesAction<NodesStatsRe
             NodesStatsRequest.Metric.INGEST.containedIn(metrics),
             NodesStatsRequest.Metric.ADAPTIVE_SELECTION.containedIn(metrics),
             NodesStatsRequest.Metric.SCRIPT_CACHE.containedIn(metrics),
-            NodesStatsRequest.Metric.INDEXING_PRESSURE.containedIn(metrics));
+            NodesStatsRequest.Metric.INDEXING_PRESSURE.containedIn(metrics),
+            NodesStatsRequest.Metric.MAPPING_DEDUPLICATION.containedIn(metrics),
+            NodesStatsRequest.Metric.MASTER_SERVICE.containedIn(metrics),
+            NodesStatsRequest.Metric.SHARD_STATE_BATCHING.containedIn(metrics),
+            NodesStatsRequest.Metric.SEARCHABLE_SNAPSHOTS.containedIn(metrics),
+            NodesStatsRequest.Metric.RECOVERY_THROTTLING.containedIn(metrics));
     }
 
     public static class NodeStatsRequest extends BaseNodeRequest {
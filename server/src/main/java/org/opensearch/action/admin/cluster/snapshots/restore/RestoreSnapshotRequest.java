@@ -33,6 +33,7 @@
 package org.opensearch.action.admin.cluster.snapshots.restore;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.master.MasterNodeRequest;
@@ -52,6 +53,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.opensearch.action.ValidateActions.addValidationError;
 import static org.opensearch.common.settings.Settings.readSettingsFromStream;
@@ -82,6 +84,42 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
     @Nullable // if any snapshot UUID will do
     private String snapshotUuid;
 
+    private StorageType storageType = StorageType.LOCAL;
+
+    /**
+     * How the restored indices store their data.
+     */
+    public enum StorageType {
+        /**
+         * The files of the snapshot are copied to the local disks of the nodes holding the restored shards.
+         */
+        LOCAL("local"),
+        /**
+         * The restored indices are read-only searchable snapshots whose files are read from the repository on demand.
+         */
+        REMOTE_SNAPSHOT("remote_snapshot");
+
+        private final String text;
+
+        StorageType(String text) {
+            this.text = text;
+        }
+
+        public String text() {
+            return text;
+        }
+
+        public static StorageType fromString(String string) {
+            for (StorageType type : values()) {
+                if (type.text.equals(string)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("unknown storage_type [" + string + "], must be one of "
+                + Arrays.stream(values()).map(StorageType::text).collect(Collectors.toList()));
+        }
+    }
+
     public RestoreSnapshotRequest() {
     }
 
@@ -116,6 +154,9 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
         if (in.getVersion().onOrAfter(LegacyESVersion.V_7_10_0)) {
             snapshotUuid = in.readOptionalString();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            storageType = in.readEnum(StorageType.class);
+        }
     }
 
     @Override
@@ -142,6 +183,12 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
             throw new IllegalStateException(
                     "restricting the snapshot UUID is forbidden in a cluster with version [" + out.getVersion() + "] nodes");
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeEnum(storageType);
+        } else if (storageType != StorageType.LOCAL) {
+            throw new IllegalStateException(
+                "restoring a snapshot as a searchable snapshot is forbidden in a cluster with version [" + out.getVersion() + "] nodes");
+        }
     }
 
     @Override
@@ -478,6 +525,19 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
         return snapshotUuid;
     }
 
+    /**
+     * Sets how the restored indices store their data. Indices restored with {@link StorageType#REMOTE_SNAPSHOT} are read-only and read
+     * their files from the repository on demand instead of copying them to local disk.
+     */
+    public RestoreSnapshotRequest storageType(StorageType storageType) {
+        this.storageType = Objects.requireNonNull(storageType);
+        return this;
+    }
+
+    public StorageType storageType() {
+        return storageType;
+    }
+
     /**
      * Parses restore definition
      *
@@ -525,6 +585,12 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
                     throw new IllegalArgumentException("malformed index_settings section");
                 }
                 indexSettings((Map<String, Object>) entry.getValue());
+            } else if (name.equals("storage_type")) {
+                if (entry.getValue() instanceof String) {
+                    storageType(StorageType.fromString((String) entry.getValue()));
+                } else {
+                    throw new IllegalArgumentException("malformed storage_type");
+                }
             } else if (name.equals("ignore_index_settings")) {
                     if (entry.getValue() instanceof String) {
                         ignoreIndexSettings(Strings.splitStringByCommaToArray((String) entry.getValue()));
@@ -575,6 +641,7 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
             builder.value(ignoreIndexSetting);
         }
         builder.endArray();
+        builder.field("storage_type", storageType.text());
         builder.endObject();
         return builder;
     }
@@ -601,13 +668,14 @@ public class RestoreSnapshotRequest extends MasterNodeRequest<RestoreSnapshotReq
             Objects.equals(renameReplacement, that.renameReplacement) &&
             Objects.equals(indexSettings, that.indexSettings) &&
             Arrays.equals(ignoreIndexSettings, that.ignoreIndexSettings) &&
-            Objects.equals(snapshotUuid, that.snapshotUuid);
+            Objects.equals(snapshotUuid, that.snapshotUuid) &&
+            storageType == that.storageType;
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(snapshot, repository, indicesOptions, renamePattern, renameReplacement, waitForCompletion,
-            includeGlobalState, partial, includeAliases, indexSettings, snapshotUuid);
+            includeGlobalState, partial, includeAliases, indexSettings, snapshotUuid, storageType);
         result = 31 * result + Arrays.hashCode(indices);
         result = 31 * result + Arrays.hashCode(ignoreIndexSettings);
         return result;
@@ -186,6 +186,17 @@ public class RestoreSnapshotRequestBuilder extends MasterNodeOperationRequestBui
         return this;
     }
 
+    /**
+     * Sets how the restored indices store their data
+     *
+     * @param storageType {@link RestoreSnapshotRequest.StorageType#REMOTE_SNAPSHOT} to mount the indices as searchable snapshots
+     * @return this builder
+     */
+    public RestoreSnapshotRequestBuilder setStorageType(RestoreSnapshotRequest.StorageType storageType) {
+        request.storageType(storageType);
+        return this;
+    }
+
     /**
      * Sets index settings that should be added or replaced during restore
      *
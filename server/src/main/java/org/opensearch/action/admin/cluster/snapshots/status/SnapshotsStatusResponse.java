@@ -32,6 +32,7 @@
 
 package org.opensearch.action.admin.cluster.snapshots.status;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionResponse;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
@@ -40,28 +41,47 @@ import org.opensearch.common.xcontent.ConstructingObjectParser;
 import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentParserUtils;
+import org.opensearch.snapshots.ShardSnapshotIOStats;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.constructorArg;
+import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
 /**
  * Snapshot status response
  */
 public class SnapshotsStatusResponse extends ActionResponse implements ToXContentObject {
 
+    private static final String IO_SCHEDULER = "io_scheduler";
+
     private final List<SnapshotStatus> snapshots;
 
+    private final Map<String, ShardSnapshotIOStats> ioStats;
+
     public SnapshotsStatusResponse(StreamInput in) throws IOException {
         super(in);
         snapshots = Collections.unmodifiableList(in.readList(SnapshotStatus::new));
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            ioStats = Collections.unmodifiableMap(in.readMap(StreamInput::readString, ShardSnapshotIOStats::new));
+        } else {
+            ioStats = Collections.emptyMap();
+        }
     }
 
     SnapshotsStatusResponse(List<SnapshotStatus> snapshots) {
+        this(snapshots, Collections.emptyMap());
+    }
+
+    SnapshotsStatusResponse(List<SnapshotStatus> snapshots, Map<String, ShardSnapshotIOStats> ioStats) {
         this.snapshots = snapshots;
+        this.ioStats = ioStats;
     }
 
     /**
@@ -73,9 +93,20 @@ public class SnapshotsStatusResponse extends ActionResponse implements ToXConten
         return snapshots;
     }
 
+    /**
+     * Returns the queue depths and throughput of the shard snapshots on each data node that holds shards of the running snapshots, by
+     * node id
+     */
+    public Map<String, ShardSnapshotIOStats> getIOStats() {
+        return ioStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeList(snapshots);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeMap(ioStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     @Override
@@ -86,6 +117,15 @@ public class SnapshotsStatusResponse extends ActionResponse implements ToXConten
             snapshot.toXContent(builder, params);
         }
         builder.endArray();
+        if (ioStats.isEmpty() == false) {
+            builder.startObject(IO_SCHEDULER);
+            for (Map.Entry<String, ShardSnapshotIOStats> entry : ioStats.entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -94,11 +134,24 @@ public class SnapshotsStatusResponse extends ActionResponse implements ToXConten
         "snapshots_status_response", true,
         (Object[] parsedObjects) -> {
             @SuppressWarnings("unchecked") List<SnapshotStatus> snapshots = (List<SnapshotStatus>) parsedObjects[0];
-            return new SnapshotsStatusResponse(snapshots);
+            @SuppressWarnings("unchecked") Map<String, ShardSnapshotIOStats> ioStats = (Map<String, ShardSnapshotIOStats>) parsedObjects[1];
+            return new SnapshotsStatusResponse(snapshots, ioStats == null ? Collections.emptyMap() : ioStats);
         }
     );
     static {
         PARSER.declareObjectArray(constructorArg(), SnapshotStatus.PARSER, new ParseField("snapshots"));
+        PARSER.declareObject(optionalConstructorArg(), (p, c) -> parseIOStats(p), new ParseField(IO_SCHEDULER));
+    }
+
+    private static Map<String, ShardSnapshotIOStats> parseIOStats(XContentParser parser) throws IOException {
+        final Map<String, ShardSnapshotIOStats> ioStats = new HashMap<>();
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.FIELD_NAME, parser.currentToken(), parser);
+            final String nodeId = parser.currentName();
+            parser.nextToken();
+            ioStats.put(nodeId, ShardSnapshotIOStats.fromXContent(parser));
+        }
+        return Collections.unmodifiableMap(ioStats);
     }
 
     public static SnapshotsStatusResponse fromXContent(XContentParser parser) throws IOException {
@@ -110,11 +163,12 @@ public class SnapshotsStatusResponse extends ActionResponse implements ToXConten
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
 
-        return Objects.equals(snapshots, ((SnapshotsStatusResponse) o).snapshots);
+        final SnapshotsStatusResponse that = (SnapshotsStatusResponse) o;
+        return Objects.equals(snapshots, that.snapshots) && Objects.equals(ioStats, that.ioStats);
     }
 
     @Override
     public int hashCode() {
-        return snapshots != null ? snapshots.hashCode() : 0;
+        return Objects.hash(snapshots, ioStats);
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.action.admin.cluster.snapshots.status;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
@@ -44,10 +45,12 @@ import org.opensearch.action.support.nodes.TransportNodesAction;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.snapshots.IndexShardSnapshotStatus;
+import org.opensearch.snapshots.ShardSnapshotIOStats;
 import org.opensearch.snapshots.Snapshot;
 import org.opensearch.snapshots.SnapshotShardsService;
 import org.opensearch.threadpool.ThreadPool;
@@ -123,7 +126,8 @@ public class TransportNodesSnapshotsStatus extends TransportNodesAction<Transpor
                 }
                 snapshotMapBuilder.put(snapshot, unmodifiableMap(shardMapBuilder));
             }
-            return new NodeSnapshotStatus(clusterService.localNode(), unmodifiableMap(snapshotMapBuilder));
+            return new NodeSnapshotStatus(clusterService.localNode(), unmodifiableMap(snapshotMapBuilder),
+                snapshotShardsService.ioStats());
         } catch (Exception e) {
             throw new OpenSearchException("failed to load metadata", e);
         }
@@ -201,21 +205,39 @@ public class TransportNodesSnapshotsStatus extends TransportNodesAction<Transpor
 
         private final Map<Snapshot, Map<ShardId, SnapshotIndexShardStatus>> status;
 
+        @Nullable
+        private final ShardSnapshotIOStats ioStats;
+
         public NodeSnapshotStatus(StreamInput in) throws IOException {
             super(in);
             status = unmodifiableMap(
                     in.readMap(Snapshot::new, input -> unmodifiableMap(input.readMap(ShardId::new, SnapshotIndexShardStatus::new))));
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                ioStats = in.readOptionalWriteable(ShardSnapshotIOStats::new);
+            } else {
+                ioStats = null;
+            }
         }
 
-        public NodeSnapshotStatus(DiscoveryNode node, Map<Snapshot, Map<ShardId, SnapshotIndexShardStatus>> status) {
+        public NodeSnapshotStatus(DiscoveryNode node, Map<Snapshot, Map<ShardId, SnapshotIndexShardStatus>> status,
+                                  @Nullable ShardSnapshotIOStats ioStats) {
             super(node);
             this.status = status;
+            this.ioStats = ioStats;
         }
 
         public Map<Snapshot, Map<ShardId, SnapshotIndexShardStatus>> status() {
             return status;
         }
 
+        /**
+         * The queue depths and throughput of the shard snapshots on the node, or {@code null} if the node did not report them.
+         */
+        @Nullable
+        public ShardSnapshotIOStats ioStats() {
+            return ioStats;
+        }
+
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             super.writeTo(out);
@@ -225,6 +247,9 @@ public class TransportNodesSnapshotsStatus extends TransportNodesAction<Transpor
             } else {
                 out.writeVInt(0);
             }
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeOptionalWriteable(ioStats);
+            }
         }
     }
 }
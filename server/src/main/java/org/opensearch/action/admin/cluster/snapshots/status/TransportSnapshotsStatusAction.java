@@ -59,6 +59,7 @@ import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.repositories.RepositoryData;
+import org.opensearch.snapshots.ShardSnapshotIOStats;
 import org.opensearch.snapshots.Snapshot;
 import org.opensearch.snapshots.SnapshotId;
 import org.opensearch.snapshots.SnapshotInfo;
@@ -163,6 +164,14 @@ public class TransportSnapshotsStatusAction extends TransportMasterNodeAction<Sn
                                List<SnapshotsInProgress.Entry> currentSnapshotEntries,
                                TransportNodesSnapshotsStatus.NodesSnapshotStatus nodeSnapshotStatuses,
                                ActionListener<SnapshotsStatusResponse> listener) {
+        final Map<String, ShardSnapshotIOStats> ioStats = new HashMap<>();
+        if (nodeSnapshotStatuses != null) {
+            for (TransportNodesSnapshotsStatus.NodeSnapshotStatus nodeStatus : nodeSnapshotStatuses.getNodes()) {
+                if (nodeStatus.ioStats() != null) {
+                    ioStats.put(nodeStatus.getNode().getId(), nodeStatus.ioStats());
+                }
+            }
+        }
         // First process snapshot that are currently processed
         List<SnapshotStatus> builder = new ArrayList<>();
         Set<String> currentSnapshotNames = new HashSet<>();
@@ -251,15 +260,15 @@ public class TransportSnapshotsStatusAction extends TransportMasterNodeAction<Sn
         // Now add snapshots on disk that are not currently running
         final String repositoryName = request.repository();
         if (Strings.hasText(repositoryName) && CollectionUtils.isEmpty(request.snapshots()) == false) {
-            loadRepositoryData(snapshotsInProgress, request, builder, currentSnapshotNames, repositoryName, listener);
+            loadRepositoryData(snapshotsInProgress, request, builder, currentSnapshotNames, repositoryName, ioStats, listener);
         } else {
-            listener.onResponse(new SnapshotsStatusResponse(Collections.unmodifiableList(builder)));
+            listener.onResponse(new SnapshotsStatusResponse(Collections.unmodifiableList(builder), Collections.unmodifiableMap(ioStats)));
         }
     }
 
     private void loadRepositoryData(SnapshotsInProgress snapshotsInProgress, SnapshotsStatusRequest request,
                                     List<SnapshotStatus> builder, Set<String> currentSnapshotNames, String repositoryName,
-                                    ActionListener<SnapshotsStatusResponse> listener) {
+                                    Map<String, ShardSnapshotIOStats> ioStats, ActionListener<SnapshotsStatusResponse> listener) {
         final Set<String> requestedSnapshotNames = Sets.newHashSet(request.snapshots());
         final StepListener<RepositoryData> repositoryDataListener = new StepListener<>();
         repositoriesService.getRepositoryData(repositoryName, repositoryDataListener);
@@ -317,7 +326,7 @@ public class TransportSnapshotsStatusAction extends TransportMasterNodeAction<Sn
                         (endTime == 0 ? threadPool.absoluteTimeInMillis() : endTime) - startTime));
                 }
             }
-            listener.onResponse(new SnapshotsStatusResponse(Collections.unmodifiableList(builder)));
+            listener.onResponse(new SnapshotsStatusResponse(Collections.unmodifiableList(builder), Collections.unmodifiableMap(ioStats)));
         }, listener::onFailure);
     }
 
@@ -33,7 +33,9 @@
 package org.opensearch.action.search;
 
 import org.opensearch.action.ActionListener;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.InnerHitBuilder;
 import org.opensearch.index.query.QueryBuilder;
@@ -41,13 +43,24 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.HasAggregations;
+import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.TopHits;
+import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.internal.InternalSearchResponse;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This search phase is an optional phase that will be executed once all hits are fetched from the shards that executes
@@ -55,6 +68,10 @@ import java.util.List;
  * forwards to the next phase immediately.
  */
 final class ExpandSearchPhase extends SearchPhase {
+    private static final String GROUPS_AGG = "_expand_groups";
+    private static final String MISSING_GROUP_AGG = "_expand_missing_group";
+    private static final String GROUP_HITS_AGG = "_expand_group_hits";
+
     private final SearchPhaseContext context;
     private final InternalSearchResponse searchResponse;
     private final AtomicArray<SearchPhaseResult> queryResults;
@@ -79,13 +96,25 @@ final class ExpandSearchPhase extends SearchPhase {
     @Override
     public void run() {
         if (isCollapseRequest() && searchResponse.hits().getHits().length > 0) {
-            SearchRequest searchRequest = context.getRequest();
-            CollapseBuilder collapseBuilder = searchRequest.source().collapse();
-            final List<InnerHitBuilder> innerHitBuilders = collapseBuilder.getInnerHits();
-            MultiSearchRequest multiRequest = new MultiSearchRequest();
-            if (collapseBuilder.getMaxConcurrentGroupRequests() > 0) {
-                multiRequest.maxConcurrentSearchRequests(collapseBuilder.getMaxConcurrentGroupRequests());
+            expand(canExpandInBatch(context.getRequest().source().collapse()));
+        } else {
+            context.sendSearchResponse(searchResponse, queryResults);
+        }
+    }
+
+    private void expand(boolean batched) {
+        SearchRequest searchRequest = context.getRequest();
+        CollapseBuilder collapseBuilder = searchRequest.source().collapse();
+        final List<InnerHitBuilder> innerHitBuilders = collapseBuilder.getInnerHits();
+        MultiSearchRequest multiRequest = new MultiSearchRequest();
+        if (collapseBuilder.getMaxConcurrentGroupRequests() > 0) {
+            multiRequest.maxConcurrentSearchRequests(collapseBuilder.getMaxConcurrentGroupRequests());
+        }
+        if (batched) {
+            for (InnerHitBuilder innerHitBuilder : innerHitBuilders) {
+                multiRequest.add(buildBatchedExpandRequest(searchRequest, collapseBuilder.getField(), innerHitBuilder));
             }
+        } else {
             for (SearchHit hit : searchResponse.hits().getHits()) {
                 BoolQueryBuilder groupQuery = new BoolQueryBuilder();
                 Object collapseValue = hit.field(collapseBuilder.getField()).getValue();
@@ -108,9 +137,32 @@ final class ExpandSearchPhase extends SearchPhase {
                     multiRequest.add(groupRequest);
                 }
             }
-            context.getSearchTransport().sendExecuteMultiSearch(multiRequest, context.getTask(),
-                ActionListener.wrap(response -> {
-                    Iterator<MultiSearchResponse.Item> it = response.iterator();
+        }
+        context.getSearchTransport().sendExecuteMultiSearch(multiRequest, context.getTask(),
+            ActionListener.wrap(response -> {
+                Iterator<MultiSearchResponse.Item> it = response.iterator();
+                if (batched) {
+                    for (MultiSearchResponse.Item item : response.getResponses()) {
+                        if (item.isFailure() || item.getResponse().getShardFailures().length > 0) {
+                            // e.g. the inner hits exceed the inner result window of an index, which only bounds the top hits of a
+                            // group in a batch, so the groups are expanded one by one instead
+                            final Throwable failure = item.isFailure() ? item.getFailure()
+                                : item.getResponse().getShardFailures()[0].getCause();
+                            context.getLogger().debug("failed to expand the groups of the hits in a batch, expanding them one by one",
+                                failure);
+                            expand(false);
+                            return;
+                        }
+                    }
+                    for (InnerHitBuilder innerHitBuilder : innerHitBuilders) {
+                        MultiSearchResponse.Item item = it.next();
+                        Aggregations groups = item.getResponse().getAggregations();
+                        for (SearchHit hit : searchResponse.hits.getHits()) {
+                            Object collapseValue = hit.field(collapseBuilder.getField()).getValue();
+                            setInnerHits(hit, innerHitBuilders.size(), innerHitBuilder.getName(), groupHits(groups, collapseValue));
+                        }
+                    }
+                } else {
                     for (SearchHit hit : searchResponse.hits.getHits()) {
                         for (InnerHitBuilder innerHitBuilder : innerHitBuilders) {
                             MultiSearchResponse.Item item = it.next();
@@ -118,19 +170,157 @@ final class ExpandSearchPhase extends SearchPhase {
                                 context.onPhaseFailure(this, "failed to expand hits", item.getFailure());
                                 return;
                             }
-                            SearchHits innerHits = item.getResponse().getHits();
-                            if (hit.getInnerHits() == null) {
-                                hit.setInnerHits(new HashMap<>(innerHitBuilders.size()));
-                            }
-                            hit.getInnerHits().put(innerHitBuilder.getName(), innerHits);
+                            setInnerHits(hit, innerHitBuilders.size(), innerHitBuilder.getName(), item.getResponse().getHits());
                         }
                     }
-                    context.sendSearchResponse(searchResponse, queryResults);
-                }, context::onFailure)
-            );
-        } else {
-            context.sendSearchResponse(searchResponse, queryResults);
+                }
+                context.sendSearchResponse(searchResponse, queryResults);
+            }, context::onFailure)
+        );
+    }
+
+    private static void setInnerHits(SearchHit hit, int numInnerHits, String name, SearchHits innerHits) {
+        if (hit.getInnerHits() == null) {
+            hit.setInnerHits(new HashMap<>(numInnerHits));
+        }
+        hit.getInnerHits().put(name, innerHits);
+    }
+
+    /**
+     * Returns <code>true</code> if the groups of all hits can be expanded with a single search per inner hits definition, which groups
+     * the matching documents by collapse key on each shard. A single hit is expanded with a search per inner hits definition either
+     * way. Inner collapsing can't be expressed as a grouping, and neither can floating point keys whose formatting differs between
+     * the fetched values and the buckets. The top hits of a group are bounded by the inner result window of the indices rather than
+     * by their result window. The indices' setting isn't known here, so inner hits beyond its default are expanded group by group
+     * right away, and a batch that fails, e.g. because an index lowered the setting, is retried group by group.
+     */
+    private boolean canExpandInBatch(CollapseBuilder collapseBuilder) {
+        final SearchHit[] hits = searchResponse.hits().getHits();
+        if (hits.length < 2) {
+            return false;
+        }
+        final int maxInnerResultWindow = IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING.get(Settings.EMPTY);
+        for (InnerHitBuilder innerHitBuilder : collapseBuilder.getInnerHits()) {
+            if (innerHitBuilder.getInnerCollapseBuilder() != null
+                || innerHitBuilder.getFrom() + innerHitBuilder.getSize() > maxInnerResultWindow) {
+                return false;
+            }
+        }
+        boolean hasStringKeys = false;
+        boolean hasNumericKeys = false;
+        for (SearchHit hit : hits) {
+            final Object collapseValue = hit.field(collapseBuilder.getField()).getValue();
+            if (collapseValue instanceof String) {
+                hasStringKeys = true;
+            } else if (collapseValue instanceof Long || collapseValue instanceof Integer
+                || collapseValue instanceof Short || collapseValue instanceof Byte) {
+                hasNumericKeys = true;
+            } else if (collapseValue != null) {
+                return false;
+            }
+        }
+        return hasStringKeys == false || hasNumericKeys == false;
+    }
+
+    /**
+     * Builds the search that expands the groups of all hits for the given inner hits definition: it matches the documents of all
+     * groups and collects the top hits of each group in a bucket of a {@code terms} aggregation on the collapse field, or of a
+     * {@code missing} aggregation for the group of the documents without a value.
+     */
+    private SearchRequest buildBatchedExpandRequest(SearchRequest searchRequest, String collapseField, InnerHitBuilder innerHitBuilder) {
+        final Set<Object> collapseValues = new LinkedHashSet<>();
+        boolean hasMissingGroup = false;
+        for (SearchHit hit : searchResponse.hits().getHits()) {
+            final Object collapseValue = hit.field(collapseField).getValue();
+            if (collapseValue != null) {
+                collapseValues.add(collapseValue);
+            } else {
+                hasMissingGroup = true;
+            }
+        }
+        final SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().size(0).trackTotalHits(false);
+        final BoolQueryBuilder groupsQuery = new BoolQueryBuilder();
+        if (collapseValues.isEmpty() == false) {
+            groupsQuery.should(QueryBuilders.termsQuery(collapseField, collapseValues));
+            sourceBuilder.aggregation(AggregationBuilders.terms(GROUPS_AGG)
+                .field(collapseField)
+                .size(collapseValues.size())
+                .shardSize(collapseValues.size())
+                .includeExclude(new IncludeExclude(collapseValues.stream().map(String::valueOf).toArray(String[]::new), null))
+                .order(BucketOrder.key(true))
+                .collectMode(Aggregator.SubAggCollectionMode.DEPTH_FIRST)
+                .subAggregation(buildExpandTopHitsBuilder(innerHitBuilder)));
+        }
+        if (hasMissingGroup) {
+            groupsQuery.should(QueryBuilders.boolQuery().mustNot(QueryBuilders.existsQuery(collapseField)));
+            sourceBuilder.aggregation(AggregationBuilders.missing(MISSING_GROUP_AGG)
+                .field(collapseField)
+                .subAggregation(buildExpandTopHitsBuilder(innerHitBuilder)));
+        }
+        final BoolQueryBuilder expandQuery = new BoolQueryBuilder().filter(groupsQuery);
+        if (searchRequest.source().query() != null) {
+            expandQuery.must(searchRequest.source().query());
+        }
+        if (searchRequest.source().postFilter() != null) {
+            // the post filter doesn't apply to aggregations
+            expandQuery.filter(searchRequest.source().postFilter());
+        }
+        sourceBuilder.query(expandQuery);
+        SearchRequest expandRequest = new SearchRequest(searchRequest);
+        expandRequest.source(sourceBuilder);
+        return expandRequest;
+    }
+
+    private static SearchHits groupHits(Aggregations groups, Object collapseValue) {
+        HasAggregations group = null;
+        if (groups != null) {
+            if (collapseValue == null) {
+                group = groups.get(MISSING_GROUP_AGG);
+            } else {
+                Terms terms = groups.get(GROUPS_AGG);
+                group = terms == null ? null : terms.getBucketByKey(String.valueOf(collapseValue));
+            }
+        }
+        if (group == null) {
+            // the documents of the group have been deleted since the query phase
+            return SearchHits.empty();
+        }
+        TopHits topHits = group.getAggregations().get(GROUP_HITS_AGG);
+        return topHits.getHits();
+    }
+
+    private static TopHitsAggregationBuilder buildExpandTopHitsBuilder(InnerHitBuilder options) {
+        TopHitsAggregationBuilder groupHits = AggregationBuilders.topHits(GROUP_HITS_AGG);
+        groupHits.from(options.getFrom());
+        groupHits.size(options.getSize());
+        if (options.getSorts() != null) {
+            groupHits.sorts(options.getSorts());
+        }
+        if (options.getFetchSourceContext() != null) {
+            groupHits.fetchSource(options.getFetchSourceContext());
+        }
+        if (options.getFetchFields() != null) {
+            options.getFetchFields().forEach(ff -> groupHits.fetchField(ff.field, ff.format));
+        }
+        if (options.getDocValueFields() != null) {
+            options.getDocValueFields().forEach(ff -> groupHits.docValueField(ff.field, ff.format));
+        }
+        if (options.getStoredFieldsContext() != null && options.getStoredFieldsContext().fieldNames() != null) {
+            groupHits.storedFields(options.getStoredFieldsContext().fieldNames());
+        }
+        if (options.getScriptFields() != null) {
+            for (SearchSourceBuilder.ScriptField field : options.getScriptFields()) {
+                groupHits.scriptField(field.fieldName(), field.script(), field.ignoreFailure());
+            }
+        }
+        if (options.getHighlightBuilder() != null) {
+            groupHits.highlighter(options.getHighlightBuilder());
         }
+        groupHits.explain(options.isExplain());
+        groupHits.trackScores(options.isTrackScores());
+        groupHits.version(options.isVersion());
+        groupHits.seqNoAndPrimaryTerm(options.isSeqNoAndPrimaryTerm());
+        return groupHits;
     }
 
     private SearchSourceBuilder buildExpandSearchSourceBuilder(InnerHitBuilder options, CollapseBuilder innerCollapseBuilder) {
@@ -169,7 +169,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
         for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly(), result.bottomSortFiltered());
         }
 
         final TopDocs newTopDocs;
@@ -442,7 +442,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
         public synchronized SearchPhaseController.TopDocsStats consumeTopDocsStats() {
             for (QuerySearchResult result : buffer) {
-                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly(), result.bottomSortFiltered());
             }
             return topDocsStats;
         }
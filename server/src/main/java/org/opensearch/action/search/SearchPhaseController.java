@@ -318,7 +318,7 @@ public final class SearchPhaseController {
                 assert currentOffset == sortedDocs.length : "expected no more score doc slices";
             }
         }
-        return reducedQueryPhase.buildResponse(hits);
+        return reducedQueryPhase.buildResponse(hits, fetchResults);
     }
 
     private SearchHits getHits(ReducedQueryPhase reducedQueryPhase, boolean ignoreFrom,
@@ -398,7 +398,7 @@ public final class SearchPhaseController {
             QuerySearchResult queryResult = sortedResult.queryResult();
             final TopDocsAndMaxScore td = queryResult.consumeTopDocs();
             assert td != null;
-            topDocsStats.add(td, queryResult.searchTimedOut(), queryResult.terminatedEarly());
+            topDocsStats.add(td, queryResult.searchTimedOut(), queryResult.terminatedEarly(), queryResult.bottomSortFiltered());
             // make sure we set the shard index before we add it - the consumer didn't do that yet
             if (td.topDocs.scoreDocs.length > 0) {
                 setShardIndex(td.topDocs, queryResult.getShardIndex());
@@ -429,7 +429,7 @@ public final class SearchPhaseController {
         if (queryResults.isEmpty()) { // early terminate we have nothing to reduce
             final TotalHits totalHits = topDocsStats.getTotalHits();
             return new ReducedQueryPhase(totalHits, topDocsStats.fetchHits, topDocsStats.getMaxScore(),
-                false, null, null, null, null, SortedTopDocs.EMPTY, null, numReducePhases, 0, 0, true);
+                false, null, 0, null, null, null, SortedTopDocs.EMPTY, null, numReducePhases, 0, 0, true);
         }
         int total = queryResults.size();
         queryResults = queryResults.stream()
@@ -489,8 +489,8 @@ public final class SearchPhaseController {
         final SortedTopDocs sortedTopDocs = sortDocs(isScrollRequest, bufferedTopDocs, from, size, reducedCompletionSuggestions);
         final TotalHits totalHits = topDocsStats.getTotalHits();
         return new ReducedQueryPhase(totalHits, topDocsStats.fetchHits, topDocsStats.getMaxScore(),
-            topDocsStats.timedOut, topDocsStats.terminatedEarly, reducedSuggest, aggregations, shardResults, sortedTopDocs,
-            firstResult.sortValueFormats(), numReducePhases, size, from, false);
+            topDocsStats.timedOut, topDocsStats.terminatedEarly, topDocsStats.bottomSortFilteredShards, reducedSuggest, aggregations,
+            shardResults, sortedTopDocs, firstResult.sortValueFormats(), numReducePhases, size, from, false);
     }
 
     private static InternalAggregations reduceAggs(InternalAggregation.ReduceContextBuilder aggReduceContextBuilder,
@@ -553,6 +553,8 @@ public final class SearchPhaseController {
         final boolean timedOut;
         // non null and true if at least one reduced result was terminated early
         final Boolean terminatedEarly;
+        // the number of reduced results whose query was filtered by the global bottom sort values
+        final int bottomSortFilteredShards;
         // the reduced suggest results
         final Suggest suggest;
         // the reduced internal aggregations
@@ -572,8 +574,9 @@ public final class SearchPhaseController {
         // sort value formats used to sort / format the result
         final DocValueFormat[] sortValueFormats;
 
-        ReducedQueryPhase(TotalHits totalHits, long fetchHits, float maxScore, boolean timedOut, Boolean terminatedEarly, Suggest suggest,
-                          InternalAggregations aggregations, SearchProfileShardResults shardResults, SortedTopDocs sortedTopDocs,
+        ReducedQueryPhase(TotalHits totalHits, long fetchHits, float maxScore, boolean timedOut, Boolean terminatedEarly,
+                          int bottomSortFilteredShards, Suggest suggest, InternalAggregations aggregations,
+                          SearchProfileShardResults shardResults, SortedTopDocs sortedTopDocs,
                           DocValueFormat[] sortValueFormats, int numReducePhases, int size, int from, boolean isEmptyResult) {
             if (numReducePhases <= 0) {
                 throw new IllegalArgumentException("at least one reduce phase must have been applied but was: " + numReducePhases);
@@ -583,6 +586,7 @@ public final class SearchPhaseController {
             this.maxScore = maxScore;
             this.timedOut = timedOut;
             this.terminatedEarly = terminatedEarly;
+            this.bottomSortFilteredShards = bottomSortFilteredShards;
             this.suggest = suggest;
             this.aggregations = aggregations;
             this.shardResults = shardResults;
@@ -598,8 +602,32 @@ public final class SearchPhaseController {
          * Creates a new search response from the given merged hits.
          * @see #merge(boolean, ReducedQueryPhase, Collection, IntFunction)
          */
-        public InternalSearchResponse buildResponse(SearchHits hits) {
-            return new InternalSearchResponse(hits, aggregations, suggest, shardResults, timedOut, terminatedEarly, numReducePhases);
+        public InternalSearchResponse buildResponse(SearchHits hits, Collection<? extends SearchPhaseResult> fetchResults) {
+            return new InternalSearchResponse(hits, aggregations, suggest, buildSearchProfileResults(fetchResults), timedOut,
+                terminatedEarly, numReducePhases, bottomSortFilteredShards);
+        }
+
+        /**
+         * Adds the profiles of the fetch phases of the shards to the profiles of their query phases.
+         */
+        private SearchProfileShardResults buildSearchProfileResults(Collection<? extends SearchPhaseResult> fetchResults) {
+            if (shardResults == null) {
+                return null;
+            }
+            Map<String, ProfileShardResult> profileResults = new HashMap<>(shardResults.getShardResults());
+            for (SearchPhaseResult result : fetchResults) {
+                FetchSearchResult fetchResult = result.fetchResult();
+                if (fetchResult == null || fetchResult.profileResult() == null) {
+                    continue;
+                }
+                String key = fetchResult.getSearchShardTarget().toString();
+                ProfileShardResult queryProfileResult = profileResults.get(key);
+                if (queryProfileResult != null) {
+                    profileResults.put(key, new ProfileShardResult(queryProfileResult.getQueryProfileResults(),
+                        queryProfileResult.getAggregationProfileResults(), fetchResult.profileResult()));
+                }
+            }
+            return new SearchProfileShardResults(profileResults);
         }
     }
 
@@ -628,6 +656,7 @@ public final class SearchPhaseController {
         private float maxScore = Float.NEGATIVE_INFINITY;
         boolean timedOut;
         Boolean terminatedEarly;
+        int bottomSortFilteredShards;
 
         TopDocsStats(int trackTotalHitsUpTo) {
             this.trackTotalHitsUpTo = trackTotalHitsUpTo;
@@ -660,7 +689,11 @@ public final class SearchPhaseController {
             }
         }
 
-        void add(TopDocsAndMaxScore topDocs, boolean timedOut, Boolean terminatedEarly) {
+        void add(TopDocsAndMaxScore topDocs, boolean timedOut, Boolean terminatedEarly, boolean bottomSortFiltered) {
+            add(topDocs, timedOut, terminatedEarly, bottomSortFiltered ? 1 : 0);
+        }
+
+        void add(TopDocsAndMaxScore topDocs, boolean timedOut, Boolean terminatedEarly, int bottomSortFilteredShards) {
             if (trackTotalHitsUpTo != SearchContext.TRACK_TOTAL_HITS_DISABLED) {
                 totalHits += topDocs.topDocs.totalHits.value;
                 if (topDocs.topDocs.totalHits.relation == Relation.GREATER_THAN_OR_EQUAL_TO) {
@@ -674,6 +707,7 @@ public final class SearchPhaseController {
             if (timedOut) {
                 this.timedOut = true;
             }
+            this.bottomSortFilteredShards += bottomSortFilteredShards;
             if (terminatedEarly != null) {
                 if (this.terminatedEarly == null) {
                     this.terminatedEarly = terminatedEarly;
@@ -216,6 +216,13 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         return skippedShards;
     }
 
+    /**
+     * The number of shards that filtered their query by the bottom sort values of the hits of other shards
+     */
+    public int getBottomSortFilteredShards() {
+        return internalResponse.getBottomSortFilteredShards();
+    }
+
     /**
      * The failed number of shards the search was executed on.
      */
@@ -291,7 +298,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
             builder.field(NUM_REDUCE_PHASES.getPreferredName(), getNumReducePhases());
         }
         RestActions.buildBroadcastShardsHeader(builder, params, getTotalShards(), getSuccessfulShards(), getSkippedShards(),
-            getFailedShards(), getShardFailures());
+            getBottomSortFilteredShards(), getFailedShards(), getShardFailures());
         clusters.toXContent(builder, params);
         internalResponse.toXContent(builder, params);
         return builder;
@@ -317,6 +324,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         int successfulShards = -1;
         int totalShards = -1;
         int skippedShards = 0; // 0 for BWC
+        int bottomSortFilteredShards = 0;
         String scrollId = null;
         String searchContextId = null;
         List<ShardSearchFailure> failures = new ArrayList<>();
@@ -362,6 +370,8 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
                                 totalShards = parser.intValue();
                             } else if (RestActions.SKIPPED_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                                 skippedShards = parser.intValue();
+                            } else if (RestActions.BOTTOM_SORT_FILTERED_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                                bottomSortFilteredShards = parser.intValue();
                             } else {
                                 parser.skipChildren();
                             }
@@ -405,7 +415,7 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
             }
         }
         SearchResponseSections searchResponseSections = new SearchResponseSections(hits, aggs, suggest, timedOut, terminatedEarly,
-                profile, numReducePhases);
+                profile, numReducePhases, bottomSortFilteredShards);
         return new SearchResponse(searchResponseSections, scrollId, totalShards, successfulShards, skippedShards, tookInMillis,
                 failures.toArray(ShardSearchFailure.EMPTY_ARRAY), clusters, searchContextId);
     }
@@ -189,7 +189,7 @@ final class SearchResponseMerger {
 
             TopDocs topDocs = searchHitsToTopDocs(searchHits, totalHits, shards);
             topDocsStats.add(new TopDocsAndMaxScore(topDocs, searchHits.getMaxScore()),
-                searchResponse.isTimedOut(), searchResponse.isTerminatedEarly());
+                searchResponse.isTimedOut(), searchResponse.isTerminatedEarly(), searchResponse.getBottomSortFilteredShards());
             if (searchHits.getHits().length > 0) {
                 //there is no point in adding empty search hits and merging them with the others. Also, empty search hits always come
                 //without sort fields and collapse info, despite sort by field and/or field collapsing was requested, which causes
@@ -210,7 +210,7 @@ final class SearchResponseMerger {
         //make failures ordering consistent between ordinary search and CCS by looking at the shard they come from
         Arrays.sort(shardFailures, FAILURES_COMPARATOR);
         InternalSearchResponse response = new InternalSearchResponse(mergedSearchHits, reducedAggs, suggest, profileShardResults,
-            topDocsStats.timedOut, topDocsStats.terminatedEarly, numReducePhases);
+            topDocsStats.timedOut, topDocsStats.terminatedEarly, numReducePhases, topDocsStats.bottomSortFilteredShards);
         long tookInMillis = searchTimeProvider.buildTookInMillis();
         return new SearchResponse(response, null, totalShards, successfulShards, skippedShards, tookInMillis, shardFailures,
             clusters, null);
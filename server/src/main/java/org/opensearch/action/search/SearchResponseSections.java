@@ -62,9 +62,15 @@ public class SearchResponseSections implements ToXContentFragment {
     protected final boolean timedOut;
     protected final Boolean terminatedEarly;
     protected final int numReducePhases;
+    protected final int bottomSortFilteredShards;
 
     public SearchResponseSections(SearchHits hits, Aggregations aggregations, Suggest suggest, boolean timedOut, Boolean terminatedEarly,
                                   SearchProfileShardResults profileResults,  int numReducePhases) {
+        this(hits, aggregations, suggest, timedOut, terminatedEarly, profileResults, numReducePhases, 0);
+    }
+
+    public SearchResponseSections(SearchHits hits, Aggregations aggregations, Suggest suggest, boolean timedOut, Boolean terminatedEarly,
+                                  SearchProfileShardResults profileResults,  int numReducePhases, int bottomSortFilteredShards) {
         this.hits = hits;
         this.aggregations = aggregations;
         this.suggest = suggest;
@@ -72,6 +78,7 @@ public class SearchResponseSections implements ToXContentFragment {
         this.timedOut = timedOut;
         this.terminatedEarly = terminatedEarly;
         this.numReducePhases = numReducePhases;
+        this.bottomSortFilteredShards = bottomSortFilteredShards;
     }
 
     public final boolean timedOut() {
@@ -101,6 +108,13 @@ public class SearchResponseSections implements ToXContentFragment {
         return numReducePhases;
     }
 
+    /**
+     * Returns the number of shards that filtered their query by the bottom sort values of the hits of other shards
+     */
+    public final int getBottomSortFilteredShards() {
+        return bottomSortFilteredShards;
+    }
+
     /**
      * Returns the profile results for this search response (including all shards).
      * An empty map is returned if profiling was not enabled
@@ -61,8 +61,10 @@ import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.node.NodeClosedException;
 import org.opensearch.tasks.Task;
@@ -81,8 +83,10 @@ import org.opensearch.transport.TransportService;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -107,6 +111,14 @@ public class ShardStateAction {
         = new Setting<>("cluster.routing.allocation.shard_state.reroute.priority", Priority.NORMAL.toString(),
         ShardStateAction::parseReroutePriority, Setting.Property.NodeScope, Setting.Property.Dynamic, Setting.Property.Deprecated);
 
+    /**
+     * The time window during which the shard-started and shard-failed tasks received by the master are collected before being submitted to
+     * the master service as a single batch, and during which the follow-up reroutes triggered by applying them are coalesced into a single
+     * reroute. Zero, the default, submits each task and each follow-up reroute as soon as it arrives.
+     */
+    public static final Setting<TimeValue> SHARD_STATE_BATCH_DELAY_SETTING = Setting.positiveTimeSetting(
+        "cluster.routing.allocation.shard_state.batch_delay", TimeValue.ZERO, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
     private static Priority parseReroutePriority(String priorityString) {
         final Priority priority = Priority.valueOf(priorityString.toUpperCase(Locale.ROOT));
         switch (priority) {
@@ -124,6 +136,11 @@ public class ShardStateAction {
     private final ThreadPool threadPool;
 
     private volatile Priority followUpRerouteTaskPriority;
+    private volatile TimeValue batchDelay;
+
+    private final ShardStateTaskQueue<StartedShardEntry> startedShardsQueue;
+    private final ShardStateTaskQueue<FailedShardEntry> failedShardsQueue;
+    private final DeferredRerouteService followUpRerouteService;
 
     // a list of shards that failed during replication
     // we keep track of these shards in order to avoid sending duplicate failed shard requests for a single failing shard.
@@ -140,14 +157,22 @@ public class ShardStateAction {
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING,
             this::setFollowUpRerouteTaskPriority);
 
+        batchDelay = SHARD_STATE_BATCH_DELAY_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SHARD_STATE_BATCH_DELAY_SETTING, this::setBatchDelay);
+
+        followUpRerouteService = new DeferredRerouteService(rerouteService, threadPool, () -> batchDelay);
+        final ShardStartedClusterStateTaskExecutor shardStartedClusterStateTaskExecutor = new ShardStartedClusterStateTaskExecutor(
+            allocationService, followUpRerouteService, () -> followUpRerouteTaskPriority, logger);
+        startedShardsQueue = new ShardStateTaskQueue<>(clusterService, threadPool, () -> batchDelay, "shard-started",
+            ClusterStateTaskConfig.build(Priority.URGENT), shardStartedClusterStateTaskExecutor);
+        failedShardsQueue = new ShardStateTaskQueue<>(clusterService, threadPool, () -> batchDelay, "shard-failed",
+            ClusterStateTaskConfig.build(Priority.HIGH),
+            new ShardFailedClusterStateTaskExecutor(allocationService, followUpRerouteService, () -> followUpRerouteTaskPriority, logger));
+
         transportService.registerRequestHandler(SHARD_STARTED_ACTION_NAME, ThreadPool.Names.SAME, StartedShardEntry::new,
-            new ShardStartedTransportHandler(clusterService,
-                new ShardStartedClusterStateTaskExecutor(allocationService, rerouteService, () -> followUpRerouteTaskPriority, logger),
-                logger));
+            new ShardStartedTransportHandler(startedShardsQueue, shardStartedClusterStateTaskExecutor, logger));
         transportService.registerRequestHandler(SHARD_FAILED_ACTION_NAME, ThreadPool.Names.SAME, FailedShardEntry::new,
-            new ShardFailedTransportHandler(clusterService,
-                new ShardFailedClusterStateTaskExecutor(allocationService, rerouteService, () -> followUpRerouteTaskPriority, logger),
-                logger));
+            new ShardFailedTransportHandler(failedShardsQueue, logger));
     }
 
     private void sendShardAction(final String actionName, final ClusterState currentState,
@@ -268,15 +293,175 @@ public class ShardStateAction {
         this.followUpRerouteTaskPriority = followUpRerouteTaskPriority;
     }
 
-    private static class ShardFailedTransportHandler implements TransportRequestHandler<FailedShardEntry> {
+    private void setBatchDelay(TimeValue batchDelay) {
+        this.batchDelay = batchDelay;
+    }
+
+    /**
+     * Returns statistics about the batching of the shard state tasks received by this node while it is the elected master.
+     */
+    public ShardStateBatchingStats stats() {
+        return new ShardStateBatchingStats(startedShardsQueue.batches.count(), startedShardsQueue.tasks.count(),
+            failedShardsQueue.batches.count(), failedShardsQueue.tasks.count(), followUpRerouteService.requested.count(),
+            followUpRerouteService.submitted.count());
+    }
+
+    /**
+     * Collects the shard state tasks that arrive within a batch delay and submits them to the master service as a single batch, so that
+     * they are applied in a single cluster state update even if the master service would otherwise have picked them up one by one.
+     */
+    static class ShardStateTaskQueue<T> {
         private final ClusterService clusterService;
-        private final ShardFailedClusterStateTaskExecutor shardFailedClusterStateTaskExecutor;
-        private final Logger logger;
+        private final ThreadPool threadPool;
+        private final Supplier<TimeValue> batchDelaySupplier;
+        private final String source;
+        private final ClusterStateTaskConfig config;
+        private final ClusterStateTaskExecutor<T> executor;
+
+        final CounterMetric batches = new CounterMetric();
+        final CounterMetric tasks = new CounterMetric();
 
-        ShardFailedTransportHandler(ClusterService clusterService,
-                                    ShardFailedClusterStateTaskExecutor shardFailedClusterStateTaskExecutor, Logger logger) {
+        private final Object mutex = new Object();
+        private Map<T, ClusterStateTaskListener> pendingTasks = new LinkedHashMap<>();
+        private boolean flushScheduled;
+
+        ShardStateTaskQueue(ClusterService clusterService, ThreadPool threadPool, Supplier<TimeValue> batchDelaySupplier, String source,
+                            ClusterStateTaskConfig config, ClusterStateTaskExecutor<T> executor) {
             this.clusterService = clusterService;
-            this.shardFailedClusterStateTaskExecutor = shardFailedClusterStateTaskExecutor;
+            this.threadPool = threadPool;
+            this.batchDelaySupplier = batchDelaySupplier;
+            this.source = source;
+            this.config = config;
+            this.executor = executor;
+        }
+
+        void submit(String taskSource, T task, ClusterStateTaskListener listener) {
+            final TimeValue batchDelay = batchDelaySupplier.get();
+            if (batchDelay.millis() <= 0) {
+                batches.inc();
+                tasks.inc();
+                clusterService.submitStateUpdateTask(taskSource, task, config, executor, listener);
+                return;
+            }
+            synchronized (mutex) {
+                pendingTasks.put(task, listener);
+                if (flushScheduled) {
+                    return;
+                }
+                flushScheduled = true;
+            }
+            try {
+                threadPool.schedule(this::flush, batchDelay, ThreadPool.Names.SAME);
+            } catch (OpenSearchRejectedExecutionException e) {
+                logger.debug("failed to schedule submission of [{}] tasks, submitting them now", source);
+                flush();
+            }
+        }
+
+        private void flush() {
+            final Map<T, ClusterStateTaskListener> tasksToSubmit;
+            synchronized (mutex) {
+                tasksToSubmit = pendingTasks;
+                pendingTasks = new LinkedHashMap<>();
+                flushScheduled = false;
+            }
+            if (tasksToSubmit.isEmpty()) {
+                return;
+            }
+            logger.trace("submitting batch of [{}] [{}] tasks", tasksToSubmit.size(), source);
+            batches.inc();
+            tasks.inc(tasksToSubmit.size());
+            try {
+                clusterService.submitStateUpdateTasks(source, tasksToSubmit, config, executor);
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to submit batch of [{}] [{}] tasks", tasksToSubmit.size(), source), e);
+                tasksToSubmit.values().forEach(listener -> listener.onFailure(source, e));
+            }
+        }
+    }
+
+    /**
+     * Defers the follow-up reroutes requested after applying shard state tasks by a batch delay, so that all the follow-up reroutes
+     * requested within that delay result in a single reroute.
+     */
+    static class DeferredRerouteService implements RerouteService {
+        private final RerouteService delegate;
+        private final ThreadPool threadPool;
+        private final Supplier<TimeValue> batchDelaySupplier;
+
+        final CounterMetric requested = new CounterMetric();
+        final CounterMetric submitted = new CounterMetric();
+
+        private final Object mutex = new Object();
+        @Nullable // null if no reroute is currently deferred
+        private List<ActionListener<ClusterState>> pendingListeners;
+        private Priority pendingPriority;
+        private String pendingReason;
+
+        DeferredRerouteService(RerouteService delegate, ThreadPool threadPool, Supplier<TimeValue> batchDelaySupplier) {
+            this.delegate = delegate;
+            this.threadPool = threadPool;
+            this.batchDelaySupplier = batchDelaySupplier;
+        }
+
+        @Override
+        public void reroute(String reason, Priority priority, ActionListener<ClusterState> listener) {
+            requested.inc();
+            final TimeValue batchDelay = batchDelaySupplier.get();
+            if (batchDelay.millis() <= 0) {
+                submitted.inc();
+                delegate.reroute(reason, priority, listener);
+                return;
+            }
+            synchronized (mutex) {
+                if (pendingListeners != null) {
+                    logger.trace("already has deferred reroute [{}], adding [{}] to it", pendingReason, reason);
+                    pendingListeners.add(listener);
+                    if (priority.after(pendingPriority) == false) {
+                        pendingPriority = priority;
+                    }
+                    return;
+                }
+                pendingListeners = new ArrayList<>();
+                pendingListeners.add(listener);
+                pendingPriority = priority;
+                pendingReason = reason;
+            }
+            try {
+                threadPool.schedule(this::submitDeferredReroute, batchDelay, ThreadPool.Names.SAME);
+            } catch (OpenSearchRejectedExecutionException e) {
+                logger.debug("failed to defer reroute [{}], submitting it now", reason);
+                submitDeferredReroute();
+            }
+        }
+
+        private void submitDeferredReroute() {
+            final List<ActionListener<ClusterState>> listeners;
+            final Priority priority;
+            final String reason;
+            synchronized (mutex) {
+                listeners = pendingListeners;
+                priority = pendingPriority;
+                reason = pendingReason;
+                pendingListeners = null;
+            }
+            if (listeners == null) {
+                return;
+            }
+            logger.trace("submitting deferred reroute [{}] on behalf of [{}] requests", reason, listeners.size());
+            submitted.inc();
+            delegate.reroute(reason, priority, ActionListener.wrap(
+                state -> ActionListener.onResponse(listeners, state),
+                e -> ActionListener.onFailure(listeners, e)));
+        }
+    }
+
+    private static class ShardFailedTransportHandler implements TransportRequestHandler<FailedShardEntry> {
+        private final ShardStateTaskQueue<FailedShardEntry> failedShardsQueue;
+        private final Logger logger;
+
+        ShardFailedTransportHandler(ShardStateTaskQueue<FailedShardEntry> failedShardsQueue, Logger logger) {
+            this.failedShardsQueue = failedShardsQueue;
             this.logger = logger;
         }
 
@@ -284,11 +469,9 @@ public class ShardStateAction {
         public void messageReceived(FailedShardEntry request, TransportChannel channel, Task task) throws Exception {
             logger.debug(() -> new ParameterizedMessage("{} received shard failed for {}",
                 request.shardId, request), request.failure);
-            clusterService.submitStateUpdateTask(
+            failedShardsQueue.submit(
                 "shard-failed",
                 request,
-                ClusterStateTaskConfig.build(Priority.HIGH),
-                shardFailedClusterStateTaskExecutor,
                 new ClusterStateTaskListener() {
                     @Override
                     public void onFailure(String source, Exception e) {
@@ -546,13 +729,13 @@ public class ShardStateAction {
     }
 
     private static class ShardStartedTransportHandler implements TransportRequestHandler<StartedShardEntry> {
-        private final ClusterService clusterService;
+        private final ShardStateTaskQueue<StartedShardEntry> startedShardsQueue;
         private final ShardStartedClusterStateTaskExecutor shardStartedClusterStateTaskExecutor;
         private final Logger logger;
 
-        ShardStartedTransportHandler(ClusterService clusterService,
+        ShardStartedTransportHandler(ShardStateTaskQueue<StartedShardEntry> startedShardsQueue,
                                      ShardStartedClusterStateTaskExecutor shardStartedClusterStateTaskExecutor, Logger logger) {
-            this.clusterService = clusterService;
+            this.startedShardsQueue = startedShardsQueue;
             this.shardStartedClusterStateTaskExecutor = shardStartedClusterStateTaskExecutor;
             this.logger = logger;
         }
@@ -560,12 +743,7 @@ public class ShardStateAction {
         @Override
         public void messageReceived(StartedShardEntry request, TransportChannel channel, Task task) throws Exception {
             logger.debug("{} received shard started for [{}]", request.shardId, request);
-            clusterService.submitStateUpdateTask(
-                "shard-started " + request,
-                request,
-                ClusterStateTaskConfig.build(Priority.URGENT),
-                shardStartedClusterStateTaskExecutor,
-                shardStartedClusterStateTaskExecutor);
+            startedShardsQueue.submit("shard-started " + request, request, shardStartedClusterStateTaskExecutor);
             channel.sendResponse(TransportResponse.Empty.INSTANCE);
         }
     }
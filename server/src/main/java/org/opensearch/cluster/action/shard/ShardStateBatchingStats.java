@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.action.shard;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics about how the shard-started and shard-failed tasks received by the elected master were batched, and how many follow-up
+ * reroutes they caused.
+ */
+public class ShardStateBatchingStats implements Writeable, ToXContentFragment {
+
+    private final long startedBatches;
+    private final long startedTasks;
+    private final long failedBatches;
+    private final long failedTasks;
+    private final long reroutesRequested;
+    private final long reroutesSubmitted;
+
+    public ShardStateBatchingStats(long startedBatches, long startedTasks, long failedBatches, long failedTasks,
+                                   long reroutesRequested, long reroutesSubmitted) {
+        this.startedBatches = startedBatches;
+        this.startedTasks = startedTasks;
+        this.failedBatches = failedBatches;
+        this.failedTasks = failedTasks;
+        this.reroutesRequested = reroutesRequested;
+        this.reroutesSubmitted = reroutesSubmitted;
+    }
+
+    public ShardStateBatchingStats(StreamInput in) throws IOException {
+        startedBatches = in.readVLong();
+        startedTasks = in.readVLong();
+        failedBatches = in.readVLong();
+        failedTasks = in.readVLong();
+        reroutesRequested = in.readVLong();
+        reroutesSubmitted = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(startedBatches);
+        out.writeVLong(startedTasks);
+        out.writeVLong(failedBatches);
+        out.writeVLong(failedTasks);
+        out.writeVLong(reroutesRequested);
+        out.writeVLong(reroutesSubmitted);
+    }
+
+    /**
+     * The number of batches of shard-started tasks submitted to the master service.
+     */
+    public long getStartedBatches() {
+        return startedBatches;
+    }
+
+    /**
+     * The total number of shard-started tasks submitted to the master service.
+     */
+    public long getStartedTasks() {
+        return startedTasks;
+    }
+
+    /**
+     * The number of batches of shard-failed tasks submitted to the master service.
+     */
+    public long getFailedBatches() {
+        return failedBatches;
+    }
+
+    /**
+     * The total number of shard-failed tasks submitted to the master service.
+     */
+    public long getFailedTasks() {
+        return failedTasks;
+    }
+
+    /**
+     * The number of follow-up reroutes requested after applying shard state tasks.
+     */
+    public long getReroutesRequested() {
+        return reroutesRequested;
+    }
+
+    /**
+     * The number of follow-up reroutes actually submitted, which is lower than the number requested if reroutes were coalesced.
+     */
+    public long getReroutesSubmitted() {
+        return reroutesSubmitted;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("shard_state_batching");
+        builder.startObject("started");
+        builder.field("batches", startedBatches);
+        builder.field("tasks", startedTasks);
+        builder.endObject();
+        builder.startObject("failed");
+        builder.field("batches", failedBatches);
+        builder.field("tasks", failedTasks);
+        builder.endObject();
+        builder.startObject("reroutes");
+        builder.field("requested", reroutesRequested);
+        builder.field("submitted", reroutesSubmitted);
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShardStateBatchingStats that = (ShardStateBatchingStats) o;
+        return startedBatches == that.startedBatches
+            && startedTasks == that.startedTasks
+            && failedBatches == that.failedBatches
+            && failedTasks == that.failedTasks
+            && reroutesRequested == that.reroutesRequested
+            && reroutesSubmitted == that.reroutesSubmitted;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startedBatches, startedTasks, failedBatches, failedTasks, reroutesRequested, reroutesSubmitted);
+    }
+}
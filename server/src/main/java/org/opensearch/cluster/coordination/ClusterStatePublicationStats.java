@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics about the cluster state publications started by this node while it was the elected master, and about the
+ * publications it relayed to other nodes on behalf of the master.
+ */
+public class ClusterStatePublicationStats implements Writeable, ToXContentFragment {
+
+    private final long committedCount;
+    private final long failedCount;
+    private final long totalCommitTimeMillis;
+    private final long totalCompletionTimeMillis;
+    private final long directPublishRequests;
+    private final long relayRequestsSent;
+    private final long relayedPublishRequests;
+    private final long relayRequestsReceived;
+
+    public ClusterStatePublicationStats(long committedCount, long failedCount, long totalCommitTimeMillis, long totalCompletionTimeMillis,
+                                        long directPublishRequests, long relayRequestsSent, long relayedPublishRequests,
+                                        long relayRequestsReceived) {
+        this.committedCount = committedCount;
+        this.failedCount = failedCount;
+        this.totalCommitTimeMillis = totalCommitTimeMillis;
+        this.totalCompletionTimeMillis = totalCompletionTimeMillis;
+        this.directPublishRequests = directPublishRequests;
+        this.relayRequestsSent = relayRequestsSent;
+        this.relayedPublishRequests = relayedPublishRequests;
+        this.relayRequestsReceived = relayRequestsReceived;
+    }
+
+    public ClusterStatePublicationStats(StreamInput in) throws IOException {
+        committedCount = in.readVLong();
+        failedCount = in.readVLong();
+        totalCommitTimeMillis = in.readVLong();
+        totalCompletionTimeMillis = in.readVLong();
+        directPublishRequests = in.readVLong();
+        relayRequestsSent = in.readVLong();
+        relayedPublishRequests = in.readVLong();
+        relayRequestsReceived = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(committedCount);
+        out.writeVLong(failedCount);
+        out.writeVLong(totalCommitTimeMillis);
+        out.writeVLong(totalCompletionTimeMillis);
+        out.writeVLong(directPublishRequests);
+        out.writeVLong(relayRequestsSent);
+        out.writeVLong(relayedPublishRequests);
+        out.writeVLong(relayRequestsReceived);
+    }
+
+    /**
+     * The number of publications that were committed.
+     */
+    public long getCommittedCount() {
+        return committedCount;
+    }
+
+    /**
+     * The number of publications that completed without being committed.
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * The total time spent between starting publications and committing them.
+     */
+    public long getTotalCommitTimeMillis() {
+        return totalCommitTimeMillis;
+    }
+
+    /**
+     * The total time spent between starting publications and completing them, whether committed or not.
+     */
+    public long getTotalCompletionTimeMillis() {
+        return totalCompletionTimeMillis;
+    }
+
+    /**
+     * The number of publish requests the master sent directly to their target node.
+     */
+    public long getDirectPublishRequests() {
+        return directPublishRequests;
+    }
+
+    /**
+     * The number of relay requests the master sent.
+     */
+    public long getRelayRequestsSent() {
+        return relayRequestsSent;
+    }
+
+    /**
+     * The number of publish requests the master delegated to relay nodes.
+     */
+    public long getRelayedPublishRequests() {
+        return relayedPublishRequests;
+    }
+
+    /**
+     * The number of relay requests this node handled on behalf of the master.
+     */
+    public long getRelayRequestsReceived() {
+        return relayRequestsReceived;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("cluster_state_publication");
+        builder.field("committed", committedCount);
+        builder.field("failed", failedCount);
+        builder.humanReadableField("total_commit_time_in_millis", "total_commit_time",
+            TimeValue.timeValueMillis(totalCommitTimeMillis));
+        builder.humanReadableField("total_completion_time_in_millis", "total_completion_time",
+            TimeValue.timeValueMillis(totalCompletionTimeMillis));
+        builder.field("direct_publish_requests", directPublishRequests);
+        builder.startObject("relay");
+        builder.field("requests_sent", relayRequestsSent);
+        builder.field("relayed_publish_requests", relayedPublishRequests);
+        builder.field("requests_received", relayRequestsReceived);
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClusterStatePublicationStats that = (ClusterStatePublicationStats) o;
+        return committedCount == that.committedCount
+            && failedCount == that.failedCount
+            && totalCommitTimeMillis == that.totalCommitTimeMillis
+            && totalCompletionTimeMillis == that.totalCompletionTimeMillis
+            && directPublishRequests == that.directPublishRequests
+            && relayRequestsSent == that.relayRequestsSent
+            && relayedPublishRequests == that.relayedPublishRequests
+            && relayRequestsReceived == that.relayRequestsReceived;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(committedCount, failedCount, totalCommitTimeMillis, totalCompletionTimeMillis, directPublishRequests,
+            relayRequestsSent, relayedPublishRequests, relayRequestsReceived);
+    }
+}
@@ -37,6 +37,8 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.coordination.CoordinationMetadata.VotingConfiguration;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
+import org.opensearch.gateway.PersistedClusterStateStats;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -89,6 +91,11 @@ public class CoordinationState {
         this.publishVotes = new VoteCollection();
     }
 
+    @Nullable
+    public PersistedClusterStateStats getPersistedStateStats() {
+        return persistedState.getStats();
+    }
+
     public long getCurrentTerm() {
         return persistedState.getCurrentTerm();
     }
@@ -492,6 +499,14 @@ public class CoordinationState {
          */
         void setLastAcceptedState(ClusterState clusterState);
 
+        /**
+         * Returns statistics about the writes made by this persisted state, or {@code null} if it does not write to disk.
+         */
+        @Nullable
+        default PersistedClusterStateStats getStats() {
+            return null;
+        }
+
         /**
          * Marks the last accepted cluster state as committed.
          * After a successful call to this method, {@link #getLastAcceptedState()} should return the last cluster state that was set,
@@ -66,6 +66,8 @@ import org.opensearch.common.Strings;
 import org.opensearch.common.component.AbstractLifecycleComponent;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
@@ -171,6 +173,10 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
     private Optional<CoordinatorPublication> currentPublication = Optional.empty();
     private final NodeHealthService nodeHealthService;
 
+    private final MeanMetric publicationCommitTimes = new MeanMetric();
+    private final MeanMetric publicationCompletionTimes = new MeanMetric();
+    private final CounterMetric failedPublications = new CounterMetric();
+
     /**
      * @param nodeName The name of the node, used to name the {@link java.util.concurrent.ExecutorService} of the {@link SeedHostsResolver}.
      * @param onJoinValidators A collection of join validators to restrict which nodes may join the cluster.
@@ -206,6 +212,12 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
             new HandshakingTransportAddressConnector(settings, transportService), configuredHostsResolver);
         this.publicationHandler = new PublicationTransportHandler(transportService, namedWriteableRegistry,
             this::handlePublishRequest, this::handleApplyCommit);
+        clusterSettings.addSettingsUpdateConsumer(PublicationTransportHandler.PUBLISH_RELAY_FAN_OUT_SETTING,
+            publicationHandler::setRelayFanOut);
+        publicationHandler.setRelayFanOut(PublicationTransportHandler.PUBLISH_RELAY_FAN_OUT_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(PublicationTransportHandler.PUBLISH_RELAY_TIMEOUT_SETTING,
+            publicationHandler::setRelayTimeout);
+        publicationHandler.setRelayTimeout(PublicationTransportHandler.PUBLISH_RELAY_TIMEOUT_SETTING.get(settings));
         this.leaderChecker = new LeaderChecker(settings, transportService, this::onLeaderFailure, nodeHealthService);
         this.followersChecker = new FollowersChecker(settings, transportService, this::onFollowerCheckRequest, this::removeNode,
             nodeHealthService);
@@ -736,7 +748,21 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
 
     @Override
     public DiscoveryStats stats() {
-        return new DiscoveryStats(new PendingClusterStateStats(0, 0, 0), publicationHandler.stats());
+        final CoordinationState state = coordinationState.get();
+        return new DiscoveryStats(new PendingClusterStateStats(0, 0, 0), publicationHandler.stats(), publicationStats(),
+            state == null ? null : state.getPersistedStateStats());
+    }
+
+    private ClusterStatePublicationStats publicationStats() {
+        return new ClusterStatePublicationStats(
+            publicationCommitTimes.count(),
+            failedPublications.count(),
+            publicationCommitTimes.sum(),
+            publicationCompletionTimes.sum(),
+            publicationHandler.getDirectPublishRequestCount(),
+            publicationHandler.getRelayRequestSentCount(),
+            publicationHandler.getRelayedPublishRequestCount(),
+            publicationHandler.getRelayRequestReceivedCount());
     }
 
     @Override
@@ -1127,6 +1153,7 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
                 followersChecker.setCurrentNodes(publishNodes);
                 lagDetector.setTrackedNodes(publishNodes);
                 publication.start(followersChecker.getFaultyNodes());
+                publicationContext.sendRelayedPublishRequests();
             }
         } catch (Exception e) {
             logger.debug(() -> new ParameterizedMessage("[{}] publishing failed", clusterChangedEvent.source()), e);
@@ -1322,6 +1349,7 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
                 new ClusterStatePublisher.AckListener() {
                     @Override
                     public void onCommit(TimeValue commitTime) {
+                        publicationCommitTimes.inc(commitTime.millis());
                         ackListener.onCommit(commitTime);
                     }
 
@@ -1402,6 +1430,11 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         protected void onCompletion(boolean committed) {
             assert Thread.holdsLock(mutex) : "Coordinator mutex not held";
 
+            publicationCompletionTimes.inc(transportService.getThreadPool().relativeTimeInMillis() - getStartTime());
+            if (committed == false) {
+                failedPublications.inc();
+            }
+
             localNodeAckEvent.addListener(new ActionListener<Void>() {
                 @Override
                 public void onResponse(Void ignore) {
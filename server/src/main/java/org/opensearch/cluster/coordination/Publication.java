@@ -86,6 +86,13 @@ public abstract class Publication {
         publicationTargets.forEach(PublicationTarget::sendPublishRequest);
     }
 
+    /**
+     * The time at which this publication was created, as reported by the time supplier it was created with.
+     */
+    protected long getStartTime() {
+        return startTime;
+    }
+
     public void cancel(String reason) {
         if (isCompleted) {
             return;
@@ -44,6 +44,7 @@ import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -53,11 +54,17 @@ import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.discovery.zen.PublishClusterStateAction;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.BytesTransportRequest;
+import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
@@ -67,7 +74,9 @@ import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -75,6 +84,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class PublicationTransportHandler {
 
@@ -82,6 +92,23 @@ public class PublicationTransportHandler {
 
     public static final String PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/publish_state";
     public static final String COMMIT_STATE_ACTION_NAME = "internal:cluster/coordination/commit_state";
+    public static final String RELAY_PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/relay_publish_state";
+
+    /**
+     * The number of nodes to which a relay node forwards a cluster state diff on behalf of the master. When set to zero, the
+     * default, the master sends every publish request itself.
+     */
+    public static final Setting<Integer> PUBLISH_RELAY_FAN_OUT_SETTING =
+        Setting.intSetting("cluster.publish.relay.fan_out", 0, 0, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * How long a relay node waits for each node it forwards a cluster state diff to. A node that does not answer in time is
+     * reported back to the master as a failure, and the master then sends the diff to it directly, so this should be well
+     * below {@code cluster.publish.timeout}.
+     */
+    public static final Setting<TimeValue> PUBLISH_RELAY_TIMEOUT_SETTING =
+        Setting.positiveTimeSetting("cluster.publish.relay.timeout", TimeValue.timeValueSeconds(10),
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
 
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
@@ -99,6 +126,14 @@ public class PublicationTransportHandler {
     private final AtomicLong fullClusterStateReceivedCount = new AtomicLong();
     private final AtomicLong incompatibleClusterStateDiffReceivedCount = new AtomicLong();
     private final AtomicLong compatibleClusterStateDiffReceivedCount = new AtomicLong();
+
+    private final AtomicLong directPublishRequestCount = new AtomicLong();
+    private final AtomicLong relayRequestSentCount = new AtomicLong();
+    private final AtomicLong relayedPublishRequestCount = new AtomicLong();
+    private final AtomicLong relayRequestReceivedCount = new AtomicLong();
+
+    private volatile int relayFanOut;
+    private volatile TimeValue relayTimeout = PUBLISH_RELAY_TIMEOUT_SETTING.getDefault(Settings.EMPTY);
     // -> no need to put a timeout on the options here, because we want the response to eventually be received
     //  and not log an error if it arrives after the timeout
     private final TransportRequestOptions stateRequestOptions = TransportRequestOptions.builder()
@@ -114,6 +149,9 @@ public class PublicationTransportHandler {
         transportService.registerRequestHandler(PUBLISH_STATE_ACTION_NAME, ThreadPool.Names.GENERIC, false, false,
             BytesTransportRequest::new, (request, channel, task) -> channel.sendResponse(handleIncomingPublishRequest(request)));
 
+        transportService.registerRequestHandler(RELAY_PUBLISH_STATE_ACTION_NAME, ThreadPool.Names.GENERIC, false, false,
+            RelayPublishRequest::new, (request, channel, task) -> handleIncomingRelayPublishRequest(request, channel));
+
         transportService.registerRequestHandler(PublishClusterStateAction.SEND_ACTION_NAME, ThreadPool.Names.GENERIC,
             false, false, BytesTransportRequest::new, (request, channel, task) -> {
                 handleIncomingPublishRequest(request);
@@ -163,6 +201,30 @@ public class PublicationTransportHandler {
         };
     }
 
+    void setRelayFanOut(int relayFanOut) {
+        this.relayFanOut = relayFanOut;
+    }
+
+    void setRelayTimeout(TimeValue relayTimeout) {
+        this.relayTimeout = relayTimeout;
+    }
+
+    long getDirectPublishRequestCount() {
+        return directPublishRequestCount.get();
+    }
+
+    long getRelayRequestSentCount() {
+        return relayRequestSentCount.get();
+    }
+
+    long getRelayedPublishRequestCount() {
+        return relayedPublishRequestCount.get();
+    }
+
+    long getRelayRequestReceivedCount() {
+        return relayRequestReceivedCount.get();
+    }
+
     public PublishClusterStateStats stats() {
         return new PublishClusterStateStats(
             fullClusterStateReceivedCount.get(),
@@ -230,6 +292,67 @@ public class PublicationTransportHandler {
         }
     }
 
+    private void handleIncomingRelayPublishRequest(RelayPublishRequest request, TransportChannel channel) {
+        relayRequestReceivedCount.incrementAndGet();
+        final Map<String, PublishWithJoinResponse> responses = ConcurrentCollections.newConcurrentMap();
+        final Map<String, Exception> failures = ConcurrentCollections.newConcurrentMap();
+        final CountDown countDown = new CountDown(request.targets().size() + 1);
+        final Runnable onTargetCompleted = () -> {
+            if (countDown.countDown()) {
+                try {
+                    channel.sendResponse(new RelayPublishResponse(responses, failures));
+                } catch (IOException e) {
+                    logger.debug("failed to send response on relayed publication", e);
+                }
+            }
+        };
+
+        // a target that does not answer in time is reported as a local failure so that the master sends it the diff directly
+        // rather than holding back the responses of all the other targets until the publication times out
+        final TransportRequestOptions relayedRequestOptions = TransportRequestOptions.builder()
+            .withType(TransportRequestOptions.Type.STATE).withTimeout(relayTimeout).build();
+
+        // forward first so that the targets deserialize and apply the diff concurrently with this node
+        for (DiscoveryNode target : request.targets()) {
+            logger.trace("relaying cluster state diff to [{}]", target);
+            transportService.sendRequest(target, PUBLISH_STATE_ACTION_NAME, new BytesTransportRequest(request.bytes(), request.version()),
+                relayedRequestOptions, new TransportResponseHandler<PublishWithJoinResponse>() {
+
+                    @Override
+                    public PublishWithJoinResponse read(StreamInput in) throws IOException {
+                        return new PublishWithJoinResponse(in);
+                    }
+
+                    @Override
+                    public void handleResponse(PublishWithJoinResponse response) {
+                        responses.put(target.getId(), response);
+                        onTargetCompleted.run();
+                    }
+
+                    @Override
+                    public void handleException(TransportException exp) {
+                        failures.put(target.getId(), exp);
+                        onTargetCompleted.run();
+                    }
+
+                    @Override
+                    public String executor() {
+                        return ThreadPool.Names.SAME;
+                    }
+                });
+        }
+
+        final DiscoveryNode localNode = transportService.getLocalNode();
+        try {
+            responses.put(localNode.getId(), handleIncomingPublishRequest(new BytesTransportRequest(request.bytes(), request.version())));
+        } catch (Exception e) {
+            // report local failures like a failure of a direct publish request so the master handles them in the same way
+            failures.put(localNode.getId(),
+                new RemoteTransportException(localNode.getName(), localNode.getAddress(), PUBLISH_STATE_ACTION_NAME, e));
+        }
+        onTargetCompleted.run();
+    }
+
     private PublishWithJoinResponse acceptState(ClusterState incomingState) {
         // if the state is coming from the current node, use original request instead (see currentPublishRequestToSelf for explanation)
         if (transportService.getLocalNode().equals(incomingState.nodes().getMasterNode())) {
@@ -289,12 +412,15 @@ public class PublicationTransportHandler {
         private final boolean sendFullVersion;
         private final Map<Version, BytesReference> serializedStates = new HashMap<>();
         private final Map<Version, BytesReference> serializedDiffs = new HashMap<>();
+        private final int relayFanOut;
+        private final List<Tuple<DiscoveryNode, ActionListener<PublishWithJoinResponse>>> pendingRelayTargets = new ArrayList<>();
 
         PublicationContext(ClusterChangedEvent clusterChangedEvent) {
             discoveryNodes = clusterChangedEvent.state().nodes();
             newState = clusterChangedEvent.state();
             previousState = clusterChangedEvent.previousState();
             sendFullVersion = previousState.getBlocks().disableStatePersistence();
+            relayFanOut = PublicationTransportHandler.this.relayFanOut;
         }
 
         void buildDiffAndSerializeStates() {
@@ -353,12 +479,119 @@ public class PublicationTransportHandler {
             if (sendFullVersion || previousState.nodes().nodeExists(destination) == false) {
                 logger.trace("sending full cluster state version [{}] to [{}]", newState.version(), destination);
                 sendFullClusterState(destination, responseActionListener);
+            } else if (canRelayTo(destination)) {
+                logger.trace("deferring cluster state diff for version [{}] to [{}] for relaying", newState.version(), destination);
+                pendingRelayTargets.add(new Tuple<>(destination, responseActionListener));
             } else {
                 logger.trace("sending cluster state diff for version [{}] to [{}]", newState.version(), destination);
                 sendClusterStateDiff(destination, responseActionListener);
             }
         }
 
+        /**
+         * Only diffs are relayed, to nodes which are not master-eligible, so that the master still reaches the nodes needed to
+         * commit the state directly and a relay never needs a state it has not seen before.
+         */
+        private boolean canRelayTo(DiscoveryNode destination) {
+            return relayFanOut > 0
+                && destination.isMasterNode() == false
+                && destination.equals(discoveryNodes.getLocalNode()) == false
+                && Coordinator.isZen1Node(destination) == false
+                && destination.getVersion().onOrAfter(Version.V_1_0_0);
+        }
+
+        /**
+         * Sends the publish requests deferred by {@link #sendPublishRequest} for relaying. The deferred targets are split by version
+         * into groups of {@code fan_out + 1} nodes, and the first node of each group applies the diff and forwards it to the others.
+         * Acknowledgements and commits still flow directly between the master and every node.
+         */
+        public void sendRelayedPublishRequests() {
+            assert transportService.getThreadPool().getThreadContext().isSystemContext();
+            if (pendingRelayTargets.isEmpty()) {
+                return;
+            }
+            final Map<Version, List<Tuple<DiscoveryNode, ActionListener<PublishWithJoinResponse>>>> targetsByVersion =
+                pendingRelayTargets.stream().collect(Collectors.groupingBy(target -> target.v1().getVersion()));
+            pendingRelayTargets.clear();
+            for (List<Tuple<DiscoveryNode, ActionListener<PublishWithJoinResponse>>> targets : targetsByVersion.values()) {
+                for (int i = 0; i < targets.size(); i += relayFanOut + 1) {
+                    final List<Tuple<DiscoveryNode, ActionListener<PublishWithJoinResponse>>> group =
+                        new ArrayList<>(targets.subList(i, Math.min(targets.size(), i + relayFanOut + 1)));
+                    if (group.size() == 1) {
+                        sendClusterStateDiff(group.get(0).v1(), group.get(0).v2());
+                    } else {
+                        sendRelayPublishRequest(group);
+                    }
+                }
+            }
+        }
+
+        private void sendRelayPublishRequest(List<Tuple<DiscoveryNode, ActionListener<PublishWithJoinResponse>>> group) {
+            final DiscoveryNode relay = group.get(0).v1();
+            final List<DiscoveryNode> targets = group.subList(1, group.size()).stream().map(Tuple::v1).collect(Collectors.toList());
+            final BytesReference bytes = serializedDiffs.get(relay.getVersion());
+            assert bytes != null : "failed to find serialized diff for node " + relay + " of version [" + relay.getVersion() + "]";
+            logger.trace("relaying cluster state diff for version [{}] to {} via [{}]", newState.version(), targets, relay);
+            relayRequestSentCount.incrementAndGet();
+            relayedPublishRequestCount.addAndGet(targets.size());
+            try {
+                transportService.sendRequest(relay, RELAY_PUBLISH_STATE_ACTION_NAME,
+                    new RelayPublishRequest(bytes, relay.getVersion(), targets), stateRequestOptions,
+                    new TransportResponseHandler<RelayPublishResponse>() {
+
+                        @Override
+                        public RelayPublishResponse read(StreamInput in) throws IOException {
+                            return new RelayPublishResponse(in);
+                        }
+
+                        @Override
+                        public void handleResponse(RelayPublishResponse response) {
+                            for (Tuple<DiscoveryNode, ActionListener<PublishWithJoinResponse>> target : group) {
+                                final PublishWithJoinResponse targetResponse = response.getResponses().get(target.v1().getId());
+                                if (targetResponse != null) {
+                                    target.v2().onResponse(targetResponse);
+                                } else {
+                                    handleRelayedPublishFailure(target.v1(), response.getFailures().get(target.v1().getId()),
+                                        target.v2());
+                                }
+                            }
+                        }
+
+                        @Override
+                        public void handleException(TransportException exp) {
+                            logger.debug(() -> new ParameterizedMessage(
+                                "failed to relay cluster state via [{}], sending it directly to {}", relay, targets), exp);
+                            group.forEach(target -> sendClusterStateDiff(target.v1(), target.v2()));
+                        }
+
+                        @Override
+                        public String executor() {
+                            return ThreadPool.Names.GENERIC;
+                        }
+                    });
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("error relaying cluster state via [{}]", relay), e);
+                group.forEach(target -> sendClusterStateDiff(target.v1(), target.v2()));
+            }
+        }
+
+        private void handleRelayedPublishFailure(DiscoveryNode destination, Exception e,
+                                                 ActionListener<PublishWithJoinResponse> listener) {
+            if (e instanceof RemoteTransportException == false) {
+                // the diff never reached the node, for instance because the relay is not connected to it yet
+                logger.debug(() -> new ParameterizedMessage(
+                    "relay failed to send cluster state to {}, sending it directly", destination), e);
+                sendClusterStateDiff(destination, listener);
+            } else if (((RemoteTransportException) e).unwrapCause() instanceof IncompatibleClusterStateVersionException) {
+                logger.debug("resending full cluster state to node {} reason {}", destination,
+                    ((RemoteTransportException) e).getDetailedMessage());
+                sendFullClusterState(destination, listener);
+            } else {
+                logger.debug(() -> new ParameterizedMessage("failed to send cluster state to {}", destination), e);
+                listener.onFailure(e);
+            }
+        }
+
         public void sendApplyCommit(DiscoveryNode destination, ApplyCommitRequest applyCommitRequest,
                                     ActionListener<TransportResponse.Empty> listener) {
             assert transportService.getThreadPool().getThreadContext().isSystemContext();
@@ -467,6 +700,7 @@ public class PublicationTransportHandler {
                     actionName = PUBLISH_STATE_ACTION_NAME;
                     transportResponseHandler = responseHandler;
                 }
+                directPublishRequestCount.incrementAndGet();
                 transportService.sendRequest(destination, actionName, request, stateRequestOptions, transportResponseHandler);
             } catch (Exception e) {
                 logger.warn(() -> new ParameterizedMessage("error sending cluster state to {}", destination), e);
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sent by the master to a relay node, carrying a serialized cluster state diff that the relay applies locally and forwards
+ * unchanged to the given target nodes. The serialized bytes are only valid for nodes of the given version.
+ */
+public class RelayPublishRequest extends TransportRequest {
+
+    private final BytesReference bytes;
+    private final Version version;
+    private final List<DiscoveryNode> targets;
+
+    public RelayPublishRequest(BytesReference bytes, Version version, List<DiscoveryNode> targets) {
+        this.bytes = bytes;
+        this.version = version;
+        this.targets = targets;
+    }
+
+    public RelayPublishRequest(StreamInput in) throws IOException {
+        super(in);
+        bytes = in.readBytesReference();
+        version = Version.readVersion(in);
+        targets = in.readList(DiscoveryNode::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeBytesReference(bytes);
+        Version.writeVersion(version, out);
+        out.writeList(targets);
+    }
+
+    public BytesReference bytes() {
+        return bytes;
+    }
+
+    public Version version() {
+        return version;
+    }
+
+    public List<DiscoveryNode> targets() {
+        return targets;
+    }
+
+    @Override
+    public String toString() {
+        return "RelayPublishRequest{" +
+            "version=" + version +
+            ", size=" + bytes.length() +
+            ", targets=" + targets +
+            '}';
+    }
+}
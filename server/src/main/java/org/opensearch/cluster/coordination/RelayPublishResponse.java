@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Response to a {@link RelayPublishRequest}. Holds, keyed by node id, the {@link PublishWithJoinResponse} or the failure of the
+ * relay node itself and of every node it forwarded the state to.
+ */
+public class RelayPublishResponse extends TransportResponse {
+
+    private final Map<String, PublishWithJoinResponse> responses;
+    private final Map<String, Exception> failures;
+
+    public RelayPublishResponse(Map<String, PublishWithJoinResponse> responses, Map<String, Exception> failures) {
+        this.responses = responses;
+        this.failures = failures;
+    }
+
+    public RelayPublishResponse(StreamInput in) throws IOException {
+        super(in);
+        responses = in.readMap(StreamInput::readString, PublishWithJoinResponse::new);
+        final int failureCount = in.readVInt();
+        failures = new HashMap<>(failureCount);
+        for (int i = 0; i < failureCount; i++) {
+            failures.put(in.readString(), in.readException());
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeMap(responses, StreamOutput::writeString, (o, response) -> response.writeTo(o));
+        out.writeVInt(failures.size());
+        for (Map.Entry<String, Exception> entry : failures.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeException(entry.getValue());
+        }
+    }
+
+    public Map<String, PublishWithJoinResponse> getResponses() {
+        return responses;
+    }
+
+    public Map<String, Exception> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "RelayPublishResponse{" +
+            "responses=" + responses.keySet() +
+            ", failures=" + failures.keySet() +
+            '}';
+    }
+}
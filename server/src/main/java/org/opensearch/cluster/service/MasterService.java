@@ -60,6 +60,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.text.Text;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
@@ -90,6 +91,22 @@ public class MasterService extends AbstractLifecycleComponent {
         Setting.positiveTimeSetting("cluster.service.slow_master_task_logging_threshold", TimeValue.timeValueSeconds(10),
             Setting.Property.Dynamic, Setting.Property.NodeScope);
 
+    /**
+     * Pending tasks that have been waiting for longer than this are run ahead of the next batch of higher priority tasks. A negative
+     * value, the default, disables this protection so that tasks run in strict priority order.
+     */
+    public static final Setting<TimeValue> MASTER_SERVICE_STARVATION_THRESHOLD_SETTING =
+        Setting.timeSetting("cluster.service.master_task_starvation_threshold", TimeValue.MINUS_ONE, TimeValue.MINUS_ONE,
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The maximum number of pending tasks of a given type, e.g. {@code cluster.service.task_throttling.put-mapping.max_pending_tasks}.
+     * Further tasks of that type are rejected. Unlimited by default.
+     */
+    public static final Setting.AffixSetting<Integer> MASTER_SERVICE_MAX_PENDING_TASKS_SETTING =
+        Setting.affixKeySetting("cluster.service.task_throttling.", "max_pending_tasks",
+            key -> Setting.intSetting(key, -1, -1, Setting.Property.Dynamic, Setting.Property.NodeScope));
+
     static final String MASTER_UPDATE_THREAD_NAME = "masterService#updateTask";
 
     ClusterStatePublisher clusterStatePublisher;
@@ -99,6 +116,8 @@ public class MasterService extends AbstractLifecycleComponent {
     private java.util.function.Supplier<ClusterState> clusterStateSupplier;
 
     private volatile TimeValue slowTaskLoggingThreshold;
+    private volatile TimeValue starvationThreshold;
+    private final Map<String, Integer> maxPendingTasksPerType = ConcurrentCollections.newConcurrentMap();
 
     protected final ThreadPool threadPool;
 
@@ -111,6 +130,12 @@ public class MasterService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(MASTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING, this::setSlowTaskLoggingThreshold);
 
+        this.starvationThreshold = MASTER_SERVICE_STARVATION_THRESHOLD_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MASTER_SERVICE_STARVATION_THRESHOLD_SETTING, this::setStarvationThreshold);
+
+        MASTER_SERVICE_MAX_PENDING_TASKS_SETTING.getAsMap(settings).forEach(this::setMaxPendingTasks);
+        clusterSettings.addAffixUpdateConsumer(MASTER_SERVICE_MAX_PENDING_TASKS_SETTING, this::setMaxPendingTasks, (type, limit) -> {});
+
         this.threadPool = threadPool;
     }
 
@@ -118,6 +143,18 @@ public class MasterService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = slowTaskLoggingThreshold;
     }
 
+    private void setStarvationThreshold(TimeValue starvationThreshold) {
+        this.starvationThreshold = starvationThreshold;
+    }
+
+    private void setMaxPendingTasks(String taskType, int maxPendingTasks) {
+        if (maxPendingTasks < 0) {
+            maxPendingTasksPerType.remove(taskType);
+        } else {
+            maxPendingTasksPerType.put(taskType, maxPendingTasks);
+        }
+    }
+
     public synchronized void setClusterStatePublisher(ClusterStatePublisher publisher) {
         clusterStatePublisher = publisher;
     }
@@ -157,6 +194,16 @@ public class MasterService extends AbstractLifecycleComponent {
                         new ProcessClusterEventTimeoutException(timeout, task.source))));
         }
 
+        @Override
+        protected TimeValue getStarvationThreshold() {
+            return starvationThreshold;
+        }
+
+        @Override
+        protected int getMaxPendingTasks(String taskType) {
+            return maxPendingTasksPerType.getOrDefault(taskType, -1);
+        }
+
         @Override
         protected void run(Object batchingKey, List<? extends BatchedTask> tasks, String tasksSummary) {
             ClusterStateTaskExecutor<Object> taskExecutor = (ClusterStateTaskExecutor<Object>) batchingKey;
@@ -501,6 +548,14 @@ public class MasterService extends AbstractLifecycleComponent {
         return threadPoolExecutor.getMaxTaskWaitTime();
     }
 
+    /**
+     * Returns statistics about the tasks submitted to this master service, grouped by task type.
+     */
+    public MasterServiceStats stats() {
+        final Batcher taskBatcher = this.taskBatcher;
+        return taskBatcher == null ? new MasterServiceStats(0, Collections.emptyMap()) : taskBatcher.stats();
+    }
+
     private SafeClusterStateTaskListener safe(ClusterStateTaskListener listener, Supplier<ThreadContext.StoredContext> contextSupplier) {
         if (listener instanceof AckedClusterStateTaskListener) {
             return new SafeAckedClusterStateTaskListener((AckedClusterStateTaskListener) listener, contextSupplier, logger);
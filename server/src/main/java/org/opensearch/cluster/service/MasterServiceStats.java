@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.service;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Statistics about the cluster state update tasks submitted to the {@link MasterService} of a node, grouped by task type. The type of a
+ * task is the leading part of its source, e.g. {@code put-mapping} or {@code shard-started}.
+ */
+public class MasterServiceStats implements Writeable, ToXContentFragment {
+
+    private final long starvedBatchesPromoted;
+    private final Map<String, TaskTypeStats> taskTypeStats;
+
+    public MasterServiceStats(long starvedBatchesPromoted, Map<String, TaskTypeStats> taskTypeStats) {
+        this.starvedBatchesPromoted = starvedBatchesPromoted;
+        this.taskTypeStats = taskTypeStats;
+    }
+
+    public MasterServiceStats(StreamInput in) throws IOException {
+        starvedBatchesPromoted = in.readVLong();
+        taskTypeStats = in.readMap(StreamInput::readString, TaskTypeStats::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(starvedBatchesPromoted);
+        out.writeMap(taskTypeStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    /**
+     * The number of times a batch of tasks that had been waiting longer than the starvation threshold was run ahead of a batch of
+     * higher priority tasks.
+     */
+    public long getStarvedBatchesPromoted() {
+        return starvedBatchesPromoted;
+    }
+
+    public Map<String, TaskTypeStats> getTaskTypeStats() {
+        return taskTypeStats;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("master_service");
+        builder.field("starved_batches_promoted", starvedBatchesPromoted);
+        builder.startObject("task_types");
+        for (Map.Entry<String, TaskTypeStats> entry : new TreeMap<>(taskTypeStats).entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MasterServiceStats that = (MasterServiceStats) o;
+        return starvedBatchesPromoted == that.starvedBatchesPromoted && taskTypeStats.equals(that.taskTypeStats);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(starvedBatchesPromoted, taskTypeStats);
+    }
+
+    /**
+     * Statistics about the tasks of a single type.
+     */
+    public static class TaskTypeStats implements Writeable, ToXContentFragment {
+
+        private final long pending;
+        private final long executed;
+        private final long timedOut;
+        private final long throttled;
+        private final long totalWaitTimeMillis;
+        private final long totalExecutionTimeMillis;
+
+        public TaskTypeStats(long pending, long executed, long timedOut, long throttled, long totalWaitTimeMillis,
+                             long totalExecutionTimeMillis) {
+            this.pending = pending;
+            this.executed = executed;
+            this.timedOut = timedOut;
+            this.throttled = throttled;
+            this.totalWaitTimeMillis = totalWaitTimeMillis;
+            this.totalExecutionTimeMillis = totalExecutionTimeMillis;
+        }
+
+        public TaskTypeStats(StreamInput in) throws IOException {
+            pending = in.readVLong();
+            executed = in.readVLong();
+            timedOut = in.readVLong();
+            throttled = in.readVLong();
+            totalWaitTimeMillis = in.readVLong();
+            totalExecutionTimeMillis = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(pending);
+            out.writeVLong(executed);
+            out.writeVLong(timedOut);
+            out.writeVLong(throttled);
+            out.writeVLong(totalWaitTimeMillis);
+            out.writeVLong(totalExecutionTimeMillis);
+        }
+
+        /**
+         * The number of tasks currently waiting to be executed.
+         */
+        public long getPending() {
+            return pending;
+        }
+
+        public long getExecuted() {
+            return executed;
+        }
+
+        public long getTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * The number of tasks rejected because too many tasks of the same type were pending.
+         */
+        public long getThrottled() {
+            return throttled;
+        }
+
+        /**
+         * The total time executed tasks spent waiting in the queue.
+         */
+        public long getTotalWaitTimeMillis() {
+            return totalWaitTimeMillis;
+        }
+
+        /**
+         * The total time spent executing the batches containing tasks of this type, including publication.
+         */
+        public long getTotalExecutionTimeMillis() {
+            return totalExecutionTimeMillis;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field("pending", pending);
+            builder.field("executed", executed);
+            builder.field("timed_out", timedOut);
+            builder.field("throttled", throttled);
+            builder.humanReadableField("total_wait_time_in_millis", "total_wait_time", TimeValue.timeValueMillis(totalWaitTimeMillis));
+            builder.humanReadableField("total_execution_time_in_millis", "total_execution_time",
+                TimeValue.timeValueMillis(totalExecutionTimeMillis));
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TaskTypeStats that = (TaskTypeStats) o;
+            return pending == that.pending
+                && executed == that.executed
+                && timedOut == that.timedOut
+                && throttled == that.throttled
+                && totalWaitTimeMillis == that.totalWaitTimeMillis
+                && totalExecutionTimeMillis == that.totalExecutionTimeMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pending, executed, timedOut, throttled, totalWaitTimeMillis, totalExecutionTimeMillis);
+        }
+    }
+}
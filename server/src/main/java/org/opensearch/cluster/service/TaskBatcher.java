@@ -35,7 +35,9 @@ package org.opensearch.cluster.service;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.common.util.concurrent.PrioritizedOpenSearchThreadPoolExecutor;
 
@@ -46,6 +48,8 @@ import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -53,6 +57,11 @@ import java.util.stream.Collectors;
 /**
  * Batching support for {@link PrioritizedOpenSearchThreadPoolExecutor}
  * Tasks that share the same batching key are batched (see {@link BatchedTask#batchingKey})
+ *
+ * Batches normally run in priority order, but a batch whose oldest task has waited for longer than the
+ * {@link #getStarvationThreshold() starvation threshold} is run ahead of the next batch of higher priority tasks, so that a steady stream
+ * of high priority tasks cannot starve lower priority ones indefinitely. The number of pending tasks of each type may also be
+ * {@link #getMaxPendingTasks(String) limited}.
  */
 public abstract class TaskBatcher {
 
@@ -60,6 +69,8 @@ public abstract class TaskBatcher {
     private final PrioritizedOpenSearchThreadPoolExecutor threadExecutor;
     // package visible for tests
     final Map<Object, LinkedHashSet<BatchedTask>> tasksPerBatchingKey = new HashMap<>();
+    private final ConcurrentMap<String, TaskTypeMetrics> metricsPerTaskType = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric starvedBatchesPromoted = new CounterMetric();
 
     public TaskBatcher(Logger logger, PrioritizedOpenSearchThreadPoolExecutor threadExecutor) {
         this.logger = logger;
@@ -73,6 +84,10 @@ public abstract class TaskBatcher {
         final BatchedTask firstTask = tasks.get(0);
         assert tasks.stream().allMatch(t -> t.batchingKey == firstTask.batchingKey) :
             "tasks submitted in a batch should share the same batching key: " + tasks;
+        assert tasks.stream().allMatch(t -> t.source.equals(firstTask.source)) :
+            "tasks submitted in a batch should share the same source: " + tasks;
+        final String taskType = taskType(firstTask.source);
+        final TaskTypeMetrics taskTypeMetrics = metricsPerTaskType.computeIfAbsent(taskType, k -> new TaskTypeMetrics());
         // convert to an identity map to check for dups based on task identity
         final Map<Object, BatchedTask> tasksIdentity = tasks.stream().collect(Collectors.toMap(
             BatchedTask::getTask,
@@ -81,6 +96,14 @@ public abstract class TaskBatcher {
             IdentityHashMap::new));
 
         synchronized (tasksPerBatchingKey) {
+            final int maxPendingTasks = getMaxPendingTasks(taskType);
+            final long pendingTasks = taskTypeMetrics.pending.count();
+            if (maxPendingTasks >= 0 && pendingTasks + tasks.size() > maxPendingTasks) {
+                taskTypeMetrics.throttled.inc(tasks.size());
+                throw new OpenSearchRejectedExecutionException("rejecting [" + tasks.size() + "] tasks with source [" + firstTask.source
+                    + "] as there are already [" + pendingTasks + "] pending tasks of type [" + taskType + "] and at most ["
+                    + maxPendingTasks + "] are allowed");
+            }
             LinkedHashSet<BatchedTask> existingTasks = tasksPerBatchingKey.computeIfAbsent(firstTask.batchingKey,
                 k -> new LinkedHashSet<>(tasks.size()));
             for (BatchedTask existing : existingTasks) {
@@ -92,12 +115,26 @@ public abstract class TaskBatcher {
                 }
             }
             existingTasks.addAll(tasks);
+            taskTypeMetrics.pending.inc(tasks.size());
         }
 
-        if (timeout != null) {
-            threadExecutor.execute(firstTask, timeout, () -> onTimeoutInternal(tasks, timeout));
-        } else {
-            threadExecutor.execute(firstTask);
+        try {
+            if (timeout != null) {
+                threadExecutor.execute(firstTask, timeout, () -> onTimeoutInternal(tasks, timeout));
+            } else {
+                threadExecutor.execute(firstTask);
+            }
+        } catch (OpenSearchRejectedExecutionException e) {
+            // the tasks that a batch with the same key didn't pick up yet will never run, so they must not stay pending
+            final List<BatchedTask> toRemove = new ArrayList<>(tasks.size());
+            for (BatchedTask task : tasks) {
+                if (task.processed.getAndSet(true) == false) {
+                    toRemove.add(task);
+                }
+            }
+            taskTypeMetrics.pending.dec(toRemove.size());
+            removeTasks(firstTask.batchingKey, toRemove);
+            throw e;
         }
     }
 
@@ -107,6 +144,9 @@ public abstract class TaskBatcher {
             if (task.processed.getAndSet(true) == false) {
                 logger.debug("task [{}] timed out after [{}]", task.source, timeout);
                 toRemove.add(task);
+                final TaskTypeMetrics taskTypeMetrics = metricsPerTaskType.get(taskType(task.source));
+                taskTypeMetrics.pending.dec();
+                taskTypeMetrics.timedOut.inc();
             }
         }
         if (toRemove.isEmpty() == false) {
@@ -114,16 +154,20 @@ public abstract class TaskBatcher {
             Object batchingKey = firstTask.batchingKey;
             assert tasks.stream().allMatch(t -> t.batchingKey == batchingKey) :
                 "tasks submitted in a batch should share the same batching key: " + tasks;
-            synchronized (tasksPerBatchingKey) {
-                LinkedHashSet<BatchedTask> existingTasks = tasksPerBatchingKey.get(batchingKey);
-                if (existingTasks != null) {
-                    existingTasks.removeAll(toRemove);
-                    if (existingTasks.isEmpty()) {
-                        tasksPerBatchingKey.remove(batchingKey);
-                    }
+            removeTasks(batchingKey, toRemove);
+            onTimeout(toRemove, timeout);
+        }
+    }
+
+    private void removeTasks(Object batchingKey, List<BatchedTask> toRemove) {
+        synchronized (tasksPerBatchingKey) {
+            LinkedHashSet<BatchedTask> existingTasks = tasksPerBatchingKey.get(batchingKey);
+            if (existingTasks != null) {
+                existingTasks.removeAll(toRemove);
+                if (existingTasks.isEmpty()) {
+                    tasksPerBatchingKey.remove(batchingKey);
                 }
             }
-            onTimeout(toRemove, timeout);
         }
     }
 
@@ -137,32 +181,139 @@ public abstract class TaskBatcher {
         // if this task is already processed, it shouldn't execute other tasks with same batching key that arrived later,
         // to give other tasks with different batching key a chance to execute.
         if (updateTask.processed.get() == false) {
-            final List<BatchedTask> toExecute = new ArrayList<>();
-            final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
-            synchronized (tasksPerBatchingKey) {
-                LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
-                if (pending != null) {
-                    for (BatchedTask task : pending) {
-                        if (task.processed.getAndSet(true) == false) {
-                            logger.trace("will process {}", task);
-                            toExecute.add(task);
-                            processTasksBySource.computeIfAbsent(task.source, s -> new ArrayList<>()).add(task);
-                        } else {
-                            logger.trace("skipping {}, already processed", task);
+            final BatchedTask starvedTask = findStarvedTask(updateTask);
+            if (starvedTask != null) {
+                logger.debug("running starved task {} with priority [{}] after [{}ms] ahead of {} with priority [{}]", starvedTask,
+                    starvedTask.priority(), starvedTask.getAgeInMillis(), updateTask, updateTask.priority());
+                starvedBatchesPromoted.inc();
+                runBatch(starvedTask);
+            }
+            runBatch(updateTask);
+        }
+    }
+
+    /**
+     * Finds the oldest pending task that has a lower priority than the given task, has a different batching key, and has been waiting
+     * for longer than the starvation threshold.
+     */
+    @Nullable
+    private BatchedTask findStarvedTask(BatchedTask updateTask) {
+        final long starvationThresholdMillis = getStarvationThreshold().millis();
+        if (starvationThresholdMillis < 0) {
+            return null;
+        }
+        BatchedTask starvedTask = null;
+        synchronized (tasksPerBatchingKey) {
+            for (Map.Entry<Object, LinkedHashSet<BatchedTask>> entry : tasksPerBatchingKey.entrySet()) {
+                if (entry.getKey() == updateTask.batchingKey) {
+                    continue;
+                }
+                // tasks are kept in submission order, so the first unprocessed task of each batch is its oldest
+                for (BatchedTask task : entry.getValue()) {
+                    if (task.processed.get() == false) {
+                        if (task.priority().after(updateTask.priority())
+                            && task.getAgeInMillis() >= starvationThresholdMillis
+                            && (starvedTask == null || task.getCreationDateInNanos() < starvedTask.getCreationDateInNanos())) {
+                            starvedTask = task;
                         }
+                        break;
+                    }
+                }
+            }
+        }
+        return starvedTask;
+    }
+
+    private void runBatch(BatchedTask updateTask) {
+        final List<BatchedTask> toExecute = new ArrayList<>();
+        final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
+        final Map<String, TaskTypeMetrics> executedTaskTypes = new HashMap<>();
+        synchronized (tasksPerBatchingKey) {
+            LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
+            if (pending != null) {
+                for (BatchedTask task : pending) {
+                    if (task.processed.getAndSet(true) == false) {
+                        logger.trace("will process {}", task);
+                        toExecute.add(task);
+                        processTasksBySource.computeIfAbsent(task.source, s -> new ArrayList<>()).add(task);
+                        final TaskTypeMetrics taskTypeMetrics = executedTaskTypes.computeIfAbsent(taskType(task.source),
+                            metricsPerTaskType::get);
+                        taskTypeMetrics.pending.dec();
+                        taskTypeMetrics.executed.inc();
+                        taskTypeMetrics.totalWaitTimeMillis.inc(task.getAgeInMillis());
+                    } else {
+                        logger.trace("skipping {}, already processed", task);
                     }
                 }
             }
+        }
 
-            if (toExecute.isEmpty() == false) {
-                final String tasksSummary = processTasksBySource.entrySet().stream().map(entry -> {
-                    String tasks = updateTask.describeTasks(entry.getValue());
-                    return tasks.isEmpty() ? entry.getKey() : entry.getKey() + "[" + tasks + "]";
-                }).reduce((s1, s2) -> s1 + ", " + s2).orElse("");
+        if (toExecute.isEmpty() == false) {
+            final String tasksSummary = processTasksBySource.entrySet().stream().map(entry -> {
+                String tasks = updateTask.describeTasks(entry.getValue());
+                return tasks.isEmpty() ? entry.getKey() : entry.getKey() + "[" + tasks + "]";
+            }).reduce((s1, s2) -> s1 + ", " + s2).orElse("");
 
+            final long startTimeNanos = System.nanoTime();
+            try {
                 run(updateTask.batchingKey, toExecute, tasksSummary);
+            } finally {
+                final long executionTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+                executedTaskTypes.values().forEach(taskTypeMetrics -> taskTypeMetrics.totalExecutionTimeMillis.inc(executionTimeMillis));
+            }
+        }
+    }
+
+    /**
+     * The time after which a pending task is considered starved and its batch is run ahead of batches of higher priority tasks. A
+     * negative value disables starvation protection.
+     */
+    protected TimeValue getStarvationThreshold() {
+        return TimeValue.MINUS_ONE;
+    }
+
+    /**
+     * The maximum number of tasks of the given type that may be pending at once, or a negative value if unlimited.
+     */
+    protected int getMaxPendingTasks(String taskType) {
+        return -1;
+    }
+
+    /**
+     * The type of a task with the given source, used to group task metrics and limits: the leading part of the source up to the first
+     * space or opening bracket, such as {@code put-mapping} for {@code put-mapping [index]}.
+     */
+    static String taskType(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            final char c = source.charAt(i);
+            if (c == ' ' || c == '[' || c == '(') {
+                return i == 0 ? source : source.substring(0, i);
             }
         }
+        return source;
+    }
+
+    /**
+     * Returns statistics about the tasks submitted to this batcher, grouped by task type.
+     */
+    public MasterServiceStats stats() {
+        final Map<String, MasterServiceStats.TaskTypeStats> taskTypeStats = new HashMap<>(metricsPerTaskType.size());
+        metricsPerTaskType.forEach((taskType, metrics) -> taskTypeStats.put(taskType, metrics.stats()));
+        return new MasterServiceStats(starvedBatchesPromoted.count(), taskTypeStats);
+    }
+
+    private static final class TaskTypeMetrics {
+        final CounterMetric pending = new CounterMetric();
+        final CounterMetric executed = new CounterMetric();
+        final CounterMetric timedOut = new CounterMetric();
+        final CounterMetric throttled = new CounterMetric();
+        final CounterMetric totalWaitTimeMillis = new CounterMetric();
+        final CounterMetric totalExecutionTimeMillis = new CounterMetric();
+
+        MasterServiceStats.TaskTypeStats stats() {
+            return new MasterServiceStats.TaskTypeStats(pending.count(), executed.count(), timedOut.count(), throttled.count(),
+                totalWaitTimeMillis.count(), totalExecutionTimeMillis.count());
+        }
     }
 
     /**
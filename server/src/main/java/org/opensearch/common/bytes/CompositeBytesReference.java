@@ -126,6 +126,13 @@ public final class CompositeBytesReference extends AbstractBytesReference {
         return result;
     }
 
+    /**
+     * The last of the references that this reference joins.
+     */
+    BytesReference lastReference() {
+        return references[references.length - 1];
+    }
+
     @Override
     public int length() {
         return length;
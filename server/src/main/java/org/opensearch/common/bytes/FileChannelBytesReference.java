@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.bytes;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link BytesReference} over a region of a file. Transports that can send files without copying them through the heap, using
+ * {@link FileChannel#transferTo}, send the region straight from the {@link #channel()}; all other accesses read the region into the
+ * heap on first use. The channel must stay open for as long as this reference is in use.
+ */
+public final class FileChannelBytesReference extends AbstractBytesReference {
+
+    private final FileChannel channel;
+    private final long position;
+    private final int length;
+    private BytesArray bytes;
+
+    public FileChannelBytesReference(FileChannel channel, long position, int length) {
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("invalid file region: position [" + position + "], length [" + length + "]");
+        }
+        this.channel = channel;
+        this.position = position;
+        this.length = length;
+    }
+
+    /**
+     * Returns the file region that the given bytes end with, or {@code null} if they do not end with one.
+     */
+    @Nullable
+    public static FileChannelBytesReference trailingFileRegion(BytesReference reference) {
+        if (reference instanceof FileChannelBytesReference) {
+            return (FileChannelBytesReference) reference;
+        } else if (reference instanceof CompositeBytesReference) {
+            return trailingFileRegion(((CompositeBytesReference) reference).lastReference());
+        }
+        return null;
+    }
+
+    /**
+     * The channel of the file that this reference points into.
+     */
+    public FileChannel channel() {
+        return channel;
+    }
+
+    /**
+     * The position in the file at which this reference starts.
+     */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public byte get(int index) {
+        return readBytes().get(index);
+    }
+
+    @Override
+    public BytesReference slice(int from, int length) {
+        if (from < 0 || (from + length) > this.length) {
+            throw new IllegalArgumentException("can't slice a buffer with length [" + this.length +
+                "], with slice parameters from [" + from + "], length [" + length + "]");
+        }
+        return new FileChannelBytesReference(channel, position + from, length);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        final BytesArray bytes = this.bytes;
+        return bytes == null ? 0 : bytes.ramBytesUsed();
+    }
+
+    @Override
+    public BytesRef toBytesRef() {
+        return readBytes().toBytesRef();
+    }
+
+    private synchronized BytesArray readBytes() {
+        if (bytes == null) {
+            final ByteBuffer buffer = ByteBuffer.allocate(length);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) == -1) {
+                        throw new EOFException("read past EOF at [" + (position + buffer.position()) + "] reading [" + length
+                            + "] bytes from position [" + position + "]");
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            bytes = new BytesArray(buffer.array());
+        }
+        return bytes;
+    }
+}
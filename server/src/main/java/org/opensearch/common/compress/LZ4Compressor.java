@@ -0,0 +1,272 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.InputStreamDataInput;
+import org.apache.lucene.store.OutputStreamDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.internal.io.Streams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on Lucene's implementation of the LZ4 compression algorithm. It compresses considerably
+ * faster than {@link DeflateCompressor}, at the cost of a lower compression ratio, which makes it suitable for compressing large amounts
+ * of data on the fly.
+ * <p>
+ * The data is split into blocks of {@link #BLOCK_SIZE} bytes that are compressed independently of each other. Each block is written as
+ * its uncompressed length and its compressed length, both as vInts, followed by the compressed bytes. A block with an uncompressed length
+ * of {@code 0} marks the end of the stream, so that truncated streams are detected.
+ * <p>
+ * The streams of this compressor hold no thread-local resources and may be used on any thread.
+ */
+public class LZ4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams, see DeflateCompressor
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+
+    static final int BLOCK_SIZE = 1 << 16;
+
+    // the worst case size of LZ4 compressed data, when none of it can be compressed
+    private static final int MAX_COMPRESSED_BLOCK_SIZE = BLOCK_SIZE + BLOCK_SIZE / 255 + 16;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        return inputStream(in);
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        return outputStream(out);
+    }
+
+    /**
+     * Creates a new input stream that decompresses the contents read from the provided input stream.
+     * Closing the returned stream will close the provided input stream.
+     */
+    public static InputStream inputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new LZ4InputStream(in);
+    }
+
+    /**
+     * Creates a new output stream that compresses the contents and writes to the provided output stream.
+     * Closing the returned stream will close the provided output stream.
+     */
+    public static OutputStream outputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new LZ4OutputStream(out);
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        try (InputStream in = inputStream(bytesReference.streamInput())) {
+            Streams.copy(in, out, new byte[BLOCK_SIZE], false);
+        }
+        return out.bytes();
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        try (OutputStream compressed = outputStream(out)) {
+            bytesReference.writeTo(compressed);
+        }
+        return out.bytes();
+    }
+
+    private static final class LZ4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final DataOutput dataOutput;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[MAX_COMPRESSED_BLOCK_SIZE];
+        private final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        private int blockLength;
+        private boolean closed;
+
+        LZ4OutputStream(OutputStream out) {
+            this.out = out;
+            this.dataOutput = new OutputStreamDataOutput(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (blockLength == BLOCK_SIZE) {
+                writeBlock();
+            }
+            block[blockLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (blockLength == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - blockLength);
+                System.arraycopy(b, off, block, blockLength, toCopy);
+                blockLength += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (blockLength == 0) {
+                return;
+            }
+            final ByteArrayDataOutput compressedOutput = new ByteArrayDataOutput(compressed);
+            LZ4.compress(block, 0, blockLength, compressedOutput, hashTable);
+            dataOutput.writeVInt(blockLength);
+            dataOutput.writeVInt(compressedOutput.getPosition());
+            dataOutput.writeBytes(compressed, 0, compressedOutput.getPosition());
+            blockLength = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                dataOutput.writeVInt(0);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static final class LZ4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final DataInput dataInput;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[MAX_COMPRESSED_BLOCK_SIZE];
+        private int position;
+        private int limit;
+        private boolean eof;
+
+        LZ4InputStream(InputStream in) {
+            this.in = in;
+            this.dataInput = new InputStreamDataInput(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (fill() == false) {
+                return -1;
+            }
+            return block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (fill() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, limit - position);
+            System.arraycopy(block, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        /**
+         * Decompresses the next block if all bytes of the current one were read.
+         *
+         * @return whether there are bytes left to read
+         */
+        private boolean fill() throws IOException {
+            while (position == limit) {
+                if (eof) {
+                    return false;
+                }
+                final int blockLength = dataInput.readVInt();
+                if (blockLength == 0) {
+                    eof = true;
+                    return false;
+                }
+                final int compressedLength = dataInput.readVInt();
+                if (blockLength < 0 || blockLength > BLOCK_SIZE || compressedLength < 0 || compressedLength > MAX_COMPRESSED_BLOCK_SIZE) {
+                    throw new IOException("corrupted LZ4 block: length [" + blockLength + "], compressed length [" + compressedLength
+                        + "]");
+                }
+                dataInput.readBytes(compressed, 0, compressedLength);
+                final int decompressed = LZ4.decompress(new ByteArrayDataInput(compressed, 0, compressedLength), blockLength, block, 0);
+                if (decompressed != blockLength) {
+                    throw new IOException("corrupted LZ4 block: expected [" + blockLength + "] bytes but decompressed [" + decompressed
+                        + "]");
+                }
+                position = 0;
+                limit = blockLength;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -131,6 +131,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING,
         IndexSettings.MAX_TOKEN_COUNT_SETTING,
         IndexSettings.MAX_DOCVALUE_FIELDS_SEARCH_SETTING,
+        IndexSettings.FETCH_FIELDS_FROM_DOC_VALUES_SETTING,
         IndexSettings.MAX_SCRIPT_FIELDS_SETTING,
         IndexSettings.MAX_NGRAM_DIFF_SETTING,
         IndexSettings.MAX_SHINGLE_DIFF_SETTING,
@@ -162,6 +163,13 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING,
         IndexSettings.INDEX_SEARCH_IDLE_AFTER,
         IndexSettings.INDEX_SEARCH_THROTTLED,
+        IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY,
+        IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID,
+        IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME,
+        IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID,
+        IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_NAME,
+        IndexSettings.SEARCHABLE_SNAPSHOT_PREFETCH_EXTENSIONS,
+        IndexSettings.INDEX_COMPLETION_FST_OFF_HEAP_SETTING,
         IndexFieldDataService.INDEX_FIELDDATA_CACHE_KEY,
         FieldMapper.IGNORE_MALFORMED_SETTING,
         FieldMapper.COERCE_SETTING,
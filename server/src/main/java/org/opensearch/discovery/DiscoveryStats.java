@@ -33,6 +33,8 @@
 package org.opensearch.discovery;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.cluster.coordination.ClusterStatePublicationStats;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -40,6 +42,7 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
+import org.opensearch.gateway.PersistedClusterStateStats;
 
 import java.io.IOException;
 
@@ -47,10 +50,15 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
 
     private final PendingClusterStateStats queueStats;
     private final PublishClusterStateStats publishStats;
+    private final ClusterStatePublicationStats publicationStats;
+    private final PersistedClusterStateStats persistedStateStats;
 
-    public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats) {
+    public DiscoveryStats(PendingClusterStateStats queueStats, PublishClusterStateStats publishStats,
+                          ClusterStatePublicationStats publicationStats, PersistedClusterStateStats persistedStateStats) {
         this.queueStats = queueStats;
         this.publishStats = publishStats;
+        this.publicationStats = publicationStats;
+        this.persistedStateStats = persistedStateStats;
     }
 
     public DiscoveryStats(StreamInput in) throws IOException {
@@ -61,6 +69,14 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         } else {
             publishStats = null;
         }
+
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            publicationStats = in.readOptionalWriteable(ClusterStatePublicationStats::new);
+            persistedStateStats = in.readOptionalWriteable(PersistedClusterStateStats::new);
+        } else {
+            publicationStats = null;
+            persistedStateStats = null;
+        }
     }
 
     @Override
@@ -70,6 +86,11 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_1_0)) {
             out.writeOptionalWriteable(publishStats);
         }
+
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(publicationStats);
+            out.writeOptionalWriteable(persistedStateStats);
+        }
     }
 
     @Override
@@ -81,6 +102,12 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
         if (publishStats != null) {
             publishStats.toXContent(builder, params);
         }
+        if (publicationStats != null) {
+            publicationStats.toXContent(builder, params);
+        }
+        if (persistedStateStats != null) {
+            persistedStateStats.toXContent(builder, params);
+        }
         builder.endObject();
         return builder;
     }
@@ -96,4 +123,12 @@ public class DiscoveryStats implements Writeable, ToXContentFragment {
     public PublishClusterStateStats getPublishStats() {
         return publishStats;
     }
+
+    public ClusterStatePublicationStats getPublicationStats() {
+        return publicationStats;
+    }
+
+    public PersistedClusterStateStats getPersistedStateStats() {
+        return persistedStateStats;
+    }
 }
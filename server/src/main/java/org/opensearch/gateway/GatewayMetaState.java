@@ -546,15 +546,11 @@ public class GatewayMetaState implements Closeable {
                     getWriterSafe().writeFullStateAndCommit(currentTerm, clusterState);
                     writeNextStateFully = false;
                 } else {
-                    if (clusterState.term() != lastAcceptedState.term()) {
-                        assert clusterState.term() > lastAcceptedState.term() : clusterState.term() + " vs " + lastAcceptedState.term();
-                        // In a new currentTerm, we cannot compare the persisted metadata's lastAcceptedVersion to those in the new state,
-                        // so it's simplest to write everything again.
-                        getWriterSafe().writeFullStateAndCommit(currentTerm, clusterState);
-                    } else {
-                        // Within the same currentTerm, we _can_ use metadata versions to skip unnecessary writing.
-                        getWriterSafe().writeIncrementalStateAndCommit(currentTerm, lastAcceptedState, clusterState);
-                    }
+                    assert clusterState.term() >= lastAcceptedState.term() : clusterState.term() + " vs " + lastAcceptedState.term();
+                    // Within the same currentTerm we can use metadata versions to skip unnecessary writing. In a new currentTerm we cannot
+                    // compare the persisted metadata's versions to those in the new state, but the writer still skips any index metadata
+                    // carried over unchanged from the last accepted state, which avoids rewriting everything on every term bump.
+                    getWriterSafe().writeIncrementalStateAndCommit(currentTerm, lastAcceptedState, clusterState);
                 }
             } catch (Exception e) {
                 handleExceptionOnWrite(e);
@@ -563,6 +559,11 @@ public class GatewayMetaState implements Closeable {
             lastAcceptedState = clusterState;
         }
 
+        @Override
+        public PersistedClusterStateStats getStats() {
+            return persistedClusterStateService.getStats();
+        }
+
         private PersistedClusterStateService.Writer getWriterSafe() {
             final PersistedClusterStateService.Writer writer = persistenceWriter.get();
             if (writer == null) {
@@ -74,6 +74,8 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
@@ -97,6 +99,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -110,7 +113,8 @@ import java.util.function.Supplier;
 /**
  * Stores cluster metadata in a bare Lucene index (per data path) split across a number of documents. This is used by master-eligible nodes
  * to record the last-accepted cluster state during publication. The metadata is written incrementally where possible, leaving alone any
- * documents that have not changed. The index has the following fields:
+ * documents that have not changed, including across a change of term as long as the new state was derived from the last written one.
+ * The index has the following fields:
  *
  * +------------------------------+-----------------------------+----------------------------------------------+
  * | "type" (string field)        | "index_uuid" (string field) | "data" (stored binary field in SMILE format) |
@@ -158,6 +162,8 @@ public class PersistedClusterStateService {
 
     private volatile TimeValue slowWriteLoggingThreshold;
 
+    private final WriteMetrics writeMetrics = new WriteMetrics();
+
     public PersistedClusterStateService(NodeEnvironment nodeEnvironment, NamedXContentRegistry namedXContentRegistry, BigArrays bigArrays,
                                         ClusterSettings clusterSettings, LongSupplier relativeTimeMillisSupplier) {
         this(nodeEnvironment.nodeDataPaths(), nodeEnvironment.nodeId(), namedXContentRegistry, bigArrays, clusterSettings,
@@ -205,7 +211,15 @@ public class PersistedClusterStateService {
                 IOUtils.closeWhileHandlingException(closeables);
             }
         }
-        return new Writer(metadataIndexWriters, nodeId, bigArrays, relativeTimeMillisSupplier, () -> slowWriteLoggingThreshold);
+        return new Writer(metadataIndexWriters, nodeId, bigArrays, relativeTimeMillisSupplier, () -> slowWriteLoggingThreshold,
+            writeMetrics);
+    }
+
+    /**
+     * Returns statistics about the cluster states written by the writers of this service.
+     */
+    public PersistedClusterStateStats getStats() {
+        return writeMetrics.stats();
     }
 
     private static IndexWriter createIndexWriter(Directory directory, boolean openExisting) throws IOException {
@@ -501,9 +515,10 @@ public class PersistedClusterStateService {
             indexWriter.updateDocument(new Term(TYPE_FIELD_NAME, GLOBAL_TYPE_NAME), globalMetadataDocument);
         }
 
-        void deleteIndexMetadata(String indexUUID) throws IOException {
-            this.logger.trace("removing metadata for [{}]", indexUUID);
-            indexWriter.deleteDocuments(new Term(INDEX_UUID_FIELD_NAME, indexUUID));
+        void deleteIndexMetadata(Collection<String> indexUUIDs) throws IOException {
+            this.logger.trace("removing metadata for {}", indexUUIDs);
+            indexWriter.deleteDocuments(indexUUIDs.stream()
+                .map(indexUUID -> new Term(INDEX_UUID_FIELD_NAME, indexUUID)).toArray(Term[]::new));
         }
 
         void flush() throws IOException {
@@ -538,6 +553,7 @@ public class PersistedClusterStateService {
         private final BigArrays bigArrays;
         private final LongSupplier relativeTimeMillisSupplier;
         private final Supplier<TimeValue> slowWriteLoggingThresholdSupplier;
+        private final WriteMetrics writeMetrics;
 
         boolean fullStateWritten = false;
         private final AtomicBoolean closed = new AtomicBoolean();
@@ -547,12 +563,14 @@ public class PersistedClusterStateService {
         private int documentBufferUsed;
 
         private Writer(List<MetadataIndexWriter> metadataIndexWriters, String nodeId, BigArrays bigArrays,
-                       LongSupplier relativeTimeMillisSupplier, Supplier<TimeValue> slowWriteLoggingThresholdSupplier) {
+                       LongSupplier relativeTimeMillisSupplier, Supplier<TimeValue> slowWriteLoggingThresholdSupplier,
+                       WriteMetrics writeMetrics) {
             this.metadataIndexWriters = metadataIndexWriters;
             this.nodeId = nodeId;
             this.bigArrays = bigArrays;
             this.relativeTimeMillisSupplier = relativeTimeMillisSupplier;
             this.slowWriteLoggingThresholdSupplier = slowWriteLoggingThresholdSupplier;
+            this.writeMetrics = writeMetrics;
         }
 
         private void ensureOpen() {
@@ -587,6 +605,7 @@ public class PersistedClusterStateService {
                 commit(currentTerm, clusterState.version());
                 fullStateWritten = true;
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
+                writeMetrics.onFullWrite(stats, durationMillis);
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn("writing cluster state took [{}ms] which is above the warn threshold of [{}]; " +
@@ -615,6 +634,7 @@ public class PersistedClusterStateService {
                 final WriterStats stats = updateMetadata(previousClusterState.metadata(), clusterState.metadata());
                 commit(currentTerm, clusterState.version());
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
+                writeMetrics.onIncrementalWrite(stats, durationMillis);
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn("writing cluster state took [{}ms] which is above the warn threshold of [{}]; " +
@@ -643,27 +663,39 @@ public class PersistedClusterStateService {
         /**
          * Update the persisted metadata to match the given cluster state by removing any stale or unnecessary documents and adding any
          * updated documents.
+         *
+         * Within a term the version of an index's metadata identifies its content, so only indices whose version changed are written.
+         * Across terms two states may hold different metadata for an index at the same version, so only index metadata that is the very
+         * same instance as the previously written one, which is the case for every index untouched by a diff applied to the previously
+         * written state, is known to be unchanged.
          */
         private WriterStats updateMetadata(Metadata previouslyWrittenMetadata, Metadata metadata) throws IOException {
-            assert previouslyWrittenMetadata.coordinationMetadata().term() == metadata.coordinationMetadata().term();
-            logger.trace("currentTerm [{}] matches previous currentTerm, writing changes only",
-                metadata.coordinationMetadata().term());
+            final boolean sameTerm = previouslyWrittenMetadata.coordinationMetadata().term() == metadata.coordinationMetadata().term();
+            if (sameTerm) {
+                logger.trace("currentTerm [{}] matches previous currentTerm, writing changes only",
+                    metadata.coordinationMetadata().term());
+            } else {
+                logger.trace("currentTerm [{}] differs from previous currentTerm [{}], writing changed instances only",
+                    metadata.coordinationMetadata().term(), previouslyWrittenMetadata.coordinationMetadata().term());
+            }
 
             try (DocumentBuffer documentBuffer = allocateBuffer()) {
 
+                long bytesWritten = 0;
                 final boolean updateGlobalMeta = Metadata.isGlobalStateEquals(previouslyWrittenMetadata, metadata) == false;
                 if (updateGlobalMeta) {
                     final Document globalMetadataDocument = makeGlobalMetadataDocument(metadata, documentBuffer);
+                    bytesWritten += documentSize(globalMetadataDocument);
                     for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                         metadataIndexWriter.updateGlobalMetadata(globalMetadataDocument);
                     }
                 }
 
-                final Map<String, Long> indexMetadataVersionByUUID = new HashMap<>(previouslyWrittenMetadata.indices().size());
+                final Map<String, IndexMetadata> previousIndexMetadataByUUID = new HashMap<>(previouslyWrittenMetadata.indices().size());
                 for (ObjectCursor<IndexMetadata> cursor : previouslyWrittenMetadata.indices().values()) {
                     final IndexMetadata indexMetadata = cursor.value;
-                    final Long previousValue
-                            = indexMetadataVersionByUUID.putIfAbsent(indexMetadata.getIndexUUID(), indexMetadata.getVersion());
+                    final IndexMetadata previousValue
+                            = previousIndexMetadataByUUID.putIfAbsent(indexMetadata.getIndexUUID(), indexMetadata);
                     assert previousValue == null : indexMetadata.getIndexUUID() + " already mapped to " + previousValue;
                 }
 
@@ -671,12 +703,16 @@ public class PersistedClusterStateService {
                 int numIndicesUnchanged = 0;
                 for (ObjectCursor<IndexMetadata> cursor : metadata.indices().values()) {
                     final IndexMetadata indexMetadata = cursor.value;
-                    final Long previousVersion = indexMetadataVersionByUUID.get(indexMetadata.getIndexUUID());
-                    if (previousVersion == null || indexMetadata.getVersion() != previousVersion) {
-                        logger.trace("updating metadata for [{}], changing version from [{}] to [{}]",
-                                indexMetadata.getIndex(), previousVersion, indexMetadata.getVersion());
+                    final IndexMetadata previousIndexMetadata = previousIndexMetadataByUUID.remove(indexMetadata.getIndexUUID());
+                    final boolean unchanged = previousIndexMetadata != null && (sameTerm
+                        ? indexMetadata.getVersion() == previousIndexMetadata.getVersion()
+                        : indexMetadata == previousIndexMetadata);
+                    if (unchanged == false) {
+                        logger.trace("updating metadata for [{}], changing version from [{}] to [{}]", indexMetadata.getIndex(),
+                            previousIndexMetadata == null ? null : previousIndexMetadata.getVersion(), indexMetadata.getVersion());
                         numIndicesUpdated++;
                         final Document indexMetadataDocument = makeIndexMetadataDocument(indexMetadata, documentBuffer);
+                        bytesWritten += documentSize(indexMetadataDocument);
                         for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                             metadataIndexWriter.updateIndexMetadataDocument(indexMetadataDocument, indexMetadata.getIndex());
                         }
@@ -684,14 +720,13 @@ public class PersistedClusterStateService {
                         numIndicesUnchanged++;
                         logger.trace("no action required for [{}]", indexMetadata.getIndex());
                     }
-                    indexMetadataVersionByUUID.remove(indexMetadata.getIndexUUID());
                 }
 
                 documentBufferUsed = documentBuffer.getMaxUsed();
 
-                for (String removedIndexUUID : indexMetadataVersionByUUID.keySet()) {
+                if (previousIndexMetadataByUUID.isEmpty() == false) {
                     for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
-                        metadataIndexWriter.deleteIndexMetadata(removedIndexUUID);
+                        metadataIndexWriter.deleteIndexMetadata(previousIndexMetadataByUUID.keySet());
                     }
                 }
 
@@ -701,7 +736,8 @@ public class PersistedClusterStateService {
                     metadataIndexWriter.flush();
                 }
 
-                return new WriterStats(updateGlobalMeta, numIndicesUpdated, numIndicesUnchanged);
+                return new WriterStats(updateGlobalMeta, numIndicesUpdated, numIndicesUnchanged,
+                    bytesWritten * metadataIndexWriters.size());
             }
         }
 
@@ -722,6 +758,7 @@ public class PersistedClusterStateService {
             try (DocumentBuffer documentBuffer = allocateBuffer()) {
 
                 final Document globalMetadataDocument = makeGlobalMetadataDocument(metadata, documentBuffer);
+                long bytesWritten = documentSize(globalMetadataDocument);
                 for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                     metadataIndexWriter.updateGlobalMetadata(globalMetadataDocument);
                 }
@@ -729,6 +766,7 @@ public class PersistedClusterStateService {
                 for (ObjectCursor<IndexMetadata> cursor : metadata.indices().values()) {
                     final IndexMetadata indexMetadata = cursor.value;
                     final Document indexMetadataDocument = makeIndexMetadataDocument(indexMetadata, documentBuffer);
+                    bytesWritten += documentSize(indexMetadataDocument);
                     for (MetadataIndexWriter metadataIndexWriter : metadataIndexWriters) {
                         metadataIndexWriter.updateIndexMetadataDocument(indexMetadataDocument, indexMetadata.getIndex());
                     }
@@ -742,7 +780,7 @@ public class PersistedClusterStateService {
                     metadataIndexWriter.flush();
                 }
 
-                return new WriterStats(true, metadata.indices().size(), 0);
+                return new WriterStats(true, metadata.indices().size(), 0, bytesWritten * metadataIndexWriters.size());
             }
         }
 
@@ -757,7 +795,9 @@ public class PersistedClusterStateService {
         public void writeIncrementalTermUpdateAndCommit(long currentTerm, long lastAcceptedVersion) throws IOException {
             ensureOpen();
             ensureFullStateWritten();
+            final long startTimeMillis = relativeTimeMillisSupplier.getAsLong();
             commit(currentTerm, lastAcceptedVersion);
+            writeMetrics.onIncrementalWrite(new WriterStats(false, 0, 0, 0), relativeTimeMillisSupplier.getAsLong() - startTimeMillis);
         }
 
         void commit(long currentTerm, long lastAcceptedVersion) throws IOException {
@@ -808,14 +848,20 @@ public class PersistedClusterStateService {
             final boolean globalMetaUpdated;
             final long numIndicesUpdated;
             final long numIndicesUnchanged;
+            final long bytesWritten;
 
-            WriterStats(boolean globalMetaUpdated, long numIndicesUpdated, long numIndicesUnchanged) {
+            WriterStats(boolean globalMetaUpdated, long numIndicesUpdated, long numIndicesUnchanged, long bytesWritten) {
                 this.globalMetaUpdated = globalMetaUpdated;
                 this.numIndicesUpdated = numIndicesUpdated;
                 this.numIndicesUnchanged = numIndicesUnchanged;
+                this.bytesWritten = bytesWritten;
             }
         }
 
+        private static long documentSize(Document document) {
+            return document.getBinaryValue(DATA_FIELD_NAME).length;
+        }
+
         private Document makeIndexMetadataDocument(IndexMetadata indexMetadata, DocumentBuffer documentBuffer) throws IOException {
             final Document indexMetadataDocument = makeDocument(INDEX_TYPE_NAME, indexMetadata, documentBuffer);
             final String indexUUID = indexMetadata.getIndexUUID();
@@ -846,6 +892,45 @@ public class PersistedClusterStateService {
         }
     }
 
+    /**
+     * Accumulates the statistics of the writes made by all the writers of a {@link PersistedClusterStateService}.
+     */
+    private static class WriteMetrics {
+        private final MeanMetric fullWrites = new MeanMetric();
+        private final CounterMetric fullWriteBytes = new CounterMetric();
+        private final MeanMetric incrementalWrites = new MeanMetric();
+        private final CounterMetric incrementalWriteBytes = new CounterMetric();
+        private final CounterMetric indicesWritten = new CounterMetric();
+        private final CounterMetric indicesSkipped = new CounterMetric();
+        private volatile long lastWriteTimeMillis;
+        private volatile long lastWriteSizeInBytes;
+
+        void onFullWrite(Writer.WriterStats stats, long durationMillis) {
+            fullWrites.inc(durationMillis);
+            fullWriteBytes.inc(stats.bytesWritten);
+            onWrite(stats, durationMillis);
+        }
+
+        void onIncrementalWrite(Writer.WriterStats stats, long durationMillis) {
+            incrementalWrites.inc(durationMillis);
+            incrementalWriteBytes.inc(stats.bytesWritten);
+            onWrite(stats, durationMillis);
+        }
+
+        private void onWrite(Writer.WriterStats stats, long durationMillis) {
+            indicesWritten.inc(stats.numIndicesUpdated);
+            indicesSkipped.inc(stats.numIndicesUnchanged);
+            lastWriteTimeMillis = durationMillis;
+            lastWriteSizeInBytes = stats.bytesWritten;
+        }
+
+        PersistedClusterStateStats stats() {
+            return new PersistedClusterStateStats(fullWrites.count(), fullWrites.sum(), fullWriteBytes.count(),
+                incrementalWrites.count(), incrementalWrites.sum(), incrementalWriteBytes.count(), lastWriteTimeMillis,
+                lastWriteSizeInBytes, indicesWritten.count(), indicesSkipped.count());
+        }
+    }
+
     /**
      * Holds the current buffer, keeping track of new allocations as it grows.
      */
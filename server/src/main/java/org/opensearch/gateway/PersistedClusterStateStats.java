@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics about the cluster states written to disk by the {@link PersistedClusterStateService} of a master-eligible node.
+ */
+public class PersistedClusterStateStats implements Writeable, ToXContentFragment {
+
+    private final long fullWriteCount;
+    private final long fullWriteTimeMillis;
+    private final long fullWriteSizeInBytes;
+    private final long incrementalWriteCount;
+    private final long incrementalWriteTimeMillis;
+    private final long incrementalWriteSizeInBytes;
+    private final long lastWriteTimeMillis;
+    private final long lastWriteSizeInBytes;
+    private final long indicesWritten;
+    private final long indicesSkipped;
+
+    public PersistedClusterStateStats(long fullWriteCount, long fullWriteTimeMillis, long fullWriteSizeInBytes, long incrementalWriteCount,
+                                      long incrementalWriteTimeMillis, long incrementalWriteSizeInBytes, long lastWriteTimeMillis,
+                                      long lastWriteSizeInBytes, long indicesWritten, long indicesSkipped) {
+        this.fullWriteCount = fullWriteCount;
+        this.fullWriteTimeMillis = fullWriteTimeMillis;
+        this.fullWriteSizeInBytes = fullWriteSizeInBytes;
+        this.incrementalWriteCount = incrementalWriteCount;
+        this.incrementalWriteTimeMillis = incrementalWriteTimeMillis;
+        this.incrementalWriteSizeInBytes = incrementalWriteSizeInBytes;
+        this.lastWriteTimeMillis = lastWriteTimeMillis;
+        this.lastWriteSizeInBytes = lastWriteSizeInBytes;
+        this.indicesWritten = indicesWritten;
+        this.indicesSkipped = indicesSkipped;
+    }
+
+    public PersistedClusterStateStats(StreamInput in) throws IOException {
+        fullWriteCount = in.readVLong();
+        fullWriteTimeMillis = in.readVLong();
+        fullWriteSizeInBytes = in.readVLong();
+        incrementalWriteCount = in.readVLong();
+        incrementalWriteTimeMillis = in.readVLong();
+        incrementalWriteSizeInBytes = in.readVLong();
+        lastWriteTimeMillis = in.readVLong();
+        lastWriteSizeInBytes = in.readVLong();
+        indicesWritten = in.readVLong();
+        indicesSkipped = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(fullWriteCount);
+        out.writeVLong(fullWriteTimeMillis);
+        out.writeVLong(fullWriteSizeInBytes);
+        out.writeVLong(incrementalWriteCount);
+        out.writeVLong(incrementalWriteTimeMillis);
+        out.writeVLong(incrementalWriteSizeInBytes);
+        out.writeVLong(lastWriteTimeMillis);
+        out.writeVLong(lastWriteSizeInBytes);
+        out.writeVLong(indicesWritten);
+        out.writeVLong(indicesSkipped);
+    }
+
+    /**
+     * The number of writes that replaced the whole persisted metadata.
+     */
+    public long getFullWriteCount() {
+        return fullWriteCount;
+    }
+
+    public long getFullWriteTimeMillis() {
+        return fullWriteTimeMillis;
+    }
+
+    public long getFullWriteSizeInBytes() {
+        return fullWriteSizeInBytes;
+    }
+
+    /**
+     * The number of writes that only updated the changed parts of the persisted metadata.
+     */
+    public long getIncrementalWriteCount() {
+        return incrementalWriteCount;
+    }
+
+    public long getIncrementalWriteTimeMillis() {
+        return incrementalWriteTimeMillis;
+    }
+
+    public long getIncrementalWriteSizeInBytes() {
+        return incrementalWriteSizeInBytes;
+    }
+
+    /**
+     * The time taken by the most recent write, including its commit.
+     */
+    public long getLastWriteTimeMillis() {
+        return lastWriteTimeMillis;
+    }
+
+    /**
+     * The number of metadata bytes written by the most recent write, across all data paths.
+     */
+    public long getLastWriteSizeInBytes() {
+        return lastWriteSizeInBytes;
+    }
+
+    /**
+     * The number of index metadata documents written.
+     */
+    public long getIndicesWritten() {
+        return indicesWritten;
+    }
+
+    /**
+     * The number of index metadata documents left untouched by incremental writes because the index did not change.
+     */
+    public long getIndicesSkipped() {
+        return indicesSkipped;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("cluster_state_persistence");
+        builder.startObject("full_writes");
+        builder.field("count", fullWriteCount);
+        builder.humanReadableField("total_time_in_millis", "total_time", TimeValue.timeValueMillis(fullWriteTimeMillis));
+        builder.humanReadableField("total_size_in_bytes", "total_size", new ByteSizeValue(fullWriteSizeInBytes));
+        builder.endObject();
+        builder.startObject("incremental_writes");
+        builder.field("count", incrementalWriteCount);
+        builder.humanReadableField("total_time_in_millis", "total_time", TimeValue.timeValueMillis(incrementalWriteTimeMillis));
+        builder.humanReadableField("total_size_in_bytes", "total_size", new ByteSizeValue(incrementalWriteSizeInBytes));
+        builder.endObject();
+        builder.startObject("last_write");
+        builder.humanReadableField("time_in_millis", "time", TimeValue.timeValueMillis(lastWriteTimeMillis));
+        builder.humanReadableField("size_in_bytes", "size", new ByteSizeValue(lastWriteSizeInBytes));
+        builder.endObject();
+        builder.field("indices_written", indicesWritten);
+        builder.field("indices_skipped", indicesSkipped);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PersistedClusterStateStats that = (PersistedClusterStateStats) o;
+        return fullWriteCount == that.fullWriteCount
+            && fullWriteTimeMillis == that.fullWriteTimeMillis
+            && fullWriteSizeInBytes == that.fullWriteSizeInBytes
+            && incrementalWriteCount == that.incrementalWriteCount
+            && incrementalWriteTimeMillis == that.incrementalWriteTimeMillis
+            && incrementalWriteSizeInBytes == that.incrementalWriteSizeInBytes
+            && lastWriteTimeMillis == that.lastWriteTimeMillis
+            && lastWriteSizeInBytes == that.lastWriteSizeInBytes
+            && indicesWritten == that.indicesWritten
+            && indicesSkipped == that.indicesSkipped;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fullWriteCount, fullWriteTimeMillis, fullWriteSizeInBytes, incrementalWriteCount, incrementalWriteTimeMillis,
+            incrementalWriteSizeInBytes, lastWriteTimeMillis, lastWriteSizeInBytes, indicesWritten, indicesSkipped);
+    }
+}
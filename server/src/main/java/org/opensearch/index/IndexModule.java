@@ -63,6 +63,7 @@ import org.opensearch.index.cache.query.QueryCache;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MappingSourceInterner;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.SearchOperationListener;
@@ -119,6 +120,12 @@ public final class IndexModule {
     public static final Setting<String> INDEX_STORE_TYPE_SETTING =
             new Setting<>("index.store.type", "", Function.identity(), Property.IndexScope, Property.NodeScope);
 
+    /**
+     * The store type of indices mounted from a snapshot, whose shards read their files from the repository through a
+     * {@link org.opensearch.index.store.remote.RemoteSnapshotDirectory}.
+     */
+    public static final String REMOTE_SNAPSHOT_STORE_TYPE = "remote_snapshot";
+
     public static final Setting<String> INDEX_RECOVERY_TYPE_SETTING =
         new Setting<>("index.recovery.type", "", Function.identity(), Property.IndexScope, Property.NodeScope);
 
@@ -423,6 +430,7 @@ public final class IndexModule {
                                         Client client,
                                         IndicesQueryCache indicesQueryCache,
                                         MapperRegistry mapperRegistry,
+                                        MappingSourceInterner mappingSourceInterner,
                                         IndicesFieldDataCache indicesFieldDataCache,
                                         NamedWriteableRegistry namedWriteableRegistry,
                                         BooleanSupplier idFieldDataEnabled,
@@ -453,9 +461,9 @@ public final class IndexModule {
             final IndexService indexService = new IndexService(indexSettings, indexCreationContext, environment, xContentRegistry,
                 new SimilarityService(indexSettings, scriptService, similarities), shardStoreDeleter, indexAnalyzers,
                 engineFactory, circuitBreakerService, bigArrays, threadPool, scriptService, clusterService, client, queryCache,
-                directoryFactory, eventListener, readerWrapperFactory, mapperRegistry, indicesFieldDataCache, searchOperationListeners,
-                indexOperationListeners, namedWriteableRegistry, idFieldDataEnabled, allowExpensiveQueries, expressionResolver,
-                valuesSourceRegistry, recoveryStateFactory);
+                directoryFactory, eventListener, readerWrapperFactory, mapperRegistry, mappingSourceInterner, indicesFieldDataCache,
+                searchOperationListeners, indexOperationListeners, namedWriteableRegistry, idFieldDataEnabled, allowExpensiveQueries,
+                expressionResolver, valuesSourceRegistry, recoveryStateFactory);
             success = true;
             return indexService;
         } finally {
@@ -74,6 +74,7 @@ import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexFieldDataService;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MappingSourceInterner;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.SearchIndexNameMatcher;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
@@ -184,6 +185,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             IndexEventListener eventListener,
             Function<IndexService, CheckedFunction<DirectoryReader, DirectoryReader, IOException>> wrapperFactory,
             MapperRegistry mapperRegistry,
+            MappingSourceInterner mappingSourceInterner,
             IndicesFieldDataCache indicesFieldDataCache,
             List<SearchOperationListener> searchOperationListeners,
             List<IndexingOperationListener> indexingOperationListeners,
@@ -206,7 +208,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             assert indexAnalyzers != null;
             this.mapperService = new MapperService(indexSettings, indexAnalyzers, xContentRegistry, similarityService, mapperRegistry,
                 // we parse all percolator queries as they would be parsed on shard 0
-                () -> newQueryShardContext(0, null, System::currentTimeMillis, null), idFieldDataEnabled, scriptService);
+                () -> newQueryShardContext(0, null, System::currentTimeMillis, null), idFieldDataEnabled, scriptService,
+                mappingSourceInterner);
             this.indexFieldData = new IndexFieldDataService(indexSettings, indicesFieldDataCache, circuitBreakerService, mapperService);
             if (indexSettings.getIndexSortConfig().hasIndexSort()) {
                 // we delay the actual creation of the sort order for this index because the mapping has not been merged yet.
@@ -220,7 +223,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             }
             indexFieldData.setListener(new FieldDataCacheListener(this));
             this.bitsetFilterCache = new BitsetFilterCache(indexSettings, new BitsetCacheListener(this));
-            this.warmer = new IndexWarmer(threadPool, indexFieldData, bitsetFilterCache.createListener(threadPool));
+            this.warmer = new IndexWarmer(threadPool, indexFieldData, circuitBreakerService,
+                bitsetFilterCache.createListener(threadPool));
             this.indexCache = new IndexCache(indexSettings, queryCache, bitsetFilterCache);
         } else {
             assert indexAnalyzers == null;
@@ -387,6 +391,10 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
 
     // NOTE: O(numShards) cost, but numShards should be smallish?
     private long getAvgShardSizeInBytes() throws IOException {
+        if (indexSettings.isRemoteSnapshot()) {
+            // the files of mounted shards stay in the repository, listing them could mean reading their snapshot on this thread
+            return 0L;
+        }
         long sum = 0;
         int count = 0;
         for (IndexShard indexShard : this) {
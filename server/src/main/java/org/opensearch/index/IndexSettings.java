@@ -49,6 +49,7 @@ import org.opensearch.index.translog.Translog;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.node.Node;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -187,6 +188,15 @@ public final class IndexSettings {
      */
     public static final Setting<Integer> MAX_DOCVALUE_FIELDS_SEARCH_SETTING =
         Setting.intSetting("index.max_docvalue_fields_search", 100, 0, Property.Dynamic, Property.IndexScope);
+    /**
+     * Index setting describing whether the {@code fields} of a search request are retrieved from doc values rather than from
+     * {@code _source} when all of them are keyword, numeric or date fields with doc values, outside of {@code nested} objects, that
+     * don't change the values they index, for instance through a {@code null_value}. This saves loading and parsing the source of the
+     * hits when the source isn't needed otherwise, but multi-valued fields come back sorted and deduplicated, and numbers come back in
+     * the precision of the field.
+     */
+    public static final Setting<Boolean> FETCH_FIELDS_FROM_DOC_VALUES_SETTING =
+        Setting.boolSetting("index.search.fetch_fields_from_doc_values", false, Property.Dynamic, Property.IndexScope);
     /**
      * Index setting describing the maximum size of the rescore window. Defaults to {@link #MAX_RESULT_WINDOW_SETTING}
      * because they both do the same thing: control the size of the heap of hits.
@@ -348,6 +358,38 @@ public final class IndexSettings {
     public static final Setting<Boolean> INDEX_SEARCH_THROTTLED = Setting.boolSetting("index.search.throttled", false,
         Property.IndexScope, Property.PrivateIndex, Property.Dynamic);
 
+    /**
+     * The repository, snapshot and index from which an index was mounted as a searchable snapshot. These are set when the index is
+     * restored with the {@code remote_snapshot} storage type and cannot be changed.
+     */
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_REPOSITORY = Setting.simpleString("index.searchable_snapshot.repository",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_UUID = Setting.simpleString("index.searchable_snapshot.snapshot_id.uuid",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_NAME = Setting.simpleString("index.searchable_snapshot.snapshot_id.name",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_INDEX_ID = Setting.simpleString("index.searchable_snapshot.index.id",
+        Property.IndexScope, Property.InternalIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_INDEX_NAME = Setting.simpleString("index.searchable_snapshot.index.name",
+        Property.IndexScope, Property.InternalIndex);
+
+    /**
+     * The extensions of the files of a searchable snapshot shard that are downloaded in full as soon as the shard is opened, rather than
+     * on first read. These default to the small metadata files Lucene reads when it opens a segment.
+     */
+    public static final Setting<List<String>> SEARCHABLE_SNAPSHOT_PREFETCH_EXTENSIONS =
+        Setting.listSetting("index.searchable_snapshot.prefetch_extensions",
+            Arrays.asList("si", "cfe", "fnm", "dvm", "nvm", "kdm", "kdi", "tmd", "tip", "fdm", "fdx"), Function.identity(),
+            Property.IndexScope);
+
+    /**
+     * If {@code true} the FSTs of the completion fields are read from the memory mapped index files rather than loaded on heap. This
+     * only applies to segments that are written after the setting is set, the FSTs of older segments are loaded on heap until these
+     * are merged away.
+     */
+    public static final Setting<Boolean> INDEX_COMPLETION_FST_OFF_HEAP_SETTING = Setting.boolSetting("index.completion.fst.off_heap",
+        false, Property.IndexScope);
+
     /**
      * Determines a balance between file-based and operations-based peer recoveries. The number of operations that will be used in an
      * operations-based peer recovery is limited to this proportion of the total number of documents in the shard (including deleted
@@ -375,6 +417,7 @@ public final class IndexSettings {
     private final boolean queryStringAnalyzeWildcard;
     private final boolean queryStringAllowLeadingWildcard;
     private final boolean defaultAllowUnmappedFields;
+    private final boolean completionFstOffHeap;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
     private volatile TimeValue refreshInterval;
@@ -412,6 +455,7 @@ public final class IndexSettings {
     private volatile int maxAdjacencyMatrixFilters;
     private volatile int maxRescoreWindow;
     private volatile int maxDocvalueFields;
+    private volatile boolean fetchFieldsFromDocValues;
     private volatile int maxScriptFields;
     private volatile int maxTokenCount;
     private volatile int maxNgramDiff;
@@ -528,11 +572,13 @@ public final class IndexSettings {
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
+        completionFstOffHeap = scopedSettings.get(INDEX_COMPLETION_FST_OFF_HEAP_SETTING);
         maxResultWindow = scopedSettings.get(MAX_RESULT_WINDOW_SETTING);
         maxInnerResultWindow = scopedSettings.get(MAX_INNER_RESULT_WINDOW_SETTING);
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
         maxRescoreWindow = scopedSettings.get(MAX_RESCORE_WINDOW_SETTING);
         maxDocvalueFields = scopedSettings.get(MAX_DOCVALUE_FIELDS_SEARCH_SETTING);
+        fetchFieldsFromDocValues = scopedSettings.get(FETCH_FIELDS_FROM_DOC_VALUES_SETTING);
         maxScriptFields = scopedSettings.get(MAX_SCRIPT_FIELDS_SETTING);
         maxTokenCount = scopedSettings.get(MAX_TOKEN_COUNT_SETTING);
         maxNgramDiff = scopedSettings.get(MAX_NGRAM_DIFF_SETTING);
@@ -580,6 +626,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_ADJACENCY_MATRIX_FILTERS_SETTING, this::setMaxAdjacencyMatrixFilters);
         scopedSettings.addSettingsUpdateConsumer(MAX_RESCORE_WINDOW_SETTING, this::setMaxRescoreWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_DOCVALUE_FIELDS_SEARCH_SETTING, this::setMaxDocvalueFields);
+        scopedSettings.addSettingsUpdateConsumer(FETCH_FIELDS_FROM_DOC_VALUES_SETTING, this::setFetchFieldsFromDocValues);
         scopedSettings.addSettingsUpdateConsumer(MAX_SCRIPT_FIELDS_SETTING, this::setMaxScriptFields);
         scopedSettings.addSettingsUpdateConsumer(MAX_TOKEN_COUNT_SETTING, this::setMaxTokenCount);
         scopedSettings.addSettingsUpdateConsumer(MAX_NGRAM_DIFF_SETTING, this::setMaxNgramDiff);
@@ -793,6 +840,13 @@ public final class IndexSettings {
         this.warmerEnabled = enableWarmer;
     }
 
+    /**
+     * Returns <code>true</code> if new segments read the FSTs of their completion fields off-heap. The default is <code>false</code>
+     */
+    public boolean isCompletionFstOffHeap() {
+        return completionFstOffHeap;
+    }
+
     /**
      * Returns the translog sync interval. This is the interval in which the transaction log is asynchronously fsynced unless
      * the transaction log is fsyncing on every operations
@@ -932,6 +986,17 @@ public final class IndexSettings {
         this.maxDocvalueFields = maxDocvalueFields;
     }
 
+    /**
+     * Returns whether the fields of a search request may be retrieved from doc values, see {@link #FETCH_FIELDS_FROM_DOC_VALUES_SETTING}
+     */
+    public boolean isFetchFieldsFromDocValues() {
+        return fetchFieldsFromDocValues;
+    }
+
+    private void setFetchFieldsFromDocValues(boolean fetchFieldsFromDocValues) {
+        this.fetchFieldsFromDocValues = fetchFieldsFromDocValues;
+    }
+
     /**
      * Returns the maximum number of tokens that can be produced
      */
@@ -1071,6 +1136,14 @@ public final class IndexSettings {
         this.requiredPipeline = requiredPipeline;
     }
 
+    /**
+     * Returns <code>true</code> if this index is a searchable snapshot, mounted from a snapshot with the
+     * {@link IndexModule#REMOTE_SNAPSHOT_STORE_TYPE} store type.
+     */
+    public boolean isRemoteSnapshot() {
+        return IndexModule.REMOTE_SNAPSHOT_STORE_TYPE.equals(IndexModule.INDEX_STORE_TYPE_SETTING.get(settings));
+    }
+
     /**
      * Returns <code>true</code> if soft-delete is enabled.
      */
@@ -35,16 +35,26 @@ package org.opensearch.index;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.suggest.document.CompletionTerms;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.mapper.CompletionFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -60,11 +70,12 @@ public final class IndexWarmer {
 
     private final List<Listener> listeners;
 
-    IndexWarmer(ThreadPool threadPool, IndexFieldDataService indexFieldDataService,
+    IndexWarmer(ThreadPool threadPool, IndexFieldDataService indexFieldDataService, CircuitBreakerService circuitBreakerService,
                 Listener... listeners) {
         ArrayList<Listener> list = new ArrayList<>();
         final Executor executor = threadPool.executor(ThreadPool.Names.WARMER);
         list.add(new FieldDataWarmer(executor, indexFieldDataService));
+        list.add(new CompletionFieldWarmer(executor, circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA)));
 
         Collections.addAll(list, listeners);
         this.listeners = Collections.unmodifiableList(list);
@@ -174,4 +185,86 @@ public final class IndexWarmer {
         }
     }
 
+    /**
+     * Loads the FSTs of the completion fields of new segments so that the first suggest request after a refresh doesn't have to, and
+     * accounts for the heap memory that they use on the fielddata circuit breaker until their segment is closed. FSTs that are read
+     * off-heap only account for a few bytes.
+     */
+    private static class CompletionFieldWarmer implements IndexWarmer.Listener {
+
+        private final Executor executor;
+        private final CircuitBreaker breaker;
+        // the accounted bytes of the loaded FSTs, per segment core and field
+        private final Map<IndexReader.CacheKey, Map<String, Long>> loaded = ConcurrentCollections.newConcurrentMap();
+
+        CompletionFieldWarmer(Executor executor, CircuitBreaker breaker) {
+            this.executor = executor;
+            this.breaker = breaker;
+        }
+
+        @Override
+        public TerminationHandle warmReader(final IndexShard indexShard, final OpenSearchDirectoryReader reader) {
+            final List<String> fields = new ArrayList<>();
+            for (MappedFieldType fieldType : indexShard.mapperService().fieldTypes()) {
+                if (fieldType instanceof CompletionFieldMapper.CompletionFieldType) {
+                    fields.add(fieldType.name());
+                }
+            }
+            final CountDownLatch latch = new CountDownLatch(fields.size());
+            for (final String field : fields) {
+                executor.execute(() -> {
+                    try {
+                        final long start = System.nanoTime();
+                        for (LeafReaderContext context : reader.leaves()) {
+                            load(context.reader(), field);
+                        }
+                        if (indexShard.warmerService().logger().isTraceEnabled()) {
+                            indexShard.warmerService().logger().trace(
+                                "warmed completion field [{}], took [{}]",
+                                field,
+                                TimeValue.timeValueNanos(System.nanoTime() - start));
+                        }
+                    } catch (Exception e) {
+                        indexShard
+                            .warmerService()
+                            .logger()
+                            .warn(() -> new ParameterizedMessage("failed to warm-up completion field [{}]", field), e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            return () -> latch.await();
+        }
+
+        private void load(LeafReader reader, String field) throws IOException {
+            final Terms terms = reader.terms(field);
+            if (terms instanceof CompletionTerms == false) {
+                return;
+            }
+            // the suggester is loaded once per segment, later calls return the loaded suggester
+            final long ramBytesUsed = ((CompletionTerms) terms).suggester().ramBytesUsed();
+            final IndexReader.CacheHelper cacheHelper = reader.getCoreCacheHelper();
+            if (cacheHelper == null) {
+                // we wouldn't know when to release the accounted bytes
+                return;
+            }
+            final Map<String, Long> fields = loaded.computeIfAbsent(cacheHelper.getKey(), key -> {
+                cacheHelper.addClosedListener(this::release);
+                return ConcurrentCollections.newConcurrentMap();
+            });
+            fields.computeIfAbsent(field, f -> {
+                breaker.addWithoutBreaking(ramBytesUsed);
+                return ramBytesUsed;
+            });
+        }
+
+        private void release(IndexReader.CacheKey key) {
+            final Map<String, Long> fields = loaded.remove(key);
+            if (fields != null) {
+                breaker.addWithoutBreaking(-fields.values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.search.suggest.document.Completion84PostingsFormat;
+import org.apache.lucene.search.suggest.document.CompletionPostingsFormat;
+import org.opensearch.index.IndexSettings;
+
+/**
+ * Writes completion fields like {@link Completion84PostingsFormat} but reads their FSTs straight from the index files if these are
+ * memory mapped, rather than loading them on heap, see {@link IndexSettings#INDEX_COMPLETION_FST_OFF_HEAP_SETTING}. Lucene reads the
+ * fields of a segment with the postings format that is registered under the name that wrote them, so this format needs a name of its
+ * own.
+ */
+public final class Completion84OffHeapPostingsFormat extends CompletionPostingsFormat {
+
+    public static final String NAME = "Completion84OffHeap";
+
+    public Completion84OffHeapPostingsFormat() {
+        super(NAME, FSTLoadMode.AUTO);
+    }
+
+    @Override
+    protected PostingsFormat delegatePostingsFormat() {
+        return PostingsFormat.forName("Lucene84");
+    }
+}
@@ -55,6 +55,7 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     private final Logger logger;
     private final MapperService mapperService;
     private final DocValuesFormat dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    private final PostingsFormat completionOffHeapPostingsFormat = new Completion84OffHeapPostingsFormat();
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class) :
@@ -73,6 +74,9 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
         if (fieldType == null) {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
         } else if (fieldType instanceof CompletionFieldMapper.CompletionFieldType) {
+            if (mapperService.getIndexSettings().isCompletionFstOffHeap()) {
+                return completionOffHeapPostingsFormat;
+            }
             return CompletionFieldMapper.CompletionFieldType.postingsFormat();
         }
         return super.getPostingsFormatForField(field);
@@ -327,6 +327,14 @@ public final class DateFieldMapper extends ParametrizedFieldMapper {
             return resolution;
         }
 
+        /**
+         * Whether the doc values of the field hold the values of the source as they were sent, that is when no missing value is
+         * replaced by the {@code null_value}.
+         */
+        public boolean docValuesMatchSource() {
+            return nullValue == null;
+        }
+
         protected DateMathParser dateMathParser() {
             return dateMathParser;
         }
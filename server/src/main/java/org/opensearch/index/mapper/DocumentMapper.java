@@ -153,7 +153,8 @@ public class DocumentMapper implements ToXContentFragment {
         this.fieldMappers = MappingLookup.fromMapping(this.mapping, indexAnalyzers.getDefaultIndexAnalyzer());
 
         try {
-            mappingSource = new CompressedXContent(this, XContentType.JSON, ToXContent.EMPTY_PARAMS);
+            mappingSource = mapperService.getMappingSourceInterner()
+                .intern(new CompressedXContent(this, XContentType.JSON, ToXContent.EMPTY_PARAMS));
         } catch (Exception e) {
             throw new OpenSearchGenerationException("failed to serialize source for type [" + type + "]", e);
         }
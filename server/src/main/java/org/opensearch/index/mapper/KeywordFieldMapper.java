@@ -244,6 +244,14 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
             return indexAnalyzer();
         }
 
+        /**
+         * Whether the doc values of the field hold the values of the source as they were sent, that is when none of them can be
+         * dropped because of {@code ignore_above}, changed by a normalizer or replaced by the {@code null_value}.
+         */
+        public boolean docValuesMatchSource() {
+            return ignoreAbove == Integer.MAX_VALUE && nullValue == null && normalizer() == Lucene.KEYWORD_ANALYZER;
+        }
+
         @Override
         public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
             failIfNoDocValues();
@@ -164,10 +164,20 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
 
     private final BooleanSupplier idFieldDataEnabled;
 
+    private final MappingSourceInterner mappingSourceInterner;
+
     public MapperService(IndexSettings indexSettings, IndexAnalyzers indexAnalyzers, NamedXContentRegistry xContentRegistry,
                          SimilarityService similarityService, MapperRegistry mapperRegistry,
                          Supplier<QueryShardContext> queryShardContextSupplier, BooleanSupplier idFieldDataEnabled,
                          ScriptService scriptService) {
+        this(indexSettings, indexAnalyzers, xContentRegistry, similarityService, mapperRegistry, queryShardContextSupplier,
+            idFieldDataEnabled, scriptService, MappingSourceInterner.NOOP);
+    }
+
+    public MapperService(IndexSettings indexSettings, IndexAnalyzers indexAnalyzers, NamedXContentRegistry xContentRegistry,
+                         SimilarityService similarityService, MapperRegistry mapperRegistry,
+                         Supplier<QueryShardContext> queryShardContextSupplier, BooleanSupplier idFieldDataEnabled,
+                         ScriptService scriptService, MappingSourceInterner mappingSourceInterner) {
         super(indexSettings);
         this.indexVersionCreated = indexSettings.getIndexVersionCreated();
         this.indexAnalyzers = indexAnalyzers;
@@ -180,6 +190,7 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
             p -> p.getTextSearchInfo().getSearchQuoteAnalyzer());
         this.mapperRegistry = mapperRegistry;
         this.idFieldDataEnabled = idFieldDataEnabled;
+        this.mappingSourceInterner = mappingSourceInterner;
 
         if (INDEX_MAPPER_DYNAMIC_SETTING.exists(indexSettings.getSettings()) &&
             indexSettings.getIndexVersionCreated().onOrAfter(LegacyESVersion.V_7_0_0)) {
@@ -201,6 +212,13 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
         return this.indexAnalyzers;
     }
 
+    /**
+     * Returns the node level interner used to share identical mapping sources between indices.
+     */
+    MappingSourceInterner getMappingSourceInterner() {
+        return this.mappingSourceInterner;
+    }
+
     public NamedAnalyzer getNamedAnalyzer(String analyzerName) {
         return this.indexAnalyzers.get(analyzerName);
     }
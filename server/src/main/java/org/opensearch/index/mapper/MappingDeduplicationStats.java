@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Node level statistics about the compressed mapping sources shared between the indices allocated to a node. Only the mapping
+ * sources are shared, so the saved size does not include the parsed mappers that every index builds for itself.
+ */
+public class MappingDeduplicationStats implements Writeable, ToXContentFragment {
+
+    private final long mappings;
+    private final long uniqueMappingSources;
+    private final long totalMappingSourceSizeInBytes;
+    private final long savedMappingSourceSizeInBytes;
+    private final long lookups;
+    private final long hits;
+
+    public MappingDeduplicationStats(long mappings, long uniqueMappingSources, long totalMappingSourceSizeInBytes,
+                                     long savedMappingSourceSizeInBytes, long lookups, long hits) {
+        this.mappings = mappings;
+        this.uniqueMappingSources = uniqueMappingSources;
+        this.totalMappingSourceSizeInBytes = totalMappingSourceSizeInBytes;
+        this.savedMappingSourceSizeInBytes = savedMappingSourceSizeInBytes;
+        this.lookups = lookups;
+        this.hits = hits;
+    }
+
+    public MappingDeduplicationStats(StreamInput in) throws IOException {
+        mappings = in.readVLong();
+        uniqueMappingSources = in.readVLong();
+        totalMappingSourceSizeInBytes = in.readVLong();
+        savedMappingSourceSizeInBytes = in.readVLong();
+        lookups = in.readVLong();
+        hits = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(mappings);
+        out.writeVLong(uniqueMappingSources);
+        out.writeVLong(totalMappingSourceSizeInBytes);
+        out.writeVLong(savedMappingSourceSizeInBytes);
+        out.writeVLong(lookups);
+        out.writeVLong(hits);
+    }
+
+    /**
+     * The number of index mappings held by the node.
+     */
+    public long getMappings() {
+        return mappings;
+    }
+
+    /**
+     * The number of distinct compressed mapping source instances held by the node.
+     */
+    public long getUniqueMappingSources() {
+        return uniqueMappingSources;
+    }
+
+    /**
+     * The size of the compressed mapping sources of all indices, as if none of them were shared.
+     */
+    public long getTotalMappingSourceSizeInBytes() {
+        return totalMappingSourceSizeInBytes;
+    }
+
+    /**
+     * The size of the compressed mapping sources that are not held a second time because an index shares an identical source
+     * with another index.
+     */
+    public long getSavedMappingSourceSizeInBytes() {
+        return savedMappingSourceSizeInBytes;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("mapping_deduplication");
+        builder.field("mappings", mappings);
+        builder.field("unique_mapping_sources", uniqueMappingSources);
+        builder.humanReadableField("total_mapping_source_size_in_bytes", "total_mapping_source_size",
+            new ByteSizeValue(totalMappingSourceSizeInBytes));
+        builder.humanReadableField("saved_mapping_source_size_in_bytes", "saved_mapping_source_size",
+            new ByteSizeValue(savedMappingSourceSizeInBytes));
+        builder.field("lookups", lookups);
+        builder.field("hits", hits);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MappingDeduplicationStats that = (MappingDeduplicationStats) o;
+        return mappings == that.mappings
+            && uniqueMappingSources == that.uniqueMappingSources
+            && totalMappingSourceSizeInBytes == that.totalMappingSourceSizeInBytes
+            && savedMappingSourceSizeInBytes == that.savedMappingSourceSizeInBytes
+            && lookups == that.lookups
+            && hits == that.hits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mappings, uniqueMappingSources, totalMappingSourceSizeInBytes, savedMappingSourceSizeInBytes, lookups, hits);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A node level cache that interns the compressed mapping sources of {@link DocumentMapper}s so that indices
+ * with identical mappings, for instance indices created from the same index template, share a single
+ * {@link CompressedXContent} instance instead of each holding its own copy.
+ *
+ * Only the serialized mapping source is shared. The parsed {@link DocumentMapper}s and their field mappers refer to
+ * per-index state such as the index analyzers and settings, so every index keeps its own, and the heap that this
+ * saves is bounded by the size of the compressed mapping sources.
+ *
+ * Sources are only weakly referenced by the interner and are dropped once no mapper refers to them anymore.
+ */
+public final class MappingSourceInterner {
+
+    /**
+     * An interner that never deduplicates, used when deduplication is disabled.
+     */
+    public static final MappingSourceInterner NOOP = new MappingSourceInterner(false);
+
+    private final boolean enabled;
+    private final Map<CompressedXContent, WeakReference<CompressedXContent>> sources = new WeakHashMap<>();
+    private final CounterMetric lookups = new CounterMetric();
+    private final CounterMetric hits = new CounterMetric();
+
+    public MappingSourceInterner() {
+        this(true);
+    }
+
+    private MappingSourceInterner(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the canonical instance for the given mapping source, registering it if no equal source is known yet.
+     */
+    public CompressedXContent intern(CompressedXContent source) {
+        if (enabled == false) {
+            return source;
+        }
+        lookups.inc();
+        synchronized (sources) {
+            final WeakReference<CompressedXContent> ref = sources.get(source);
+            final CompressedXContent existing = ref == null ? null : ref.get();
+            if (existing != null) {
+                hits.inc();
+                return existing;
+            }
+            sources.put(source, new WeakReference<>(source));
+            return source;
+        }
+    }
+
+    /**
+     * Returns the number of distinct mapping sources currently held by this interner.
+     */
+    public int size() {
+        synchronized (sources) {
+            return sources.size();
+        }
+    }
+
+    /**
+     * Returns the number of times a mapping source was looked up.
+     */
+    public long lookups() {
+        return lookups.count();
+    }
+
+    /**
+     * Returns the number of times a lookup was answered with an already interned mapping source.
+     */
+    public long hits() {
+        return hits.count();
+    }
+}
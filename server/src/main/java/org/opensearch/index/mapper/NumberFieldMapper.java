@@ -931,6 +931,14 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             return type.name;
         }
 
+        /**
+         * Whether the doc values of the field hold the values of the source as they were sent, that is when no missing value is
+         * replaced by the {@code null_value}.
+         */
+        public boolean docValuesMatchSource() {
+            return nullValue == null;
+        }
+
         public NumericType numericType() {
             return type.numericType();
         }
@@ -1427,6 +1427,20 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         assert currentEngineReference.get() == null;
     }
 
+    /**
+     * Creates an empty translog for the snapshotted commit that the shard of a searchable snapshot reads from the repository, see
+     * {@link IndexSettings#isRemoteSnapshot()}. The commit is used as it is rather than being associated with a new history and translog,
+     * so the translog reuses the UUID recorded in the commit, and its global checkpoint is the maximum sequence number of the commit since
+     * the shard never receives any further operation.
+     */
+    public void bootstrapRemoteSnapshotTranslog() throws IOException {
+        assert indexSettings.isRemoteSnapshot() : shardId + " is not a searchable snapshot";
+        final SegmentInfos segmentInfos = store.readLastCommittedSegmentsInfo();
+        final long maxSeqNo = Long.parseLong(segmentInfos.userData.get(SequenceNumbers.MAX_SEQ_NO));
+        final String translogUUID = segmentInfos.userData.get(Translog.TRANSLOG_UUID_KEY);
+        Translog.createEmptyTranslog(shardPath().resolveTranslog(), shardId, maxSeqNo, getPendingPrimaryTerm(), translogUUID, null);
+    }
+
     /**
      * A best effort to bring up this shard to the global checkpoint using the local translog before performing a peer recovery.
      *
@@ -1468,7 +1482,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 return globalCheckpoint + 1;
             }
             if (indexSettings.getIndexMetadata().getState() == IndexMetadata.State.CLOSE ||
-                IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(indexSettings.getSettings())) {
+                IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(indexSettings.getSettings()) || indexSettings.isRemoteSnapshot()) {
                 logger.trace("skip local recovery as the index was closed or not allowed to write; safe commit {} global checkpoint {}",
                     safeCommit.get(), globalCheckpoint);
                 recoveryState.getTranslog().totalLocal(0);
@@ -489,7 +489,11 @@ final class StoreRecovery {
         final ActionListener<Void> restoreListener = ActionListener.wrap(
             v -> {
                 final Store store = indexShard.store();
-                bootstrap(indexShard, store);
+                if (indexShard.indexSettings().isRemoteSnapshot()) {
+                    indexShard.bootstrapRemoteSnapshotTranslog();
+                } else {
+                    bootstrap(indexShard, store);
+                }
                 assert indexShard.shardRouting.primary() : "only primary shards can recover from store";
                 writeEmptyRetentionLeasesFile(indexShard);
                 indexShard.openEngineAndRecoverFromTranslog();
@@ -520,6 +524,12 @@ final class StoreRecovery {
                 indexIdListener.onResponse(indexId);
             }
             assert indexShard.getEngineOrNull() == null;
+            if (indexShard.indexSettings().isRemoteSnapshot()) {
+                // the files of a searchable snapshot are read from the repository on demand, there is nothing to copy
+                indexShard.recoveryState().getIndex().setFileDetailsComplete();
+                restoreListener.onResponse(null);
+                return;
+            }
             indexIdListener.whenComplete(idx -> repository.restoreShard(indexShard.store(), restoreSource.snapshot().getSnapshotId(),
                 idx, snapshotShardId, indexShard.recoveryState(), restoreListener), restoreListener::onFailure);
         } catch (Exception e) {
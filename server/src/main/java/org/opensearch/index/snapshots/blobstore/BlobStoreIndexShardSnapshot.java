@@ -35,6 +35,7 @@ package org.opensearch.index.snapshots.blobstore;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Version;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.Strings;
 import org.opensearch.common.lucene.Lucene;
@@ -50,6 +51,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 /**
@@ -67,6 +69,8 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
         private final long partBytes;
         private final int numberOfParts;
         private final StoreFileMetadata metadata;
+        @Nullable
+        private final String compression;
 
         /**
          * Constructs a new instance of file info
@@ -76,8 +80,22 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
          * @param partSize     size of the single chunk
          */
         public FileInfo(String name, StoreFileMetadata metadata, ByteSizeValue partSize) {
+            this(name, metadata, partSize, null);
+        }
+
+        /**
+         * Constructs a new instance of file info
+         *
+         * @param name         file name as stored in the blob store
+         * @param metadata     the files meta data
+         * @param partSize     size of the single chunk
+         * @param compression  the codec that the parts of the file are compressed with in the blob store, or {@code null} if they are
+         *                     stored uncompressed
+         */
+        public FileInfo(String name, StoreFileMetadata metadata, ByteSizeValue partSize, @Nullable String compression) {
             this.name = name;
             this.metadata = metadata;
+            this.compression = compression;
 
             long partBytes = Long.MAX_VALUE;
             if (partSize != null && partSize.getBytes() > 0) {
@@ -207,6 +225,15 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
             return metadata;
         }
 
+        /**
+         * Returns the codec that the parts of this file are compressed with in the blob store, or {@code null} if they are stored
+         * uncompressed. Note that {@link #partBytes} always refers to the uncompressed length of the parts.
+         */
+        @Nullable
+        public String compression() {
+            return compression;
+        }
+
         /**
          * Checks if a file in a store is the same file
          *
@@ -233,6 +260,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
             if (!name.equals(fileInfo.name)) {
                 return false;
             }
+            if (Objects.equals(compression, fileInfo.compression) == false) {
+                return false;
+            }
             if (partSize != null) {
                 if (!partSize.equals(fileInfo.partSize)) {
                     return false;
@@ -252,6 +282,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
         static final String PART_SIZE = "part_size";
         static final String WRITTEN_BY = "written_by";
         static final String META_HASH = "meta_hash";
+        static final String COMPRESSION = "compression";
 
         /**
          * Serializes file info into JSON
@@ -278,6 +309,10 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
                 BytesRef br = file.metadata.hash();
                 builder.field(META_HASH, br.bytes, br.offset, br.length);
             }
+
+            if (file.compression != null) {
+                builder.field(COMPRESSION, file.compression);
+            }
             builder.endObject();
         }
 
@@ -297,6 +332,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
             Version writtenBy = null;
             String writtenByStr = null;
             BytesRef metaHash = new BytesRef();
+            String compression = null;
             if (token == XContentParser.Token.START_OBJECT) {
                 while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
                     if (token == XContentParser.Token.FIELD_NAME) {
@@ -320,6 +356,8 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
                                 metaHash.bytes = parser.binaryValue();
                                 metaHash.offset = 0;
                                 metaHash.length = metaHash.bytes.length;
+                            } else if (COMPRESSION.equals(currentFieldName)) {
+                                compression = parser.text();
                             } else {
                                 throw new OpenSearchParseException("unknown parameter [{}]", currentFieldName);
                             }
@@ -344,7 +382,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
             } else if (checksum == null) {
                 throw new OpenSearchParseException("missing checksum for name [" + name + "]");
             }
-            return new FileInfo(name, new StoreFileMetadata(physicalName, length, checksum, writtenBy, metaHash), partSize);
+            return new FileInfo(name, new StoreFileMetadata(physicalName, length, checksum, writtenBy, metaHash), partSize, compression);
         }
 
         @Override
@@ -353,6 +391,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment {
                        ", numberOfParts: " + numberOfParts +
                        ", partSize: " + partSize +
                        ", partBytes: " + partBytes +
+                       ", compression: " + compression +
                        ", metadata: " + metadata + "]";
         }
     }
@@ -177,6 +177,8 @@ public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
                 case "dim":
                 case "kdd":
                 case "kdi":
+                // Completion FSTs are read off-heap if index.completion.fst.off_heap is set, which only performs well if using mmap.
+                case "lkp":
                 // Compound files are tricky because they store all the information for the segment. Benchmarks
                 // suggested that not mapping them hurts performance.
                 case "cfs":
@@ -0,0 +1,310 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A node level cache of the blocks of snapshotted files read by indices that are mounted as searchable snapshots. Blocks are downloaded
+ * from the repository the first time they are read and are kept in files on local disk until they are evicted to keep the total size of
+ * the cached blocks within {@link #SIZE_SETTING}.
+ */
+public class RemoteSnapshotBlockCache implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RemoteSnapshotBlockCache.class);
+
+    /**
+     * The maximum total size of the blocks cached on local disk.
+     */
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.byteSizeSetting("node.searchable_snapshot.cache.size",
+        new ByteSizeValue(1, ByteSizeUnit.GB), Setting.Property.NodeScope);
+
+    /**
+     * The size of the ranges in which snapshotted files are downloaded and cached. Each cached block is a file on local disk, so small
+     * blocks make for many files.
+     */
+    public static final Setting<ByteSizeValue> BLOCK_SIZE_SETTING = Setting.byteSizeSetting("node.searchable_snapshot.cache.block_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB), new ByteSizeValue(64, ByteSizeUnit.KB), new ByteSizeValue(64, ByteSizeUnit.MB),
+        Setting.Property.NodeScope);
+
+    /**
+     * The name of the folder, within the node's data path, that holds the cached blocks.
+     */
+    public static final String CACHE_FOLDER = "snapshot_cache";
+
+    private final Path cachePath;
+    private final long capacity;
+    private final int blockSize;
+    private final Cache<BlockKey, CachedBlock> cache;
+    private final AtomicLong blockFileCounter = new AtomicLong();
+    private final CounterMetric evictions = new CounterMetric();
+    private final Map<ShardId, ShardMetrics> metricsPerShard = ConcurrentCollections.newConcurrentMap();
+    private volatile boolean closed;
+
+    public RemoteSnapshotBlockCache(Settings settings, Path cachePath) throws IOException {
+        // blocks cached by a previous run of this node are not tracked, so start from an empty folder
+        IOUtils.rm(cachePath);
+        Files.createDirectories(cachePath);
+        this.cachePath = cachePath;
+        this.capacity = SIZE_SETTING.get(settings).getBytes();
+        this.blockSize = Math.toIntExact(BLOCK_SIZE_SETTING.get(settings).getBytes());
+        this.cache = CacheBuilder.<BlockKey, CachedBlock>builder()
+            .setMaximumWeight(capacity)
+            .weigher((key, block) -> block.length)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * The size of the blocks in which files are downloaded and cached.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Reads from the given block into the buffer, starting at the given position within the block, and downloading the block first if it
+     * is not cached yet. Reads at most up to the end of the block.
+     *
+     * @return the number of bytes read
+     */
+    int read(ShardId shardId, BlockKey key, int blockLength, CheckedSupplier<InputStream, IOException> blockSource,
+             long positionInBlock, ByteBuffer buffer) throws IOException {
+        final ShardMetrics metrics = metrics(shardId);
+        while (true) {
+            final CachedBlock block = getOrDownload(key, blockLength, blockSource, metrics, false);
+            if (block.tryIncRef() == false) {
+                // the block was evicted concurrently, download it again
+                continue;
+            }
+            try {
+                final int read = block.read(positionInBlock, buffer);
+                metrics.bytesRead.inc(read);
+                return read;
+            } finally {
+                block.decRef();
+            }
+        }
+    }
+
+    /**
+     * Downloads the given block if it is not cached yet.
+     */
+    void prefetch(ShardId shardId, BlockKey key, int blockLength, CheckedSupplier<InputStream, IOException> blockSource)
+        throws IOException {
+        getOrDownload(key, blockLength, blockSource, metrics(shardId), true);
+    }
+
+    private CachedBlock getOrDownload(BlockKey key, int blockLength, CheckedSupplier<InputStream, IOException> blockSource,
+                                      ShardMetrics metrics, boolean prefetch) throws IOException {
+        ensureOpen();
+        final boolean[] downloaded = new boolean[1];
+        final CachedBlock block;
+        try {
+            block = cache.computeIfAbsent(key, k -> {
+                downloaded[0] = true;
+                return download(k, blockLength, blockSource, metrics);
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("failed to download block " + key, e.getCause());
+        }
+        if (closed) {
+            // the block may have been added after the cache was cleared on close
+            cache.invalidate(key);
+            ensureOpen();
+        }
+        if (prefetch) {
+            if (downloaded[0]) {
+                metrics.prefetched.inc();
+            }
+        } else if (downloaded[0]) {
+            metrics.misses.inc();
+        } else {
+            metrics.hits.inc();
+        }
+        return block;
+    }
+
+    private CachedBlock download(BlockKey key, int blockLength, CheckedSupplier<InputStream, IOException> blockSource,
+                                 ShardMetrics metrics) throws IOException {
+        final Path path = cachePath.resolve("block-" + blockFileCounter.incrementAndGet());
+        boolean success = false;
+        try {
+            try (InputStream stream = blockSource.get()) {
+                final long copied = Files.copy(stream, path);
+                if (copied != blockLength) {
+                    throw new EOFException("expected [" + blockLength + "] bytes for block " + key + " but read [" + copied + "]");
+                }
+            }
+            metrics.bytesDownloaded.inc(blockLength);
+            final CachedBlock block = new CachedBlock(path, blockLength);
+            success = true;
+            return block;
+        } finally {
+            if (success == false) {
+                IOUtils.deleteFilesIgnoringExceptions(path);
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new AlreadyClosedException("searchable snapshot block cache is closed");
+        }
+    }
+
+    private void onRemoval(RemovalNotification<BlockKey, CachedBlock> notification) {
+        if (notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED) {
+            evictions.inc();
+        }
+        notification.getValue().decRef();
+    }
+
+    private ShardMetrics metrics(ShardId shardId) {
+        return metricsPerShard.computeIfAbsent(shardId, k -> new ShardMetrics());
+    }
+
+    /**
+     * Drops the statistics of the given shard, once it is closed on this node. Its blocks remain cached until they are evicted.
+     */
+    void onShardClosed(ShardId shardId) {
+        metricsPerShard.remove(shardId);
+    }
+
+    public SearchableSnapshotStats stats() {
+        final List<SearchableSnapshotStats.ShardStats> shardStats = new ArrayList<>(metricsPerShard.size());
+        metricsPerShard.forEach((shardId, metrics) -> shardStats.add(new SearchableSnapshotStats.ShardStats(shardId, metrics.hits.count(),
+            metrics.misses.count(), metrics.prefetched.count(), metrics.bytesRead.count(), metrics.bytesDownloaded.count())));
+        return new SearchableSnapshotStats(capacity, cache.weight(), cache.count(), evictions.count(), shardStats);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        cache.invalidateAll();
+        IOUtils.rm(cachePath);
+    }
+
+    private static final class ShardMetrics {
+        final CounterMetric hits = new CounterMetric();
+        final CounterMetric misses = new CounterMetric();
+        final CounterMetric prefetched = new CounterMetric();
+        final CounterMetric bytesRead = new CounterMetric();
+        final CounterMetric bytesDownloaded = new CounterMetric();
+    }
+
+    /**
+     * Identifies a block of a blob in a repository.
+     */
+    static final class BlockKey {
+        private final String repository;
+        private final String blobPath;
+        private final int block;
+
+        BlockKey(String repository, String blobPath, int block) {
+            this.repository = repository;
+            this.blobPath = blobPath;
+            this.block = block;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BlockKey that = (BlockKey) o;
+            return block == that.block && repository.equals(that.repository) && blobPath.equals(that.blobPath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(repository, blobPath, block);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + repository + "][" + blobPath + "][" + block + "]";
+        }
+    }
+
+    /**
+     * A block held in a local file. The cache holds a reference to the block until it is evicted, and readers hold one while they read
+     * from it, so the file is only deleted once it is neither cached nor being read. The file is only opened while it is read, so that
+     * the number of open files doesn't grow with the number of cached blocks.
+     */
+    private static final class CachedBlock extends AbstractRefCounted {
+        private final Path path;
+        private final int length;
+
+        CachedBlock(Path path, int length) {
+            super("cached block [" + path + "]");
+            this.path = path;
+            this.length = length;
+        }
+
+        int read(long position, ByteBuffer buffer) throws IOException {
+            final int toRead = (int) Math.min(buffer.remaining(), length - position);
+            final ByteBuffer target = buffer.duplicate();
+            target.limit(target.position() + toRead);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                while (target.hasRemaining()) {
+                    final int read = channel.read(target, position + target.position() - buffer.position());
+                    if (read < 0) {
+                        throw new EOFException("read past the end of " + path);
+                    }
+                }
+            }
+            buffer.position(buffer.position() + toRead);
+            return toRead;
+        }
+
+        @Override
+        protected void closeInternal() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn(new ParameterizedMessage("failed to delete cached block [{}]", path), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.BaseDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * A read-only {@link org.apache.lucene.store.Directory} over the files of a shard snapshot. Files are read directly from the repository
+ * through the node's {@link RemoteSnapshotBlockCache}, so that only the ranges of the files that are actually used by searches are
+ * downloaded. The small files that are read whenever a shard is opened, as configured by
+ * {@link org.opensearch.index.IndexSettings#SEARCHABLE_SNAPSHOT_PREFETCH_EXTENSIONS}, are downloaded in the background as soon as the shard
+ * snapshot is loaded.
+ */
+public final class RemoteSnapshotDirectory extends BaseDirectory {
+
+    private static final Logger logger = LogManager.getLogger(RemoteSnapshotDirectory.class);
+
+    private final BlobStoreRepository repository;
+    private final SnapshotId snapshotId;
+    private final IndexId indexId;
+    private final ShardId shardId;
+    private final RemoteSnapshotBlockCache cache;
+    private final Executor prefetchExecutor;
+    private final Set<String> prefetchExtensions;
+
+    private BlobContainer blobContainer;
+    private Map<String, FileInfo> files;
+
+    public RemoteSnapshotDirectory(BlobStoreRepository repository, SnapshotId snapshotId, IndexId indexId, ShardId shardId,
+                                   RemoteSnapshotBlockCache cache, Executor prefetchExecutor, Set<String> prefetchExtensions) {
+        super(NoLockFactory.INSTANCE);
+        this.repository = repository;
+        this.snapshotId = snapshotId;
+        this.indexId = indexId;
+        this.shardId = shardId;
+        this.cache = cache;
+        this.prefetchExecutor = prefetchExecutor;
+        this.prefetchExtensions = prefetchExtensions;
+    }
+
+    /**
+     * Loads the list of files of the shard snapshot the first time it is needed, and starts prefetching the files that are read when the
+     * shard is opened.
+     */
+    private synchronized Map<String, FileInfo> files() {
+        if (files == null) {
+            ensureOpen();
+            blobContainer = repository.shardContainer(indexId, shardId.id());
+            final BlobStoreIndexShardSnapshot snapshot = repository.loadShardSnapshot(blobContainer, snapshotId);
+            final Map<String, FileInfo> filesByName = new HashMap<>();
+            for (FileInfo fileInfo : snapshot.indexFiles()) {
+                if (fileInfo.compression() != null) {
+                    // compressed parts can't be read from an arbitrary position
+                    throw new IllegalArgumentException("file [" + fileInfo.physicalName() + "] of snapshot [" + snapshotId + "] of "
+                        + shardId + " is compressed with [" + fileInfo.compression() + "] and can't be searched in place; restore the "
+                        + "snapshot instead");
+                }
+                filesByName.put(fileInfo.physicalName(), fileInfo);
+            }
+            files = Collections.unmodifiableMap(filesByName);
+            prefetch(files.values());
+        }
+        return files;
+    }
+
+    private FileInfo fileInfo(String name) throws FileNotFoundException {
+        final FileInfo fileInfo = files().get(name);
+        if (fileInfo == null) {
+            throw new FileNotFoundException("file [" + name + "] does not exist in snapshot [" + snapshotId + "] of " + shardId);
+        }
+        return fileInfo;
+    }
+
+    private void prefetch(Collection<FileInfo> fileInfos) {
+        for (FileInfo fileInfo : fileInfos) {
+            if (isVirtual(fileInfo) || prefetchExtensions.contains(extension(fileInfo.physicalName())) == false) {
+                continue;
+            }
+            prefetchExecutor.execute(() -> {
+                try {
+                    final int blockSize = cache.blockSize();
+                    for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+                        final long partLength = fileInfo.partBytes(part);
+                        for (long blockStart = 0; blockStart < partLength; blockStart += blockSize) {
+                            if (isOpen == false) {
+                                return;
+                            }
+                            final int block = Math.toIntExact(blockStart / blockSize);
+                            final int blockLength = (int) Math.min(blockSize, partLength - blockStart);
+                            final String partName = fileInfo.partName(part);
+                            final long start = blockStart;
+                            cache.prefetch(shardId, blockKey(partName, block), blockLength,
+                                () -> repository.maybeRateLimitRestores(blobContainer.readBlob(partName, start, blockLength)));
+                        }
+                    }
+                } catch (Exception e) {
+                    logger.debug(new ParameterizedMessage("{} failed to prefetch [{}] from snapshot [{}]",
+                        shardId, fileInfo.physicalName(), snapshotId), e);
+                }
+            });
+        }
+    }
+
+    private static boolean isVirtual(FileInfo fileInfo) {
+        return fileInfo.name().startsWith(BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX);
+    }
+
+    private static String extension(String fileName) {
+        final int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? "" : fileName.substring(dot + 1);
+    }
+
+    private RemoteSnapshotBlockCache.BlockKey blockKey(String partName, int block) {
+        return new RemoteSnapshotBlockCache.BlockKey(repository.getMetadata().name(), blobContainer.path().buildAsString() + partName,
+            block);
+    }
+
+    /**
+     * Reads the bytes of the given file starting at the given position into the buffer, up to the end of the block that holds the
+     * position.
+     *
+     * @return the number of bytes read
+     */
+    int readBlock(FileInfo fileInfo, long position, ByteBuffer buffer) throws IOException {
+        ensureOpen();
+        final long partSize = fileInfo.partBytes(0);
+        final int part = Math.toIntExact(position / partSize);
+        final long positionInPart = position % partSize;
+        final int blockSize = cache.blockSize();
+        final int block = Math.toIntExact(positionInPart / blockSize);
+        final long blockStart = (long) block * blockSize;
+        final int blockLength = (int) Math.min(blockSize, fileInfo.partBytes(part) - blockStart);
+        final String partName = fileInfo.partName(part);
+        return cache.read(shardId, blockKey(partName, block), blockLength,
+            () -> repository.maybeRateLimitRestores(blobContainer.readBlob(partName, blockStart, blockLength)),
+            positionInPart - blockStart, buffer);
+    }
+
+    @Override
+    public String[] listAll() throws IOException {
+        ensureOpen();
+        return files().keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public long fileLength(String name) throws IOException {
+        ensureOpen();
+        return fileInfo(name).length();
+    }
+
+    @Override
+    public IndexInput openInput(String name, IOContext context) throws IOException {
+        ensureOpen();
+        final FileInfo fileInfo = fileInfo(name);
+        if (isVirtual(fileInfo)) {
+            // the contents of virtual files are held by the metadata of the shard snapshot
+            final BytesRef hash = fileInfo.metadata().hash();
+            return new ByteArrayIndexInput("ByteArrayIndexInput(" + name + ")", hash.bytes, hash.offset, hash.length);
+        }
+        return new RemoteSnapshotIndexInput(name, this, fileInfo, context);
+    }
+
+    @Override
+    public void deleteFile(String name) {
+        throw new UnsupportedOperationException("searchable snapshot directories are read-only");
+    }
+
+    @Override
+    public IndexOutput createOutput(String name, IOContext context) {
+        throw new UnsupportedOperationException("searchable snapshot directories are read-only");
+    }
+
+    @Override
+    public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) {
+        throw new UnsupportedOperationException("searchable snapshot directories are read-only");
+    }
+
+    @Override
+    public void sync(Collection<String> names) {
+        // nothing to sync, the files are never written
+    }
+
+    @Override
+    public void syncMetaData() {
+        // nothing to sync, the files are never written
+    }
+
+    @Override
+    public void rename(String source, String dest) {
+        throw new UnsupportedOperationException("searchable snapshot directories are read-only");
+    }
+
+    @Override
+    public Set<String> getPendingDeletions() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void close() {
+        isOpen = false;
+        cache.onShardClosed(shardId);
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteSnapshotDirectory(" + repository.getMetadata().name() + "/" + snapshotId + "/" + indexId + "/" + shardId.id() + ")";
+    }
+}
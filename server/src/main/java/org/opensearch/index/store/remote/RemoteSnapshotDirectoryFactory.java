@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.Directory;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.plugins.IndexStorePlugin;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link RemoteSnapshotDirectory} of the shards of indices mounted from a snapshot, which use the
+ * {@link org.opensearch.index.IndexModule#REMOTE_SNAPSHOT_STORE_TYPE} store type.
+ */
+public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
+
+    private final Supplier<RepositoriesService> repositoriesService;
+    private final RemoteSnapshotBlockCache cache;
+    private final ThreadPool threadPool;
+
+    public RemoteSnapshotDirectoryFactory(Supplier<RepositoriesService> repositoriesService, RemoteSnapshotBlockCache cache,
+                                          ThreadPool threadPool) {
+        this.repositoriesService = repositoriesService;
+        this.cache = cache;
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public Directory newDirectory(IndexSettings indexSettings, ShardPath shardPath) throws IOException {
+        final String repositoryName = IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(indexSettings.getSettings());
+        final Repository repository = repositoriesService.get().repository(repositoryName);
+        if (repository instanceof BlobStoreRepository == false) {
+            throw new IllegalArgumentException("repository [" + repositoryName + "] of searchable snapshot index "
+                + indexSettings.getIndex() + " is not a blob store repository");
+        }
+        final SnapshotId snapshotId = new SnapshotId(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.get(indexSettings.getSettings()),
+            IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(indexSettings.getSettings()));
+        final IndexId indexId = new IndexId(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_NAME.get(indexSettings.getSettings()),
+            IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.get(indexSettings.getSettings()));
+        return new RemoteSnapshotDirectory((BlobStoreRepository) repository, snapshotId, indexId, shardPath.getShardId(), cache,
+            threadPool.executor(ThreadPool.Names.SNAPSHOT),
+            new HashSet<>(indexSettings.getValue(IndexSettings.SEARCHABLE_SNAPSHOT_PREFETCH_EXTENSIONS)));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.BufferedIndexInput;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IndexInput} over a file of a shard snapshot, or a slice of it, that reads through {@link RemoteSnapshotDirectory#readBlock}.
+ */
+final class RemoteSnapshotIndexInput extends BufferedIndexInput {
+
+    private final RemoteSnapshotDirectory directory;
+    private final FileInfo fileInfo;
+    private final long offset;
+    private final long length;
+
+    RemoteSnapshotIndexInput(String name, RemoteSnapshotDirectory directory, FileInfo fileInfo, IOContext context) {
+        this("RemoteSnapshotIndexInput(" + name + ")", directory, fileInfo, 0L, fileInfo.length(), bufferSize(context));
+    }
+
+    private RemoteSnapshotIndexInput(String resourceDescription, RemoteSnapshotDirectory directory, FileInfo fileInfo, long offset,
+                                     long length, int bufferSize) {
+        super(resourceDescription, bufferSize);
+        this.directory = directory;
+        this.fileInfo = fileInfo;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    protected void readInternal(ByteBuffer b) throws IOException {
+        final long position = getFilePointer();
+        if (position + b.remaining() > length) {
+            throw new EOFException("read past EOF: " + this);
+        }
+        long pos = offset + position;
+        while (b.hasRemaining()) {
+            pos += directory.readBlock(fileInfo, pos, b);
+        }
+    }
+
+    @Override
+    protected void seekInternal(long pos) throws IOException {
+        if (pos > length) {
+            throw new EOFException("seek past EOF: pos=" + pos + " vs length=" + length + ": " + this);
+        }
+    }
+
+    @Override
+    public IndexInput slice(String sliceDescription, long offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IllegalArgumentException("slice() " + sliceDescription + " out of bounds: offset=" + offset
+                + ",length=" + length + ",fileLength=" + this.length + ": " + this);
+        }
+        return new RemoteSnapshotIndexInput(getFullSliceDescription(sliceDescription), directory, fileInfo, this.offset + offset, length,
+            getBufferSize());
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, the blocks are held by the cache
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Node level statistics about the block cache backing the searchable snapshot shards allocated to a node.
+ */
+public class SearchableSnapshotStats implements Writeable, ToXContentFragment {
+
+    private final long capacityInBytes;
+    private final long usedInBytes;
+    private final long cachedBlocks;
+    private final long evictions;
+    private final List<ShardStats> shards;
+
+    public SearchableSnapshotStats(long capacityInBytes, long usedInBytes, long cachedBlocks, long evictions, List<ShardStats> shards) {
+        this.capacityInBytes = capacityInBytes;
+        this.usedInBytes = usedInBytes;
+        this.cachedBlocks = cachedBlocks;
+        this.evictions = evictions;
+        this.shards = Collections.unmodifiableList(shards);
+    }
+
+    public SearchableSnapshotStats(StreamInput in) throws IOException {
+        capacityInBytes = in.readVLong();
+        usedInBytes = in.readVLong();
+        cachedBlocks = in.readVLong();
+        evictions = in.readVLong();
+        shards = Collections.unmodifiableList(in.readList(ShardStats::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(capacityInBytes);
+        out.writeVLong(usedInBytes);
+        out.writeVLong(cachedBlocks);
+        out.writeVLong(evictions);
+        out.writeList(shards);
+    }
+
+    /**
+     * The maximum number of bytes the block cache may hold on local disk.
+     */
+    public long getCapacityInBytes() {
+        return capacityInBytes;
+    }
+
+    /**
+     * The number of bytes currently held by the block cache.
+     */
+    public long getUsedInBytes() {
+        return usedInBytes;
+    }
+
+    public long getCachedBlocks() {
+        return cachedBlocks;
+    }
+
+    /**
+     * The number of blocks evicted to keep the cache within its capacity.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public List<ShardStats> getShards() {
+        return shards;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("searchable_snapshots");
+        builder.startObject("cache");
+        builder.humanReadableField("capacity_in_bytes", "capacity", new ByteSizeValue(capacityInBytes));
+        builder.humanReadableField("used_in_bytes", "used", new ByteSizeValue(usedInBytes));
+        builder.field("blocks", cachedBlocks);
+        builder.field("evictions", evictions);
+        builder.endObject();
+        builder.startArray("shards");
+        for (ShardStats shard : shards) {
+            shard.toXContent(builder, params);
+        }
+        builder.endArray();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchableSnapshotStats that = (SearchableSnapshotStats) o;
+        return capacityInBytes == that.capacityInBytes
+            && usedInBytes == that.usedInBytes
+            && cachedBlocks == that.cachedBlocks
+            && evictions == that.evictions
+            && shards.equals(that.shards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(capacityInBytes, usedInBytes, cachedBlocks, evictions, shards);
+    }
+
+    /**
+     * Statistics about the reads of a single searchable snapshot shard through the block cache.
+     */
+    public static class ShardStats implements Writeable, ToXContentFragment {
+
+        private final ShardId shardId;
+        private final long hits;
+        private final long misses;
+        private final long prefetched;
+        private final long bytesRead;
+        private final long bytesDownloaded;
+
+        public ShardStats(ShardId shardId, long hits, long misses, long prefetched, long bytesRead, long bytesDownloaded) {
+            this.shardId = shardId;
+            this.hits = hits;
+            this.misses = misses;
+            this.prefetched = prefetched;
+            this.bytesRead = bytesRead;
+            this.bytesDownloaded = bytesDownloaded;
+        }
+
+        public ShardStats(StreamInput in) throws IOException {
+            shardId = new ShardId(in);
+            hits = in.readVLong();
+            misses = in.readVLong();
+            prefetched = in.readVLong();
+            bytesRead = in.readVLong();
+            bytesDownloaded = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            out.writeVLong(hits);
+            out.writeVLong(misses);
+            out.writeVLong(prefetched);
+            out.writeVLong(bytesRead);
+            out.writeVLong(bytesDownloaded);
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        /**
+         * The number of block reads served from the cache.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * The number of block reads that had to download the block from the repository first.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * The number of blocks downloaded ahead of being read.
+         */
+        public long getPrefetched() {
+            return prefetched;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public long getBytesDownloaded() {
+            return bytesDownloaded;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("index", shardId.getIndexName());
+            builder.field("shard", shardId.id());
+            builder.field("hits", hits);
+            builder.field("misses", misses);
+            builder.field("prefetched", prefetched);
+            builder.humanReadableField("read_in_bytes", "read", new ByteSizeValue(bytesRead));
+            builder.humanReadableField("downloaded_in_bytes", "downloaded", new ByteSizeValue(bytesDownloaded));
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ShardStats that = (ShardStats) o;
+            return hits == that.hits
+                && misses == that.misses
+                && prefetched == that.prefetched
+                && bytesRead == that.bytesRead
+                && bytesDownloaded == that.bytesDownloaded
+                && shardId.equals(that.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, hits, misses, prefetched, bytesRead, bytesDownloaded);
+        }
+    }
+}
@@ -65,6 +65,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.io.FileSystemUtils;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
@@ -109,11 +110,15 @@ import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.engine.NoOpEngine;
+import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
+import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MappingDeduplicationStats;
+import org.opensearch.index.mapper.MappingSourceInterner;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
@@ -158,6 +163,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -198,6 +204,13 @@ public class IndicesService extends AbstractLifecycleComponent
     public static final Setting<Boolean> INDICES_ID_FIELD_DATA_ENABLED_SETTING =
         Setting.boolSetting("indices.id_field_data.enabled", true, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether indices with identical mappings share a single copy of their compressed mapping source on this node. Their parsed
+     * mappers are not shared.
+     */
+    public static final Setting<Boolean> INDICES_MAPPING_DEDUPLICATION_ENABLED_SETTING =
+        Setting.boolSetting("indices.mapping.deduplication.enabled", true, Property.NodeScope);
+
     public static final Setting<Boolean> WRITE_DANGLING_INDICES_INFO_SETTING = Setting.boolSetting(
         "gateway.write_dangling_indices_info",
         true,
@@ -228,6 +241,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final AtomicInteger numUncompletedDeletes = new AtomicInteger();
     private final OldShardsStats oldShardsStats = new OldShardsStats();
     private final MapperRegistry mapperRegistry;
+    private final MappingSourceInterner mappingSourceInterner;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval;
@@ -274,6 +288,9 @@ public class IndicesService extends AbstractLifecycleComponent
         this.indicesRequestCache = new IndicesRequestCache(settings);
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
+        this.mappingSourceInterner = INDICES_MAPPING_DEDUPLICATION_ENABLED_SETTING.get(settings)
+            ? new MappingSourceInterner()
+            : MappingSourceInterner.NOOP;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(settings, threadPool,
                                                                 // ensure we pull an iter with new shards - flatten makes a copy
@@ -430,6 +447,31 @@ public class IndicesService extends AbstractLifecycleComponent
         return new NodeIndicesStats(commonStats, statsByShard(this, flags));
     }
 
+    /**
+     * Returns statistics about the compressed mapping sources that are shared between the indices held by this node.
+     */
+    public MappingDeduplicationStats mappingDeduplicationStats() {
+        final Set<CompressedXContent> uniqueSources = Collections.newSetFromMap(new IdentityHashMap<>());
+        long mappings = 0;
+        long totalSizeInBytes = 0;
+        long uniqueSizeInBytes = 0;
+        for (IndexService indexService : this) {
+            final MapperService mapperService = indexService.mapperService();
+            final DocumentMapper mapper = mapperService == null ? null : mapperService.documentMapper();
+            if (mapper == null) {
+                continue;
+            }
+            final CompressedXContent source = mapper.mappingSource();
+            mappings++;
+            totalSizeInBytes += source.compressed().length;
+            if (uniqueSources.add(source)) {
+                uniqueSizeInBytes += source.compressed().length;
+            }
+        }
+        return new MappingDeduplicationStats(mappings, uniqueSources.size(), totalSizeInBytes, totalSizeInBytes - uniqueSizeInBytes,
+            mappingSourceInterner.lookups(), mappingSourceInterner.hits());
+    }
+
     Map<Index, List<IndexShardStats>> statsByShard(final IndicesService indicesService, final CommonStatsFlags flags) {
         final Map<Index, List<IndexShardStats>> statsByShard = new HashMap<>();
 
@@ -679,6 +721,7 @@ public class IndicesService extends AbstractLifecycleComponent
                 client,
                 indicesQueryCache,
                 mapperRegistry,
+                mappingSourceInterner,
                 indicesFieldDataCache,
                 namedWriteableRegistry,
                 this::isIdFieldDataEnabled,
@@ -692,6 +735,10 @@ public class IndicesService extends AbstractLifecycleComponent
             // NoOpEngine takes precedence as long as the index is closed
             return NoOpEngine::new;
         }
+        if (idxSettings.isRemoteSnapshot()) {
+            // searchable snapshots only ever serve the snapshotted commit, which need not hold a complete history of operations
+            return config -> new ReadOnlyEngine(config, null, null, true, Function.identity(), false);
+        }
 
         final List<Optional<EngineFactory>> engineFactories =
                 engineFactoryProviders
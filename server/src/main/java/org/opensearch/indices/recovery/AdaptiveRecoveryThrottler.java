@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.monitor.fs.FsInfo;
+import org.opensearch.monitor.fs.FsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.TransportStats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Periodically samples the load of the node and adjusts the rate limit and the number of concurrent file chunk requests of peer
+ * recoveries to it, so that recoveries run at the configured {@code indices.recovery.max_bytes_per_sec} and
+ * {@code indices.recovery.max_concurrent_file_chunks} while the node is idle but back off while searches or indexing are queueing up, the
+ * data devices are busy or the network carries more than the configured budget.
+ * <p>
+ * The limits are lowered multiplicatively whenever the node is under load and raised again additively, by a tenth of the configured rate
+ * and by one concurrent chunk, on every sample that finds it is not.
+ */
+public class AdaptiveRecoveryThrottler extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveRecoveryThrottler.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("indices.recovery.adaptive_throttling.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("indices.recovery.adaptive_throttling.interval", TimeValue.timeValueSeconds(5), TimeValue.timeValueMillis(100),
+            Property.NodeScope);
+
+    /**
+     * The rate that recoveries are never throttled below, unless the configured {@code indices.recovery.max_bytes_per_sec} is lower.
+     */
+    public static final Setting<ByteSizeValue> MIN_BYTES_PER_SEC_SETTING =
+        Setting.byteSizeSetting("indices.recovery.adaptive_throttling.min_bytes_per_sec", new ByteSizeValue(5, ByteSizeUnit.MB),
+            Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The fraction of time that any data device may spend doing I/O before recoveries are throttled.
+     */
+    public static final Setting<Double> MAX_DISK_UTILIZATION_SETTING =
+        Setting.doubleSetting("indices.recovery.adaptive_throttling.max_disk_utilization", 0.8d, 0.0d, 1.0d,
+            Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The number of bytes per second that the transport layer may send and receive before recoveries are throttled. Network throughput
+     * is ignored if this is not set.
+     */
+    public static final Setting<ByteSizeValue> MAX_NETWORK_BYTES_PER_SEC_SETTING =
+        Setting.byteSizeSetting("indices.recovery.adaptive_throttling.max_network_bytes_per_sec", new ByteSizeValue(0),
+            Property.Dynamic, Property.NodeScope);
+
+    private final RecoverySettings recoverySettings;
+    private final ThreadPool threadPool;
+    private final FsService fsService;
+    private final TransportService transportService;
+    private final TimeValue interval;
+
+    private volatile boolean enabled;
+    private volatile ByteSizeValue minBytesPerSec;
+    private volatile double maxDiskUtilization;
+    private volatile ByteSizeValue maxNetworkBytesPerSec;
+    private volatile Scheduler.Cancellable scheduled;
+
+    private volatile LoadSample lastSample = LoadSample.UNKNOWN;
+    private volatile long increases;
+    private volatile long decreases;
+
+    // the previous cumulative readings that the next sample is computed from, only accessed by the scheduled task
+    private final Map<String, Long> previousIOTimeInMillis = new HashMap<>();
+    private long previousFsTimestamp = -1;
+    private long previousNetworkBytes = -1;
+    private long previousNetworkTimeInMillis = -1;
+
+    public AdaptiveRecoveryThrottler(Settings settings, ClusterSettings clusterSettings, RecoverySettings recoverySettings,
+                                     ThreadPool threadPool, FsService fsService, TransportService transportService) {
+        this.recoverySettings = recoverySettings;
+        this.threadPool = threadPool;
+        this.fsService = fsService;
+        this.transportService = transportService;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.minBytesPerSec = MIN_BYTES_PER_SEC_SETTING.get(settings);
+        this.maxDiskUtilization = MAX_DISK_UTILIZATION_SETTING.get(settings);
+        this.maxNetworkBytesPerSec = MAX_NETWORK_BYTES_PER_SEC_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(MIN_BYTES_PER_SEC_SETTING, this::setMinBytesPerSec);
+        clusterSettings.addSettingsUpdateConsumer(MAX_DISK_UTILIZATION_SETTING, this::setMaxDiskUtilization);
+        clusterSettings.addSettingsUpdateConsumer(MAX_NETWORK_BYTES_PER_SEC_SETTING, this::setMaxNetworkBytesPerSec);
+    }
+
+    @Override
+    protected void doStart() {
+        scheduled = threadPool.scheduleWithFixedDelay(() -> {
+            if (enabled) {
+                adjust(sample());
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        scheduled.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            recoverySettings.setEffectiveMaxBytesPerSec(recoverySettings.getMaxBytesPerSec());
+            recoverySettings.setEffectiveMaxConcurrentFileChunks(recoverySettings.getMaxConcurrentFileChunks());
+        }
+    }
+
+    private void setMinBytesPerSec(ByteSizeValue minBytesPerSec) {
+        this.minBytesPerSec = minBytesPerSec;
+    }
+
+    private void setMaxDiskUtilization(double maxDiskUtilization) {
+        this.maxDiskUtilization = maxDiskUtilization;
+    }
+
+    private void setMaxNetworkBytesPerSec(ByteSizeValue maxNetworkBytesPerSec) {
+        this.maxNetworkBytesPerSec = maxNetworkBytesPerSec;
+    }
+
+    /**
+     * Lowers the limits of recoveries if the given sample shows that the node is under load, and raises them towards the configured
+     * limits otherwise.
+     */
+    void adjust(LoadSample sample) {
+        lastSample = sample;
+        final long maxBytesPerSec = recoverySettings.getMaxBytesPerSec().getBytes();
+        final long currentBytesPerSec = recoverySettings.getEffectiveMaxBytesPerSec().getBytes();
+        final int maxChunks = recoverySettings.getMaxConcurrentFileChunks();
+        final int currentChunks = recoverySettings.getEffectiveMaxConcurrentFileChunks();
+        final long newBytesPerSec;
+        final int newChunks;
+        final boolean underLoad = sample.isUnderLoad(maxDiskUtilization, maxNetworkBytesPerSec.getBytes());
+        if (underLoad) {
+            newBytesPerSec = Math.max(Math.min(minBytesPerSec.getBytes(), maxBytesPerSec), currentBytesPerSec / 2);
+            newChunks = Math.max(1, currentChunks - 1);
+        } else {
+            newBytesPerSec = Math.min(maxBytesPerSec, currentBytesPerSec + Math.max(1L, maxBytesPerSec / 10));
+            newChunks = Math.min(maxChunks, currentChunks + 1);
+        }
+        final boolean changeRate = maxBytesPerSec > 0 && newBytesPerSec != currentBytesPerSec;
+        if (changeRate == false && newChunks == currentChunks) {
+            return;
+        }
+        if (underLoad) {
+            decreases++;
+        } else {
+            increases++;
+        }
+        logger.debug("{} recovery limits to [{}/s] and [{}] concurrent file chunks, load: {}", underLoad ? "lowering" : "raising",
+            changeRate ? new ByteSizeValue(newBytesPerSec) : recoverySettings.getEffectiveMaxBytesPerSec(), newChunks, sample);
+        if (changeRate) {
+            recoverySettings.setEffectiveMaxBytesPerSec(new ByteSizeValue(newBytesPerSec));
+        }
+        recoverySettings.setEffectiveMaxConcurrentFileChunks(newChunks);
+    }
+
+    private LoadSample sample() {
+        int searchQueue = 0;
+        int searchThreads = 0;
+        int writeQueue = 0;
+        int writeThreads = 0;
+        for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+            if (ThreadPool.Names.SEARCH.equals(stats.getName())) {
+                searchQueue = stats.getQueue();
+                searchThreads = stats.getThreads();
+            } else if (ThreadPool.Names.WRITE.equals(stats.getName())) {
+                writeQueue = stats.getQueue();
+                writeThreads = stats.getThreads();
+            }
+        }
+        return new LoadSample(searchQueue, searchThreads, writeQueue, writeThreads, sampleDiskUtilization(), sampleNetworkBytesPerSec());
+    }
+
+    private double sampleDiskUtilization() {
+        final FsInfo fsInfo = fsService.stats();
+        if (fsInfo == null || fsInfo.getIoStats() == null) {
+            return -1;
+        }
+        if (fsInfo.getTimestamp() == previousFsTimestamp) {
+            // the file system stats were not refreshed since the previous sample
+            return lastSample.diskUtilization;
+        }
+        final long elapsedMillis = fsInfo.getTimestamp() - previousFsTimestamp;
+        double utilization = -1;
+        for (FsInfo.DeviceStats deviceStats : fsInfo.getIoStats().getDevicesStats()) {
+            final long ioTimeInMillis = deviceStats.getCurrentIOTimeInMillis();
+            if (ioTimeInMillis == -1) {
+                continue;
+            }
+            final Long previous = previousIOTimeInMillis.put(deviceStats.getDeviceName(), ioTimeInMillis);
+            if (previous != null && previousFsTimestamp != -1 && elapsedMillis > 0) {
+                utilization = Math.max(utilization, Math.min(1.0d, (double) (ioTimeInMillis - previous) / elapsedMillis));
+            }
+        }
+        previousFsTimestamp = fsInfo.getTimestamp();
+        return utilization;
+    }
+
+    private long sampleNetworkBytesPerSec() {
+        final TransportStats stats = transportService.stats();
+        final long networkBytes = stats.getRxSize().getBytes() + stats.getTxSize().getBytes();
+        final long nowInMillis = threadPool.relativeTimeInMillis();
+        final long bytesPerSec;
+        if (previousNetworkBytes == -1 || nowInMillis <= previousNetworkTimeInMillis) {
+            bytesPerSec = -1;
+        } else {
+            bytesPerSec = (networkBytes - previousNetworkBytes) * 1000 / (nowInMillis - previousNetworkTimeInMillis);
+        }
+        previousNetworkBytes = networkBytes;
+        previousNetworkTimeInMillis = nowInMillis;
+        return bytesPerSec;
+    }
+
+    public RecoveryThrottlingStats stats() {
+        final LoadSample sample = lastSample;
+        return new RecoveryThrottlingStats(enabled, recoverySettings.getMaxBytesPerSec().getBytes(),
+            recoverySettings.getEffectiveMaxBytesPerSec().getBytes(), recoverySettings.getMaxConcurrentFileChunks(),
+            recoverySettings.getEffectiveMaxConcurrentFileChunks(), increases, decreases, sample.searchQueue, sample.writeQueue,
+            sample.diskUtilization, sample.networkBytesPerSec);
+    }
+
+    /**
+     * The load of the node at a point in time.
+     */
+    static final class LoadSample {
+
+        static final LoadSample UNKNOWN = new LoadSample(0, 0, 0, 0, -1, -1);
+
+        final int searchQueue;
+        final int searchThreads;
+        final int writeQueue;
+        final int writeThreads;
+        final double diskUtilization;
+        final long networkBytesPerSec;
+
+        LoadSample(int searchQueue, int searchThreads, int writeQueue, int writeThreads, double diskUtilization,
+                   long networkBytesPerSec) {
+            this.searchQueue = searchQueue;
+            this.searchThreads = searchThreads;
+            this.writeQueue = writeQueue;
+            this.writeThreads = writeThreads;
+            this.diskUtilization = diskUtilization;
+            this.networkBytesPerSec = networkBytesPerSec;
+        }
+
+        /**
+         * A thread pool is considered overloaded once it has more tasks waiting than threads to run them. Unknown disk utilization and
+         * network throughput never count as load.
+         */
+        boolean isUnderLoad(double maxDiskUtilization, long maxNetworkBytesPerSec) {
+            return searchQueue > searchThreads
+                || writeQueue > writeThreads
+                || diskUtilization > maxDiskUtilization
+                || (maxNetworkBytesPerSec > 0 && networkBytesPerSec > maxNetworkBytesPerSec);
+        }
+
+        @Override
+        public String toString() {
+            return "search_queue [" + searchQueue + "/" + searchThreads + "], write_queue [" + writeQueue + "/" + writeThreads
+                + "], disk_utilization [" + diskUtilization + "], network [" + networkBytesPerSec + "b/s]";
+        }
+    }
+}
@@ -122,7 +122,8 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
                     throw resp.failure;
                 }
             }
-            while (requestSeqIdTracker.getMaxSeqNo() - requestSeqIdTracker.getProcessedCheckpoint() < maxConcurrentChunks) {
+            final int concurrentChunks = Math.max(1, Math.min(maxConcurrentChunks, currentMaxConcurrentChunks()));
+            while (requestSeqIdTracker.getMaxSeqNo() - requestSeqIdTracker.getProcessedCheckpoint() < concurrentChunks) {
                 final Tuple<Source, Request> request = readAheadRequest != null ? readAheadRequest : getNextRequest();
                 readAheadRequest = null;
                 if (request == null) {
@@ -191,6 +192,15 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
 
     }
 
+    /**
+     * Returns the number of chunk requests that may currently be in flight, which is consulted whenever responses arrive so that the
+     * concurrency of an ongoing transfer can be lowered and raised again. Values above the {@code maxConcurrentChunks} that this
+     * transfer was created with are ignored.
+     */
+    protected int currentMaxConcurrentChunks() {
+        return maxConcurrentChunks;
+    }
+
     protected abstract Request nextChunkRequest(Source resource) throws IOException;
 
     protected abstract void executeChunkRequest(Request request, ActionListener<Void> listener);
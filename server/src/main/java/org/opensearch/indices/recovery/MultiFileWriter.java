@@ -47,6 +47,7 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.transport.Transports;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -74,6 +75,8 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
     private final RecoveryState.Index indexState;
     private final String tempFilePrefix;
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final ConcurrentMap<String, IndexOutput> openIndexOutputs = ConcurrentCollections.newConcurrentMap();
     private final ConcurrentMap<String, FileChunkWriter> fileChunkWriters = ConcurrentCollections.newConcurrentMap();
 
@@ -87,6 +90,44 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         writer.writeChunk(new FileChunk(fileMetadata, content, position, lastChunk));
     }
 
+    /**
+     * Writes the whole content of the given file, read from the given stream, to its temporary file. The bytes are accounted as
+     * recovered from a snapshot in the recovery state. If the content can't be read or doesn't match the metadata then the temporary
+     * file is removed so that the file can be recovered again from another source.
+     */
+    public void writeFile(StoreFileMetadata fileMetadata, InputStream stream) throws IOException {
+        assert Transports.assertNotTransportThread("multi_file_writer");
+        final String name = fileMetadata.name();
+        final IndexOutput indexOutput = openAndPutIndexOutput(name, fileMetadata, store);
+        boolean success = false;
+        try {
+            try {
+                final byte[] buffer = new byte[Math.toIntExact(Math.min(fileMetadata.length(), BUFFER_SIZE))];
+                int length;
+                while ((length = stream.read(buffer)) > 0) {
+                    indexOutput.writeBytes(buffer, 0, length);
+                    indexState.addRecoveredFromSnapshotBytesToFile(name, length);
+                }
+                Store.verify(indexOutput);
+            } finally {
+                indexOutput.close();
+            }
+            final String temporaryFileName = getTempNameForFile(name);
+            store.directory().sync(Collections.singleton(temporaryFileName));
+            removeOpenIndexOutputs(name);
+            success = true;
+        } finally {
+            if (success == false) {
+                openIndexOutputs.remove(name);
+                final String temporaryFileName = getTempNameForFile(name);
+                if (tempFileNames.remove(temporaryFileName) != null) {
+                    store.deleteQuiet(temporaryFileName);
+                }
+                indexState.resetRecoveredBytesOfFile(name);
+            }
+        }
+    }
+
     /** Get a temporary name for the provided file name. */
     String getTempNameForFile(String origFile) {
         return tempFilePrefix + origFile;
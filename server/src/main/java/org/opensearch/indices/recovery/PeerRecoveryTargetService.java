@@ -70,6 +70,10 @@ import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogCorruptedException;
 import org.opensearch.indices.recovery.RecoveriesCollection.RecoveryRef;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.RepositoryMissingException;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.ConnectTransportException;
@@ -102,6 +106,7 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         public static final String FILES_INFO = "internal:index/shard/recovery/filesInfo";
         public static final String FILE_CHUNK = "internal:index/shard/recovery/file_chunk";
         public static final String CLEAN_FILES = "internal:index/shard/recovery/clean_files";
+        public static final String RESTORE_FILE_FROM_SNAPSHOT = "internal:index/shard/recovery/restore_file_from_snapshot";
         public static final String TRANSLOG_OPS = "internal:index/shard/recovery/translog_ops";
         public static final String PREPARE_TRANSLOG = "internal:index/shard/recovery/prepare_translog";
         public static final String FINALIZE = "internal:index/shard/recovery/finalize";
@@ -114,15 +119,17 @@ public class PeerRecoveryTargetService implements IndexEventListener {
 
     private final RecoverySettings recoverySettings;
     private final ClusterService clusterService;
+    private final RepositoriesService repositoriesService;
 
     private final RecoveriesCollection onGoingRecoveries;
 
     public PeerRecoveryTargetService(ThreadPool threadPool, TransportService transportService,
-            RecoverySettings recoverySettings, ClusterService clusterService) {
+            RecoverySettings recoverySettings, ClusterService clusterService, RepositoriesService repositoriesService) {
         this.threadPool = threadPool;
         this.transportService = transportService;
         this.recoverySettings = recoverySettings;
         this.clusterService = clusterService;
+        this.repositoriesService = repositoriesService;
         this.onGoingRecoveries = new RecoveriesCollection(logger, threadPool);
 
         transportService.registerRequestHandler(Actions.FILES_INFO, ThreadPool.Names.GENERIC, RecoveryFilesInfoRequest::new,
@@ -131,6 +138,8 @@ public class PeerRecoveryTargetService implements IndexEventListener {
             new FileChunkTransportRequestHandler());
         transportService.registerRequestHandler(Actions.CLEAN_FILES, ThreadPool.Names.GENERIC,
             RecoveryCleanFilesRequest::new, new CleanFilesRequestHandler());
+        transportService.registerRequestHandler(Actions.RESTORE_FILE_FROM_SNAPSHOT, ThreadPool.Names.GENERIC,
+            RecoveryRestoreFileFromSnapshotRequest::new, new RestoreFileFromSnapshotRequestHandler());
         transportService.registerRequestHandler(Actions.PREPARE_TRANSLOG, ThreadPool.Names.GENERIC,
                 RecoveryPrepareForTranslogOperationsRequest::new, new PrepareForTranslogOperationsRequestHandler());
         transportService.registerRequestHandler(Actions.TRANSLOG_OPS, ThreadPool.Names.GENERIC, RecoveryTranslogOperationsRequest::new,
@@ -204,6 +213,10 @@ public class PeerRecoveryTargetService implements IndexEventListener {
                     assert recoveryTarget.sourceNode() != null : "can not do a recovery without a source node";
                     logger.trace("{} preparing shard for peer recovery", recoveryTarget.shardId());
                     indexShard.prepareForIndexRecovery();
+                    if (indexShard.indexSettings().isRemoteSnapshot()) {
+                        // the shard reads the files of its snapshot from the repository, the source only hands over the shard
+                        indexShard.bootstrapRemoteSnapshotTranslog();
+                    }
                     final long startingSeqNo = indexShard.recoverLocallyUpToGlobalCheckpoint();
                     assert startingSeqNo == UNASSIGNED_SEQ_NO || recoveryTarget.state().getStage() == RecoveryState.Stage.TRANSLOG :
                         "unexpected recovery stage [" + recoveryTarget.state().getStage() + "] starting seqno [ " + startingSeqNo + "]";
@@ -458,6 +471,35 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         }
     }
 
+    class RestoreFileFromSnapshotRequestHandler implements TransportRequestHandler<RecoveryRestoreFileFromSnapshotRequest> {
+
+        @Override
+        public void messageReceived(RecoveryRestoreFileFromSnapshotRequest request, TransportChannel channel, Task task) throws Exception {
+            try (RecoveryRef recoveryRef = onGoingRecoveries.getRecoverySafe(request.recoveryId(), request.shardId())) {
+                final ActionListener<Void> listener =
+                    createOrFinishListener(recoveryRef, channel, Actions.RESTORE_FILE_FROM_SNAPSHOT, request);
+                if (listener == null) {
+                    return;
+                }
+
+                final Repository repository;
+                try {
+                    repository = repositoriesService.repository(request.repository());
+                } catch (RepositoryMissingException e) {
+                    listener.onFailure(e);
+                    return;
+                }
+                if (repository instanceof BlobStoreRepository == false) {
+                    listener.onFailure(new IllegalArgumentException("repository [" + request.repository()
+                        + "] is not a blob store repository"));
+                    return;
+                }
+                recoveryRef.target().restoreFileFromSnapshot((BlobStoreRepository) repository, request.indexId(), request.fileInfo(),
+                    listener);
+            }
+        }
+    }
+
     class FileChunkTransportRequestHandler implements TransportRequestHandler<RecoveryFileChunkRequest> {
 
         // How many bytes we've copied since we last called RateLimiter.pause
@@ -33,16 +33,23 @@
 package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.transport.ThinWriteable;
 
 import java.io.IOException;
 
-public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
+/**
+ * A chunk of a file that the recovery source sends to the target. The content of the chunk comes last on the wire so that it can be sent
+ * straight from the file, see {@link ThinWriteable}.
+ */
+public final class RecoveryFileChunkRequest extends RecoveryTransportRequest implements ThinWriteable {
     private final boolean lastChunk;
     private final long recoveryId;
     private final ShardId shardId;
@@ -61,13 +68,18 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
+        final boolean contentLast = in.getVersion().onOrAfter(org.opensearch.Version.V_1_0_0);
+        BytesReference content = contentLast ? null : in.readBytesReference();
         Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
         assert writtenBy != null;
         metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
         lastChunk = in.readBoolean();
         totalTranslogOps = in.readVInt();
         sourceThrottleTimeInNanos = in.readLong();
+        if (contentLast) {
+            content = in.readBytesReference();
+        }
+        this.content = content;
     }
 
     public RecoveryFileChunkRequest(long recoveryId, final long requestSeqNo, ShardId shardId, StoreFileMetadata metadata, long position,
@@ -117,6 +129,11 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        writeThin(out).writeTo(out);
+    }
+
+    @Override
+    public BytesReference writeThin(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeLong(recoveryId);
         shardId.writeTo(out);
@@ -124,11 +141,23 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         out.writeVLong(position);
         out.writeVLong(metadata.length());
         out.writeString(metadata.checksum());
-        out.writeBytesReference(content);
+        final boolean contentLast = out.getVersion().onOrAfter(org.opensearch.Version.V_1_0_0);
+        if (contentLast == false) {
+            out.writeBytesReference(content);
+        }
         out.writeString(metadata.writtenBy().toString());
         out.writeBoolean(lastChunk);
         out.writeVInt(totalTranslogOps);
         out.writeLong(sourceThrottleTimeInNanos);
+        if (contentLast) {
+            // only content that is read from a file is worth sending as it is, anything else is written inline so it may be compressed
+            if (FileChannelBytesReference.trailingFileRegion(content) != null) {
+                out.writeVInt(content.length());
+                return content;
+            }
+            out.writeBytesReference(content);
+        }
+        return BytesArray.EMPTY;
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.repositories.IndexId;
+
+import java.io.IOException;
+
+/**
+ * Asks the recovery target to download a file of the shard from a snapshot repository instead of receiving it from the source.
+ */
+public class RecoveryRestoreFileFromSnapshotRequest extends RecoveryTransportRequest {
+
+    private final long recoveryId;
+    private final ShardId shardId;
+    private final String repository;
+    private final IndexId indexId;
+    private final FileInfo fileInfo;
+
+    public RecoveryRestoreFileFromSnapshotRequest(long recoveryId, long requestSeqNo, ShardId shardId, String repository, IndexId indexId,
+                                                  FileInfo fileInfo) {
+        super(requestSeqNo);
+        this.recoveryId = recoveryId;
+        this.shardId = shardId;
+        this.repository = repository;
+        this.indexId = indexId;
+        this.fileInfo = fileInfo;
+    }
+
+    RecoveryRestoreFileFromSnapshotRequest(StreamInput in) throws IOException {
+        super(in);
+        recoveryId = in.readLong();
+        shardId = new ShardId(in);
+        repository = in.readString();
+        indexId = new IndexId(in);
+        final String name = in.readString();
+        final StoreFileMetadata metadata = new StoreFileMetadata(in);
+        final ByteSizeValue partSize = in.readOptionalWriteable(ByteSizeValue::new);
+        final String compression = in.readOptionalString();
+        fileInfo = new FileInfo(name, metadata, partSize, compression);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeLong(recoveryId);
+        shardId.writeTo(out);
+        out.writeString(repository);
+        indexId.writeTo(out);
+        out.writeString(fileInfo.name());
+        fileInfo.metadata().writeTo(out);
+        out.writeOptionalWriteable(fileInfo.partSize());
+        out.writeOptionalString(fileInfo.compression());
+    }
+
+    public long recoveryId() {
+        return recoveryId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String repository() {
+        return repository;
+    }
+
+    public IndexId indexId() {
+        return indexId;
+    }
+
+    public FileInfo fileInfo() {
+        return fileInfo;
+    }
+}
@@ -62,7 +62,7 @@ public class RecoverySettings {
      * Controls the maximum number of operation chunk requests that can be sent concurrently from the source node to the target node.
      */
     public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING =
-        Setting.intSetting("indices.recovery.max_concurrent_operations", 1, 1, 4, Property.Dynamic, Property.NodeScope);
+        Setting.intSetting("indices.recovery.max_concurrent_operations", 2, 1, 4, Property.Dynamic, Property.NodeScope);
 
     /**
      * how long to wait before retrying after issues cause by cluster state syncing between nodes
@@ -105,11 +105,35 @@ public class RecoverySettings {
             INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING::get, TimeValue.timeValueSeconds(0),
             Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether peer recoveries have the target download the files that are identical to those of a snapshot of the shard from a
+     * repository that allows it instead of receiving them from the source.
+     */
+    public static final Setting<Boolean> INDICES_RECOVERY_USE_SNAPSHOTS_SETTING =
+        Setting.boolSetting("indices.recovery.use_snapshots", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * Whether peer recoveries compress the batches of operations that they send to the target, even if {@code transport.compress} is
+     * disabled. Operations compress well and are otherwise sent as they are, so this mostly trades some CPU for much less network
+     * traffic on shards that are recovered from their history of operations.
+     */
+    public static final Setting<Boolean> INDICES_RECOVERY_COMPRESS_OPERATIONS_SETTING =
+        Setting.boolSetting("indices.recovery.compress_operations", true, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * Whether peer recoveries send file chunks straight from the files on disk if the transport supports it, rather than reading them
+     * into the heap first. Disabled by default until the file region path of the transports has been proven in the field.
+     */
+    public static final Setting<Boolean> INDICES_RECOVERY_ZERO_COPY_FILE_CHUNKS_SETTING =
+        Setting.boolSetting("indices.recovery.zero_copy_file_chunks", false, Property.Dynamic, Property.NodeScope);
+
     // choose 512KB-16B to ensure that the resulting byte[] is not a humongous allocation in G1.
     public static final ByteSizeValue DEFAULT_CHUNK_SIZE = new ByteSizeValue(512 * 1024 - 16, ByteSizeUnit.BYTES);
 
     private volatile ByteSizeValue maxBytesPerSec;
+    private volatile ByteSizeValue effectiveMaxBytesPerSec;
     private volatile int maxConcurrentFileChunks;
+    private volatile int effectiveMaxConcurrentFileChunks;
     private volatile int maxConcurrentOperations;
     private volatile SimpleRateLimiter rateLimiter;
     private volatile TimeValue retryDelayStateSync;
@@ -118,12 +142,16 @@ public class RecoverySettings {
     private volatile TimeValue internalActionTimeout;
     private volatile TimeValue internalActionRetryTimeout;
     private volatile TimeValue internalActionLongTimeout;
+    private volatile boolean useSnapshotsDuringRecovery;
+    private volatile boolean zeroCopyFileChunks;
+    private volatile boolean compressOperations;
 
     private volatile ByteSizeValue chunkSize = DEFAULT_CHUNK_SIZE;
 
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
+        this.effectiveMaxConcurrentFileChunks = maxConcurrentFileChunks;
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
         // and we want to give the master time to remove a faulty node
@@ -134,7 +162,11 @@ public class RecoverySettings {
         this.internalActionLongTimeout = INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING.get(settings);
 
         this.activityTimeout = INDICES_RECOVERY_ACTIVITY_TIMEOUT_SETTING.get(settings);
+        this.useSnapshotsDuringRecovery = INDICES_RECOVERY_USE_SNAPSHOTS_SETTING.get(settings);
+        this.zeroCopyFileChunks = INDICES_RECOVERY_ZERO_COPY_FILE_CHUNKS_SETTING.get(settings);
+        this.compressOperations = INDICES_RECOVERY_COMPRESS_OPERATIONS_SETTING.get(settings);
         this.maxBytesPerSec = INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING.get(settings);
+        this.effectiveMaxBytesPerSec = maxBytesPerSec;
         if (maxBytesPerSec.getBytes() <= 0) {
             rateLimiter = null;
         } else {
@@ -154,6 +186,9 @@ public class RecoverySettings {
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
             this::setInternalActionLongTimeout);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_ACTIVITY_TIMEOUT_SETTING, this::setActivityTimeout);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_USE_SNAPSHOTS_SETTING, this::setUseSnapshotsDuringRecovery);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_ZERO_COPY_FILE_CHUNKS_SETTING, this::setZeroCopyFileChunks);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_COMPRESS_OPERATIONS_SETTING, this::setCompressOperations);
     }
 
     public RateLimiter rateLimiter() {
@@ -214,8 +249,36 @@ public class RecoverySettings {
         this.internalActionLongTimeout = internalActionLongTimeout;
     }
 
-    private void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+    public ByteSizeValue getMaxBytesPerSec() {
+        return maxBytesPerSec;
+    }
+
+    private synchronized void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
         this.maxBytesPerSec = maxBytesPerSec;
+        applyMaxBytesPerSec(maxBytesPerSec);
+    }
+
+    /**
+     * The rate that recoveries are currently limited to, which is lower than {@link #getMaxBytesPerSec()} while the
+     * {@link AdaptiveRecoveryThrottler} backs off because the node is under load.
+     */
+    public ByteSizeValue getEffectiveMaxBytesPerSec() {
+        return effectiveMaxBytesPerSec;
+    }
+
+    /**
+     * Limits recoveries to the given rate, capped at the configured {@code indices.recovery.max_bytes_per_sec}. Has no effect if
+     * recoveries are not rate limited at all.
+     */
+    synchronized void setEffectiveMaxBytesPerSec(ByteSizeValue effectiveMaxBytesPerSec) {
+        if (maxBytesPerSec.getBytes() <= 0) {
+            return;
+        }
+        applyMaxBytesPerSec(effectiveMaxBytesPerSec.getBytes() < maxBytesPerSec.getBytes() ? effectiveMaxBytesPerSec : maxBytesPerSec);
+    }
+
+    private void applyMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        this.effectiveMaxBytesPerSec = maxBytesPerSec;
         if (maxBytesPerSec.getBytes() <= 0) {
             rateLimiter = null;
         } else if (rateLimiter != null) {
@@ -229,8 +292,21 @@ public class RecoverySettings {
         return maxConcurrentFileChunks;
     }
 
-    private void setMaxConcurrentFileChunks(int maxConcurrentFileChunks) {
+    private synchronized void setMaxConcurrentFileChunks(int maxConcurrentFileChunks) {
         this.maxConcurrentFileChunks = maxConcurrentFileChunks;
+        this.effectiveMaxConcurrentFileChunks = maxConcurrentFileChunks;
+    }
+
+    /**
+     * The number of file chunk requests that recoveries currently keep in flight, which is lower than
+     * {@link #getMaxConcurrentFileChunks()} while the {@link AdaptiveRecoveryThrottler} backs off because the node is under load.
+     */
+    public int getEffectiveMaxConcurrentFileChunks() {
+        return effectiveMaxConcurrentFileChunks;
+    }
+
+    synchronized void setEffectiveMaxConcurrentFileChunks(int effectiveMaxConcurrentFileChunks) {
+        this.effectiveMaxConcurrentFileChunks = Math.max(1, Math.min(effectiveMaxConcurrentFileChunks, maxConcurrentFileChunks));
     }
 
     public int getMaxConcurrentOperations() {
@@ -240,4 +316,28 @@ public class RecoverySettings {
     private void setMaxConcurrentOperations(int maxConcurrentOperations) {
         this.maxConcurrentOperations = maxConcurrentOperations;
     }
+
+    public boolean getUseSnapshotsDuringRecovery() {
+        return useSnapshotsDuringRecovery;
+    }
+
+    private void setUseSnapshotsDuringRecovery(boolean useSnapshotsDuringRecovery) {
+        this.useSnapshotsDuringRecovery = useSnapshotsDuringRecovery;
+    }
+
+    public boolean getZeroCopyFileChunks() {
+        return zeroCopyFileChunks;
+    }
+
+    private void setZeroCopyFileChunks(boolean zeroCopyFileChunks) {
+        this.zeroCopyFileChunks = zeroCopyFileChunks;
+    }
+
+    public boolean getCompressOperations() {
+        return compressOperations;
+    }
+
+    private void setCompressOperations(boolean compressOperations) {
+        this.compressOperations = compressOperations;
+    }
 }
@@ -38,6 +38,9 @@ import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFormatTooNewException;
 import org.apache.lucene.index.IndexFormatTooOldException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.RateLimiter;
@@ -48,15 +51,19 @@ import org.opensearch.LegacyESVersion;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.StepListener;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.StopWatch;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.logging.Loggers;
@@ -64,6 +71,7 @@ import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.FutureUtils;
 import org.opensearch.common.util.concurrent.ListenableFuture;
@@ -79,6 +87,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardClosedException;
 import org.opensearch.index.shard.IndexShardRelocatedException;
 import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
@@ -88,11 +97,16 @@ import org.opensearch.transport.Transports;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
@@ -127,15 +141,32 @@ public class RecoverySourceHandler {
     private final int chunkSizeInBytes;
     private final RecoveryTargetHandler recoveryTarget;
     private final int maxConcurrentFileChunks;
+    private final IntSupplier currentMaxConcurrentFileChunks;
     private final int maxConcurrentOperations;
     private final ThreadPool threadPool;
     private final CancellableThreads cancellableThreads = new CancellableThreads();
     private final List<Closeable> resources = new CopyOnWriteArrayList<>();
     private final ListenableFuture<RecoveryResponse> future = new ListenableFuture<>();
+    @Nullable
+    private final Consumer<ActionListener<ShardSnapshotFiles>> shardSnapshotFilesFinder;
 
     public RecoverySourceHandler(IndexShard shard, RecoveryTargetHandler recoveryTarget, ThreadPool threadPool,
                                  StartRecoveryRequest request, int fileChunkSizeInBytes, int maxConcurrentFileChunks,
                                  int maxConcurrentOperations) {
+        this(shard, recoveryTarget, threadPool, request, fileChunkSizeInBytes, maxConcurrentFileChunks, () -> maxConcurrentFileChunks,
+            maxConcurrentOperations, null);
+    }
+
+    /**
+     * @param currentMaxConcurrentFileChunks   the number of file chunk requests that may currently be in flight, which can be lower than
+     *                                         {@code maxConcurrentFileChunks} if recoveries are throttled because the node is under load
+     * @param shardSnapshotFilesFinder if not {@code null}, looks up the snapshot of the shard whose files the target should download from
+     *                                 the repository instead of receiving them from this handler
+     */
+    public RecoverySourceHandler(IndexShard shard, RecoveryTargetHandler recoveryTarget, ThreadPool threadPool,
+                                 StartRecoveryRequest request, int fileChunkSizeInBytes, int maxConcurrentFileChunks,
+                                 IntSupplier currentMaxConcurrentFileChunks, int maxConcurrentOperations,
+                                 @Nullable Consumer<ActionListener<ShardSnapshotFiles>> shardSnapshotFilesFinder) {
         this.shard = shard;
         this.recoveryTarget = recoveryTarget;
         this.threadPool = threadPool;
@@ -145,7 +176,9 @@ public class RecoverySourceHandler {
         this.chunkSizeInBytes = fileChunkSizeInBytes;
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentFileChunks = request.targetNode().getVersion().onOrAfter(LegacyESVersion.V_6_7_0) ? maxConcurrentFileChunks : 1;
+        this.currentMaxConcurrentFileChunks = currentMaxConcurrentFileChunks;
         this.maxConcurrentOperations = maxConcurrentOperations;
+        this.shardSnapshotFilesFinder = shardSnapshotFilesFinder;
     }
 
     public StartRecoveryRequest getRequest() {
@@ -499,7 +532,10 @@ public class RecoverySourceHandler {
                             recoverySourceMetadata.asMap().size() + " files", name);
                 }
             }
-            if (canSkipPhase1(recoverySourceMetadata, request.metadataSnapshot()) == false) {
+            final boolean skipPhase1 = store.indexSettings().isRemoteSnapshot()
+                ? canSkipPhase1ForRemoteSnapshot(recoverySourceMetadata, request.metadataSnapshot())
+                : canSkipPhase1(recoverySourceMetadata, request.metadataSnapshot());
+            if (skipPhase1 == false) {
                 final List<String> phase1FileNames = new ArrayList<>();
                 final List<Long> phase1FileSizes = new ArrayList<>();
                 final List<String> phase1ExistingFileNames = new ArrayList<>();
@@ -543,6 +579,7 @@ public class RecoverySourceHandler {
                     phase1FileNames.size(), new ByteSizeValue(totalSizeInBytes),
                     phase1ExistingFileNames.size(), new ByteSizeValue(existingTotalSizeInBytes));
                 final StepListener<Void> sendFileInfoStep = new StepListener<>();
+                final StepListener<List<StoreFileMetadata>> restoreFilesFromSnapshotStep = new StepListener<>();
                 final StepListener<Void> sendFilesStep = new StepListener<>();
                 final StepListener<RetentionLease> createRetentionLeaseStep = new StepListener<>();
                 final StepListener<Void> cleanFilesStep = new StepListener<>();
@@ -551,7 +588,10 @@ public class RecoverySourceHandler {
                         phase1ExistingFileSizes, translogOps.getAsInt(), sendFileInfoStep);
 
                 sendFileInfoStep.whenComplete(r ->
-                    sendFiles(store, phase1Files.toArray(new StoreFileMetadata[0]), translogOps, sendFilesStep), listener::onFailure);
+                    restoreFilesFromSnapshot(phase1Files, restoreFilesFromSnapshotStep), listener::onFailure);
+
+                restoreFilesFromSnapshotStep.whenComplete(filesToSend ->
+                    sendFiles(store, filesToSend.toArray(new StoreFileMetadata[0]), translogOps, sendFilesStep), listener::onFailure);
 
                 sendFilesStep.whenComplete(r -> createRetentionLease(startingSeqNo, createRetentionLeaseStep), listener::onFailure);
 
@@ -595,6 +635,87 @@ public class RecoverySourceHandler {
         }
     }
 
+    /**
+     * Has the target download the given files from the latest snapshot of the shard in a repository that is enabled for peer recoveries,
+     * if any, and completes the listener with the files that could not be restored this way and must be sent by this handler.
+     */
+    void restoreFilesFromSnapshot(List<StoreFileMetadata> files, ActionListener<List<StoreFileMetadata>> listener) {
+        if (shardSnapshotFilesFinder == null || files.isEmpty()) {
+            listener.onResponse(files);
+            return;
+        }
+        cancellableThreads.checkForCancel();
+        shardSnapshotFilesFinder.accept(ActionListener.wrap(shardSnapshotFiles -> {
+            if (shardSnapshotFiles == null) {
+                listener.onResponse(files);
+                return;
+            }
+            final List<StoreFileMetadata> filesToSend = new ArrayList<>();
+            final List<Tuple<StoreFileMetadata, FileInfo>> filesToRestore = new ArrayList<>();
+            for (StoreFileMetadata md : files) {
+                final FileInfo fileInfo = shardSnapshotFiles.findFile(md);
+                if (fileInfo == null) {
+                    filesToSend.add(md);
+                } else {
+                    filesToRestore.add(Tuple.tuple(md, fileInfo));
+                }
+            }
+            logger.trace("recovery [phase1]: restoring [{}] files from repository [{}], sending [{}] files",
+                filesToRestore.size(), shardSnapshotFiles.repository(), filesToSend.size());
+            restoreFilesFromSnapshot(shardSnapshotFiles, filesToRestore, filesToSend, listener);
+        }, e -> {
+            logger.warn("failed to find a snapshot of the shard to recover files from, sending all files", e);
+            listener.onResponse(files);
+        }));
+    }
+
+    /**
+     * Has the target download up to {@code max_concurrent_file_chunks} of the given files at a time, like the file chunks that are sent by
+     * this handler, and completes the listener with the files to send once all downloads completed.
+     */
+    private void restoreFilesFromSnapshot(ShardSnapshotFiles shardSnapshotFiles, List<Tuple<StoreFileMetadata, FileInfo>> filesToRestore,
+                                          List<StoreFileMetadata> filesToSend, ActionListener<List<StoreFileMetadata>> listener) {
+        final int downloads = Math.min(maxConcurrentFileChunks, filesToRestore.size());
+        if (downloads == 0) {
+            listener.onResponse(filesToSend);
+            return;
+        }
+        final Iterator<Tuple<StoreFileMetadata, FileInfo>> files = filesToRestore.iterator();
+        final List<StoreFileMetadata> failedFiles = Collections.synchronizedList(new ArrayList<>());
+        final GroupedActionListener<Void> downloadsListener = new GroupedActionListener<>(ActionListener.wrap(r -> {
+            filesToSend.addAll(failedFiles);
+            listener.onResponse(filesToSend);
+        }, listener::onFailure), downloads);
+        for (int i = 0; i < downloads; i++) {
+            restoreNextFileFromSnapshot(shardSnapshotFiles, files, failedFiles, downloadsListener);
+        }
+    }
+
+    private void restoreNextFileFromSnapshot(ShardSnapshotFiles shardSnapshotFiles, Iterator<Tuple<StoreFileMetadata, FileInfo>> files,
+                                             List<StoreFileMetadata> failedFiles, ActionListener<Void> listener) {
+        final Tuple<StoreFileMetadata, FileInfo> file;
+        synchronized (files) {
+            file = files.hasNext() ? files.next() : null;
+        }
+        if (file == null) {
+            listener.onResponse(null);
+            return;
+        }
+        try {
+            cancellableThreads.checkForCancel();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        recoveryTarget.restoreFileFromSnapshot(shardSnapshotFiles.repository(), shardSnapshotFiles.indexId(), file.v2(),
+            ActionListener.wrap(r -> restoreNextFileFromSnapshot(shardSnapshotFiles, files, failedFiles, listener), e -> {
+                logger.debug(new ParameterizedMessage("failed to restore [{}] from repository [{}], sending it instead",
+                    file.v1().name(), shardSnapshotFiles.repository()), e);
+                failedFiles.add(file.v1());
+                restoreNextFileFromSnapshot(shardSnapshotFiles, files, failedFiles, listener);
+            }));
+    }
+
     void createRetentionLease(final long startingSeqNo, ActionListener<RetentionLease> listener) {
         runUnderPrimaryPermit(() -> {
                 // Clone the peer recovery retention lease belonging to the source shard. We are retaining history between the the local
@@ -631,6 +752,16 @@ public class RecoverySourceHandler {
             shard, cancellableThreads, logger);
     }
 
+    boolean canSkipPhase1ForRemoteSnapshot(Store.MetadataSnapshot source, Store.MetadataSnapshot target) {
+        // all copies of a searchable snapshot read the same files from the repository, and can't write any other file
+        final Store.RecoveryDiff diff = source.recoveryDiff(target);
+        if (diff.different.isEmpty() == false || diff.missing.isEmpty() == false) {
+            throw new IllegalStateException("try to recover searchable snapshot shard " + request.shardId() + " but the files of "
+                + "the target differ from the source: different " + diff.different + ", missing " + diff.missing);
+        }
+        return true;
+    }
+
     boolean canSkipPhase1(Store.MetadataSnapshot source, Store.MetadataSnapshot target) {
         if (source.getSyncId() == null || source.getSyncId().equals(target.getSyncId()) == false) {
             return false;
@@ -909,20 +1040,55 @@ public class RecoverySourceHandler {
         }
     }
 
+    /**
+     * A file that chunks are sent from without copying them through the heap; it is closed once the last chunk that refers to it is
+     * released.
+     */
+    private static final class RefCountedFileChannel extends AbstractRefCounted {
+        final FileChannel channel;
+
+        RefCountedFileChannel(FileChannel channel) {
+            super("file-channel");
+            this.channel = channel;
+        }
+
+        @Override
+        protected void closeInternal() {
+            IOUtils.closeWhileHandlingException(channel);
+        }
+    }
+
     void sendFiles(Store store, StoreFileMetadata[] files, IntSupplier translogOps, ActionListener<Void> listener) {
         ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
+        // if the transport can send file regions directly the chunks are read from the file by the transport instead of the heap
+        final Directory directory = FilterDirectory.unwrap(store.directory());
+        final Path fileChannelDirectory = recoveryTarget.acceptsFileChannelChunks() && directory instanceof FSDirectory
+            ? ((FSDirectory) directory).getDirectory() : null;
 
         final MultiChunkTransfer<StoreFileMetadata, FileChunk>multiFileSender = new MultiChunkTransfer<StoreFileMetadata, FileChunk>(
             logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, Arrays.asList(files)) {
 
                 final Deque<byte[]> buffers = new ConcurrentLinkedDeque<>();
                 InputStreamIndexInput currentInput = null;
+                RefCountedFileChannel currentChannel = null;
                 long offset = 0;
 
+                @Override
+                protected int currentMaxConcurrentChunks() {
+                    return currentMaxConcurrentFileChunks.getAsInt();
+                }
+
                 @Override
                 protected void onNewResource(StoreFileMetadata md) throws IOException {
                     offset = 0;
                     IOUtils.close(currentInput, () -> currentInput = null);
+                    releaseCurrentChannel();
+                    if (fileChannelDirectory != null) {
+                        currentChannel = openFileChannel(md);
+                        if (currentChannel != null) {
+                            return;
+                        }
+                    }
                     final IndexInput indexInput = store.directory().openInput(md.name(), IOContext.READONCE);
                     currentInput = new InputStreamIndexInput(indexInput, md.length()) {
                         @Override
@@ -932,6 +1098,31 @@ public class RecoverySourceHandler {
                     };
                 }
 
+                /**
+                 * Opens the given file on disk, or returns {@code null} if the file on disk does not have the expected length or does
+                 * not exist, e.g. because a wrapping directory keeps it elsewhere, in which case it is read through the directory.
+                 */
+                private RefCountedFileChannel openFileChannel(StoreFileMetadata md) throws IOException {
+                    final FileChannel channel;
+                    try {
+                        channel = FileChannel.open(fileChannelDirectory.resolve(md.name()), StandardOpenOption.READ);
+                    } catch (NoSuchFileException e) {
+                        return null;
+                    }
+                    boolean success = false;
+                    try {
+                        if (channel.size() != md.length()) {
+                            return null;
+                        }
+                        success = true;
+                        return new RefCountedFileChannel(channel);
+                    } finally {
+                        if (success == false) {
+                            IOUtils.close(channel);
+                        }
+                    }
+                }
+
                 private byte[] acquireBuffer() {
                     final byte[] buffer = buffers.pollFirst();
                     if (buffer != null) {
@@ -944,6 +1135,15 @@ public class RecoverySourceHandler {
                 protected FileChunk nextChunkRequest(StoreFileMetadata md) throws IOException {
                     assert Transports.assertNotTransportThread("read file chunk");
                     cancellableThreads.checkForCancel();
+                    if (currentChannel != null) {
+                        final RefCountedFileChannel channel = currentChannel;
+                        final int length = Math.toIntExact(Math.min(chunkSizeInBytes, md.length() - offset));
+                        channel.incRef();
+                        final FileChunk chunk = new FileChunk(md, new FileChannelBytesReference(channel.channel, offset, length), offset,
+                            offset + length == md.length(), channel::decRef);
+                        offset += length;
+                        return chunk;
+                    }
                     final byte[] buffer = acquireBuffer();
                     final int bytesRead = currentInput.read(buffer);
                     if (bytesRead == -1) {
@@ -969,9 +1169,17 @@ public class RecoverySourceHandler {
                     handleErrorOnSendFiles(store, e, new StoreFileMetadata[]{md});
                 }
 
+                private void releaseCurrentChannel() {
+                    if (currentChannel != null) {
+                        currentChannel.decRef();
+                        currentChannel = null;
+                    }
+                }
+
                 @Override
                 public void close() throws IOException {
                     IOUtils.close(currentInput, () -> currentInput = null);
+                    releaseCurrentChannel();
                 }
             };
         resources.add(multiFileSender);
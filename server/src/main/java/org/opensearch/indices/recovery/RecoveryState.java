@@ -33,6 +33,7 @@
 package org.opensearch.indices.recovery;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRouting;
@@ -362,6 +363,8 @@ public class RecoveryState implements ToXContentFragment, Writeable {
         static final String VERIFY_INDEX = "verify_index";
         static final String RECOVERED = "recovered";
         static final String RECOVERED_IN_BYTES = "recovered_in_bytes";
+        static final String RECOVERED_FROM_SNAPSHOT = "recovered_from_snapshot";
+        static final String RECOVERED_FROM_SNAPSHOT_IN_BYTES = "recovered_from_snapshot_in_bytes";
         static final String CHECK_INDEX_TIME = "check_index_time";
         static final String CHECK_INDEX_TIME_IN_MILLIS = "check_index_time_in_millis";
         static final String LENGTH = "length";
@@ -626,6 +629,7 @@ public class RecoveryState implements ToXContentFragment, Writeable {
         private String name;
         private long length;
         private long recovered;
+        private long recoveredFromSnapshot;
         private boolean reused;
 
         public FileDetail(String name, long length, boolean reused) {
@@ -640,6 +644,9 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             length = in.readVLong();
             recovered = in.readVLong();
             reused = in.readBoolean();
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                recoveredFromSnapshot = in.readVLong();
+            }
         }
 
         @Override
@@ -648,6 +655,9 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             out.writeVLong(length);
             out.writeVLong(recovered);
             out.writeBoolean(reused);
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeVLong(recoveredFromSnapshot);
+            }
         }
 
         void addRecoveredBytes(long bytes) {
@@ -656,6 +666,17 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             recovered += bytes;
         }
 
+        void addRecoveredFromSnapshotBytes(long bytes) {
+            addRecoveredBytes(bytes);
+            recoveredFromSnapshot += bytes;
+        }
+
+        void resetRecoveredBytes() {
+            assert reused == false : "file is marked as reused, can't reset recovered bytes";
+            recovered = 0;
+            recoveredFromSnapshot = 0;
+        }
+
         /**
          * file name *
          */
@@ -677,6 +698,13 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             return recovered;
         }
 
+        /**
+         * number of bytes of this file that were recovered from a snapshot repository rather than from the source (so far)
+         */
+        public long recoveredFromSnapshot() {
+            return recoveredFromSnapshot;
+        }
+
         /**
          * returns true if the file is reused from a local copy
          */
@@ -695,6 +723,8 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             builder.humanReadableField(Fields.LENGTH_IN_BYTES, Fields.LENGTH, new ByteSizeValue(length));
             builder.field(Fields.REUSED, reused);
             builder.humanReadableField(Fields.RECOVERED_IN_BYTES, Fields.RECOVERED, new ByteSizeValue(recovered));
+            builder.humanReadableField(Fields.RECOVERED_FROM_SNAPSHOT_IN_BYTES, Fields.RECOVERED_FROM_SNAPSHOT,
+                new ByteSizeValue(recoveredFromSnapshot));
             builder.endObject();
             return builder;
         }
@@ -703,7 +733,8 @@ public class RecoveryState implements ToXContentFragment, Writeable {
         public boolean equals(Object obj) {
             if (obj instanceof FileDetail) {
                 FileDetail other = (FileDetail) obj;
-                return name.equals(other.name) && length == other.length() && reused == other.reused() && recovered == other.recovered();
+                return name.equals(other.name) && length == other.length() && reused == other.reused() && recovered == other.recovered()
+                    && recoveredFromSnapshot == other.recoveredFromSnapshot();
             }
             return false;
         }
@@ -713,13 +744,15 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             int result = name.hashCode();
             result = 31 * result + Long.hashCode(length);
             result = 31 * result + Long.hashCode(recovered);
+            result = 31 * result + Long.hashCode(recoveredFromSnapshot);
             result = 31 * result + (reused ? 1 : 0);
             return result;
         }
 
         @Override
         public String toString() {
-            return "file (name [" + name + "], reused [" + reused + "], length [" + length + "], recovered [" + recovered + "])";
+            return "file (name [" + name + "], reused [" + reused + "], length [" + length + "], recovered [" + recovered
+                + "], recovered from snapshot [" + recoveredFromSnapshot + "])";
         }
     }
 
@@ -784,6 +817,18 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             file.addRecoveredBytes(bytes);
         }
 
+        public void addRecoveredFromSnapshotBytesToFile(String name, long bytes) {
+            FileDetail file = fileDetails.get(name);
+            assert file != null : "file [" + name + "] hasn't been reported";
+            file.addRecoveredFromSnapshotBytes(bytes);
+        }
+
+        public void resetRecoveredBytesOfFile(String name) {
+            FileDetail file = fileDetails.get(name);
+            assert file != null : "file [" + name + "] hasn't been reported";
+            file.resetRecoveredBytes();
+        }
+
         public FileDetail get(String name) {
             return fileDetails.get(name);
         }
@@ -868,6 +913,14 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             fileDetails.addRecoveredBytesToFile(name, bytes);
         }
 
+        public synchronized void addRecoveredFromSnapshotBytesToFile(String name, long bytes) {
+            fileDetails.addRecoveredFromSnapshotBytesToFile(name, bytes);
+        }
+
+        public synchronized void resetRecoveredBytesOfFile(String name) {
+            fileDetails.resetRecoveredBytesOfFile(name);
+        }
+
         public synchronized void addSourceThrottling(long timeInNanos) {
             if (sourceThrottlingInNanos == UNKNOWN) {
                 sourceThrottlingInNanos = timeInNanos;
@@ -972,6 +1025,17 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             return recovered;
         }
 
+        /**
+         * total number of bytes recovered so far from a snapshot repository instead of from the source, part of {@link #recoveredBytes()}
+         */
+        public synchronized long recoveredFromSnapshotBytes() {
+            long recovered = 0;
+            for (FileDetail file : fileDetails.values()) {
+                recovered += file.recoveredFromSnapshot();
+            }
+            return recovered;
+        }
+
         /**
          * total bytes of files to be recovered (potentially not yet done)
          */
@@ -1052,6 +1116,8 @@ public class RecoveryState implements ToXContentFragment, Writeable {
             builder.humanReadableField(Fields.TOTAL_IN_BYTES, Fields.TOTAL, new ByteSizeValue(totalBytes()));
             builder.humanReadableField(Fields.REUSED_IN_BYTES, Fields.REUSED, new ByteSizeValue(reusedBytes()));
             builder.humanReadableField(Fields.RECOVERED_IN_BYTES, Fields.RECOVERED, new ByteSizeValue(recoveredBytes()));
+            builder.humanReadableField(Fields.RECOVERED_FROM_SNAPSHOT_IN_BYTES, Fields.RECOVERED_FROM_SNAPSHOT,
+                new ByteSizeValue(recoveredFromSnapshotBytes()));
             builder.field(Fields.PERCENT, String.format(Locale.ROOT, "%1.1f%%", recoveredBytesPercent()));
             builder.endObject();
 
@@ -58,11 +58,15 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardNotRecoveringException;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -495,6 +499,20 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
         }
     }
 
+    /**
+     * Downloads the given file of a snapshot of the shard from the repository into the temporary file that the source would otherwise
+     * have written it to.
+     */
+    public void restoreFileFromSnapshot(BlobStoreRepository repository, IndexId indexId, BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                                        ActionListener<Void> listener) {
+        ActionListener.completeWith(listener, () -> {
+            try (InputStream stream = repository.openSnapshotFile(indexId, shardId().id(), fileInfo)) {
+                multiFileWriter.writeFile(fileInfo.metadata(), stream);
+            }
+            return null;
+        });
+    }
+
     /** Get a temporary name for the provided file name. */
     public String getTempNameForFile(String origFile) {
         return multiFileWriter.getTempNameForFile(origFile);
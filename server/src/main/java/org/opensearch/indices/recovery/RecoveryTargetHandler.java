@@ -33,11 +33,14 @@ package org.opensearch.indices.recovery;
 
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.repositories.IndexId;
 
 import java.util.List;
 
@@ -119,5 +122,22 @@ public interface RecoveryTargetHandler {
     void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content,
                         boolean lastChunk, int totalTranslogOps, ActionListener<Void> listener);
 
+    /**
+     * Has the target download the given file of a snapshot of the shard from the repository instead of receiving it from the source.
+     * The listener is failed if the file could not be restored, in which case the source must send it instead.
+     */
+    default void restoreFileFromSnapshot(String repository, IndexId indexId, BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                                         ActionListener<Void> listener) {
+        listener.onFailure(new UnsupportedOperationException("restoring files from a snapshot is not supported by [" + this + "]"));
+    }
+
+    /**
+     * Whether the content of the chunks passed to {@link #writeFileChunk} may be a {@link FileChannelBytesReference}, which transports
+     * that support it send straight from the file.
+     */
+    default boolean acceptsFileChannelChunks() {
+        return false;
+    }
+
     default void cancel() {}
 }
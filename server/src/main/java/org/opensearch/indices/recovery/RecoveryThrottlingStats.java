@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * The limits that peer recoveries on a node are currently throttled to, and the load signals that the
+ * {@link AdaptiveRecoveryThrottler} last derived them from.
+ */
+public class RecoveryThrottlingStats implements Writeable, ToXContentFragment {
+
+    private final boolean adaptive;
+    private final long maxBytesPerSec;
+    private final long effectiveMaxBytesPerSec;
+    private final int maxConcurrentFileChunks;
+    private final int effectiveMaxConcurrentFileChunks;
+    private final long increases;
+    private final long decreases;
+    private final int searchQueue;
+    private final int writeQueue;
+    private final double diskUtilization;
+    private final long networkBytesPerSec;
+
+    public RecoveryThrottlingStats(boolean adaptive, long maxBytesPerSec, long effectiveMaxBytesPerSec, int maxConcurrentFileChunks,
+                                   int effectiveMaxConcurrentFileChunks, long increases, long decreases, int searchQueue, int writeQueue,
+                                   double diskUtilization, long networkBytesPerSec) {
+        this.adaptive = adaptive;
+        this.maxBytesPerSec = maxBytesPerSec;
+        this.effectiveMaxBytesPerSec = effectiveMaxBytesPerSec;
+        this.maxConcurrentFileChunks = maxConcurrentFileChunks;
+        this.effectiveMaxConcurrentFileChunks = effectiveMaxConcurrentFileChunks;
+        this.increases = increases;
+        this.decreases = decreases;
+        this.searchQueue = searchQueue;
+        this.writeQueue = writeQueue;
+        this.diskUtilization = diskUtilization;
+        this.networkBytesPerSec = networkBytesPerSec;
+    }
+
+    public RecoveryThrottlingStats(StreamInput in) throws IOException {
+        adaptive = in.readBoolean();
+        maxBytesPerSec = in.readLong();
+        effectiveMaxBytesPerSec = in.readLong();
+        maxConcurrentFileChunks = in.readVInt();
+        effectiveMaxConcurrentFileChunks = in.readVInt();
+        increases = in.readVLong();
+        decreases = in.readVLong();
+        searchQueue = in.readVInt();
+        writeQueue = in.readVInt();
+        diskUtilization = in.readDouble();
+        networkBytesPerSec = in.readLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(adaptive);
+        out.writeLong(maxBytesPerSec);
+        out.writeLong(effectiveMaxBytesPerSec);
+        out.writeVInt(maxConcurrentFileChunks);
+        out.writeVInt(effectiveMaxConcurrentFileChunks);
+        out.writeVLong(increases);
+        out.writeVLong(decreases);
+        out.writeVInt(searchQueue);
+        out.writeVInt(writeQueue);
+        out.writeDouble(diskUtilization);
+        out.writeLong(networkBytesPerSec);
+    }
+
+    /**
+     * Whether the limits are adjusted to the load of the node.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * The configured {@code indices.recovery.max_bytes_per_sec}, or a non-positive value if recoveries are not rate limited.
+     */
+    public long getMaxBytesPerSec() {
+        return maxBytesPerSec;
+    }
+
+    /**
+     * The rate that recoveries are currently limited to.
+     */
+    public long getEffectiveMaxBytesPerSec() {
+        return effectiveMaxBytesPerSec;
+    }
+
+    /**
+     * The configured {@code indices.recovery.max_concurrent_file_chunks}.
+     */
+    public int getMaxConcurrentFileChunks() {
+        return maxConcurrentFileChunks;
+    }
+
+    /**
+     * The number of file chunk requests that recoveries currently keep in flight.
+     */
+    public int getEffectiveMaxConcurrentFileChunks() {
+        return effectiveMaxConcurrentFileChunks;
+    }
+
+    /**
+     * The number of times the limits were raised because the node was not under load.
+     */
+    public long getIncreases() {
+        return increases;
+    }
+
+    /**
+     * The number of times the limits were lowered because the node was under load.
+     */
+    public long getDecreases() {
+        return decreases;
+    }
+
+    /**
+     * The number of queued tasks of the search thread pool when the load was last sampled.
+     */
+    public int getSearchQueue() {
+        return searchQueue;
+    }
+
+    /**
+     * The number of queued tasks of the write thread pool when the load was last sampled.
+     */
+    public int getWriteQueue() {
+        return writeQueue;
+    }
+
+    /**
+     * The fraction of time the busiest data device spent doing I/O when the load was last sampled, or {@code -1} if unknown.
+     */
+    public double getDiskUtilization() {
+        return diskUtilization;
+    }
+
+    /**
+     * The number of bytes per second that the transport layer sent and received when the load was last sampled, or {@code -1} if
+     * unknown.
+     */
+    public long getNetworkBytesPerSec() {
+        return networkBytesPerSec;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("recovery_throttling");
+        builder.field("adaptive", adaptive);
+        builder.humanReadableField("max_bytes_per_sec_in_bytes", "max_bytes_per_sec", new ByteSizeValue(maxBytesPerSec));
+        builder.humanReadableField("effective_max_bytes_per_sec_in_bytes", "effective_max_bytes_per_sec",
+            new ByteSizeValue(effectiveMaxBytesPerSec));
+        builder.field("max_concurrent_file_chunks", maxConcurrentFileChunks);
+        builder.field("effective_max_concurrent_file_chunks", effectiveMaxConcurrentFileChunks);
+        builder.startObject("adjustments");
+        builder.field("increases", increases);
+        builder.field("decreases", decreases);
+        builder.endObject();
+        builder.startObject("load");
+        builder.field("search_queue", searchQueue);
+        builder.field("write_queue", writeQueue);
+        builder.field("disk_utilization", diskUtilization);
+        builder.field("network_bytes_per_sec_in_bytes", networkBytesPerSec);
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecoveryThrottlingStats that = (RecoveryThrottlingStats) o;
+        return adaptive == that.adaptive
+            && maxBytesPerSec == that.maxBytesPerSec
+            && effectiveMaxBytesPerSec == that.effectiveMaxBytesPerSec
+            && maxConcurrentFileChunks == that.maxConcurrentFileChunks
+            && effectiveMaxConcurrentFileChunks == that.effectiveMaxConcurrentFileChunks
+            && increases == that.increases
+            && decreases == that.decreases
+            && searchQueue == that.searchQueue
+            && writeQueue == that.writeQueue
+            && Double.compare(diskUtilization, that.diskUtilization) == 0
+            && networkBytesPerSec == that.networkBytesPerSec;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(adaptive, maxBytesPerSec, effectiveMaxBytesPerSec, maxConcurrentFileChunks, effectiveMaxConcurrentFileChunks,
+            increases, decreases, searchQueue, writeQueue, diskUtilization, networkBytesPerSec);
+    }
+}
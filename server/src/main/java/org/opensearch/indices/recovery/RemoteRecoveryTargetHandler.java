@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.RateLimiter;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.OpenSearchException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionListener;
@@ -52,9 +53,11 @@ import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionExceptio
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.repositories.IndexId;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.ConnectTransportException;
 import org.opensearch.transport.EmptyTransportResponseHandler;
@@ -104,6 +107,7 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         this.translogOpsRequestOptions = TransportRequestOptions.builder()
                 .withType(TransportRequestOptions.Type.RECOVERY)
                 .withTimeout(recoverySettings.internalActionLongTimeout())
+                .withCompress(recoverySettings.getCompressOperations())
                 .build();
         this.fileChunkRequestOptions = TransportRequestOptions.builder()
                 .withType(TransportRequestOptions.Type.RECOVERY)
@@ -206,6 +210,20 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         executeRetryableAction(action, request, options, responseListener, reader);
     }
 
+    @Override
+    public void restoreFileFromSnapshot(String repository, IndexId indexId, BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                                        ActionListener<Void> listener) {
+        final String action = PeerRecoveryTargetService.Actions.RESTORE_FILE_FROM_SNAPSHOT;
+        final long requestSeqNo = requestSeqNoGenerator.getAndIncrement();
+        final RecoveryRestoreFileFromSnapshotRequest request =
+            new RecoveryRestoreFileFromSnapshotRequest(recoveryId, requestSeqNo, shardId, repository, indexId, fileInfo);
+        final TransportRequestOptions options =
+            TransportRequestOptions.builder().withTimeout(recoverySettings.internalActionLongTimeout()).build();
+        final Writeable.Reader<TransportResponse.Empty> reader = in -> TransportResponse.Empty.INSTANCE;
+        final ActionListener<TransportResponse.Empty> responseListener = ActionListener.map(listener, r -> null);
+        executeRetryableAction(action, request, options, responseListener, reader);
+    }
+
     @Override
     public void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content,
                                boolean lastChunk, int totalTranslogOps, ActionListener<Void> listener) {
@@ -243,6 +261,12 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         executeRetryableAction(action, request, fileChunkRequestOptions, ActionListener.map(listener, r -> null), reader);
     }
 
+    @Override
+    public boolean acceptsFileChannelChunks() {
+        // older targets expect the content of a file chunk before its other fields, so it can't be sent after the message
+        return recoverySettings.getZeroCopyFileChunks() && targetNode.getVersion().onOrAfter(Version.V_1_0_0);
+    }
+
     @Override
     public void cancel() {
         isCancelled = true;
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshots;
+import org.opensearch.index.snapshots.blobstore.SnapshotFiles;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.RepositoryData;
+import org.opensearch.repositories.ShardGenerations;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The files of the snapshots of a shard in a repository that peer recoveries of the shard may download from the repository instead of
+ * copying them from the recovery source.
+ */
+public final class ShardSnapshotFiles {
+
+    private final String repository;
+    private final IndexId indexId;
+    private final BlobStoreIndexShardSnapshots snapshots;
+
+    ShardSnapshotFiles(String repository, IndexId indexId, BlobStoreIndexShardSnapshots snapshots) {
+        this.repository = repository;
+        this.indexId = indexId;
+        this.snapshots = snapshots;
+    }
+
+    public String repository() {
+        return repository;
+    }
+
+    public IndexId indexId() {
+        return indexId;
+    }
+
+    /**
+     * Returns the snapshotted file that has the same name and contents as the given file of the shard, or {@code null} if there is no
+     * such file or if its contents are not stored in a blob of the repository.
+     */
+    @Nullable
+    public FileInfo findFile(StoreFileMetadata md) {
+        final List<FileInfo> files = snapshots.findPhysicalIndexFiles(md.name());
+        if (files != null) {
+            for (FileInfo fileInfo : files) {
+                if (fileInfo.isSame(md) && fileInfo.name().startsWith(BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX) == false) {
+                    return fileInfo;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the snapshots of the given shard in the first repository, by name, that is enabled for peer recoveries through
+     * {@link BlobStoreRepository#USE_FOR_PEER_RECOVERY_SETTING} and contains a snapshot of the shard. Only snapshots of the index with the
+     * UUID of the shard's index are considered, not those of an earlier index with the same name. Completes the listener with {@code null}
+     * if there is no such repository.
+     */
+    public static void find(RepositoriesService repositoriesService, ShardId shardId, ActionListener<ShardSnapshotFiles> listener) {
+        final List<BlobStoreRepository> repositories = repositoriesService.getRepositories().values().stream()
+            .filter(repository -> repository instanceof BlobStoreRepository)
+            .map(repository -> (BlobStoreRepository) repository)
+            .filter(BlobStoreRepository::isUseForPeerRecovery)
+            .sorted(Comparator.comparing(repository -> repository.getMetadata().name()))
+            .collect(Collectors.toList());
+        find(repositories.iterator(), shardId, listener);
+    }
+
+    private static void find(Iterator<BlobStoreRepository> repositories, ShardId shardId, ActionListener<ShardSnapshotFiles> listener) {
+        if (repositories.hasNext() == false) {
+            listener.onResponse(null);
+            return;
+        }
+        final BlobStoreRepository repository = repositories.next();
+        repository.getRepositoryData(ActionListener.wrap(repositoryData -> {
+            final IndexId indexId = repositoryData.getIndices().get(shardId.getIndexName());
+            final String generation = indexId == null ? null : repositoryData.shardGenerations().getShardGen(indexId, shardId.id());
+            if (generation == null || generation.equals(ShardGenerations.NEW_SHARD_GEN)) {
+                find(repositories, shardId, listener);
+                return;
+            }
+            final Set<String> snapshots = snapshotsOfIndex(repository, repositoryData, indexId, shardId.getIndex().getUUID());
+            final List<SnapshotFiles> shardSnapshots = repository.getBlobStoreIndexShardSnapshots(indexId, shardId.id(), generation)
+                .snapshots().stream().filter(snapshotFiles -> snapshots.contains(snapshotFiles.snapshot())).collect(Collectors.toList());
+            if (shardSnapshots.isEmpty()) {
+                find(repositories, shardId, listener);
+            } else {
+                listener.onResponse(new ShardSnapshotFiles(repository.getMetadata().name(), indexId,
+                    new BlobStoreIndexShardSnapshots(shardSnapshots)));
+            }
+        }, listener::onFailure));
+    }
+
+    /**
+     * Returns the names of the snapshots of the given index in the repository whose index metadata has the given index UUID. The metadata
+     * is read once per distinct metadata blob, and the snapshots of an index usually share few of them.
+     */
+    private static Set<String> snapshotsOfIndex(BlobStoreRepository repository, RepositoryData repositoryData, IndexId indexId,
+                                                String indexUUID) throws IOException {
+        final Map<String, Boolean> matchingMetadataBlobs = new HashMap<>();
+        final Set<String> snapshots = new HashSet<>();
+        for (SnapshotId snapshotId : repositoryData.getSnapshots(indexId)) {
+            final String metadataBlob = repositoryData.indexMetaDataGenerations().indexMetaBlobId(snapshotId, indexId);
+            Boolean matches = matchingMetadataBlobs.get(metadataBlob);
+            if (matches == null) {
+                matches = indexUUID.equals(repository.getSnapshotIndexMetaData(repositoryData, snapshotId, indexId).getIndexUUID());
+                matchingMetadataBlobs.put(metadataBlob, matches);
+            }
+            if (matches) {
+                snapshots.add(snapshotId.getName());
+            }
+        }
+        return snapshots;
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.monitor.fs;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.cluster.DiskUsage;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
@@ -198,6 +199,8 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
         final long previousWritesCompleted;
         final long currentSectorsWritten;
         final long previousSectorsWritten;
+        final long currentIOTimeInMillis;
+        final long previousIOTimeInMillis;
 
         public DeviceStats(
                 final int majorDeviceNumber,
@@ -208,6 +211,23 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
                 final long currentWritesCompleted,
                 final long currentSectorsWritten,
                 final DeviceStats previousDeviceStats) {
+            this(majorDeviceNumber, minorDeviceNumber, deviceName, currentReadsCompleted, currentSectorsRead, currentWritesCompleted,
+                currentSectorsWritten, -1, previousDeviceStats);
+        }
+
+        /**
+         * @param currentIOTimeInMillis the total time the device spent doing I/O, or {@code -1} if unknown
+         */
+        public DeviceStats(
+                final int majorDeviceNumber,
+                final int minorDeviceNumber,
+                final String deviceName,
+                final long currentReadsCompleted,
+                final long currentSectorsRead,
+                final long currentWritesCompleted,
+                final long currentSectorsWritten,
+                final long currentIOTimeInMillis,
+                final DeviceStats previousDeviceStats) {
             this(
                     majorDeviceNumber,
                     minorDeviceNumber,
@@ -219,7 +239,9 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
                     currentSectorsRead,
                     previousDeviceStats != null ? previousDeviceStats.currentSectorsRead : -1,
                     currentWritesCompleted,
-                    previousDeviceStats != null ? previousDeviceStats.currentWritesCompleted : -1);
+                    previousDeviceStats != null ? previousDeviceStats.currentWritesCompleted : -1,
+                    currentIOTimeInMillis,
+                    previousDeviceStats != null ? previousDeviceStats.currentIOTimeInMillis : -1);
         }
 
         private DeviceStats(
@@ -233,7 +255,9 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
                 final long currentSectorsRead,
                 final long previousSectorsRead,
                 final long currentWritesCompleted,
-                final long previousWritesCompleted) {
+                final long previousWritesCompleted,
+                final long currentIOTimeInMillis,
+                final long previousIOTimeInMillis) {
             this.majorDeviceNumber = majorDeviceNumber;
             this.minorDeviceNumber = minorDeviceNumber;
             this.deviceName = deviceName;
@@ -245,6 +269,8 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
             this.previousSectorsRead = previousSectorsRead;
             this.currentSectorsWritten = currentSectorsWritten;
             this.previousSectorsWritten = previousSectorsWritten;
+            this.currentIOTimeInMillis = currentIOTimeInMillis;
+            this.previousIOTimeInMillis = previousIOTimeInMillis;
         }
 
         public DeviceStats(StreamInput in) throws IOException {
@@ -259,6 +285,13 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
             previousSectorsRead = in.readLong();
             currentSectorsWritten = in.readLong();
             previousSectorsWritten = in.readLong();
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                currentIOTimeInMillis = in.readLong();
+                previousIOTimeInMillis = in.readLong();
+            } else {
+                currentIOTimeInMillis = -1;
+                previousIOTimeInMillis = -1;
+            }
         }
 
         @Override
@@ -274,6 +307,14 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
             out.writeLong(previousSectorsRead);
             out.writeLong(currentSectorsWritten);
             out.writeLong(previousSectorsWritten);
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeLong(currentIOTimeInMillis);
+                out.writeLong(previousIOTimeInMillis);
+            }
+        }
+
+        public String getDeviceName() {
+            return deviceName;
         }
 
         public long operations() {
@@ -307,6 +348,22 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
             return (currentSectorsWritten - previousSectorsWritten) / 2;
         }
 
+        /**
+         * The time the device spent doing I/O since the previous sample, or {@code -1} if unknown.
+         */
+        public long ioTimeInMillis() {
+            if (previousIOTimeInMillis == -1 || currentIOTimeInMillis == -1) return -1;
+
+            return (currentIOTimeInMillis - previousIOTimeInMillis);
+        }
+
+        /**
+         * The total time the device spent doing I/O, or {@code -1} if unknown.
+         */
+        public long getCurrentIOTimeInMillis() {
+            return currentIOTimeInMillis;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.field("device_name", deviceName);
@@ -315,6 +372,7 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
             builder.field(IoStats.WRITE_OPERATIONS, writeOperations());
             builder.field(IoStats.READ_KILOBYTES, readKilobytes());
             builder.field(IoStats.WRITE_KILOBYTES, writeKilobytes());
+            builder.field(IoStats.IO_TIME_IN_MILLIS, ioTimeInMillis());
             return builder;
         }
 
@@ -327,6 +385,7 @@ public class FsInfo implements Iterable<FsInfo.Path>, Writeable, ToXContentFragm
         private static final String WRITE_OPERATIONS = "write_operations";
         private static final String READ_KILOBYTES = "read_kilobytes";
         private static final String WRITE_KILOBYTES = "write_kilobytes";
+        private static final String IO_TIME_IN_MILLIS = "io_time_in_millis";
 
         final DeviceStats[] devicesStats;
         final long totalOperations;
@@ -33,6 +33,7 @@
 package org.opensearch.node;
 
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.store.remote.RemoteSnapshotBlockCache;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.Build;
 import org.opensearch.Version;
@@ -40,6 +41,7 @@ import org.opensearch.action.admin.cluster.node.info.NodeInfo;
 import org.opensearch.action.admin.cluster.node.stats.NodeStats;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.action.search.SearchTransportService;
+import org.opensearch.cluster.action.shard.ShardStateBatchingStats;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Settings;
@@ -48,6 +50,7 @@ import org.opensearch.discovery.Discovery;
 import org.opensearch.http.HttpServerTransport;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.recovery.AdaptiveRecoveryThrottler;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.monitor.MonitorService;
 import org.opensearch.plugins.PluginsService;
@@ -59,6 +62,7 @@ import org.opensearch.transport.TransportService;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public class NodeService implements Closeable {
     private final Settings settings;
@@ -76,6 +80,10 @@ public class NodeService implements Closeable {
     private final SearchTransportService searchTransportService;
     private final IndexingPressure indexingPressure;
     private final AggregationUsageService aggregationUsageService;
+    private final ClusterService clusterService;
+    private final Supplier<ShardStateBatchingStats> shardStateBatchingStats;
+    private final RemoteSnapshotBlockCache remoteSnapshotBlockCache;
+    private final AdaptiveRecoveryThrottler adaptiveRecoveryThrottler;
 
     private final Discovery discovery;
 
@@ -85,7 +93,8 @@ public class NodeService implements Closeable {
                 @Nullable HttpServerTransport httpServerTransport, IngestService ingestService, ClusterService clusterService,
                 SettingsFilter settingsFilter, ResponseCollectorService responseCollectorService,
                 SearchTransportService searchTransportService, IndexingPressure indexingPressure,
-                AggregationUsageService aggregationUsageService) {
+                AggregationUsageService aggregationUsageService, Supplier<ShardStateBatchingStats> shardStateBatchingStats,
+                RemoteSnapshotBlockCache remoteSnapshotBlockCache, AdaptiveRecoveryThrottler adaptiveRecoveryThrottler) {
         this.settings = settings;
         this.threadPool = threadPool;
         this.monitorService = monitorService;
@@ -102,6 +111,10 @@ public class NodeService implements Closeable {
         this.searchTransportService = searchTransportService;
         this.indexingPressure = indexingPressure;
         this.aggregationUsageService = aggregationUsageService;
+        this.clusterService = clusterService;
+        this.shardStateBatchingStats = shardStateBatchingStats;
+        this.remoteSnapshotBlockCache = remoteSnapshotBlockCache;
+        this.adaptiveRecoveryThrottler = adaptiveRecoveryThrottler;
         clusterService.addStateApplier(ingestService);
     }
 
@@ -125,7 +138,8 @@ public class NodeService implements Closeable {
     public NodeStats stats(CommonStatsFlags indices, boolean os, boolean process, boolean jvm, boolean threadPool,
                            boolean fs, boolean transport, boolean http, boolean circuitBreaker,
                            boolean script, boolean discoveryStats, boolean ingest, boolean adaptiveSelection, boolean scriptCache,
-                           boolean indexingPressure) {
+                           boolean indexingPressure, boolean mappingDeduplication, boolean masterService, boolean shardStateBatching,
+                           boolean searchableSnapshots, boolean recoveryThrottling) {
         // for indices stats we want to include previous allocated shards stats as well (it will
         // only be applied to the sensible ones to use, like refresh/merge/flush/indexing stats)
         return new NodeStats(transportService.getLocalNode(), System.currentTimeMillis(),
@@ -143,7 +157,12 @@ public class NodeService implements Closeable {
                 ingest ? ingestService.stats() : null,
                 adaptiveSelection ? responseCollectorService.getAdaptiveStats(searchTransportService.getPendingSearchRequests()) : null,
                 scriptCache ? scriptService.cacheStats() : null,
-                indexingPressure ? this.indexingPressure.stats() : null
+                indexingPressure ? this.indexingPressure.stats() : null,
+                mappingDeduplication ? indicesService.mappingDeduplicationStats() : null,
+                masterService ? clusterService.getMasterService().stats() : null,
+                shardStateBatching ? shardStateBatchingStats.get() : null,
+                searchableSnapshots ? remoteSnapshotBlockCache.stats() : null,
+                recoveryThrottling ? adaptiveRecoveryThrottler.stats() : null
         );
     }
 
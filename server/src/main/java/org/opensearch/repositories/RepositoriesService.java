@@ -62,7 +62,9 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.Index;
 import org.opensearch.repositories.blobstore.MeteredBlobStoreRepository;
+import org.opensearch.snapshots.RestoreService;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -247,6 +249,7 @@ public class RepositoriesService extends AbstractLifecycleComponent implements C
                         for (RepositoryMetadata repositoryMetadata : repositories.repositories()) {
                             if (Regex.simpleMatch(request.name(), repositoryMetadata.name())) {
                                 ensureRepositoryNotInUse(currentState, repositoryMetadata.name());
+                                ensureNoMountedIndices(currentState, repositoryMetadata.name());
                                 logger.info("delete repository [{}]", repositoryMetadata.name());
                                 changed = true;
                             } else {
@@ -437,6 +440,13 @@ public class RepositoriesService extends AbstractLifecycleComponent implements C
         throw new RepositoryMissingException(repositoryName);
     }
 
+    /**
+     * Returns the repositories that are registered in the cluster state, keyed by name
+     */
+    public Map<String, Repository> getRepositories() {
+        return Collections.unmodifiableMap(repositories);
+    }
+
     public List<RepositoryStatsSnapshot> repositoriesStats() {
         List<RepositoryStatsSnapshot> archivedRepoStats = repositoriesStatsArchive.getArchivedStats();
         List<RepositoryStatsSnapshot> activeRepoStats = getRepositoryStatsForActiveRepositories();
@@ -539,6 +549,14 @@ public class RepositoriesService extends AbstractLifecycleComponent implements C
         }
     }
 
+    private static void ensureNoMountedIndices(ClusterState clusterState, String repository) {
+        final Set<Index> mountedIndices = RestoreService.mountedIndices(clusterState, repository, snapshotId -> true);
+        if (mountedIndices.isEmpty() == false) {
+            throw new IllegalStateException("trying to unregister repository [" + repository
+                + "] that backs the searchable snapshot indices " + mountedIndices);
+        }
+    }
+
     /**
      * Checks if a repository is currently in use by one of the snapshots
      *
@@ -35,6 +35,7 @@ package org.opensearch.repositories;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.Version;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -463,6 +464,11 @@ public final class RepositoryData {
     private static final String STATE = "state";
     private static final String VERSION = "version";
     private static final String MIN_VERSION = "min_version";
+    private static final String BASE_GENERATIONS = "base_generations";
+    private static final String REMOVED_SNAPSHOTS = "removed_snapshots";
+    private static final String REMOVED_INDICES = "removed_indices";
+    private static final String ADDED_SNAPSHOTS = "added_snapshots";
+    private static final String REMOVED_INDEX_METADATA_IDENTIFIERS = "removed_index_metadata_identifiers";
 
     /**
      * Writes the snapshots metadata and the related indices metadata to x-content.
@@ -474,27 +480,7 @@ public final class RepositoryData {
         final boolean shouldWriteIndexGens = SnapshotsService.useIndexGenerations(repoMetaVersion);
         final boolean shouldWriteShardGens = SnapshotsService.useShardGenerations(repoMetaVersion);
         for (final SnapshotId snapshot : getSnapshotIds()) {
-            builder.startObject();
-            builder.field(NAME, snapshot.getName());
-            final String snapshotUUID = snapshot.getUUID();
-            builder.field(UUID, snapshotUUID);
-            final SnapshotState state = snapshotStates.get(snapshotUUID);
-            if (state != null) {
-                builder.field(STATE, state.value());
-            }
-            if (shouldWriteIndexGens) {
-                builder.startObject(INDEX_METADATA_LOOKUP);
-                for (Map.Entry<IndexId, String> entry : indexMetaDataGenerations.lookup.getOrDefault(
-                        snapshot, Collections.emptyMap()).entrySet()) {
-                    builder.field(entry.getKey().getId(), entry.getValue());
-                }
-                builder.endObject();
-            }
-            final Version version = snapshotVersions.get(snapshotUUID);
-            if (version != null) {
-                builder.field(VERSION, version.toString());
-            }
-            builder.endObject();
+            snapshotToXContent(builder, snapshot, shouldWriteIndexGens);
         }
         builder.endArray();
         // write the indices map
@@ -530,6 +516,127 @@ public final class RepositoryData {
         return builder;
     }
 
+    private void snapshotToXContent(XContentBuilder builder, SnapshotId snapshot, boolean shouldWriteIndexGens) throws IOException {
+        builder.startObject();
+        builder.field(NAME, snapshot.getName());
+        final String snapshotUUID = snapshot.getUUID();
+        builder.field(UUID, snapshotUUID);
+        final SnapshotState state = snapshotStates.get(snapshotUUID);
+        if (state != null) {
+            builder.field(STATE, state.value());
+        }
+        if (shouldWriteIndexGens) {
+            builder.startObject(INDEX_METADATA_LOOKUP);
+            for (Map.Entry<IndexId, String> entry : indexMetaDataGenerations.lookup.getOrDefault(
+                    snapshot, Collections.emptyMap()).entrySet()) {
+                builder.field(entry.getKey().getId(), entry.getValue());
+            }
+            builder.endObject();
+        }
+        final Version version = snapshotVersions.get(snapshotUUID);
+        if (version != null) {
+            builder.field(VERSION, version.toString());
+        }
+        builder.endObject();
+    }
+
+    /**
+     * Writes the changes from the given repository data to this instance to x-content, so that {@link #snapshotsFromXContent} can rebuild
+     * this instance from them and the base. Only the snapshots that were added or changed, the indices whose snapshots or shard
+     * generations changed and the changed index metadata identifiers are written, so that the size of the changes does not grow with the
+     * number of snapshots in the repository. Requires a repository metadata version that
+     * {@link SnapshotsService#useRepositoryDataDeltas supports} reading the changes.
+     *
+     * @param base            repository data that the changes apply to
+     * @param baseGenerations generations of the {@code index-N} blobs that are needed to load the base, starting with the generation that
+     *                        holds the complete repository data and ending with the generation of the base
+     */
+    public XContentBuilder snapshotsDeltaToXContent(final XContentBuilder builder, final RepositoryData base,
+                                                    final List<Long> baseGenerations) throws IOException {
+        assert baseGenerations.isEmpty() == false && baseGenerations.get(baseGenerations.size() - 1) == base.getGenId() :
+            "base generations " + baseGenerations + " don't end with the generation of the base [" + base.getGenId() + "]";
+        builder.startObject();
+        // must be the first field so that readers know that they are reading changes before they read anything else
+        builder.field(BASE_GENERATIONS, baseGenerations);
+        builder.startArray(REMOVED_SNAPSHOTS);
+        for (final String uuid : base.snapshotIds.keySet()) {
+            if (snapshotIds.containsKey(uuid) == false) {
+                builder.value(uuid);
+            }
+        }
+        builder.endArray();
+        builder.startArray(SNAPSHOTS);
+        for (final SnapshotId snapshot : getSnapshotIds()) {
+            if (isSameSnapshot(snapshot, base) == false) {
+                snapshotToXContent(builder, snapshot, true);
+            }
+        }
+        builder.endArray();
+        builder.startArray(REMOVED_INDICES);
+        for (final String indexName : base.indices.keySet()) {
+            if (indices.containsKey(indexName) == false) {
+                builder.value(indexName);
+            }
+        }
+        builder.endArray();
+        builder.startObject(INDICES);
+        for (final IndexId indexId : getIndices().values()) {
+            final List<SnapshotId> snapshotIds = indexSnapshots.get(indexId);
+            final List<String> gens = shardGenerations.getGens(indexId);
+            final boolean inBase = indexId.equals(base.indices.get(indexId.getName()));
+            // the snapshots of the index in the base that are still in the repository, which new snapshots of the index are appended to
+            final List<SnapshotId> retained = inBase ? base.indexSnapshots.get(indexId).stream()
+                .filter(snapshotId -> this.snapshotIds.containsKey(snapshotId.getUUID())).collect(Collectors.toList()) : null;
+            final boolean appended = retained != null && retained.size() <= snapshotIds.size()
+                && snapshotIds.subList(0, retained.size()).equals(retained);
+            final boolean gensChanged = inBase == false || gens.equals(base.shardGenerations.getGens(indexId)) == false;
+            if (appended && retained.size() == snapshotIds.size() && gensChanged == false) {
+                continue;
+            }
+            builder.startObject(indexId.getName());
+            builder.field(INDEX_ID, indexId.getId());
+            builder.startArray(appended ? ADDED_SNAPSHOTS : SNAPSHOTS);
+            for (final SnapshotId snapshotId : appended ? snapshotIds.subList(retained.size(), snapshotIds.size()) : snapshotIds) {
+                builder.value(snapshotId.getUUID());
+            }
+            builder.endArray();
+            if (gensChanged) {
+                builder.startArray(SHARD_GENERATIONS);
+                for (String gen : gens) {
+                    builder.value(gen);
+                }
+                builder.endArray();
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.startObject(INDEX_METADATA_IDENTIFIERS);
+        for (Map.Entry<String, String> entry : indexMetaDataGenerations.identifiers.entrySet()) {
+            if (entry.getValue().equals(base.indexMetaDataGenerations.identifiers.get(entry.getKey())) == false) {
+                builder.field(entry.getKey(), entry.getValue());
+            }
+        }
+        builder.endObject();
+        builder.startArray(REMOVED_INDEX_METADATA_IDENTIFIERS);
+        for (final String identifier : base.indexMetaDataGenerations.identifiers.keySet()) {
+            if (indexMetaDataGenerations.identifiers.containsKey(identifier) == false) {
+                builder.value(identifier);
+            }
+        }
+        builder.endArray();
+        builder.field(MIN_VERSION, SnapshotsService.REPOSITORY_DATA_DELTA_VERSION.toString());
+        builder.endObject();
+        return builder;
+    }
+
+    private boolean isSameSnapshot(SnapshotId snapshot, RepositoryData base) {
+        final String uuid = snapshot.getUUID();
+        return snapshot.equals(base.snapshotIds.get(uuid))
+            && Objects.equals(snapshotStates.get(uuid), base.snapshotStates.get(uuid))
+            && Objects.equals(snapshotVersions.get(uuid), base.snapshotVersions.get(uuid))
+            && Objects.equals(indexMetaDataGenerations.lookup.get(snapshot), base.indexMetaDataGenerations.lookup.get(snapshot));
+    }
+
     public IndexMetaDataGenerations indexMetaDataGenerations() {
         return indexMetaDataGenerations;
     }
@@ -542,7 +649,35 @@ public final class RepositoryData {
      *                           from cached bytes that we trust to not contain broken generations.
      */
     public static RepositoryData snapshotsFromXContent(XContentParser parser, long genId, boolean fixBrokenShardGens) throws IOException {
+        return snapshotsFromXContent(parser, genId, fixBrokenShardGens, null);
+    }
+
+    /**
+     * Reads an instance of {@link RepositoryData} from x-content, loading the snapshots and indices metadata. If the x-content holds the
+     * changes to a previous generation of the repository data, as written by {@link #snapshotsDeltaToXContent}, the repository data of that
+     * generation is loaded with the given {@code baseLoader} and the changes are applied to it.
+     *
+     * @param fixBrokenShardGens set to {@code true} to filter out broken shard generations read from the {@code parser} via
+     *                           {@link ShardGenerations#fixShardGeneration}. Used to disable fixing broken generations when reading
+     *                           from cached bytes that we trust to not contain broken generations.
+     * @param baseLoader         loads the repository data of the given generation, or {@code null} to fail on reading changes
+     */
+    public static RepositoryData snapshotsFromXContent(XContentParser parser, long genId, boolean fixBrokenShardGens,
+                                                       @Nullable CheckedFunction<Long, RepositoryData, IOException> baseLoader)
+        throws IOException {
         XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        XContentParser.Token token = parser.nextToken();
+        if (token == XContentParser.Token.FIELD_NAME && BASE_GENERATIONS.equals(parser.currentName())) {
+            final List<Long> baseGenerations = parseBaseGenerations(parser);
+            final long baseGeneration = baseGenerations.get(baseGenerations.size() - 1);
+            if (baseLoader == null) {
+                throw new OpenSearchParseException("repository data generation [{}] holds the changes to generation [{}], which can't be "
+                    + "loaded here", genId, baseGeneration);
+            }
+            final RepositoryData base = baseLoader.apply(baseGeneration);
+            assert base.getGenId() == baseGeneration : "expected generation [" + baseGeneration + "] but loaded [" + base.getGenId() + "]";
+            return snapshotsDeltaFromXContent(parser, genId, fixBrokenShardGens, base);
+        }
 
         final Map<String, SnapshotId> snapshots = new HashMap<>();
         final Map<String, SnapshotState> snapshotStates = new HashMap<>();
@@ -552,7 +687,7 @@ public final class RepositoryData {
         final ShardGenerations.Builder shardGenerations = ShardGenerations.builder();
         final Map<SnapshotId, Map<String, String>> indexMetaLookup = new HashMap<>();
         Map<String, String> indexMetaIdentifiers = null;
-        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+        for (; token == XContentParser.Token.FIELD_NAME; token = parser.nextToken()) {
             final String field = parser.currentName();
             switch (field) {
                 case SNAPSHOTS:
@@ -579,6 +714,214 @@ public final class RepositoryData {
                 buildIndexMetaGenerations(indexMetaLookup, indexLookup, indexMetaIdentifiers));
     }
 
+    /**
+     * Reads the generations of the {@code index-N} blobs that the repository data in the given x-content holds the changes to, as written
+     * by {@link #snapshotsDeltaToXContent}, without reading the rest of the x-content.
+     *
+     * @return the generations, or an empty list if the x-content holds complete repository data
+     */
+    public static List<Long> baseGenerationsFromXContent(XContentParser parser) throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        if (parser.nextToken() == XContentParser.Token.FIELD_NAME && BASE_GENERATIONS.equals(parser.currentName())) {
+            return parseBaseGenerations(parser);
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<Long> parseBaseGenerations(XContentParser parser) throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.nextToken(), parser);
+        final List<Long> baseGenerations = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            baseGenerations.add(parser.longValue());
+        }
+        if (baseGenerations.isEmpty()) {
+            throw new OpenSearchParseException("missing base generations of repository data");
+        }
+        return Collections.unmodifiableList(baseGenerations);
+    }
+
+    /**
+     * Applies the changes written by {@link #snapshotsDeltaToXContent} to the given base, reading them from the given parser that is
+     * positioned after the base generations.
+     */
+    private static RepositoryData snapshotsDeltaFromXContent(XContentParser parser, long genId, boolean fixBrokenShardGens,
+                                                             RepositoryData base) throws IOException {
+        final Map<String, SnapshotId> snapshots = new HashMap<>(base.snapshotIds);
+        final Map<String, SnapshotState> snapshotStates = new HashMap<>(base.snapshotStates);
+        final Map<String, Version> snapshotVersions = new HashMap<>(base.snapshotVersions);
+        final Map<SnapshotId, Map<IndexId, String>> indexMetaLookup = new HashMap<>(base.indexMetaDataGenerations.lookup);
+        final Map<String, String> indexMetaIdentifiers = new HashMap<>(base.indexMetaDataGenerations.identifiers);
+        final Map<SnapshotId, Map<String, String>> changedIndexMetaLookup = new HashMap<>();
+        final Set<String> removedIndices = new HashSet<>();
+        final Map<String, IndexId> changedIndices = new HashMap<>();
+        final Map<IndexId, List<SnapshotId>> indexSnapshots = new HashMap<>();
+        final Map<IndexId, List<String>> indexGens = new HashMap<>();
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            final String field = parser.currentName();
+            switch (field) {
+                case REMOVED_SNAPSHOTS:
+                    for (String uuid : parseStrings(parser)) {
+                        final SnapshotId removed = snapshots.remove(uuid);
+                        if (removed == null) {
+                            throw new OpenSearchParseException("Detected a corrupted repository, generation [{}] removes unknown snapshot "
+                                + "uuid [{}]", genId, uuid);
+                        }
+                        snapshotStates.remove(uuid);
+                        snapshotVersions.remove(uuid);
+                        indexMetaLookup.remove(removed);
+                    }
+                    break;
+                case SNAPSHOTS:
+                    final Map<String, SnapshotId> changedSnapshots = new HashMap<>();
+                    final Map<String, SnapshotState> changedStates = new HashMap<>();
+                    final Map<String, Version> changedVersions = new HashMap<>();
+                    parseSnapshots(parser, changedSnapshots, changedStates, changedVersions, changedIndexMetaLookup);
+                    for (SnapshotId snapshotId : changedSnapshots.values()) {
+                        final SnapshotId previous = snapshots.put(snapshotId.getUUID(), snapshotId);
+                        if (previous != null) {
+                            indexMetaLookup.remove(previous);
+                        }
+                        snapshotStates.remove(snapshotId.getUUID());
+                        snapshotVersions.remove(snapshotId.getUUID());
+                    }
+                    snapshotStates.putAll(changedStates);
+                    snapshotVersions.putAll(changedVersions);
+                    break;
+                case REMOVED_INDICES:
+                    removedIndices.addAll(parseStrings(parser));
+                    break;
+                case INDICES:
+                    parseIndexDeltas(parser, base, snapshots, changedIndices, indexSnapshots, indexGens);
+                    break;
+                case INDEX_METADATA_IDENTIFIERS:
+                    XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    indexMetaIdentifiers.putAll(parser.mapStrings());
+                    break;
+                case REMOVED_INDEX_METADATA_IDENTIFIERS:
+                    indexMetaIdentifiers.keySet().removeAll(parseStrings(parser));
+                    break;
+                case MIN_VERSION:
+                    XContentParserUtils.ensureExpectedToken(XContentParser.Token.VALUE_STRING, parser.nextToken(), parser);
+                    assert SnapshotsService.useRepositoryDataDeltas(Version.fromString(parser.text()));
+                    break;
+                default:
+                    XContentParserUtils.throwUnknownField(field, parser.getTokenLocation());
+            }
+        }
+
+        // carry over the indices that did not change, without the snapshots that were removed
+        for (IndexId indexId : base.indices.values()) {
+            if (removedIndices.contains(indexId.getName()) || changedIndices.containsKey(indexId.getName())) {
+                continue;
+            }
+            final List<SnapshotId> remaining = base.indexSnapshots.get(indexId).stream()
+                .filter(snapshotId -> snapshots.containsKey(snapshotId.getUUID())).collect(Collectors.toList());
+            if (remaining.isEmpty() == false) {
+                indexSnapshots.put(indexId, Collections.unmodifiableList(remaining));
+            }
+        }
+        final Map<String, IndexId> indexLookup = new HashMap<>();
+        final ShardGenerations.Builder shardGenerations = ShardGenerations.builder();
+        for (IndexId indexId : indexSnapshots.keySet()) {
+            indexLookup.put(indexId.getId(), indexId);
+            final List<String> changedGens = indexGens.get(indexId);
+            final List<String> gens = changedGens == null ? base.shardGenerations.getGens(indexId) : changedGens;
+            for (int i = 0; i < gens.size(); i++) {
+                String gen = gens.get(i);
+                if (fixBrokenShardGens && changedGens != null) {
+                    gen = ShardGenerations.fixShardGeneration(gen);
+                }
+                if (gen != null) {
+                    shardGenerations.put(indexId, i, gen);
+                }
+            }
+        }
+        for (Map.Entry<SnapshotId, Map<String, String>> entry : changedIndexMetaLookup.entrySet()) {
+            final Map<IndexId, String> forSnapshot = new HashMap<>(entry.getValue().size());
+            for (Map.Entry<String, String> generationEntry : entry.getValue().entrySet()) {
+                forSnapshot.put(indexLookup.get(generationEntry.getKey()), generationEntry.getValue());
+            }
+            indexMetaLookup.put(entry.getKey(), forSnapshot);
+        }
+        return new RepositoryData(genId, snapshots, snapshotStates, snapshotVersions, indexSnapshots, shardGenerations.build(),
+            indexMetaLookup.isEmpty() ? IndexMetaDataGenerations.EMPTY
+                : new IndexMetaDataGenerations(indexMetaLookup, indexMetaIdentifiers));
+    }
+
+    /**
+     * Parses the indices whose snapshots or shard generations changed, as written by {@link #snapshotsDeltaToXContent}. Must run after the
+     * snapshots were updated, so that {@code snapshots} holds all snapshots of the new repository data.
+     */
+    private static void parseIndexDeltas(XContentParser parser, RepositoryData base, Map<String, SnapshotId> snapshots,
+                                         Map<String, IndexId> changedIndices, Map<IndexId, List<SnapshotId>> indexSnapshots,
+                                         Map<IndexId, List<String>> indexGens) throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            final String indexName = parser.currentName();
+            String id = null;
+            List<String> uuids = null;
+            boolean appended = false;
+            List<String> gens = null;
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                final String indexMetaFieldName = parser.currentName();
+                switch (indexMetaFieldName) {
+                    case INDEX_ID:
+                        parser.nextToken();
+                        id = parser.text();
+                        break;
+                    case SNAPSHOTS:
+                        uuids = parseStrings(parser);
+                        break;
+                    case ADDED_SNAPSHOTS:
+                        uuids = parseStrings(parser);
+                        appended = true;
+                        break;
+                    case SHARD_GENERATIONS:
+                        gens = parseStrings(parser);
+                        break;
+                    default:
+                        XContentParserUtils.throwUnknownField(indexMetaFieldName, parser.getTokenLocation());
+                }
+            }
+            if (id == null || uuids == null) {
+                throw new OpenSearchParseException("missing id or snapshots of index [{}]", indexName);
+            }
+            final IndexId indexId = new IndexId(indexName, id);
+            final List<SnapshotId> snapshotIds = new ArrayList<>();
+            if (appended) {
+                if (indexId.equals(base.indices.get(indexName)) == false) {
+                    throw new OpenSearchParseException("Detected a corrupted repository, snapshots are added to index " + indexId
+                        + " which is not in the base generation");
+                }
+                base.indexSnapshots.get(indexId).stream().filter(snapshotId -> snapshots.containsKey(snapshotId.getUUID()))
+                    .forEach(snapshotIds::add);
+            }
+            for (String uuid : uuids) {
+                final SnapshotId snapshotId = snapshots.get(uuid);
+                if (snapshotId == null) {
+                    throw new OpenSearchParseException("Detected a corrupted repository, index " + indexId
+                        + " references an unknown snapshot uuid [" + uuid + "]");
+                }
+                snapshotIds.add(snapshotId);
+            }
+            changedIndices.put(indexName, indexId);
+            indexSnapshots.put(indexId, Collections.unmodifiableList(snapshotIds));
+            if (gens != null) {
+                indexGens.put(indexId, gens);
+            }
+        }
+    }
+
+    private static List<String> parseStrings(XContentParser parser) throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.nextToken(), parser);
+        final List<String> values = new ArrayList<>();
+        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+            values.add(parser.textOrNull());
+        }
+        return values;
+    }
+
     /**
      * Builds {@link IndexMetaDataGenerations} instance from the information parsed previously.
      *
@@ -32,6 +32,7 @@
 
 package org.opensearch.repositories;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -48,26 +49,49 @@ public class RepositoryStats implements Writeable {
 
     public final Map<String, Long> requestCounts;
 
+    /**
+     * Statistics of the work that the repository did to take, restore and delete snapshots, as opposed to the requests that it sent to
+     * its blob store which are counted in {@link #requestCounts}.
+     */
+    public final Map<String, Long> snapshotStats;
+
     public RepositoryStats(Map<String, Long> requestCounts) {
+        this(requestCounts, Collections.emptyMap());
+    }
+
+    public RepositoryStats(Map<String, Long> requestCounts, Map<String, Long> snapshotStats) {
         this.requestCounts = Collections.unmodifiableMap(requestCounts);
+        this.snapshotStats = Collections.unmodifiableMap(snapshotStats);
     }
 
     public RepositoryStats(StreamInput in) throws IOException {
         this.requestCounts = in.readMap(StreamInput::readString, StreamInput::readLong);
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            this.snapshotStats = in.readMap(StreamInput::readString, StreamInput::readLong);
+        } else {
+            this.snapshotStats = Collections.emptyMap();
+        }
     }
 
     public RepositoryStats merge(RepositoryStats otherStats) {
+        return new RepositoryStats(merge(requestCounts, otherStats.requestCounts), merge(snapshotStats, otherStats.snapshotStats));
+    }
+
+    private static Map<String, Long> merge(Map<String, Long> stats, Map<String, Long> otherStats) {
         final Map<String, Long> result = new HashMap<>();
-        result.putAll(requestCounts);
-        for (Map.Entry<String, Long> entry : otherStats.requestCounts.entrySet()) {
+        result.putAll(stats);
+        for (Map.Entry<String, Long> entry : otherStats.entrySet()) {
             result.merge(entry.getKey(), entry.getValue(), Math::addExact);
         }
-        return new RepositoryStats(result);
+        return result;
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeMap(requestCounts, StreamOutput::writeString, StreamOutput::writeLong);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeMap(snapshotStats, StreamOutput::writeString, StreamOutput::writeLong);
+        }
     }
 
     @Override
@@ -75,18 +99,19 @@ public class RepositoryStats implements Writeable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RepositoryStats that = (RepositoryStats) o;
-        return requestCounts.equals(that.requestCounts);
+        return requestCounts.equals(that.requestCounts) && snapshotStats.equals(that.snapshotStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(requestCounts);
+        return Objects.hash(requestCounts, snapshotStats);
     }
 
     @Override
     public String toString() {
         return "RepositoryStats{" +
             "requestCounts=" + requestCounts +
+            ", snapshotStats=" + snapshotStats +
             '}';
     }
 }
@@ -96,6 +96,9 @@ public final class RepositoryStatsSnapshot implements Writeable, ToXContentObjec
         builder.startObject();
         repositoryInfo.toXContent(builder, params);
         builder.field("request_counts", repositoryStats.requestCounts);
+        if (repositoryStats.snapshotStats.isEmpty() == false) {
+            builder.field("snapshot_stats", repositoryStats.snapshotStats);
+        }
         builder.field("archived", archived);
         if (archived) {
             builder.field("cluster_version", clusterVersion);
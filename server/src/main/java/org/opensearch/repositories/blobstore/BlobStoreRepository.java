@@ -40,6 +40,9 @@ import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFormatTooNewException;
 import org.apache.lucene.index.IndexFormatTooOldException;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
@@ -78,8 +81,8 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.component.AbstractLifecycleComponent;
-import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.compress.NotXContentException;
+import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.Lucene;
@@ -97,6 +100,7 @@ import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.snapshots.IndexShardRestoreFailedException;
@@ -134,10 +138,18 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -200,7 +212,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      * {@link BlobStoreIndexShardSnapshots}. This is the case for files for which {@link StoreFileMetadata#hashEqualsContents()} is
      * {@code true}.
      */
-    private static final String VIRTUAL_DATA_BLOB_PREFIX = "v__";
+    public static final String VIRTUAL_DATA_BLOB_PREFIX = "v__";
 
     /**
      * When set to {@code true}, {@link #bestEffortConsistency} will be set to {@code true} and concurrent modifications of the repository
@@ -229,12 +241,80 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      */
     public static final Setting<Boolean> SUPPORT_URL_REPO = Setting.boolSetting("support_url_repo", true, Setting.Property.NodeScope);
 
+    /**
+     * When set to {@code true}, snapshot deletes resolve the blobs of each shard that become unreferenced from the shard's current
+     * generation blob instead of listing the shard's container. This saves a listing per shard on repositories with many snapshots, but
+     * leaves blobs that are not referenced by the shard generation, like those written by failed snapshots, in place.
+     */
+    public static final Setting<Boolean> INCREMENTAL_DELETE_SETTING =
+        Setting.boolSetting("incremental_delete", false, Setting.Property.NodeScope);
+
+    /**
+     * When set to {@code true}, peer recoveries may have the recovery target download the files that are identical to those of the
+     * latest snapshot of the shard in this repository from the repository instead of copying them from the recovery source, provided
+     * that {@link org.opensearch.indices.recovery.RecoverySettings#INDICES_RECOVERY_USE_SNAPSHOTS_SETTING} is enabled.
+     */
+    public static final Setting<Boolean> USE_FOR_PEER_RECOVERY_SETTING =
+        Setting.boolSetting("use_for_peer_recovery", false, Setting.Property.NodeScope);
+
+    /**
+     * The codec that the data blobs of shard snapshots are compressed with, see {@link ShardDataCompression}. Unlike {@code compress},
+     * which only applies to metadata blobs, this applies to the contents of the files of the shards. Each part of a file is compressed
+     * into a temporary file in the shard's store before it is uploaded, because blob stores need to know the length of the blobs that
+     * are written to them upfront. Files are only compressed once the repository metadata version allows it, see
+     * {@link SnapshotsService#useShardDataCompression}, since older versions can't read the compression of a file.
+     */
+    public static final Setting<ShardDataCompression> SHARD_DATA_COMPRESSION_SETTING = new Setting<>("shard_data_compression",
+        ShardDataCompression.NONE.codecName(), ShardDataCompression::fromCodecName, Setting.Property.NodeScope);
+
+    /**
+     * The number of consecutive {@code index-N} blobs that may only hold the changes to the {@link RepositoryData} of their previous
+     * generation, before an {@code index-N} blob with the complete repository data is written again. Writing only the changes keeps the
+     * size of the {@code index-N} blob that every snapshot, delete and cleanup writes independent of the number of snapshots in the
+     * repository, at the cost of having to read the previous generations when the repository data is not cached. Changes are only written
+     * if the repository data of the previous generation is cached and all nodes can read them, see
+     * {@link SnapshotsService#useRepositoryDataDeltas}. Defaults to {@code 0}, which always writes the complete repository data.
+     */
+    public static final Setting<Integer> MAX_REPOSITORY_DATA_DELTAS_SETTING =
+        Setting.intSetting("max_repository_data_deltas", 0, 0, Setting.Property.NodeScope);
+
+    /**
+     * Key of the number of shard container listings that snapshot deletes avoided in the {@link RepositoryStats#snapshotStats} of this
+     * repository.
+     */
+    public static final String SHARD_LISTINGS_AVOIDED_STAT = "ShardListingsAvoided";
+
+    /**
+     * Key of the number of bytes of shard data that were compressed before being uploaded, see {@link #SHARD_DATA_COMPRESSION_SETTING},
+     * in the {@link RepositoryStats#snapshotStats} of this repository.
+     */
+    public static final String SHARD_DATA_UNCOMPRESSED_BYTES_STAT = "ShardDataUncompressedBytes";
+
+    /**
+     * Key of the number of bytes that compressed shard data was compressed to in the {@link RepositoryStats#snapshotStats} of this
+     * repository.
+     */
+    public static final String SHARD_DATA_COMPRESSED_BYTES_STAT = "ShardDataCompressedBytes";
+
+    /**
+     * Key of the time spent compressing shard data, in nanoseconds, in the {@link RepositoryStats#snapshotStats} of this repository.
+     */
+    public static final String SHARD_DATA_COMPRESSION_TIME_STAT = "ShardDataCompressionTimeInNanos";
+
     protected final boolean supportURLRepo;
 
     private final boolean compress;
 
     private final boolean cacheRepositoryData;
 
+    private final boolean incrementalDelete;
+
+    private final boolean useForPeerRecovery;
+
+    private final ShardDataCompression shardDataCompression;
+
+    private final int maxRepositoryDataDeltas;
+
     private final RateLimiter snapshotRateLimiter;
 
     private final RateLimiter restoreRateLimiter;
@@ -243,6 +323,14 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private final CounterMetric restoreRateLimitingTimeInNanos = new CounterMetric();
 
+    private final CounterMetric shardListingsAvoided = new CounterMetric();
+
+    private final CounterMetric shardDataUncompressedBytes = new CounterMetric();
+
+    private final CounterMetric shardDataCompressedBytes = new CounterMetric();
+
+    private final CounterMetric shardDataCompressionTimeInNanos = new CounterMetric();
+
     public static final ChecksumBlobStoreFormat<Metadata> GLOBAL_METADATA_FORMAT =
             new ChecksumBlobStoreFormat<>("metadata", METADATA_NAME_FORMAT, Metadata::fromXContent);
 
@@ -308,7 +396,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     protected final int bufferSize;
 
     /**
-     * Constructs new BlobStoreRepository
+     * The node's temporary directory, in which parts of files are compressed before they are uploaded.
+     */
+    private final Path tmpPath;
+
+    /**
+     * Constructs new BlobStoreRepository that compresses parts of files in the temporary directory of the JVM, which is the node's
+     * temporary directory unless it is configured otherwise.
      * @param metadata   The metadata for this repository including name and settings
      * @param clusterService ClusterService
      */
@@ -318,6 +412,24 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         final NamedXContentRegistry namedXContentRegistry,
         final ClusterService clusterService,
         final RecoverySettings recoverySettings) {
+        this(metadata, compress, namedXContentRegistry, clusterService, recoverySettings,
+            PathUtils.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Constructs new BlobStoreRepository
+     * @param metadata   The metadata for this repository including name and settings
+     * @param clusterService ClusterService
+     * @param tmpPath    The node's temporary directory, see {@link org.opensearch.env.Environment#tmpFile()}
+     */
+    protected BlobStoreRepository(
+        final RepositoryMetadata metadata,
+        final boolean compress,
+        final NamedXContentRegistry namedXContentRegistry,
+        final ClusterService clusterService,
+        final RecoverySettings recoverySettings,
+        final Path tmpPath) {
+        this.tmpPath = tmpPath;
         this.compress = compress;
         this.metadata = metadata;
         this.namedXContentRegistry = namedXContentRegistry;
@@ -329,6 +441,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         restoreRateLimiter = getRateLimiter(metadata.settings(), "max_restore_bytes_per_sec", ByteSizeValue.ZERO);
         readOnly = metadata.settings().getAsBoolean("readonly", false);
         cacheRepositoryData = CACHE_REPOSITORY_DATA.get(metadata.settings());
+        incrementalDelete = INCREMENTAL_DELETE_SETTING.get(metadata.settings());
+        useForPeerRecovery = USE_FOR_PEER_RECOVERY_SETTING.get(metadata.settings());
+        shardDataCompression = SHARD_DATA_COMPRESSION_SETTING.get(metadata.settings());
+        maxRepositoryDataDeltas = MAX_REPOSITORY_DATA_DELTAS_SETTING.get(metadata.settings());
         bufferSize = Math.toIntExact(BUFFER_SIZE_SETTING.get(metadata.settings()).getBytes());
     }
 
@@ -625,7 +741,20 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         if (store == null) {
             return RepositoryStats.EMPTY_STATS;
         }
-        return new RepositoryStats(store.stats());
+        final Map<String, Long> requestCounts = new HashMap<>(store.stats());
+        final Map<String, Long> snapshotStats = new HashMap<>();
+        putIfNotZero(snapshotStats, SHARD_LISTINGS_AVOIDED_STAT, shardListingsAvoided);
+        putIfNotZero(snapshotStats, SHARD_DATA_UNCOMPRESSED_BYTES_STAT, shardDataUncompressedBytes);
+        putIfNotZero(snapshotStats, SHARD_DATA_COMPRESSED_BYTES_STAT, shardDataCompressedBytes);
+        putIfNotZero(snapshotStats, SHARD_DATA_COMPRESSION_TIME_STAT, shardDataCompressionTimeInNanos);
+        return new RepositoryStats(requestCounts, snapshotStats);
+    }
+
+    private static void putIfNotZero(Map<String, Long> stats, String key, CounterMetric metric) {
+        final long count = metric.count();
+        if (count != 0L) {
+            stats.put(key, count);
+        }
     }
 
     @Override
@@ -679,13 +808,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     private RepositoryData safeRepositoryData(long repositoryStateId, Map<String, BlobMetadata> rootBlobs) throws IOException {
         final long generation = latestGeneration(rootBlobs.keySet());
         final long genToLoad;
-        final Tuple<Long, BytesReference> cached;
         if (bestEffortConsistency) {
             genToLoad = latestKnownRepoGen.updateAndGet(known -> Math.max(known, repositoryStateId));
-            cached = null;
         } else {
             genToLoad = latestKnownRepoGen.get();
-            cached = latestKnownRepositoryData.get();
         }
         if (genToLoad > generation) {
             // It's always a possibility to not see the latest index-N in the listing here on an eventually consistent blob store, just
@@ -698,9 +824,6 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             throw new RepositoryException(metadata.name(), "concurrent modification of the index-N file, expected current generation [" +
                 repositoryStateId + "], actual current generation [" + genToLoad + "]");
         }
-        if (cached != null && cached.v1() == genToLoad) {
-            return repositoryDataFromCachedEntry(cached);
-        }
         return getRepositoryData(genToLoad);
     }
 
@@ -853,14 +976,24 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         @Override
                         protected void doRun() throws Exception {
                             final BlobContainer shardContainer = shardContainer(indexId, finalShardId);
-                            final Set<String> blobs = shardContainer.listBlobs().keySet();
+                            final String shardGeneration = oldRepositoryData.shardGenerations().getShardGen(indexId, finalShardId);
+                            final Set<String> blobs;
                             final BlobStoreIndexShardSnapshots blobStoreIndexShardSnapshots;
                             final long newGen;
-                            if (useUUIDs) {
+                            if (useUUIDs && incrementalDelete && shardGeneration != null
+                                    && shardGeneration.equals(ShardGenerations.NEW_SHARD_GEN) == false) {
+                                newGen = -1L;
+                                blobStoreIndexShardSnapshots = buildBlobStoreIndexShardSnapshots(Collections.emptySet(), shardContainer,
+                                        shardGeneration).v1();
+                                blobs = shardGenerationBlobs(shardGeneration, blobStoreIndexShardSnapshots, snapshotIds);
+                                shardListingsAvoided.inc();
+                            } else if (useUUIDs) {
                                 newGen = -1L;
+                                blobs = shardContainer.listBlobs().keySet();
                                 blobStoreIndexShardSnapshots = buildBlobStoreIndexShardSnapshots(blobs, shardContainer,
-                                        oldRepositoryData.shardGenerations().getShardGen(indexId, finalShardId)).v1();
+                                        shardGeneration).v1();
                             } else {
+                                blobs = shardContainer.listBlobs().keySet();
                                 Tuple<BlobStoreIndexShardSnapshots, Long> tuple = buildBlobStoreIndexShardSnapshots(blobs, shardContainer);
                                 newGen = tuple.v2() + 1;
                                 blobStoreIndexShardSnapshots = tuple.v1();
@@ -930,7 +1063,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }, listener::onFailure), 2);
 
         final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
-        final List<String> staleRootBlobs = staleRootBlobs(newRepoData, rootBlobs.keySet());
+        final List<String> staleRootBlobs =
+            staleRootBlobs(newRepoData, rootBlobs.keySet(), repositoryDataGenerations(newRepoData.getGenId()));
         if (staleRootBlobs.isEmpty()) {
             groupedListener.onResponse(DeleteResult.ZERO);
         } else {
@@ -972,7 +1106,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             final Map<String, BlobContainer> foundIndices = blobStore().blobContainer(indicesPath()).children();
             final Set<String> survivingIndexIds =
                 repositoryData.getIndices().values().stream().map(IndexId::getId).collect(Collectors.toSet());
-            final List<String> staleRootBlobs = staleRootBlobs(repositoryData, rootBlobs.keySet());
+            final List<String> staleRootBlobs =
+                staleRootBlobs(repositoryData, rootBlobs.keySet(), repositoryDataGenerations(repositoryData.getGenId()));
             if (survivingIndexIds.equals(foundIndices.keySet()) && staleRootBlobs.isEmpty()) {
                 // Nothing to clean up we return
                 listener.onResponse(new RepositoryCleanupResult(DeleteResult.ZERO));
@@ -987,8 +1122,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
-    // Finds all blobs directly under the repository root path that are not referenced by the current RepositoryData
-    private static List<String> staleRootBlobs(RepositoryData repositoryData, Set<String> rootBlobNames) {
+    // Finds all blobs directly under the repository root path that are not referenced by the current RepositoryData, keeping the index-N
+    // blobs of the given generations that the current RepositoryData is read from or all of them if these generations are not known
+    private static List<String> staleRootBlobs(RepositoryData repositoryData, Set<String> rootBlobNames,
+                                               @Nullable Set<Long> repositoryDataGenerations) {
         final Set<String> allSnapshotIds =
             repositoryData.getSnapshotIds().stream().map(SnapshotId::getUUID).collect(Collectors.toSet());
         return rootBlobNames.stream().filter(
@@ -1009,14 +1146,45 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     }
                     return allSnapshotIds.contains(foundUUID) == false;
                 } else if (blob.startsWith(INDEX_FILE_PREFIX)) {
+                    if (repositoryDataGenerations == null) {
+                        return false;
+                    }
+                    final long generation = Long.parseLong(blob.substring(INDEX_FILE_PREFIX.length()));
                     // TODO: Include the current generation here once we remove keeping index-(N-1) around from #writeIndexGen
-                    return repositoryData.getGenId() > Long.parseLong(blob.substring(INDEX_FILE_PREFIX.length()));
+                    return repositoryData.getGenId() > generation && repositoryDataGenerations.contains(generation) == false;
                 }
                 return false;
             }
         ).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the generations of the {@code index-N} blobs that the {@link RepositoryData} of the given generation is read from, which are
+     * the given generation and the generations that it holds the changes to, see {@link #MAX_REPOSITORY_DATA_DELTAS_SETTING}.
+     *
+     * @return the generations or {@code null} if they could not be determined
+     */
+    @Nullable
+    private Set<Long> repositoryDataGenerations(long generation) {
+        final Set<Long> generations = new HashSet<>();
+        generations.add(generation);
+        final CachedRepositoryData cached = latestKnownRepositoryData.get();
+        if (bestEffortConsistency == false && cached != null && cached.generation() == generation) {
+            generations.addAll(cached.baseGenerations);
+        } else if (generation > RepositoryData.EMPTY_REPO_GEN) {
+            try (InputStream blob = blobContainer().readBlob(INDEX_FILE_PREFIX + generation);
+                 XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                     LoggingDeprecationHandler.INSTANCE, blob)) {
+                generations.addAll(RepositoryData.baseGenerationsFromXContent(parser));
+            } catch (IOException e) {
+                logger.warn(() -> new ParameterizedMessage("[{}] failed to read the generations that repository data generation [{}] " +
+                    "is read from, not cleaning up any index-N blobs", metadata.name(), generation), e);
+                return null;
+            }
+        }
+        return generations;
+    }
+
     private List<String> cleanupStaleRootFiles(long previousGeneration, Collection<SnapshotId> deletedSnapshots,
                                                List<String> blobsToDelete) {
         if (blobsToDelete.isEmpty()) {
@@ -1338,8 +1506,38 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     // and concurrent modifications.
     private final AtomicLong latestKnownRepoGen = new AtomicLong(RepositoryData.UNKNOWN_REPO_GEN);
 
-    // Best effort cache of the latest known repository data and its generation, cached serialized as compressed json
-    private final AtomicReference<Tuple<Long, BytesReference>> latestKnownRepositoryData = new AtomicReference<>();
+    // Best effort cache of the latest known repository data, shared by all operations that read the repository data
+    private final AtomicReference<CachedRepositoryData> latestKnownRepositoryData = new AtomicReference<>();
+
+    // Repository data is only cached if the index-N blobs that it is read from are at most this large in total
+    private static final long MAX_CACHED_REPOSITORY_DATA_SERIALIZED_SIZE = ByteSizeUnit.MB.toBytes(5);
+
+    // Warn about repository data whose index-N blobs are larger than this in total
+    private static final long LARGE_REPOSITORY_DATA_SERIALIZED_SIZE = ByteSizeUnit.MB.toBytes(50);
+
+    /**
+     * {@link RepositoryData} along with the generations of the {@code index-N} blobs that its own {@code index-N} blob holds the changes
+     * to, oldest first. The list of generations is empty if its {@code index-N} blob holds the complete repository data.
+     */
+    private static final class CachedRepositoryData {
+
+        final RepositoryData repositoryData;
+
+        final List<Long> baseGenerations;
+
+        // the total length of the index-N blobs that the repository data is read from, as an estimate of its size on heap
+        final long serializedSize;
+
+        CachedRepositoryData(RepositoryData repositoryData, List<Long> baseGenerations, long serializedSize) {
+            this.repositoryData = repositoryData;
+            this.baseGenerations = baseGenerations;
+            this.serializedSize = serializedSize;
+        }
+
+        long generation() {
+            return repositoryData.getGenId();
+        }
+    }
 
     @Override
     public void getRepositoryData(ActionListener<RepositoryData> listener) {
@@ -1347,15 +1545,11 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             listener.onFailure(corruptedStateException(null));
             return;
         }
-        final Tuple<Long, BytesReference> cached = latestKnownRepositoryData.get();
+        final CachedRepositoryData cached = latestKnownRepositoryData.get();
         // Fast path loading repository data directly from cache if we're in fully consistent mode and the cache matches up with
         // the latest known repository generation
-        if (bestEffortConsistency == false && cached != null && cached.v1() == latestKnownRepoGen.get()) {
-            try {
-                listener.onResponse(repositoryDataFromCachedEntry(cached));
-            } catch (Exception e) {
-                listener.onFailure(e);
-            }
+        if (bestEffortConsistency == false && cached != null && cached.generation() == latestKnownRepoGen.get()) {
+            listener.onResponse(cached.repositoryData);
             return;
         }
         // Slow path if we were not able to safely read the repository data from cache
@@ -1390,20 +1584,9 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 genToLoad = latestKnownRepoGen.get();
             }
             try {
-                final Tuple<Long, BytesReference> cached = latestKnownRepositoryData.get();
-                final RepositoryData loaded;
-                // Caching is not used with #bestEffortConsistency see docs on #cacheRepositoryData for details
-                if (bestEffortConsistency == false && cached != null && cached.v1() == genToLoad) {
-                    loaded = repositoryDataFromCachedEntry(cached);
-                } else {
-                    loaded = getRepositoryData(genToLoad);
-                    // We can cache serialized in the most recent version here without regard to the actual repository metadata version
-                    // since we're only caching the information that we just wrote and thus won't accidentally cache any information that
-                    // isn't safe
-                    cacheRepositoryData(
-                            BytesReference.bytes(loaded.snapshotsToXContent(XContentFactory.jsonBuilder(), Version.CURRENT)), genToLoad);
-                }
-                listener.onResponse(loaded);
+                final CachedRepositoryData loaded = loadRepositoryData(genToLoad);
+                cacheRepositoryData(loaded);
+                listener.onResponse(loaded.repositoryData);
                 return;
             } catch (RepositoryException e) {
                 // If the generation to load changed concurrently and we didn't just try loading the same generation before we retry
@@ -1434,51 +1617,35 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      * {@link #bestEffortConsistency}. When using {@link #bestEffortConsistency} the repository is using listing to find the latest
      * {@code index-N} blob and there are no hard guarantees that a given repository generation won't be reused since an external
      * modification can lead to moving from a higher {@code N} to a lower {@code N} value which mean we can't safely assume that a given
-     * generation will always contain the same {@link RepositoryData}.
+     * generation will always contain the same {@link RepositoryData}. Repository data whose {@code index-N} blobs are larger than
+     * {@link #MAX_CACHED_REPOSITORY_DATA_SERIALIZED_SIZE} is not cached to bound the heap that the cache uses.
      *
-     * @param updated    serialized RepositoryData to cache if newer than the cache contents
-     * @param generation repository generation of the given repository data
+     * @param updated repository data to cache if newer than the cache contents
      */
-    private void cacheRepositoryData(BytesReference updated, long generation) {
+    private void cacheRepositoryData(CachedRepositoryData updated) {
         if (cacheRepositoryData && bestEffortConsistency == false) {
-            final BytesReference serialized;
-            try {
-                serialized = CompressorFactory.COMPRESSOR.compress(updated);
-                final int len = serialized.length();
-                if (len > ByteSizeUnit.KB.toBytes(500)) {
-                    logger.debug("Not caching repository data of size [{}] for repository [{}] because it is larger than 500KB in" +
-                        " serialized size", len, metadata.name());
-                    if (len > ByteSizeUnit.MB.toBytes(5)) {
-                        logger.warn("Your repository metadata blob for repository [{}] is larger than 5MB. Consider moving to a fresh" +
-                            " repository for new snapshots or deleting unneeded snapshots from your repository to ensure stable" +
-                            " repository behavior going forward.", metadata.name());
-                    }
-                    // Set empty repository data to not waste heap for an outdated cached value
-                    latestKnownRepositoryData.set(null);
-                    return;
+            final long size = updated.serializedSize;
+            if (size > MAX_CACHED_REPOSITORY_DATA_SERIALIZED_SIZE) {
+                logger.debug("Not caching repository data of size [{}] for repository [{}] because it is larger than [{}] in" +
+                    " serialized size", size, metadata.name(), new ByteSizeValue(MAX_CACHED_REPOSITORY_DATA_SERIALIZED_SIZE));
+                if (size > LARGE_REPOSITORY_DATA_SERIALIZED_SIZE) {
+                    logger.warn("Your repository metadata blob for repository [{}] is larger than [{}]. Consider moving to a fresh" +
+                        " repository for new snapshots or deleting unneeded snapshots from your repository to ensure stable" +
+                        " repository behavior going forward.", metadata.name(), new ByteSizeValue(LARGE_REPOSITORY_DATA_SERIALIZED_SIZE));
                 }
-            } catch (IOException e) {
-                assert false : new AssertionError("Impossible, no IO happens here", e);
-                logger.warn("Failed to serialize repository data", e);
+                // Set empty repository data to not waste heap for an outdated cached value
+                latestKnownRepositoryData.set(null);
                 return;
             }
             latestKnownRepositoryData.updateAndGet(known -> {
-                if (known != null && known.v1() > generation) {
+                if (known != null && known.generation() > updated.generation()) {
                     return known;
                 }
-                return new Tuple<>(generation, serialized);
+                return updated;
             });
         }
     }
 
-    private RepositoryData repositoryDataFromCachedEntry(Tuple<Long, BytesReference> cacheEntry) throws IOException {
-        try (InputStream input = CompressorFactory.COMPRESSOR.threadLocalInputStream(cacheEntry.v2().streamInput())) {
-            return RepositoryData.snapshotsFromXContent(
-                    XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
-                            LoggingDeprecationHandler.INSTANCE, input), cacheEntry.v1(), false);
-        }
-    }
-
     private RepositoryException corruptedStateException(@Nullable Exception cause) {
         return new RepositoryException(metadata.name(),
             "Could not read repository data because the contents of the repository do not match its " +
@@ -1531,18 +1698,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     }
 
     private RepositoryData getRepositoryData(long indexGen) {
+        return loadRepositoryData(indexGen).repositoryData;
+    }
+
+    private CachedRepositoryData loadRepositoryData(long indexGen) {
         if (indexGen == RepositoryData.EMPTY_REPO_GEN) {
-            return RepositoryData.EMPTY;
+            return new CachedRepositoryData(RepositoryData.EMPTY, Collections.emptyList(), 0L);
         }
         try {
-            final String snapshotsIndexBlobName = INDEX_FILE_PREFIX + Long.toString(indexGen);
-
-            // EMPTY is safe here because RepositoryData#fromXContent calls namedObject
-            try (InputStream blob = blobContainer().readBlob(snapshotsIndexBlobName);
-                 XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
-                     LoggingDeprecationHandler.INSTANCE, blob)) {
-                return RepositoryData.snapshotsFromXContent(parser, indexGen, true);
-            }
+            return readRepositoryData(indexGen);
         } catch (IOException ioe) {
             if (bestEffortConsistency) {
                 // If we fail to load the generation we tracked in latestKnownRepoGen we reset it.
@@ -1556,6 +1720,73 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Reads the {@link RepositoryData} of the given generation from the cache or the repository, reading the generations that its
+     * {@code index-N} blob holds the changes to the same way. Caching is not used with {@link #bestEffortConsistency}, see
+     * {@link #cacheRepositoryData}.
+     */
+    private CachedRepositoryData readRepositoryData(long indexGen) throws IOException {
+        final CachedRepositoryData cached = latestKnownRepositoryData.get();
+        if (bestEffortConsistency == false && cached != null && cached.generation() == indexGen) {
+            return cached;
+        }
+        final List<Long> baseGenerations = new ArrayList<>();
+        final long[] baseSerializedSize = new long[1];
+        // EMPTY is safe here because RepositoryData#fromXContent calls namedObject
+        try (CountingInputStream blob = new CountingInputStream(blobContainer().readBlob(INDEX_FILE_PREFIX + Long.toString(indexGen)));
+             XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                 LoggingDeprecationHandler.INSTANCE, blob)) {
+            final RepositoryData repositoryData = RepositoryData.snapshotsFromXContent(parser, indexGen, true, baseGen -> {
+                final CachedRepositoryData base = readRepositoryData(baseGen);
+                baseGenerations.addAll(base.baseGenerations);
+                baseGenerations.add(baseGen);
+                baseSerializedSize[0] += base.serializedSize;
+                return base.repositoryData;
+            });
+            return new CachedRepositoryData(repositoryData, Collections.unmodifiableList(baseGenerations),
+                baseSerializedSize[0] + blob.count);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read != -1) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     private static String testBlobPrefix(String seed) {
         return TESTS_FILE + seed;
     }
@@ -1689,9 +1920,37 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 return;
             }
             final String indexBlob = INDEX_FILE_PREFIX + Long.toString(newGen);
-            logger.debug("Repository [{}] writing new index generational blob [{}]", metadata.name(), indexBlob);
-            final BytesReference serializedRepoData =
-                    BytesReference.bytes(newRepositoryData.snapshotsToXContent(XContentFactory.jsonBuilder(), version));
+            final CachedRepositoryData base = latestKnownRepositoryData.get();
+            final List<Long> previousBaseGenerations = bestEffortConsistency == false && base != null && base.generation() == expectedGen
+                ? base.baseGenerations : Collections.emptyList();
+            final List<Long> baseGenerations;
+            final BytesReference serializedRepoData;
+            if (maxRepositoryDataDeltas > 0 && SnapshotsService.useRepositoryDataDeltas(version) && bestEffortConsistency == false
+                && base != null && base.generation() == expectedGen && expectedGen > RepositoryData.EMPTY_REPO_GEN
+                && base.baseGenerations.size() < maxRepositoryDataDeltas) {
+                final List<Long> generations = new ArrayList<>(base.baseGenerations);
+                generations.add(expectedGen);
+                baseGenerations = Collections.unmodifiableList(generations);
+                logger.debug("Repository [{}] writing the changes to generations {} to new index generational blob [{}]",
+                    metadata.name(), baseGenerations, indexBlob);
+                serializedRepoData = BytesReference.bytes(
+                    newRepositoryData.snapshotsDeltaToXContent(XContentFactory.jsonBuilder(), base.repositoryData, baseGenerations));
+            } else {
+                baseGenerations = Collections.emptyList();
+                logger.debug("Repository [{}] writing new index generational blob [{}]", metadata.name(), indexBlob);
+                serializedRepoData = BytesReference.bytes(newRepositoryData.snapshotsToXContent(XContentFactory.jsonBuilder(), version));
+            }
+            // Cache the repository data the way it is read back from the blob, reusing the cached base instead of reading it again
+            final RepositoryData writtenRepositoryData;
+            try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, serializedRepoData.streamInput())) {
+                writtenRepositoryData = RepositoryData.snapshotsFromXContent(parser, newGen, false, baseGen -> {
+                    assert baseGen == expectedGen : "expected changes to generation [" + expectedGen + "] but saw [" + baseGen + "]";
+                    return base.repositoryData;
+                });
+            }
+            final long writtenSerializedSize = serializedRepoData.length() + (baseGenerations.isEmpty() ? 0L : base.serializedSize);
+            final CachedRepositoryData written = new CachedRepositoryData(writtenRepositoryData, baseGenerations, writtenSerializedSize);
             writeAtomic(blobContainer(), indexBlob, serializedRepoData, true);
             maybeWriteIndexLatest(newGen);
 
@@ -1724,14 +1983,18 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
                     @Override
                     public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
-                        cacheRepositoryData(serializedRepoData, newGen);
+                        cacheRepositoryData(written);
                         threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(ActionRunnable.supply(listener, () -> {
                             // Delete all now outdated index files up to 1000 blobs back from the new generation.
                             // If there are more than 1000 dangling index-N cleanup functionality on repo delete will take care of them.
                             // Deleting one older than the current expectedGen is done for BwC reasons as older versions used to keep
-                            // two index-N blobs around.
-                            final List<String> oldIndexN = LongStream.range(
-                                Math.max(Math.max(expectedGen - 1, 0), newGen - 1000), newGen)
+                            // two index-N blobs around. The index files that the new generation holds the changes to are kept, while
+                            // those that the previous generation held the changes to are deleted once they are no longer needed.
+                            final List<String> oldIndexN = LongStream.concat(
+                                previousBaseGenerations.stream().mapToLong(Long::longValue),
+                                LongStream.range(Math.max(Math.max(expectedGen - 1, 0), newGen - 1000), newGen))
+                                .distinct()
+                                .filter(gen -> baseGenerations.contains(gen) == false)
                                 .mapToObj(gen -> INDEX_FILE_PREFIX + gen)
                                 .collect(Collectors.toList());
                             try {
@@ -1963,6 +2226,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             // in the commit with files already in the repository
             if (filesFromSegmentInfos == null) {
                 indexCommitPointFiles = new ArrayList<>();
+                final ShardDataCompression compression =
+                    SnapshotsService.useShardDataCompression(repositoryMetaVersion) ? shardDataCompression : ShardDataCompression.NONE;
                 final Collection<String> fileNames;
                 final Store.MetadataSnapshot metadataFromStore;
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
@@ -2010,7 +2275,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo =
                             new BlobStoreIndexShardSnapshot.FileInfo(
                                 (needsWrite ? UPLOADED_DATA_BLOB_PREFIX : VIRTUAL_DATA_BLOB_PREFIX) + UUIDs.randomBase64UUID(),
-                                md, chunkSize());
+                                md, chunkSize(),
+                                compression == ShardDataCompression.NONE ? null : compression.codecName());
                         indexCommitPointFiles.add(snapshotFileInfo);
                         if (needsWrite) {
                             filesToSnapshot.add(snapshotFileInfo);
@@ -2107,16 +2373,18 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 snapshotStatus.moveToDone(threadPool.absoluteTimeInMillis(), indexGeneration);
                 listener.onResponse(indexGeneration);
             }, listener::onFailure);
-            if (indexIncrementalFileCount == 0) {
+            // new files whose contents are stored in the shard level metadata have nothing to upload
+            if (filesToSnapshot.isEmpty()) {
                 allFilesUploadedListener.onResponse(Collections.emptyList());
                 return;
             }
             final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
+            final BlockingQueue<FilePart> partsToSnapshot = FilePart.split(filesToSnapshot);
             // Start as many workers as fit into the snapshot pool at once at the most
-            final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), indexIncrementalFileCount);
-            final ActionListener<Void> filesListener = fileQueueListener(filesToSnapshot, workers, allFilesUploadedListener);
+            final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), partsToSnapshot.size());
+            final ActionListener<Void> filesListener = fileQueueListener(partsToSnapshot, workers, allFilesUploadedListener);
             for (int i = 0; i < workers; ++i) {
-                executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, filesListener);
+                executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, partsToSnapshot, executor, filesListener);
             }
         } catch (Exception e) {
             listener.onFailure(e);
@@ -2124,17 +2392,21 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     }
 
     private void executeOneFileSnapshot(Store store, SnapshotId snapshotId, IndexId indexId, IndexShardSnapshotStatus snapshotStatus,
-                                        BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot, Executor executor,
+                                        BlockingQueue<FilePart> partsToSnapshot, Executor executor,
                                         ActionListener<Void> listener) throws InterruptedException {
         final ShardId shardId = store.shardId();
-        final BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo = filesToSnapshot.poll(0L, TimeUnit.MILLISECONDS);
-        if (snapshotFileInfo == null) {
+        final FilePart filePart = partsToSnapshot.poll(0L, TimeUnit.MILLISECONDS);
+        if (filePart == null) {
             listener.onResponse(null);
         } else {
             executor.execute(ActionRunnable.wrap(listener, l -> {
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
-                    snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store);
-                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, l);
+                    if (filePart.transfer == null) {
+                        snapshotFile(filePart.fileInfo, indexId, shardId, snapshotId, snapshotStatus, store);
+                    } else {
+                        snapshotFilePart(filePart, indexId, shardId, snapshotId, snapshotStatus, store);
+                    }
+                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, partsToSnapshot, executor, l);
                 }
             }));
         }
@@ -2181,16 +2453,19 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     if (filesToRecover.isEmpty()) {
                         listener.onResponse(null);
                     } else {
+                        // the parts of a file are written straight to their offset in the file, which requires it to be on the file system
+                        final Directory directory = FilterDirectory.unwrap(store.directory());
+                        final Path fileChannelDirectory =
+                            directory instanceof FSDirectory ? ((FSDirectory) directory).getDirectory() : null;
+                        final BlockingQueue<FilePart> files = FilePart.split(filesToRecover, fileChannelDirectory != null);
                         // Start as many workers as fit into the snapshot pool at once at the most
-                        final int workers =
-                            Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), snapshotFiles.indexFiles().size());
-                        final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files = new LinkedBlockingQueue<>(filesToRecover);
+                        final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), files.size());
                         final ActionListener<Void> allFilesListener =
                             fileQueueListener(files, workers, ActionListener.map(listener, v -> null));
                         // restore the files from the snapshot to the Lucene store
                         for (int i = 0; i < workers; ++i) {
                             try {
-                                executeOneFileRestore(files, allFilesListener);
+                                executeOneFileRestore(files, fileChannelDirectory, allFilesListener);
                             } catch (Exception e) {
                                 allFilesListener.onFailure(e);
                             }
@@ -2198,20 +2473,24 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     }
                 }
 
-                private void executeOneFileRestore(BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files,
+                private void executeOneFileRestore(BlockingQueue<FilePart> files, @Nullable Path fileChannelDirectory,
                                                    ActionListener<Void> allFilesListener) throws InterruptedException {
-                    final BlobStoreIndexShardSnapshot.FileInfo fileToRecover = files.poll(0L, TimeUnit.MILLISECONDS);
-                    if (fileToRecover == null) {
+                    final FilePart partToRecover = files.poll(0L, TimeUnit.MILLISECONDS);
+                    if (partToRecover == null) {
                         allFilesListener.onResponse(null);
                     } else {
                         executor.execute(ActionRunnable.wrap(allFilesListener, filesListener -> {
                             store.incRef();
                             try {
-                                restoreFile(fileToRecover, store);
+                                if (partToRecover.transfer == null) {
+                                    restoreFile(partToRecover.fileInfo, store);
+                                } else {
+                                    restoreFilePart(partToRecover, fileChannelDirectory, store);
+                                }
                             } finally {
                                 store.decRef();
                             }
-                            executeOneFileRestore(files, filesListener);
+                            executeOneFileRestore(files, fileChannelDirectory, filesListener);
                         }));
                     }
                 }
@@ -2231,7 +2510,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                                 @Override
                                 protected InputStream openSlice(int slice) throws IOException {
                                     ensureNotClosing(store);
-                                    return container.readBlob(fileInfo.partName(slice));
+                                    return readShardDataBlob(container, fileInfo, slice);
                                 }
                             })) {
                                 final byte[] buffer = new byte[Math.toIntExact(Math.min(bufferSize, fileInfo.length()))];
@@ -2261,6 +2540,47 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     }
                 }
 
+                /**
+                 * Downloads one part of a multi-part file and writes it at its offset in the restored file. Whichever part completes last
+                 * verifies the checksum of the whole file.
+                 */
+                private void restoreFilePart(FilePart filePart, Path fileChannelDirectory, Store store) throws IOException {
+                    ensureNotClosing(store);
+                    final BlobStoreIndexShardSnapshot.FileInfo fileInfo = filePart.fileInfo;
+                    logger.trace(() -> new ParameterizedMessage("[{}] restoring [{}] of [{}] to [{}]", metadata.name(),
+                        fileInfo.partName(filePart.part), fileInfo, store));
+                    try {
+                        final FileChannel channel = filePart.transfer.openChannel(store, fileInfo, fileChannelDirectory);
+                        try (InputStream stream = maybeRateLimitRestores(readShardDataBlob(container, fileInfo, filePart.part))) {
+                            final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(Math.min(bufferSize,
+                                fileInfo.partBytes(filePart.part))));
+                            long position = filePart.part * fileInfo.partBytes(0);
+                            int length;
+                            while ((length = stream.read(buffer.array())) > 0) {
+                                ensureNotClosing(store);
+                                buffer.clear();
+                                buffer.limit(length);
+                                while (buffer.hasRemaining()) {
+                                    position += channel.write(buffer, position);
+                                }
+                                recoveryState.getIndex().addRecoveredBytesToFile(fileInfo.physicalName(), length);
+                            }
+                        }
+                        if (filePart.transfer.onPartCompleted()) {
+                            filePart.transfer.closeChannel();
+                            Store.checkIntegrity(fileInfo.metadata(), store.directory());
+                            store.directory().sync(Collections.singleton(fileInfo.physicalName()));
+                        }
+                    } catch (Exception e) {
+                        failStoreIfCorrupted(store, e);
+                        if (filePart.transfer.onFailure()) {
+                            IOUtils.closeWhileHandlingException(filePart.transfer::closeChannel);
+                            store.deleteQuiet(fileInfo.physicalName());
+                        }
+                        throw e;
+                    }
+                }
+
                 void ensureNotClosing(final Store store) throws AlreadyClosedException {
                     assert store.refCount() > 0;
                     if (store.isClosing()) {
@@ -2272,7 +2592,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }));
     }
 
-    private static ActionListener<Void> fileQueueListener(BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files, int workers,
+    private static ActionListener<Void> fileQueueListener(BlockingQueue<FilePart> files, int workers,
                                                           ActionListener<Collection<Void>> listener) {
         return ActionListener.delegateResponse(new GroupedActionListener<>(listener, workers), (l, e) -> {
             files.clear(); // Stop uploading the remaining files if we run into any exception
@@ -2402,6 +2722,30 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         writeAtomic(shardContainer, blobName, INDEX_SHARD_SNAPSHOTS_FORMAT.serialize(updatedSnapshots, blobName, compress), true);
     }
 
+    /**
+     * Resolves the blobs in a shard's container that deleting the given snapshots may leave unreferenced from the shard generation that
+     * is being replaced, rather than from a listing of the container: the generation's own blob, the shard level metadata of the deleted
+     * snapshots and the data blobs of all files referenced by the generation.
+     */
+    private static Set<String> shardGenerationBlobs(String generation, BlobStoreIndexShardSnapshots snapshots,
+                                                    Collection<SnapshotId> deletedSnapshots) {
+        final Set<String> blobs = new HashSet<>();
+        blobs.add(INDEX_SHARD_SNAPSHOTS_FORMAT.blobName(generation));
+        for (SnapshotId snapshotId : deletedSnapshots) {
+            blobs.add(INDEX_SHARD_SNAPSHOT_FORMAT.blobName(snapshotId.getUUID()));
+        }
+        for (SnapshotFiles snapshotFiles : snapshots) {
+            for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : snapshotFiles.indexFiles()) {
+                if (fileInfo.name().startsWith(UPLOADED_DATA_BLOB_PREFIX)) {
+                    for (int i = 0; i < fileInfo.numberOfParts(); i++) {
+                        blobs.add(fileInfo.partName(i));
+                    }
+                }
+            }
+        }
+        return blobs;
+    }
+
     // Unused blobs are all previous index-, data- and meta-blobs and that are not referenced by the new index- as well as all
     // temporary blobs
     private static List<String> unusedBlobs(Set<String> blobs, Set<String> survivingSnapshotUUIDs,
@@ -2429,6 +2773,56 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Loads all snapshots of the given shard in the repository from the shard generation blob {@code generation}.
+     */
+    public BlobStoreIndexShardSnapshots getBlobStoreIndexShardSnapshots(IndexId indexId, int shardId, String generation)
+            throws IOException {
+        return buildBlobStoreIndexShardSnapshots(Collections.emptySet(), shardContainer(indexId, shardId), generation).v1();
+    }
+
+    /**
+     * Opens a stream over the contents of a file of a shard snapshot, rate limited by the restore rate limiter of this repository.
+     */
+    public InputStream openSnapshotFile(IndexId indexId, int shardId, BlobStoreIndexShardSnapshot.FileInfo fileInfo) {
+        assert fileInfo.name().startsWith(VIRTUAL_DATA_BLOB_PREFIX) == false : "virtual blob [" + fileInfo + "] can't be opened";
+        final BlobContainer container = shardContainer(indexId, shardId);
+        return maybeRateLimitRestores(new SlicedInputStream(fileInfo.numberOfParts()) {
+            @Override
+            protected InputStream openSlice(int slice) throws IOException {
+                return readShardDataBlob(container, fileInfo, slice);
+            }
+        });
+    }
+
+    /**
+     * Opens a stream over the uncompressed contents of the given part of a file of a shard snapshot.
+     */
+    private static InputStream readShardDataBlob(BlobContainer container, BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                                                 int part) throws IOException {
+        final InputStream stream = container.readBlob(fileInfo.partName(part));
+        if (fileInfo.compression() == null) {
+            return stream;
+        }
+        boolean success = false;
+        try {
+            final InputStream decompressed = ShardDataCompression.fromCodecName(fileInfo.compression()).decompress(stream);
+            success = true;
+            return decompressed;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(stream);
+            }
+        }
+    }
+
+    /**
+     * Whether peer recoveries may download files from the snapshots in this repository, see {@link #USE_FOR_PEER_RECOVERY_SETTING}.
+     */
+    public boolean isUseForPeerRecovery() {
+        return useForPeerRecovery;
+    }
+
     /**
      * Loads all available snapshots in the repository using the given {@code generation} or falling back to trying to determine it from
      * the given list of blobs in the shard container.
@@ -2482,35 +2876,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.READONCE, fileInfo.metadata())) {
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
-                final long partBytes = fileInfo.partBytes(i);
-
-                // Make reads abortable by mutating the snapshotStatus object
-                final InputStream inputStream = new FilterInputStream(maybeRateLimitSnapshots(
-                    new InputStreamIndexInput(indexInput, partBytes))) {
-                    @Override
-                    public int read() throws IOException {
-                        checkAborted();
-                        return super.read();
-                    }
-
-                    @Override
-                    public int read(byte[] b, int off, int len) throws IOException {
-                        checkAborted();
-                        return super.read(b, off, len);
-                    }
-
-                    private void checkAborted() {
-                        if (snapshotStatus.isAborted()) {
-                            logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId,
-                                snapshotId, fileInfo.physicalName());
-                            throw new AbortedSnapshotException();
-                        }
-                    }
-                };
-                final String partName = fileInfo.partName(i);
-                logger.trace(() ->
-                        new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
-                shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                uploadPart(fileInfo, i, indexInput, shardContainer, shardId, snapshotId, snapshotStatus);
             }
             Store.verify(indexInput);
             snapshotStatus.addProcessedFile(fileInfo.length());
@@ -2521,6 +2887,214 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Snapshot one part of a multi-part file. Parts are read through their own {@link IndexInput}, so the checksum of the file is verified
+     * separately once all its parts are uploaded.
+     */
+    private void snapshotFilePart(FilePart filePart, IndexId indexId, ShardId shardId, SnapshotId snapshotId,
+                                  IndexShardSnapshotStatus snapshotStatus, Store store) throws IOException {
+        final BlobContainer shardContainer = shardContainer(indexId, shardId);
+        final BlobStoreIndexShardSnapshot.FileInfo fileInfo = filePart.fileInfo;
+        try {
+            try (IndexInput indexInput = store.directory().openInput(fileInfo.physicalName(), IOContext.READ)) {
+                indexInput.seek(filePart.part * fileInfo.partBytes(0));
+                uploadPart(fileInfo, filePart.part, indexInput, shardContainer, shardId, snapshotId, snapshotStatus);
+            }
+            if (filePart.transfer.onPartCompleted()) {
+                Store.checkIntegrity(fileInfo.metadata(), store.directory());
+                snapshotStatus.addProcessedFile(fileInfo.length());
+            }
+        } catch (Exception t) {
+            failStoreIfCorrupted(store, t);
+            if (filePart.transfer.onFailure()) {
+                snapshotStatus.addProcessedFile(0);
+            }
+            throw t;
+        }
+    }
+
+    /**
+     * Uploads the given part of a file, reading it from the current position of the given {@link IndexInput}, and compressing it with the
+     * codec of the file if it has one.
+     */
+    private void uploadPart(BlobStoreIndexShardSnapshot.FileInfo fileInfo, int part, IndexInput indexInput, BlobContainer shardContainer,
+                            ShardId shardId, SnapshotId snapshotId, IndexShardSnapshotStatus snapshotStatus) throws IOException {
+        final long partBytes = fileInfo.partBytes(part);
+
+        // Make reads abortable by mutating the snapshotStatus object
+        final InputStream inputStream = new FilterInputStream(maybeRateLimitSnapshots(
+            new InputStreamIndexInput(indexInput, partBytes))) {
+            @Override
+            public int read() throws IOException {
+                checkAborted();
+                return super.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                checkAborted();
+                return super.read(b, off, len);
+            }
+
+            private void checkAborted() {
+                if (snapshotStatus.isAborted()) {
+                    logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId,
+                        snapshotId, fileInfo.physicalName());
+                    throw new AbortedSnapshotException();
+                }
+            }
+        };
+        final String partName = fileInfo.partName(part);
+        logger.trace(() ->
+                new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
+        if (fileInfo.compression() == null) {
+            shardContainer.writeBlob(partName, inputStream, partBytes, false);
+        } else {
+            uploadCompressedPart(fileInfo, partName, inputStream, partBytes, shardContainer);
+        }
+    }
+
+    /**
+     * Compresses a part of a file into a temporary file in the node's temporary directory and uploads the temporary file, so that the
+     * length of the blob is known before it is written, without buffering the compressed part on the heap. The temporary file is kept out
+     * of the shard's directory, where it would count towards the size of the store and could be deleted by Lucene as an unknown file.
+     */
+    private void uploadCompressedPart(BlobStoreIndexShardSnapshot.FileInfo fileInfo, String partName, InputStream inputStream,
+                                      long partBytes, BlobContainer shardContainer) throws IOException {
+        final ShardDataCompression compression = ShardDataCompression.fromCodecName(fileInfo.compression());
+        final Path tempFile = Files.createTempFile(tmpPath, partName + "_", "." + compression.codecName());
+        try {
+            final long startTimeNanos = System.nanoTime();
+            try (OutputStream compressed = compression.compress(Files.newOutputStream(tempFile))) {
+                final byte[] buffer = new byte[Math.toIntExact(Math.min(bufferSize, Math.max(partBytes, 1)))];
+                int length;
+                while ((length = inputStream.read(buffer)) > 0) {
+                    compressed.write(buffer, 0, length);
+                }
+            }
+            shardDataCompressionTimeInNanos.inc(System.nanoTime() - startTimeNanos);
+            final long compressedBytes = Files.size(tempFile);
+            try (InputStream compressedInput = Files.newInputStream(tempFile)) {
+                shardContainer.writeBlob(partName, compressedInput, compressedBytes, false);
+            }
+            shardDataUncompressedBytes.inc(partBytes);
+            shardDataCompressedBytes.inc(compressedBytes);
+        } finally {
+            IOUtils.deleteFilesIgnoringExceptions(tempFile);
+        }
+    }
+
+    /**
+     * A unit of work of a shard snapshot or restore: either a whole file that consists of a single part, or one part of a multi-part file.
+     * The parts of a multi-part file are transferred independently of each other, so that the workers of a shard can upload or download
+     * the parts of a large file in parallel.
+     */
+    private static final class FilePart {
+
+        final BlobStoreIndexShardSnapshot.FileInfo fileInfo;
+
+        final int part;
+
+        /**
+         * The state shared by the parts of a multi-part file, {@code null} if the file consists of a single part.
+         */
+        @Nullable
+        final MultiPartTransfer transfer;
+
+        private FilePart(BlobStoreIndexShardSnapshot.FileInfo fileInfo, int part, @Nullable MultiPartTransfer transfer) {
+            this.fileInfo = fileInfo;
+            this.part = part;
+            this.transfer = transfer;
+        }
+
+        static BlockingQueue<FilePart> split(Collection<BlobStoreIndexShardSnapshot.FileInfo> files) {
+            return split(files, true);
+        }
+
+        /**
+         * @param splitMultiPartFiles whether the parts of multi-part files are transferred independently of each other, or each file as a
+         *                            whole
+         */
+        static BlockingQueue<FilePart> split(Collection<BlobStoreIndexShardSnapshot.FileInfo> files, boolean splitMultiPartFiles) {
+            final BlockingQueue<FilePart> parts = new LinkedBlockingQueue<>();
+            for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : files) {
+                final int numberOfParts = fileInfo.numberOfParts();
+                // virtual blobs have no data blobs, their contents are stored in the shard snapshot metadata
+                if (numberOfParts == 1 || splitMultiPartFiles == false || fileInfo.name().startsWith(VIRTUAL_DATA_BLOB_PREFIX)) {
+                    parts.add(new FilePart(fileInfo, 0, null));
+                } else {
+                    final MultiPartTransfer transfer = new MultiPartTransfer(numberOfParts);
+                    for (int i = 0; i < numberOfParts; i++) {
+                        parts.add(new FilePart(fileInfo, i, transfer));
+                    }
+                }
+            }
+            return parts;
+        }
+    }
+
+    /**
+     * Tracks the parts of a multi-part file that have been transferred, and on restore the channel that they are written to.
+     */
+    private static final class MultiPartTransfer {
+
+        private int remainingParts;
+
+        private boolean failed;
+
+        // the restored file is kept open as an output of the store while its parts are written, so that the store knows it is being written
+        private IndexOutput output;
+
+        private FileChannel channel;
+
+        MultiPartTransfer(int numberOfParts) {
+            this.remainingParts = numberOfParts;
+        }
+
+        /**
+         * @return {@code true} if the given part was the last one to complete and the file is now fully transferred
+         */
+        synchronized boolean onPartCompleted() {
+            if (failed) {
+                return false;
+            }
+            return --remainingParts == 0;
+        }
+
+        /**
+         * @return {@code true} if this is the first failure of a part of this file
+         */
+        synchronized boolean onFailure() {
+            final boolean firstFailure = failed == false;
+            failed = true;
+            return firstFailure;
+        }
+
+        /**
+         * Returns the channel that the parts of the given file are restored through, creating the file for the first part.
+         */
+        synchronized FileChannel openChannel(Store store, BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+                                             Path fileChannelDirectory) throws IOException {
+            if (failed) {
+                throw new IllegalStateException("another part of [" + fileInfo.physicalName() + "] failed to be restored");
+            }
+            if (channel == null) {
+                output = store.directory().createOutput(fileInfo.physicalName(), IOContext.DEFAULT);
+                channel = FileChannel.open(fileChannelDirectory.resolve(fileInfo.physicalName()), StandardOpenOption.WRITE);
+            }
+            return channel;
+        }
+
+        synchronized void closeChannel() throws IOException {
+            try {
+                IOUtils.close(channel, output);
+            } finally {
+                channel = null;
+                output = null;
+            }
+        }
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.opensearch.common.compress.DeflateCompressor;
+import org.opensearch.common.compress.LZ4Compressor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * The codecs that {@link BlobStoreRepository} can compress the data blobs of shard snapshots with, see
+ * {@link BlobStoreRepository#SHARD_DATA_COMPRESSION_SETTING}. The codec that a file was uploaded with is recorded in its
+ * {@link org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo}, so that files are restored with the codec they
+ * were written with, regardless of the current settings of the repository.
+ */
+public enum ShardDataCompression {
+
+    /**
+     * Shard data blobs hold the raw bytes of the files.
+     */
+    NONE {
+        @Override
+        public InputStream decompress(InputStream in) {
+            return in;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return out;
+        }
+    },
+
+    /**
+     * Fast compression with a moderate compression ratio, see {@link LZ4Compressor}.
+     */
+    LZ4 {
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return LZ4Compressor.inputStream(in);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return LZ4Compressor.outputStream(out);
+        }
+    },
+
+    /**
+     * Slower compression with a better compression ratio, see {@link DeflateCompressor}.
+     */
+    DEFLATE {
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            // restores may read a blob on several threads, so don't use thread-local inflaters
+            return DeflateCompressor.inputStream(in, false);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new DeflateCompressor().threadLocalOutputStream(out);
+        }
+    };
+
+    /**
+     * Wraps the given stream of a shard data blob into a stream that returns the uncompressed contents of the file. Closing the returned
+     * stream closes the given stream.
+     */
+    public abstract InputStream decompress(InputStream in) throws IOException;
+
+    /**
+     * Wraps the given stream into a stream that compresses the data written to it. The returned stream must be closed on the thread that
+     * created it, and closing it closes the given stream.
+     */
+    public abstract OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * The name of this codec in the repository settings and in the shard snapshot metadata.
+     */
+    public String codecName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ShardDataCompression fromCodecName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown shard data compression [" + name + "]", e);
+        }
+    }
+}
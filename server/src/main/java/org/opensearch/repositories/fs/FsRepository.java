@@ -90,7 +90,8 @@ public class FsRepository extends BlobStoreRepository {
      */
     public FsRepository(RepositoryMetadata metadata, Environment environment, NamedXContentRegistry namedXContentRegistry,
                         ClusterService clusterService, RecoverySettings recoverySettings) {
-        super(metadata, calculateCompress(metadata, environment), namedXContentRegistry, clusterService, recoverySettings);
+        super(metadata, calculateCompress(metadata, environment), namedXContentRegistry, clusterService, recoverySettings,
+            environment.tmpFile());
         this.environment = environment;
         String location = REPOSITORIES_LOCATION_SETTING.get(metadata.settings());
         if (location.isEmpty()) {
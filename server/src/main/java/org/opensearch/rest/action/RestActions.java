@@ -67,6 +67,7 @@ public class RestActions {
     public static final ParseField TOTAL_FIELD = new ParseField("total");
     public static final ParseField SUCCESSFUL_FIELD = new ParseField("successful");
     public static final ParseField SKIPPED_FIELD = new ParseField("skipped");
+    public static final ParseField BOTTOM_SORT_FILTERED_FIELD = new ParseField("bottom_sort_filtered");
     public static final ParseField FAILED_FIELD = new ParseField("failed");
     public static final ParseField FAILURES_FIELD = new ParseField("failures");
 
@@ -95,12 +96,26 @@ public class RestActions {
     public static void buildBroadcastShardsHeader(XContentBuilder builder, Params params,
                                                   int total, int successful, int skipped, int failed,
                                                   ShardOperationFailedException[] shardFailures) throws IOException {
+        buildBroadcastShardsHeader(builder, params, total, successful, skipped, 0, failed, shardFailures);
+    }
+
+    /**
+     * Create the XContent header for a search response, where <code>bottomSortFiltered</code> is the number of shards
+     * that filtered their query by the bottom sort values of the hits of other shards. It is only rendered if greater
+     * than zero.
+     */
+    public static void buildBroadcastShardsHeader(XContentBuilder builder, Params params,
+                                                  int total, int successful, int skipped, int bottomSortFiltered, int failed,
+                                                  ShardOperationFailedException[] shardFailures) throws IOException {
         builder.startObject(_SHARDS_FIELD.getPreferredName());
         builder.field(TOTAL_FIELD.getPreferredName(), total);
         builder.field(SUCCESSFUL_FIELD.getPreferredName(), successful);
         if (skipped >= 0) {
             builder.field(SKIPPED_FIELD.getPreferredName(), skipped);
         }
+        if (bottomSortFiltered > 0) {
+            builder.field(BOTTOM_SORT_FILTERED_FIELD.getPreferredName(), bottomSortFiltered);
+        }
         builder.field(FAILED_FIELD.getPreferredName(), failed);
         if (CollectionUtils.isEmpty(shardFailures) == false) {
             builder.startArray(FAILURES_FIELD.getPreferredName());
@@ -121,6 +121,7 @@ import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.rescore.RescorerBuilder;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -181,6 +182,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * The number of partitions that the rescore window of a shard is split into at most. The partitions are rescored in parallel on
+     * the search thread pool, which pays off for expensive rescore queries.
+     */
+    public static final Setting<Integer> RESCORE_MAX_PARTITIONS_SETTING =
+        Setting.intSetting("search.rescore.max_partitions", 1, 1, Property.Dynamic, Property.NodeScope);
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -214,6 +222,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile int rescoreMaxPartitions;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -260,6 +270,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        rescoreMaxPartitions = RESCORE_MAX_PARTITIONS_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(RESCORE_MAX_PARTITIONS_SETTING, this::setRescoreMaxPartitions);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -296,6 +309,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setRescoreMaxPartitions(int rescoreMaxPartitions) {
+        this.rescoreMaxPartitions = rescoreMaxPartitions;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -961,7 +978,12 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         if (source.rescores() != null) {
             try {
                 for (RescorerBuilder<?> rescore : source.rescores()) {
-                    context.addRescore(rescore.buildContext(queryShardContext));
+                    RescoreContext rescoreContext = rescore.buildContext(queryShardContext);
+                    // the timers of profiled queries can't be shared by threads
+                    if (context.getProfilers() == null) {
+                        rescoreContext.setPartitions(threadPool.executor(Names.SEARCH), rescoreMaxPartitions);
+                    }
+                    context.addRescore(rescoreContext);
                 }
             } catch (IOException e) {
                 throw new SearchException(shardTarget, "failed to create RescoreSearchContext", e);
@@ -657,9 +657,11 @@ public class TopHitsAggregationBuilder extends AbstractAggregationBuilder<TopHit
         } else {
             optionalSort = SortBuilder.buildSort(sorts, queryShardContext);
         }
+        final SortBuilder<?> bucketedSortBuilder = TopHitsAggregatorFactory.bucketedSortBuilder(sorts, optionalSort, trackScores,
+            queryShardContext);
         return new TopHitsAggregatorFactory(name, from, size, explain, version, seqNoAndPrimaryTerm, trackScores, optionalSort,
-            highlightBuilder, storedFieldsContext, docValueFields, fetchFields, scriptFields, fetchSourceContext, queryShardContext, parent,
-            subfactoriesBuilder, metadata);
+            bucketedSortBuilder, highlightBuilder, storedFieldsContext, docValueFields, fetchFields, scriptFields, fetchSourceContext,
+            queryShardContext, parent, subfactoriesBuilder, metadata);
     }
 
     @Override
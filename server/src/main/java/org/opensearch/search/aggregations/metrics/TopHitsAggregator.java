@@ -42,6 +42,8 @@ import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
@@ -50,10 +52,16 @@ import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.search.MaxScoreCollector;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongObjectPagedHashMap;
+import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregator;
@@ -65,9 +73,13 @@ import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.SubSearchContext;
 import org.opensearch.search.rescore.RescoreContext;
+import org.opensearch.search.sort.BucketedSort;
 import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortValue;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 class TopHitsAggregator extends MetricsAggregator {
@@ -87,13 +99,37 @@ class TopHitsAggregator extends MetricsAggregator {
     private final FetchPhase fetchPhase;
     private final SubSearchContext subSearchContext;
     private final LongObjectPagedHashMap<Collectors> topDocsCollectors;
+    /**
+     * Collects the top hits of all buckets when sorting on a single numeric field, {@code null} if each bucket collects its top hits
+     * with its own {@link TopDocsCollector}.
+     */
+    private final BucketedSort bucketedSort;
+    private final HitDocs hitDocs;
+    private LongArray hitCounts;
 
-    TopHitsAggregator(FetchPhase fetchPhase, SubSearchContext subSearchContext, String name, SearchContext context,
-            Aggregator parent, Map<String, Object> metadata) throws IOException {
+    TopHitsAggregator(FetchPhase fetchPhase, SubSearchContext subSearchContext, @Nullable SortBuilder<?> bucketedSortBuilder,
+            String name, SearchContext context, Aggregator parent, Map<String, Object> metadata) throws IOException {
         super(name, context, parent, metadata);
         this.fetchPhase = fetchPhase;
         topDocsCollectors = new LongObjectPagedHashMap<>(1, context.bigArrays());
         this.subSearchContext = subSearchContext;
+        int topN = Math.min(subSearchContext.from() + subSearchContext.size(), subSearchContext.searcher().getIndexReader().maxDoc());
+        if (bucketedSortBuilder != null && topN > 0) {
+            boolean success = false;
+            hitDocs = new HitDocs(context.bigArrays());
+            try {
+                hitCounts = context.bigArrays().newLongArray(1, true);
+                bucketedSort = bucketedSortBuilder.buildBucketedSort(context.getQueryShardContext(), context.bigArrays(), topN, hitDocs);
+                success = true;
+            } finally {
+                if (success == false) {
+                    Releasables.close(hitDocs, hitCounts);
+                }
+            }
+        } else {
+            hitDocs = null;
+            bucketedSort = null;
+        }
     }
 
     @Override
@@ -109,6 +145,23 @@ class TopHitsAggregator extends MetricsAggregator {
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        if (bucketedSort != null) {
+            final BucketedSort.Leaf leaf = bucketedSort.forLeaf(ctx);
+            return new LeafBucketCollectorBase(sub, null) {
+                @Override
+                public void setScorer(Scorable scorer) throws IOException {
+                    super.setScorer(scorer);
+                    leaf.setScorer(scorer);
+                }
+
+                @Override
+                public void collect(int docId, long bucket) throws IOException {
+                    hitCounts = context.bigArrays().grow(hitCounts, bucket + 1);
+                    hitCounts.increment(bucket, 1);
+                    leaf.collect(docId, bucket);
+                }
+            };
+        }
         // Create leaf collectors here instead of at the aggregator level. Otherwise in case this collector get invoked
         // when post collecting then we have already replaced the leaf readers on the aggregator level have already been
         // replaced with the next leaf readers and then post collection pushes docids of the previous segment, which
@@ -171,6 +224,9 @@ class TopHitsAggregator extends MetricsAggregator {
 
     @Override
     public InternalAggregation buildAggregation(long owningBucketOrdinal) throws IOException {
+        if (bucketedSort != null) {
+            return buildBucketedAggregation(owningBucketOrdinal);
+        }
         Collectors collectors = topDocsCollectors.get(owningBucketOrdinal);
         if (collectors == null) {
             return buildEmptyAggregation();
@@ -193,7 +249,30 @@ class TopHitsAggregator extends MetricsAggregator {
             TopFieldCollector.populateScores(topDocs.scoreDocs, subSearchContext.searcher(), subSearchContext.query());
             maxScore = collectors.maxScoreCollector.getMaxScore();
         }
-        final TopDocsAndMaxScore topDocsAndMaxScore = new TopDocsAndMaxScore(topDocs, maxScore);
+        return fetchTopHits(new TopDocsAndMaxScore(topDocs, maxScore));
+    }
+
+    private InternalAggregation buildBucketedAggregation(long owningBucketOrdinal) throws IOException {
+        if (owningBucketOrdinal >= hitCounts.size() || hitCounts.get(owningBucketOrdinal) == 0) {
+            return buildEmptyAggregation();
+        }
+        final SortField[] sortFields = subSearchContext.sort().sort.getSort();
+        final SortField.Type sortType = reducedType(sortFields[0]);
+        final int docOrder = bucketedSort.getOrder().reverseMul();
+        final List<BucketedHit> hits = bucketedSort.getValues(owningBucketOrdinal,
+            (index, sortValue) -> new BucketedHit(hitDocs.get(index), sortValue, docOrder));
+        final FieldDoc[] fieldDocs = new FieldDoc[hits.size()];
+        for (int i = 0; i < fieldDocs.length; i++) {
+            final BucketedHit hit = hits.get(i);
+            fieldDocs[i] = new FieldDoc(hit.doc, Float.NaN, new Object[] { sortValue(sortType, hit.sortValue) });
+        }
+        final TopDocs topDocs = new TopFieldDocs(new TotalHits(hitCounts.get(owningBucketOrdinal), TotalHits.Relation.EQUAL_TO),
+            fieldDocs, sortFields);
+        return fetchTopHits(new TopDocsAndMaxScore(topDocs, Float.NaN));
+    }
+
+    private InternalTopHits fetchTopHits(TopDocsAndMaxScore topDocsAndMaxScore) throws IOException {
+        final TopDocs topDocs = topDocsAndMaxScore.topDocs;
         subSearchContext.queryResult().topDocs(topDocsAndMaxScore,
                 subSearchContext.sort() == null ? null : subSearchContext.sort().formats);
         int[] docIdsToLoad = new int[topDocs.scoreDocs.length];
@@ -233,6 +312,99 @@ class TopHitsAggregator extends MetricsAggregator {
 
     @Override
     protected void doClose() {
-        Releasables.close(topDocsCollectors);
+        Releasables.close(topDocsCollectors, bucketedSort, hitDocs, hitCounts);
+    }
+
+    /**
+     * The sort type of the values of the given sort field, which the reduction of the top hits of the shards compares.
+     */
+    static SortField.Type reducedType(SortField sortField) {
+        if (sortField.getComparatorSource() instanceof IndexFieldData.XFieldComparatorSource) {
+            return ((IndexFieldData.XFieldComparatorSource) sortField.getComparatorSource()).reducedType();
+        } else if (sortField instanceof SortedNumericSortField) {
+            return ((SortedNumericSortField) sortField).getNumericType();
+        }
+        return sortField.getType();
+    }
+
+    private static Object sortValue(SortField.Type sortType, SortValue sortValue) {
+        switch (sortType) {
+            case INT:
+                return sortValue.numberValue().intValue();
+            case LONG:
+                return sortValue.numberValue().longValue();
+            case FLOAT:
+                return sortValue.numberValue().floatValue();
+            case DOUBLE:
+                return sortValue.numberValue().doubleValue();
+            default:
+                throw new IllegalStateException("unexpected sort type [" + sortType + "]");
+        }
+    }
+
+    /**
+     * The doc ids of the competitive hits of a {@link BucketedSort}, which break ties between hits with equal sort values like
+     * {@link TopFieldCollector} does.
+     */
+    private static class HitDocs implements BucketedSort.ExtraData, Releasable {
+        private final BigArrays bigArrays;
+        private IntArray docs;
+
+        HitDocs(BigArrays bigArrays) {
+            this.bigArrays = bigArrays;
+            docs = bigArrays.newIntArray(1, false);
+        }
+
+        int get(long index) {
+            return docs.get(index);
+        }
+
+        @Override
+        public void swap(long lhs, long rhs) {
+            int tmp = docs.get(lhs);
+            docs.set(lhs, docs.get(rhs));
+            docs.set(rhs, tmp);
+        }
+
+        @Override
+        public boolean betterThan(long lhs, long rhs) {
+            return docs.get(lhs) < docs.get(rhs);
+        }
+
+        @Override
+        public Loader loader(LeafReaderContext ctx) {
+            final int docBase = ctx.docBase;
+            return (index, doc) -> {
+                docs = bigArrays.grow(docs, index + 1);
+                docs.set(index, docBase + doc);
+            };
+        }
+
+        @Override
+        public void close() {
+            docs.close();
+        }
+    }
+
+    private static class BucketedHit implements Comparable<BucketedHit> {
+        private final int doc;
+        private final SortValue sortValue;
+        private final int docOrder;
+
+        BucketedHit(int doc, SortValue sortValue, int docOrder) {
+            this.doc = doc;
+            this.sortValue = sortValue;
+            this.docOrder = docOrder;
+        }
+
+        @Override
+        public int compareTo(BucketedHit other) {
+            int cmp = sortValue.compareTo(other.sortValue);
+            if (cmp != 0) {
+                return cmp;
+            }
+            // descending sorts reverse this order, ties are always sorted by ascending doc id
+            return docOrder * Integer.compare(doc, other.doc);
+        }
     }
 }
@@ -32,6 +32,9 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.common.Nullable;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -46,7 +49,10 @@ import org.opensearch.search.fetch.subphase.ScriptFieldsContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.SubSearchContext;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.sort.SortBuilder;
 
 import java.io.IOException;
 import java.util.List;
@@ -62,6 +68,7 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
     private final boolean seqNoAndPrimaryTerm;
     private final boolean trackScores;
     private final Optional<SortAndFormats> sort;
+    private final SortBuilder<?> bucketedSortBuilder;
     private final HighlightBuilder highlightBuilder;
     private final StoredFieldsContext storedFieldsContext;
     private final List<FieldAndFormat> docValueFields;
@@ -77,6 +84,7 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
                                 boolean seqNoAndPrimaryTerm,
                                 boolean trackScores,
                                 Optional<SortAndFormats> sort,
+                                @Nullable SortBuilder<?> bucketedSortBuilder,
                                 HighlightBuilder highlightBuilder,
                                 StoredFieldsContext storedFieldsContext,
                                 List<FieldAndFormat> docValueFields,
@@ -95,6 +103,7 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
         this.seqNoAndPrimaryTerm = seqNoAndPrimaryTerm;
         this.trackScores = trackScores;
         this.sort = sort;
+        this.bucketedSortBuilder = bucketedSortBuilder;
         this.highlightBuilder = highlightBuilder;
         this.storedFieldsContext = storedFieldsContext;
         this.docValueFields = docValueFields;
@@ -139,7 +148,40 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
         if (highlightBuilder != null) {
             subSearchContext.highlight(highlightBuilder.build(searchContext.getQueryShardContext()));
         }
-        return new TopHitsAggregator(searchContext.fetchPhase(), subSearchContext, name, searchContext, parent, metadata);
+        return new TopHitsAggregator(searchContext.fetchPhase(), subSearchContext, bucketedSortBuilder, name, searchContext, parent,
+            metadata);
+    }
+
+    /**
+     * Returns the sort to collect the top hits of all buckets with a single {@link BucketedSort} backed by big arrays, or {@code null}
+     * if each bucket has to collect its top hits with its own top docs collector. Top hits that are sorted on a single numeric field
+     * with doc values and that don't need scores can be collected with a bucketed sort, which allocates no objects per bucket and
+     * accounts the memory of all buckets in the request circuit breaker.
+     */
+    static SortBuilder<?> bucketedSortBuilder(@Nullable List<SortBuilder<?>> sorts, Optional<SortAndFormats> sort, boolean trackScores,
+                                              QueryShardContext queryShardContext) {
+        if (sorts == null || sorts.size() != 1 || sort.isPresent() == false || trackScores
+                || sorts.get(0) instanceof FieldSortBuilder == false) {
+            return null;
+        }
+        FieldSortBuilder fieldSort = (FieldSortBuilder) sorts.get(0);
+        if (FieldSortBuilder.DOC_FIELD_NAME.equals(fieldSort.getFieldName()) || fieldSort.getNestedSort() != null
+                || fieldSort.getNestedPath() != null || fieldSort.getNestedFilter() != null) {
+            return null;
+        }
+        MappedFieldType fieldType = queryShardContext.fieldMapper(fieldSort.getFieldName());
+        if (fieldType == null || queryShardContext.getForField(fieldType) instanceof IndexNumericFieldData == false) {
+            return null;
+        }
+        switch (TopHitsAggregator.reducedType(sort.get().sort.getSort()[0])) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return fieldSort;
+            default:
+                return null;
+        }
     }
 
 }
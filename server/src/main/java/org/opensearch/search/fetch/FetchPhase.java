@@ -45,6 +45,7 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
@@ -67,12 +68,17 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
+import org.opensearch.search.fetch.subphase.FetchFieldsPhase;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
 import org.opensearch.search.fetch.subphase.InnerHitsPhase;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.SubSearchContext;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.search.profile.Timer;
+import org.opensearch.search.profile.fetch.FetchProfiler;
+import org.opensearch.search.profile.fetch.FetchTimingType;
 import org.opensearch.tasks.TaskCancelledException;
 
 import java.io.IOException;
@@ -107,6 +113,23 @@ public class FetchPhase {
             LOGGER.trace("{}", new SearchContextSourcePrinter(context));
         }
 
+        // inner hits and top hits run a fetch phase of their own on a sub context that shares the profilers of the search, they
+        // are timed as a whole by the fetch sub phase or the aggregation that runs them
+        if (context.getProfilers() == null || context instanceof SubSearchContext) {
+            doExecute(context, null);
+        } else {
+            FetchProfiler profiler = context.getProfilers().getFetchProfiler();
+            profiler.start();
+            try {
+                doExecute(context, profiler);
+            } finally {
+                profiler.stop();
+            }
+            context.fetchResult().profileResult(profiler.getResult());
+        }
+    }
+
+    private void doExecute(SearchContext context, @Nullable FetchProfiler profiler) {
         if (context.isCancelled()) {
             throw new TaskCancelledException("cancelled");
         }
@@ -132,38 +155,58 @@ public class FetchPhase {
 
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
 
-        List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+        List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext, profiler);
+        if (profiler != null && context.fetchFieldsContext() != null) {
+            boolean fromDocValues = FetchFieldsPhase.fetchFromDocValues(context.mapperService(), context.fetchFieldsContext());
+            profiler.getBreakdown().addDebugInfo("fields_strategy", fromDocValues ? "doc_values" : "source");
+        }
+        Timer nextReaderTimer = profiler == null ? null : profiler.getBreakdown().getTimer(FetchTimingType.NEXT_READER);
+        Timer loadStoredFieldsTimer = profiler == null ? null : profiler.getBreakdown().getTimer(FetchTimingType.LOAD_STORED_FIELDS);
 
-        int currentReaderIndex = -1;
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
         LeafReaderContext currentReaderContext = null;
+        int currentReaderEnd = -1;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
         for (int index = 0; index < context.docIdsToLoadSize(); index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled");
             }
             int docId = docs[index].docId;
             try {
-                int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
-                if (currentReaderIndex != readerIndex) {
-                    currentReaderContext = context.searcher().getIndexReader().leaves().get(readerIndex);
-                    currentReaderIndex = readerIndex;
+                if (docId >= currentReaderEnd) {
+                    if (nextReaderTimer != null) {
+                        nextReaderTimer.start();
+                    }
+                    // the docs are sorted, so the hits of a segment are fetched one after the other
+                    currentReaderContext = leaves.get(ReaderUtil.subIndex(docId, leaves));
+                    currentReaderEnd = currentReaderContext.docBase + currentReaderContext.reader().maxDoc();
+                    int leafDocsEnd = index + 1;
+                    while (leafDocsEnd < docs.length && docs[leafDocsEnd].docId < currentReaderEnd) {
+                        leafDocsEnd++;
+                    }
                     if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader
-                            && hasSequentialDocs && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
+                            && leafDocsEnd - index >= 10 && hasSequentialDocs(docs, index, leafDocsEnd)) {
+                        // All the docs to fetch from this segment are adjacent but Lucene stored fields are optimized
                         // for random access and don't optimize for sequential access - except for merging.
                         // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
+                        // get better sequential access: the merge instance decompresses each block of
+                        // stored fields once and reuses it for all the docs of the block.
                         SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) currentReaderContext.reader();
                         fieldReader = lf.getSequentialStoredFieldsReader()::visitDocument;
                     } else {
                         fieldReader = currentReaderContext.reader()::document;
                     }
+                    if (nextReaderTimer != null) {
+                        nextReaderTimer.stop();
+                    }
                     for (FetchSubPhaseProcessor processor : processors) {
                         processor.setNextReader(currentReaderContext);
                     }
                 }
                 assert currentReaderContext != null;
+                if (loadStoredFieldsTimer != null) {
+                    loadStoredFieldsTimer.start();
+                }
                 HitContext hit = prepareHitContext(
                     context,
                     fetchContext.searchLookup(),
@@ -172,6 +215,9 @@ public class FetchPhase {
                     storedToRequestedFields,
                     currentReaderContext,
                     fieldReader);
+                if (loadStoredFieldsTimer != null) {
+                    loadStoredFieldsTimer.stop();
+                }
                 for (FetchSubPhaseProcessor processor : processors) {
                     processor.process(hit);
                 }
@@ -189,13 +235,13 @@ public class FetchPhase {
 
     }
 
-    List<FetchSubPhaseProcessor> getProcessors(SearchShardTarget target, FetchContext context) {
+    List<FetchSubPhaseProcessor> getProcessors(SearchShardTarget target, FetchContext context, @Nullable FetchProfiler profiler) {
         try {
             List<FetchSubPhaseProcessor> processors = new ArrayList<>();
             for (FetchSubPhase fsp : fetchSubPhases) {
                 FetchSubPhaseProcessor processor = fsp.getProcessor(context);
                 if (processor != null) {
-                    processors.add(processor);
+                    processors.add(profiler == null ? processor : profiler.profile(fsp.getClass().getSimpleName(), processor));
                 }
             }
             return processors;
@@ -268,7 +314,8 @@ public class FetchPhase {
     }
 
     private boolean sourceRequired(SearchContext context) {
-        return context.sourceRequested() || context.fetchFieldsContext() != null;
+        return context.sourceRequested() || (context.fetchFieldsContext() != null
+            && FetchFieldsPhase.fetchFromDocValues(context.mapperService(), context.fetchFieldsContext()) == false);
     }
 
     private int findRootDocumentIfNested(SearchContext context, LeafReaderContext subReaderContext, int subDocId) throws IOException {
@@ -589,6 +636,13 @@ public class FetchPhase {
      * stored sequentially (Dn = Dn-1 + 1).
      */
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length-1].docId - docs[0].docId == docs.length - 1;
+        return hasSequentialDocs(docs, 0, docs.length);
+    }
+
+    /**
+     * Returns whether the sorted docs from {@code from} (inclusive) to {@code to} (exclusive) have adjacent doc ids.
+     */
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
     }
 }
@@ -32,6 +32,8 @@
 
 package org.opensearch.search.fetch;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.search.SearchHit;
@@ -39,6 +41,7 @@ import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.profile.ProfileResult;
 import org.opensearch.search.query.QuerySearchResult;
 
 import java.io.IOException;
@@ -46,6 +49,8 @@ import java.io.IOException;
 public final class FetchSearchResult extends SearchPhaseResult {
 
     private SearchHits hits;
+    @Nullable
+    private ProfileResult profileResult;
     // client side counter
     private transient int counter;
 
@@ -56,6 +61,9 @@ public final class FetchSearchResult extends SearchPhaseResult {
         super(in);
         contextId = new ShardSearchContextId(in);
         hits = new SearchHits(in);
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            profileResult = in.readOptionalWriteable(ProfileResult::new);
+        }
     }
 
     public FetchSearchResult(ShardSearchContextId id, SearchShardTarget shardTarget) {
@@ -89,6 +97,21 @@ public final class FetchSearchResult extends SearchPhaseResult {
         return hits;
     }
 
+    /**
+     * Sets the profile of the fetch phase that produced the hits.
+     */
+    public void profileResult(ProfileResult profileResult) {
+        this.profileResult = profileResult;
+    }
+
+    /**
+     * The profile of the fetch phase that produced the hits, or {@code null} if the search isn't profiled.
+     */
+    @Nullable
+    public ProfileResult profileResult() {
+        return profileResult;
+    }
+
     public FetchSearchResult initCounter() {
         counter = 0;
         return this;
@@ -102,5 +125,8 @@ public final class FetchSearchResult extends SearchPhaseResult {
     public void writeTo(StreamOutput out) throws IOException {
         contextId.writeTo(out);
         hits.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(profileResult);
+        }
     }
 }
@@ -36,6 +36,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
 
 import java.io.IOException;
+import java.util.function.BiConsumer;
 
 /**
  * Executes the logic for a {@link FetchSubPhase} against a particular leaf reader and hit
@@ -52,4 +53,10 @@ public interface FetchSubPhaseProcessor {
      */
     void process(HitContext hitContext) throws IOException;
 
+    /**
+     * Adds debugging information about the processed hits to the profile of the fetch phase, if it is profiled. Implementations
+     * should only add objects which can be serialized with {@link org.opensearch.common.io.stream.StreamOutput#writeGenericValue}.
+     */
+    default void collectDebugInfo(BiConsumer<String, Object> add) {}
+
 }
@@ -34,6 +34,7 @@ package org.opensearch.search.fetch.subphase;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.IgnoredFieldMapper;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.search.SearchHit;
@@ -51,6 +52,8 @@ import java.util.Set;
 /**
  * A fetch sub-phase for high-level field retrieval. Given a list of fields, it
  * retrieves the field values from _source and returns them as document fields.
+ * If {@link IndexSettings#FETCH_FIELDS_FROM_DOC_VALUES_SETTING} is set and all the
+ * fields have doc values then the values are retrieved from doc values instead.
  */
 public final class FetchFieldsPhase implements FetchSubPhase {
 
@@ -63,12 +66,13 @@ public final class FetchFieldsPhase implements FetchSubPhase {
 
         MapperService mapperService = fetchContext.mapperService();
         SearchLookup searchLookup = fetchContext.searchLookup();
-        if (fetchContext.mapperService().documentMapper().sourceMapper().enabled() == false) {
+        boolean fromDocValues = fetchFromDocValues(mapperService, fetchFieldsContext);
+        if (fromDocValues == false && fetchContext.mapperService().documentMapper().sourceMapper().enabled() == false) {
             throw new IllegalArgumentException("Unable to retrieve the requested [fields] since _source is disabled " +
                 "in the mappings for index [" + fetchContext.getIndexName() + "]");
         }
 
-        FieldFetcher fieldFetcher = FieldFetcher.create(mapperService, searchLookup, fetchFieldsContext.fields());
+        FieldFetcher fieldFetcher = FieldFetcher.create(mapperService, searchLookup, fetchFieldsContext.fields(), fromDocValues);
         return new FetchSubPhaseProcessor() {
             @Override
             public void setNextReader(LeafReaderContext readerContext) {
@@ -89,6 +93,14 @@ public final class FetchFieldsPhase implements FetchSubPhase {
         };
     }
 
+    /**
+     * Returns whether the requested fields are retrieved from doc values rather than from the source of the hits.
+     */
+    public static boolean fetchFromDocValues(MapperService mapperService, FetchFieldsContext fetchFieldsContext) {
+        return mapperService.getIndexSettings().isFetchFieldsFromDocValues()
+            && FieldFetcher.canFetchFromDocValues(mapperService, fetchFieldsContext.fields());
+    }
+
     private Set<String> getIgnoredFields(SearchHit hit) {
         DocumentField field = hit.field(IgnoredFieldMapper.NAME);
         if (field == null) {
@@ -34,8 +34,12 @@ package org.opensearch.search.fetch.subphase;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DocValueFetcher;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.mapper.ValueFetcher;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
@@ -56,6 +60,18 @@ public class FieldFetcher {
     public static FieldFetcher create(MapperService mapperService,
                                       SearchLookup searchLookup,
                                       Collection<FieldAndFormat> fieldAndFormats) {
+        return create(mapperService, searchLookup, fieldAndFormats, false);
+    }
+
+    /**
+     * Creates a fetcher for the fields that match the given patterns. If {@code fromDocValues} is set then the values are retrieved
+     * from doc values rather than from the source of the document, which requires all fields to have doc values, see
+     * {@link #canFetchFromDocValues}.
+     */
+    public static FieldFetcher create(MapperService mapperService,
+                                      SearchLookup searchLookup,
+                                      Collection<FieldAndFormat> fieldAndFormats,
+                                      boolean fromDocValues) {
 
         List<FieldContext> fieldContexts = new ArrayList<>();
 
@@ -69,7 +85,13 @@ public class FieldFetcher {
                 if (ft == null || mapperService.isMetadataField(field)) {
                     continue;
                 }
-                ValueFetcher valueFetcher = ft.valueFetcher(mapperService, searchLookup, format);
+                ValueFetcher valueFetcher;
+                if (fromDocValues) {
+                    assert canFetchFromDocValues(mapperService, field, ft) : "field [" + field + "] can't be fetched from doc values";
+                    valueFetcher = new DocValueFetcher(ft.docValueFormat(format, null), searchLookup.doc().getForField(ft));
+                } else {
+                    valueFetcher = ft.valueFetcher(mapperService, searchLookup, format);
+                }
                 fieldContexts.add(new FieldContext(field, valueFetcher));
             }
         }
@@ -77,6 +99,47 @@ public class FieldFetcher {
         return new FieldFetcher(fieldContexts);
     }
 
+    /**
+     * Returns whether all the fields that match the given patterns are keyword, numeric or date fields with doc values, so that their
+     * values can be retrieved from doc values rather than from the source of the document. Keyword fields with {@code ignore_above},
+     * a normalizer or a {@code null_value} are excluded, see {@link KeywordFieldMapper.KeywordFieldType#docValuesMatchSource()}, as
+     * are numeric and date fields with a {@code null_value}. Fields within {@code nested} objects are excluded too since their doc
+     * values are held by the nested documents rather than by the hit.
+     */
+    public static boolean canFetchFromDocValues(MapperService mapperService, Collection<FieldAndFormat> fieldAndFormats) {
+        for (FieldAndFormat fieldAndFormat : fieldAndFormats) {
+            for (String field : mapperService.simpleMatchToFullName(fieldAndFormat.field)) {
+                MappedFieldType ft = mapperService.fieldType(field);
+                if (ft == null || mapperService.isMetadataField(field)) {
+                    continue;
+                }
+                if (canFetchFromDocValues(mapperService, field, ft) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean canFetchFromDocValues(MapperService mapperService, String field, MappedFieldType ft) {
+        if (ft.hasDocValues() == false) {
+            return false;
+        }
+        if (mapperService.documentMapper().mappers().getNestedScope(field) != null) {
+            return false;
+        }
+        if (ft instanceof KeywordFieldMapper.KeywordFieldType) {
+            return ((KeywordFieldMapper.KeywordFieldType) ft).docValuesMatchSource();
+        }
+        if (ft instanceof NumberFieldMapper.NumberFieldType) {
+            return ((NumberFieldMapper.NumberFieldType) ft).docValuesMatchSource();
+        }
+        if (ft instanceof DateFieldMapper.DateFieldType) {
+            return ((DateFieldMapper.DateFieldType) ft).docValuesMatchSource();
+        }
+        return false;
+    }
+
     private final List<FieldContext> fieldContexts;
 
     private FieldFetcher(List<FieldContext> fieldContexts) {
@@ -47,8 +47,11 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 public class HighlightPhase implements FetchSubPhase {
@@ -72,6 +75,10 @@ public class HighlightPhase implements FetchSubPhase {
         Map<String, Object> sharedCache = new HashMap<>();
         Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders = contextBuilders(
             context, highlightContext, query, sharedCache);
+        Set<Highlighter> usedHighlighters = new HashSet<>();
+        for (SearchHighlightContext.Field field : highlightContext.fields()) {
+            usedHighlighters.add(getHighlighter(field));
+        }
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -96,6 +103,13 @@ public class HighlightPhase implements FetchSubPhase {
                 }
                 hitContext.hit().highlightFields(highlightFields);
             }
+
+            @Override
+            public void collectDebugInfo(BiConsumer<String, Object> add) {
+                for (Highlighter highlighter : usedHighlighters) {
+                    highlighter.collectDebugInfo(sharedCache, add);
+                }
+            }
         };
     }
 
@@ -34,6 +34,8 @@ package org.opensearch.search.fetch.subphase.highlight;
 import org.opensearch.index.mapper.MappedFieldType;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Highlights a search result.
@@ -43,4 +45,12 @@ public interface Highlighter {
     HighlightField highlight(FieldHighlightContext fieldContext) throws IOException;
 
     boolean canHighlight(MappedFieldType fieldType);
+
+    /**
+     * Adds debugging information about the highlighting of the hits of a request to the profile of the fetch phase. Implementations
+     * should only add objects which can be serialized with {@link org.opensearch.common.io.stream.StreamOutput#writeGenericValue}.
+     *
+     * @param cache the cache that the highlighters of the request share, see {@link FieldHighlightContext#cache}
+     */
+    default void collectDebugInfo(Map<String, Object> cache, BiConsumer<String, Object> add) {}
 }
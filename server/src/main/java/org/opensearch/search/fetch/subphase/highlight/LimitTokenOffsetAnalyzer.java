@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.AnalyzerWrapper;
+import org.apache.lucene.analysis.miscellaneous.LimitTokenOffsetFilter;
+
+/**
+ * Wraps an analyzer so that its token streams end at the first token that starts after the given offset, so that highlighting the
+ * beginning of a long text doesn't analyze the whole text. The token stream components are built once per field and thread and
+ * reused for all texts that the analyzer is passed afterwards.
+ */
+public final class LimitTokenOffsetAnalyzer extends AnalyzerWrapper {
+
+    private final Analyzer delegate;
+    private final int maxOffset;
+
+    public LimitTokenOffsetAnalyzer(Analyzer delegate, int maxOffset) {
+        // the wrapped components are cached by this analyzer, the components of the delegate may be shared by all fields
+        super(PER_FIELD_REUSE_STRATEGY);
+        this.delegate = delegate;
+        this.maxOffset = maxOffset;
+    }
+
+    /**
+     * The analyzer whose token streams are limited.
+     */
+    public Analyzer getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    protected Analyzer getWrappedAnalyzer(String fieldName) {
+        return delegate;
+    }
+
+    @Override
+    protected TokenStreamComponents wrapComponents(String fieldName, TokenStreamComponents components) {
+        return new TokenStreamComponents(components.getSource(), new LimitTokenOffsetFilter(components.getTokenStream(), maxOffset, false));
+    }
+
+    @Override
+    public String toString() {
+        return "LimitTokenOffsetAnalyzer(" + delegate + ", maxOffset=" + maxOffset + ")";
+    }
+}
@@ -139,6 +139,8 @@ public class SearchHighlightContext {
 
         private int phraseLimit = -1;
 
+        private int maxAnalyzedOffset = -1;
+
         public int fragmentCharSize() {
             return fragmentCharSize;
         }
@@ -211,6 +213,10 @@ public class SearchHighlightContext {
             return phraseLimit;
         }
 
+        public int maxAnalyzedOffset() {
+            return maxAnalyzedOffset;
+        }
+
         public Set<String> matchedFields() {
             return matchedFields;
         }
@@ -318,6 +324,11 @@ public class SearchHighlightContext {
                 return this;
             }
 
+            Builder maxAnalyzedOffset(int maxAnalyzedOffset) {
+                fieldOptions.maxAnalyzedOffset = maxAnalyzedOffset;
+                return this;
+            }
+
             Builder matchedFields(Set<String> matchedFields) {
                 fieldOptions.matchedFields = matchedFields;
                 return this;
@@ -390,6 +401,9 @@ public class SearchHighlightContext {
                 if (fieldOptions.phraseLimit == -1) {
                     fieldOptions.phraseLimit = globalOptions.phraseLimit;
                 }
+                if (fieldOptions.maxAnalyzedOffset == -1) {
+                    fieldOptions.maxAnalyzedOffset = globalOptions.maxAnalyzedOffset;
+                }
                 return this;
             }
         }
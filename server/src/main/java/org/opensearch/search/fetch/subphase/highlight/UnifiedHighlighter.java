@@ -45,6 +45,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.Strings;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.text.Text;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.IdFieldMapper;
@@ -61,6 +62,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -133,6 +135,11 @@ public class UnifiedHighlighter implements Highlighter {
         }
         int numberOfFragments = fieldContext.field.fieldOptions().numberOfFragments();
         Analyzer analyzer = getAnalyzer(fieldContext.context.mapperService().documentMapper());
+        Integer queryMaxAnalyzedOffset = null;
+        if (fieldContext.field.fieldOptions().maxAnalyzedOffset() > 0) {
+            queryMaxAnalyzedOffset = Math.min(fieldContext.field.fieldOptions().maxAnalyzedOffset(), maxAnalyzedOffset);
+            analyzer = getLimitTokenOffsetAnalyzer(fieldContext.cache, analyzer, queryMaxAnalyzedOffset);
+        }
         PassageFormatter passageFormatter = getPassageFormatter(fieldContext.hitContext, fieldContext.field, encoder);
         IndexSearcher searcher = fieldContext.context.searcher();
         OffsetSource offsetSource = getOffsetSource(fieldContext.fieldType);
@@ -168,10 +175,43 @@ public class UnifiedHighlighter implements Highlighter {
             higlighterNumberOfFragments,
             fieldMatcher(fieldContext),
             keywordIgnoreAbove,
-            maxAnalyzedOffset
+            maxAnalyzedOffset,
+            queryMaxAnalyzedOffset
         );
     }
 
+    /**
+     * Returns the analyzer that stops the token streams of the given analyzer at the given offset. The analyzer is shared by all
+     * fields of the request that use the same analyzer and offset, so that they reuse the same token stream components.
+     */
+    private static Analyzer getLimitTokenOffsetAnalyzer(Map<String, Object> cache, Analyzer analyzer, int maxOffset) {
+        @SuppressWarnings("unchecked")
+        Map<Tuple<Analyzer, Integer>, LimitTokenOffsetAnalyzer> analyzers = (Map<Tuple<Analyzer, Integer>, LimitTokenOffsetAnalyzer>) cache
+            .computeIfAbsent(LimitTokenOffsetAnalyzer.class.getName(), k -> new HashMap<>());
+        return analyzers.computeIfAbsent(new Tuple<>(analyzer, maxOffset), k -> new LimitTokenOffsetAnalyzer(analyzer, maxOffset));
+    }
+
+    @Override
+    public void collectDebugInfo(Map<String, Object> cache, BiConsumer<String, Object> add) {
+        @SuppressWarnings("unchecked")
+        Map<String, CustomUnifiedHighlighter> highlighters = (Map<String, CustomUnifiedHighlighter>) cache
+            .get(UnifiedHighlighter.class.getName());
+        if (highlighters == null) {
+            return;
+        }
+        long reanalyzedFields = 0;
+        long reanalyzedChars = 0;
+        long truncatedFields = 0;
+        for (CustomUnifiedHighlighter highlighter : highlighters.values()) {
+            reanalyzedFields += highlighter.getReanalyzedFields();
+            reanalyzedChars += highlighter.getReanalyzedChars();
+            truncatedFields += highlighter.getTruncatedFields();
+        }
+        add.accept("unified_reanalyzed_fields", reanalyzedFields);
+        add.accept("unified_reanalyzed_chars", reanalyzedChars);
+        add.accept("unified_truncated_fields", truncatedFields);
+    }
+
     protected PassageFormatter getPassageFormatter(HitContext hitContext, SearchHighlightContext.Field field, Encoder encoder) {
         return new CustomPassageFormatter(field.fieldOptions().preTags()[0],
             field.fieldOptions().postTags()[0], encoder);
@@ -206,6 +206,14 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Like {@link #search(Query, Collector)}, but searches the provided leaves in the order of the list.
+     */
+    public void search(List<LeafReaderContext> leaves, Query query, Collector collector) throws IOException {
+        query = rewrite(query);
+        search(leaves, createWeight(query, collector.scoreMode(), 1), collector);
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
         for (LeafReaderContext ctx : leaves) { // search each subreader
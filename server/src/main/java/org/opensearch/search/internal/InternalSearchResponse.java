@@ -32,6 +32,7 @@
 
 package org.opensearch.search.internal;
 
+import org.opensearch.Version;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -59,7 +60,13 @@ public class InternalSearchResponse extends SearchResponseSections implements Wr
     public InternalSearchResponse(SearchHits hits, InternalAggregations aggregations, Suggest suggest,
                                   SearchProfileShardResults profileResults, boolean timedOut, Boolean terminatedEarly,
                                   int numReducePhases) {
-        super(hits, aggregations, suggest, timedOut, terminatedEarly, profileResults, numReducePhases);
+        this(hits, aggregations, suggest, profileResults, timedOut, terminatedEarly, numReducePhases, 0);
+    }
+
+    public InternalSearchResponse(SearchHits hits, InternalAggregations aggregations, Suggest suggest,
+                                  SearchProfileShardResults profileResults, boolean timedOut, Boolean terminatedEarly,
+                                  int numReducePhases, int bottomSortFilteredShards) {
+        super(hits, aggregations, suggest, timedOut, terminatedEarly, profileResults, numReducePhases, bottomSortFilteredShards);
     }
 
     public InternalSearchResponse(StreamInput in) throws IOException {
@@ -70,7 +77,8 @@ public class InternalSearchResponse extends SearchResponseSections implements Wr
                 in.readBoolean(),
                 in.readOptionalBoolean(),
                 in.readOptionalWriteable(SearchProfileShardResults::new),
-                in.readVInt()
+                in.readVInt(),
+                in.getVersion().onOrAfter(Version.V_1_0_0) ? in.readVInt() : 0
         );
     }
 
@@ -83,5 +91,8 @@ public class InternalSearchResponse extends SearchResponseSections implements Wr
         out.writeOptionalBoolean(terminatedEarly);
         out.writeOptionalWriteable(profileResults);
         out.writeVInt(numReducePhases);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVInt(bottomSortFilteredShards);
+        }
     }
 }
@@ -46,7 +46,6 @@ import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +91,9 @@ public class SourceLookup implements Map {
             return source;
         }
         try {
+            if (fieldReader == null) {
+                fieldReader = createFieldReader(reader);
+            }
             FieldsVisitor sourceFieldVisitor = new FieldsVisitor(true);
             fieldReader.accept(docId, sourceFieldVisitor);
             BytesReference source = sourceFieldVisitor.source();
@@ -109,6 +111,19 @@ public class SourceLookup implements Map {
         return this.source;
     }
 
+    private static CheckedBiConsumer<Integer, FieldsVisitor, IOException> createFieldReader(LeafReader reader) throws IOException {
+        if (reader instanceof SequentialStoredFieldsLeafReader) {
+            // All the docs to fetch are adjacent but Lucene stored fields are optimized
+            // for random access and don't optimize for sequential access - except for merging.
+            // So we do a little hack here and pretend we're going to do merges in order to
+            // get better sequential access.
+            SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) reader;
+            return lf.getSequentialStoredFieldsReader()::visitDocument;
+        } else {
+            return reader::document;
+        }
+    }
+
     private static Tuple<XContentType, Map<String, Object>> sourceAsMapAndType(BytesReference source) throws OpenSearchParseException {
         return XContentHelper.convertToMap(source, false);
     }
@@ -127,21 +142,10 @@ public class SourceLookup implements Map {
         }
         if (this.reader != context.reader()) {
             this.reader = context.reader();
-            // only reset reader and fieldReader when reader changes
-            try {
-                if (context.reader() instanceof SequentialStoredFieldsLeafReader) {
-                    // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                    // for random access and don't optimize for sequential access - except for merging.
-                    // So we do a little hack here and pretend we're going to do merges in order to
-                    // get better sequential access.
-                    SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) context.reader();
-                    fieldReader = lf.getSequentialStoredFieldsReader()::visitDocument;
-                } else {
-                    fieldReader = context.reader()::document;
-                }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
+            // only reset reader and fieldReader when reader changes, the fieldReader is created once the source of a
+            // document of the reader is loaded since the source is usually set from the stored fields that the fetch
+            // phase loaded already
+            fieldReader = null;
         }
         this.source = null;
         this.sourceAsBytes = null;
@@ -32,6 +32,8 @@
 
 package org.opensearch.search.profile;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -49,9 +51,18 @@ public class ProfileShardResult implements Writeable {
 
     private final AggregationProfileShardResult aggProfileShardResult;
 
+    @Nullable
+    private final ProfileResult fetchProfileResult;
+
     public ProfileShardResult(List<QueryProfileShardResult> queryProfileResults, AggregationProfileShardResult aggProfileShardResult) {
+        this(queryProfileResults, aggProfileShardResult, null);
+    }
+
+    public ProfileShardResult(List<QueryProfileShardResult> queryProfileResults, AggregationProfileShardResult aggProfileShardResult,
+                              @Nullable ProfileResult fetchProfileResult) {
         this.aggProfileShardResult = aggProfileShardResult;
         this.queryProfileResults = Collections.unmodifiableList(queryProfileResults);
+        this.fetchProfileResult = fetchProfileResult;
     }
 
     public ProfileShardResult(StreamInput in) throws IOException {
@@ -63,6 +74,11 @@ public class ProfileShardResult implements Writeable {
         }
         this.queryProfileResults = Collections.unmodifiableList(queryProfileResults);
         this.aggProfileShardResult = new AggregationProfileShardResult(in);
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            this.fetchProfileResult = in.readOptionalWriteable(ProfileResult::new);
+        } else {
+            this.fetchProfileResult = null;
+        }
     }
 
     @Override
@@ -72,6 +88,9 @@ public class ProfileShardResult implements Writeable {
             queryShardResult.writeTo(out);
         }
         aggProfileShardResult.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(fetchProfileResult);
+        }
     }
 
     public List<QueryProfileShardResult> getQueryProfileResults() {
@@ -81,4 +100,12 @@ public class ProfileShardResult implements Writeable {
     public AggregationProfileShardResult getAggregationProfileResults() {
         return aggProfileShardResult;
     }
+
+    /**
+     * The profile of the fetch phase of the shard, or {@code null} if the shard's hits weren't fetched.
+     */
+    @Nullable
+    public ProfileResult getFetchProfileResult() {
+        return fetchProfileResult;
+    }
 }
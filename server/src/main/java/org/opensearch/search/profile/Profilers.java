@@ -34,6 +34,7 @@ package org.opensearch.search.profile;
 
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.profile.aggregation.AggregationProfiler;
+import org.opensearch.search.profile.fetch.FetchProfiler;
 import org.opensearch.search.profile.query.QueryProfiler;
 
 import java.util.ArrayList;
@@ -46,12 +47,14 @@ public final class Profilers {
     private final ContextIndexSearcher searcher;
     private final List<QueryProfiler> queryProfilers;
     private final AggregationProfiler aggProfiler;
+    private final FetchProfiler fetchProfiler;
 
     /** Sole constructor. This {@link Profilers} instance will initially wrap one {@link QueryProfiler}. */
     public Profilers(ContextIndexSearcher searcher) {
         this.searcher = searcher;
         this.queryProfilers = new ArrayList<>();
         this.aggProfiler = new AggregationProfiler();
+        this.fetchProfiler = new FetchProfiler();
         addQueryProfiler();
     }
 
@@ -78,4 +81,9 @@ public final class Profilers {
         return aggProfiler;
     }
 
+    /** Return the {@link FetchProfiler}. */
+    public FetchProfiler getFetchProfiler() {
+        return fetchProfiler;
+    }
+
 }
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import org.opensearch.search.profile.AbstractProfileBreakdown;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * {@linkplain AbstractProfileBreakdown} customized to work with the fetch phase.
+ */
+public class FetchProfileBreakdown extends AbstractProfileBreakdown<FetchTimingType> {
+    private final Map<String, Object> extra = new HashMap<>();
+
+    public FetchProfileBreakdown() {
+        super(FetchTimingType.class);
+    }
+
+    /**
+     * Add extra debugging information about the fetch phase.
+     */
+    public void addDebugInfo(String key, Object value) {
+        extra.put(key, value);
+    }
+
+    @Override
+    protected Map<String, Object> toDebugMap() {
+        return unmodifiableMap(extra);
+    }
+}
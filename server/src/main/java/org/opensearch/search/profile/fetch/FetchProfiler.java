@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+import org.opensearch.search.profile.ProfileResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Profiles the fetch phase of a shard: the time it spends on moving between segments and on loading stored fields, and the time
+ * that each fetch sub phase spends on the hits. Fetch sub phases such as inner hits that run a fetch phase of their own are timed as a
+ * whole.
+ */
+public final class FetchProfiler {
+
+    private final FetchProfileBreakdown breakdown = new FetchProfileBreakdown();
+
+    private final Map<String, FetchSubPhaseProfileBreakdown> subPhases = new LinkedHashMap<>();
+
+    private final List<ProfilingFetchSubPhaseProcessor> processors = new ArrayList<>();
+
+    private long start;
+
+    private long time;
+
+    /**
+     * Starts timing the fetch phase.
+     */
+    public void start() {
+        assert start == 0 : "fetch phase profiled twice";
+        start = System.nanoTime();
+    }
+
+    /**
+     * Stops timing the fetch phase.
+     */
+    public void stop() {
+        assert start != 0 : "fetch phase profile not started";
+        time = Math.max(System.nanoTime() - start, 1L);
+    }
+
+    /**
+     * The timings of the fetch phase itself.
+     */
+    public FetchProfileBreakdown getBreakdown() {
+        return breakdown;
+    }
+
+    /**
+     * Wraps the given processor of the fetch sub phase of the given type so that the calls to it are timed.
+     */
+    public FetchSubPhaseProcessor profile(String type, FetchSubPhaseProcessor processor) {
+        FetchSubPhaseProfileBreakdown subPhaseBreakdown = subPhases.computeIfAbsent(type, k -> new FetchSubPhaseProfileBreakdown());
+        ProfilingFetchSubPhaseProcessor profilingProcessor = new ProfilingFetchSubPhaseProcessor(processor, subPhaseBreakdown);
+        processors.add(profilingProcessor);
+        return profilingProcessor;
+    }
+
+    /**
+     * Returns the timings of the fetch phase, with a child for each fetch sub phase.
+     */
+    public ProfileResult getResult() {
+        for (ProfilingFetchSubPhaseProcessor processor : processors) {
+            processor.collectDebugInfo(processor.getBreakdown()::addDebugInfo);
+        }
+        List<ProfileResult> children = new ArrayList<>(subPhases.size());
+        for (Map.Entry<String, FetchSubPhaseProfileBreakdown> entry : subPhases.entrySet()) {
+            FetchSubPhaseProfileBreakdown subPhase = entry.getValue();
+            children.add(new ProfileResult(entry.getKey(), "", subPhase.toBreakdownMap(), subPhase.toDebugMap(), subPhase.toNodeTime(),
+                null));
+        }
+        return new ProfileResult("fetch", "", breakdown.toBreakdownMap(), breakdown.toDebugMap(), time, children);
+    }
+}
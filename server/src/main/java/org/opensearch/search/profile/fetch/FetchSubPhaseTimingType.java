@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import java.util.Locale;
+
+/**
+ * The timings of a fetch sub phase, see {@link FetchSubPhaseProfileBreakdown}.
+ */
+public enum FetchSubPhaseTimingType {
+    /**
+     * Moving the sub phase to the segment of the next hits.
+     */
+    NEXT_READER,
+    /**
+     * Processing a hit.
+     */
+    PROCESS;
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import java.util.Locale;
+
+/**
+ * The timings of the fetch phase itself, see {@link FetchProfileBreakdown}.
+ */
+public enum FetchTimingType {
+    /**
+     * Moving to the segment of the next hits.
+     */
+    NEXT_READER,
+    /**
+     * Loading the stored fields, including the source, of the hits.
+     */
+    LOAD_STORED_FIELDS;
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
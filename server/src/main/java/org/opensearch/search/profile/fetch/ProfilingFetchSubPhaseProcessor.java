@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+import org.opensearch.search.profile.Timer;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link FetchSubPhaseProcessor} that times the calls to the processor that it wraps.
+ */
+public class ProfilingFetchSubPhaseProcessor implements FetchSubPhaseProcessor {
+
+    private final FetchSubPhaseProcessor delegate;
+    private final FetchSubPhaseProfileBreakdown breakdown;
+
+    public ProfilingFetchSubPhaseProcessor(FetchSubPhaseProcessor delegate, FetchSubPhaseProfileBreakdown breakdown) {
+        this.delegate = delegate;
+        this.breakdown = breakdown;
+    }
+
+    @Override
+    public void setNextReader(LeafReaderContext readerContext) throws IOException {
+        Timer timer = breakdown.getTimer(FetchSubPhaseTimingType.NEXT_READER);
+        timer.start();
+        try {
+            delegate.setNextReader(readerContext);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Override
+    public void process(FetchSubPhase.HitContext hitContext) throws IOException {
+        Timer timer = breakdown.getTimer(FetchSubPhaseTimingType.PROCESS);
+        timer.start();
+        try {
+            delegate.process(hitContext);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        delegate.collectDebugInfo(add);
+    }
+
+    FetchSubPhaseProfileBreakdown getBreakdown() {
+        return breakdown;
+    }
+}
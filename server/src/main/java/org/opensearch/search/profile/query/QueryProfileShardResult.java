@@ -32,6 +32,7 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -49,12 +50,13 @@ import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedT
 
 /**
  * A container class to hold the profile results for a single shard in the request.
- * Contains a list of query profiles, a collector tree and a total rewrite tree.
+ * Contains a list of query profiles, a collector tree, the total rewrite time and the total rescore time.
  */
 public final class QueryProfileShardResult implements Writeable, ToXContentObject {
 
     public static final String COLLECTOR = "collector";
     public static final String REWRITE_TIME = "rewrite_time";
+    public static final String RESCORE_TIME = "rescore_time";
     public static final String QUERY_ARRAY = "query";
 
     private final List<ProfileResult> queryProfileResults;
@@ -63,12 +65,20 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    private final long rescoreTime;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime,
                               CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, 0L, profileCollector);
+    }
+
+    public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime, long rescoreTime,
+                              CollectorResult profileCollector) {
         assert(profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.rescoreTime = rescoreTime;
     }
 
     /**
@@ -83,6 +93,11 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            rescoreTime = in.readLong();
+        } else {
+            rescoreTime = 0L;
+        }
     }
 
     @Override
@@ -93,6 +108,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeLong(rescoreTime);
+        }
     }
 
 
@@ -104,6 +122,13 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return rewriteTime;
     }
 
+    /**
+     * The time it took to rescore the top hits, in nanoseconds.
+     */
+    public long getRescoreTime() {
+        return rescoreTime;
+    }
+
     public CollectorResult getCollectorResult() {
         return profileCollector;
     }
@@ -117,6 +142,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         builder.endArray();
         builder.field(REWRITE_TIME, rewriteTime);
+        builder.field(RESCORE_TIME, rescoreTime);
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
@@ -130,6 +156,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         String currentFieldName = null;
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
+        long rescoreTime = 0;
         CollectorResult collector = null;
         while((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
@@ -137,6 +164,8 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
             } else if (token.isValue()) {
                 if (REWRITE_TIME.equals(currentFieldName)) {
                     rewriteTime = parser.longValue();
+                } else if (RESCORE_TIME.equals(currentFieldName)) {
+                    rescoreTime = parser.longValue();
                 } else {
                     parser.skipChildren();
                 }
@@ -156,6 +185,6 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, rescoreTime, collector);
     }
 }
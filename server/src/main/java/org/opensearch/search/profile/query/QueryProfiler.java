@@ -55,6 +55,8 @@ public final class QueryProfiler extends AbstractProfiler<QueryProfileBreakdown,
      */
     private InternalProfileCollector collector;
 
+    private long rescoreTime;
+
     public QueryProfiler() {
         super(new InternalQueryProfileTree());
     }
@@ -92,6 +94,20 @@ public final class QueryProfiler extends AbstractProfiler<QueryProfileBreakdown,
         return ((InternalQueryProfileTree) profileTree).getRewriteTime();
     }
 
+    /**
+     * Add the time it took to rescore the top hits of this search.
+     */
+    public void addRescoreTime(long rescoreTime) {
+        this.rescoreTime += rescoreTime;
+    }
+
+    /**
+     * @return total time taken to rescore the top hits of this search
+     */
+    public long getRescoreTime() {
+        return rescoreTime;
+    }
+
     /**
      * Return the current root Collector for this search
      */
@@ -58,6 +58,7 @@ import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FutureArrays;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.common.Booleans;
@@ -75,11 +76,15 @@ import org.opensearch.search.aggregations.AggregationPhase;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.profile.ProfileShardResult;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.profile.query.InternalProfileCollector;
 import org.opensearch.search.rescore.RescorePhase;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.search.suggest.SuggestPhase;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.threadpool.ThreadPool;
@@ -87,7 +92,6 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
@@ -224,6 +228,16 @@ public class QueryPhase {
                 }
             }
 
+            final Query bottomSortQuery = buildBottomSortQuery(searchContext);
+            if (bottomSortQuery != null) {
+                // skip the documents that can't compete with the top hits that the coordinating node already has
+                query = new BooleanQuery.Builder()
+                    .add(query, BooleanClause.Occur.MUST)
+                    .add(bottomSortQuery, BooleanClause.Occur.FILTER)
+                    .build();
+                queryResult.bottomSortFiltered(true);
+            }
+
             final LinkedList<QueryCollectorContext> collectors = new LinkedList<>();
             // whether the chain contains a collector that filters documents
             boolean hasFilterCollector = false;
@@ -270,6 +284,12 @@ public class QueryPhase {
                     sortAndFormatsForRewrittenNumericSort = searchContext.sort(); // stash SortAndFormats to restore it later
                     searchContext.sort(new SortAndFormats(new Sort(newSortFields), newFormats));
                     leafSorter = createLeafSorter(oldSortFields[0]);
+                } else if (enableSortOptimizationWithPoints(searchContext, reader)) {
+                    if (searchContext.searchAfter() == null) {
+                        // the top docs collector only breaks ties by doc id if it visits the documents in doc id order,
+                        // so only reorder the segments if the search does not need to resume from a tied document
+                        leafSorter = createLeafSorter(searchContext.sort().sort.getSort()[0]);
+                    }
                 }
             }
 
@@ -306,7 +326,8 @@ public class QueryPhase {
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
                 } else {
-                    shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
+                    shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, leafSorter,
+                        timeoutSet);
                 }
 
                 // if we rewrote numeric long or date sort, restore fieldDocs based on the original sort
@@ -335,7 +356,8 @@ public class QueryPhase {
     }
 
     private static boolean searchWithCollector(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
-            LinkedList<QueryCollectorContext> collectors, boolean hasFilterCollector, boolean timeoutSet) throws IOException {
+            LinkedList<QueryCollectorContext> collectors, boolean hasFilterCollector,
+            CheckedConsumer<List<LeafReaderContext>, IOException> leafSorter, boolean timeoutSet) throws IOException {
         // create the top docs collector last when the other collectors are known
         final TopDocsCollectorContext topDocsFactory = createTopDocsCollectorContext(searchContext, hasFilterCollector);
         // add the top docs collector, the first collector context in the chain
@@ -350,8 +372,10 @@ public class QueryPhase {
             queryCollector = QueryCollectorContext.createQueryCollector(collectors);
         }
         QuerySearchResult queryResult = searchContext.queryResult();
+        List<LeafReaderContext> leaves = new ArrayList<>(searcher.getIndexReader().leaves());
+        leafSorter.accept(leaves);
         try {
-            searcher.search(query, queryCollector);
+            searcher.search(leaves, query, queryCollector);
         } catch (EarlyTerminatingCollector.EarlyTerminationException e) {
             queryResult.terminatedEarly(true);
         } catch (TimeExceededException e) {
@@ -419,6 +443,24 @@ public class QueryPhase {
         return false; // no rescoring when sorting by field
     }
 
+    /**
+     * Returns a query that matches the documents whose primary sort value is at least as competitive as the global bottom sort
+     * values of the request, or <code>null</code> if documents can't be skipped. Documents can only be skipped if they don't need
+     * to be counted or aggregated.
+     */
+    static Query buildBottomSortQuery(SearchContext searchContext) {
+        final ShardSearchRequest request = searchContext.request();
+        if (request == null || request.getBottomSortValues() == null) return null;
+        if (searchContext.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED) return null;
+        if (searchContext.aggregations() != null) return null;
+        if (searchContext.scrollContext() != null) return null;
+        if (searchContext.collapse() != null) return null;
+        if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) return null;
+        final FieldSortBuilder primarySort = FieldSortBuilder.getPrimaryFieldSortOrNull(request.source());
+        if (primarySort == null) return null;
+        return primarySort.buildBottomSortQuery(searchContext.getQueryShardContext(), request.getBottomSortValues());
+    }
+
     private static Query tryRewriteLongSort(SearchContext searchContext, IndexReader reader,
                                             Query query, boolean hasFilterCollector) throws IOException {
         if ((searchContext.from() + searchContext.size()) <= 0) return null;
@@ -506,27 +548,66 @@ public class QueryPhase {
     }
 
     /**
-     * Creates a sorter of {@link LeafReaderContext} that orders leaves depending on the minimum
-     * value and the sort order of the provided <code>sortField</code>.
+     * Lets the top docs collector skip the documents that can't compete with the current top hits if the primary sort is on a
+     * numeric or date field that is indexed with points: once the queue is full, the comparator of the primary sort field uses
+     * the BKD tree of the field to only visit the documents whose values are better than the bottom of the queue.
+     *
+     * @return whether the optimization was enabled
+     */
+    static boolean enableSortOptimizationWithPoints(SearchContext searchContext, IndexReader reader) {
+        if ((searchContext.from() + searchContext.size()) <= 0) return false;
+        if (searchContext.scrollContext() != null) return false;
+        if (searchContext.collapse() != null) return false;
+        if (searchContext.aggregations() != null) return false;
+        if (canEarlyTerminate(reader, searchContext.sort())) {
+            // disable this optimization if index sorting matches the query sort since it's already optimized by index searcher
+            return false;
+        }
+        SortField sortField = searchContext.sort().sort.getSort()[0];
+        String fieldName = sortField.getField();
+        if (fieldName == null) return false; // happens when _score or _doc is the 1st sort field
+        if (searchContext.mapperService() == null) return false; // mapperService can be null in tests
+        final MappedFieldType fieldType = searchContext.mapperService().fieldType(fieldName);
+        if (fieldType == null) return false; // for unmapped fields, default behaviour depending on "unmapped_type" flag
+        if (fieldType.isSearchable() == false) return false;
+        if (fieldType.hasDocValues() == false) return false;
+
+        // the points of the field must be encoded like the values of the comparator, sorts that cast the values of the field,
+        // sort on nested fields or use a sort mode other than min or max have a custom comparator that does not use points
+        final SortField.Type expectedType;
+        if (fieldType instanceof DateFieldType || fieldType.typeName().equals("long")) {
+            expectedType = SortField.Type.LONG;
+        } else if (fieldType.typeName().equals("double")) {
+            expectedType = SortField.Type.DOUBLE;
+        } else if (fieldType.typeName().equals("float")) {
+            expectedType = SortField.Type.FLOAT;
+        } else {
+            return false;
+        }
+        if (expectedType.equals(IndexSortConfig.getSortFieldType(sortField)) == false) return false;
+
+        sortField.setCanUsePoints();
+        return true;
+    }
+
+    /**
+     * Creates a sorter of {@link LeafReaderContext} that orders leaves by the {@link MinAndMax} values of the points of the
+     * provided <code>sortField</code>, so that the leaves with the most competitive values are searched first. Leaves without
+     * points for the field are searched last.
      */
     static CheckedConsumer<List<LeafReaderContext>, IOException> createLeafSorter(SortField sortField) {
         return leaves -> {
-            long[] sortValues = new long[leaves.size()];
-            long missingValue = (long) sortField.getMissingValue();
+            final MinAndMax<?>[] minAndMaxes = new MinAndMax<?>[leaves.size()];
             for (LeafReaderContext ctx : leaves) {
                 PointValues values = ctx.reader().getPointValues(sortField.getField());
-                if (values == null) {
-                    sortValues[ctx.ord] = missingValue;
-                } else {
-                    byte[] sortValue = sortField.getReverse() ? values.getMaxPackedValue(): values.getMinPackedValue();
-                    sortValues[ctx.ord] = sortValue == null ? missingValue : LongPoint.decodeDimension(sortValue, 0);
+                if (values != null && values.size() > 0) {
+                    // points are encoded so that the order of their bytes is the order of their values
+                    minAndMaxes[ctx.ord] = new MinAndMax<>(new BytesRef(values.getMinPackedValue()),
+                        new BytesRef(values.getMaxPackedValue()));
                 }
             }
-            Comparator<LeafReaderContext> comparator = Comparator.comparingLong(l -> sortValues[l.ord]);
-            if (sortField.getReverse()) {
-                comparator = comparator.reversed();
-            }
-            Collections.sort(leaves, comparator);
+            final Comparator<MinAndMax<?>> comparator = MinAndMax.getComparator(sortField.getReverse() ? SortOrder.DESC : SortOrder.ASC);
+            leaves.sort(Comparator.comparing((LeafReaderContext l) -> minAndMaxes[l.ord], comparator));
         };
     }
 
@@ -41,6 +41,7 @@ import java.io.IOException;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -78,6 +79,7 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private Suggest suggest;
     private boolean searchTimedOut;
     private Boolean terminatedEarly = null;
+    private boolean bottomSortFiltered;
     private ProfileShardResult profileShardResults;
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
@@ -155,6 +157,19 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this.terminatedEarly;
     }
 
+    public void bottomSortFiltered(boolean bottomSortFiltered) {
+        this.bottomSortFiltered = bottomSortFiltered;
+    }
+
+    /**
+     * Returns <code>true</code> if the shard filtered its query by the global bottom sort values that the coordinating
+     * node sent with the request, so that documents that can't compete with them are skipped. This doesn't mean that
+     * the shard had such documents.
+     */
+    public boolean bottomSortFiltered() {
+        return bottomSortFiltered;
+    }
+
     public TopDocsAndMaxScore topDocs() {
         if (topDocsAndMaxScore == null) {
             throw new IllegalStateException("topDocs already consumed");
@@ -371,6 +386,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
             setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
             setRescoreDocIds(new RescoreDocIds(in));
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            bottomSortFiltered = in.readBoolean();
+        }
     }
 
     @Override
@@ -446,6 +464,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
             out.writeOptionalWriteable(getShardSearchRequest());
             getRescoreDocIds().writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeBoolean(bottomSortFiltered);
+        }
     }
 
     public TotalHits getTotalHits() {
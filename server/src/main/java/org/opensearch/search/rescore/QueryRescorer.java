@@ -32,18 +32,31 @@
 
 package org.opensearch.search.rescore;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.stream.Collectors.toSet;
 
@@ -61,20 +74,6 @@ public final class QueryRescorer implements Rescorer {
 
         final QueryRescoreContext rescore = (QueryRescoreContext) rescoreContext;
 
-        org.apache.lucene.search.Rescorer rescorer = new org.apache.lucene.search.QueryRescorer(rescore.query()) {
-
-            @Override
-            protected float combine(float firstPassScore, boolean secondPassMatches, float secondPassScore) {
-                if (secondPassMatches) {
-                    return rescore.scoreMode.combine(firstPassScore * rescore.queryWeight(),
-                            secondPassScore * rescore.rescoreQueryWeight());
-                }
-                // TODO: shouldn't this be up to the ScoreMode?  I.e., we should just invoke ScoreMode.combine, passing 0.0f for the
-                // secondary score?
-                return firstPassScore * rescore.queryWeight();
-            }
-        };
-
         // First take top slice of incoming docs, to be rescored:
         TopDocs topNFirstPass = topN(topDocs, rescoreContext.getWindowSize());
 
@@ -84,10 +83,88 @@ public final class QueryRescorer implements Rescorer {
         rescoreContext.setRescoredDocs(topNDocIDs);
 
         // Rescore them:
-        TopDocs rescored = rescorer.rescore(searcher, topNFirstPass, rescoreContext.getWindowSize());
+        TopDocs rescored = rescore(searcher, topNFirstPass, rescore);
 
         // Splice back to non-topN hits and resort all of them:
-        return combine(topDocs, rescored, (QueryRescoreContext) rescoreContext);
+        return combine(topDocs, rescored, rescore);
+    }
+
+    /**
+     * Rescores the given hits like Lucene's {@link org.apache.lucene.search.QueryRescorer} does, but splits the hits into partitions of
+     * consecutive doc ids that are rescored in parallel, see {@link RescoreContext#setPartitions}. All partitions share the weight of
+     * the rescore query.
+     */
+    private static TopDocs rescore(IndexSearcher searcher, TopDocs firstPass, QueryRescoreContext rescore) throws IOException {
+        final ScoreDoc[] hits = firstPass.scoreDocs.clone();
+        Arrays.sort(hits, Comparator.comparingInt(hit -> hit.doc));
+        final Weight weight = rescore.weight(searcher);
+        final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        final int numPartitions = Math.min(rescore.getMaxPartitions(), hits.length);
+        final List<Partition> partitions = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            final int from = (int) ((long) hits.length * i / numPartitions);
+            final int to = (int) ((long) hits.length * (i + 1) / numPartitions);
+            partitions.add(new Partition(() -> rescore(weight, leaves, hits, from, to, rescore)));
+        }
+        run(partitions, rescore.getExecutor());
+        Arrays.sort(hits, SCORE_DOC_COMPARATOR);
+        return new TopDocs(firstPass.totalHits, hits);
+    }
+
+    private static void rescore(Weight weight, List<LeafReaderContext> leaves, ScoreDoc[] hits, int from, int to,
+                                QueryRescoreContext rescore) throws IOException {
+        int endDoc = -1;
+        int docBase = 0;
+        Scorer scorer = null;
+        for (int i = from; i < to; i++) {
+            final ScoreDoc hit = hits[i];
+            if (hit.doc >= endDoc) {
+                // the hits are sorted by doc id so we moved on to another segment
+                final LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(hit.doc, leaves));
+                docBase = leaf.docBase;
+                endDoc = docBase + leaf.reader().maxDoc();
+                scorer = weight.scorer(leaf);
+            }
+            final int targetDoc = hit.doc - docBase;
+            int actualDoc = scorer == null ? DocIdSetIterator.NO_MORE_DOCS : scorer.docID();
+            if (actualDoc < targetDoc) {
+                actualDoc = scorer.iterator().advance(targetDoc);
+            }
+            if (actualDoc == targetDoc) {
+                hit.score = combine(hit.score, true, scorer.score(), rescore);
+            } else {
+                hit.score = combine(hit.score, false, 0.0f, rescore);
+            }
+        }
+    }
+
+    /**
+     * Runs the partitions on the executor. The calling thread runs the partitions that no thread of the executor started yet itself, so
+     * that the rescore makes progress even if all threads of the executor are busy, for instance with other rescores.
+     */
+    private static void run(List<Partition> partitions, Executor executor) throws IOException {
+        for (int i = 1; i < partitions.size(); i++) {
+            try {
+                executor.execute(partitions.get(i)::run);
+            } catch (OpenSearchRejectedExecutionException e) {
+                // the partition is run by the calling thread below
+            }
+        }
+        for (Partition partition : partitions) {
+            partition.run();
+        }
+        for (Partition partition : partitions) {
+            partition.await();
+        }
+    }
+
+    private static float combine(float firstPassScore, boolean secondPassMatches, float secondPassScore, QueryRescoreContext rescore) {
+        if (secondPassMatches) {
+            return rescore.scoreMode.combine(firstPassScore * rescore.queryWeight(), secondPassScore * rescore.rescoreQueryWeight());
+        }
+        // TODO: shouldn't this be up to the ScoreMode?  I.e., we should just invoke ScoreMode.combine, passing 0.0f for the
+        // secondary score?
+        return firstPassScore * rescore.queryWeight();
     }
 
     @Override
@@ -108,7 +185,7 @@ public final class QueryRescorer implements Rescorer {
             prim = Explanation.noMatch("First pass did not match", sourceExplanation);
         }
         if (rescoreContext.isRescored(topLevelDocId)){
-            Explanation rescoreExplain = searcher.explain(rescore.query(), topLevelDocId);
+            Explanation rescoreExplain = explain(rescore.weight(searcher), searcher.getIndexReader().leaves(), topLevelDocId);
             // NOTE: we don't use Lucene's Rescorer.explain because we want to insert our own description with which ScoreMode was used.
             //  Maybe we should add QueryRescorer.explainCombine to Lucene?
             if (rescoreExplain != null && rescoreExplain.isMatch()) {
@@ -127,6 +204,16 @@ public final class QueryRescorer implements Rescorer {
         return prim;
     }
 
+    private static Explanation explain(Weight weight, List<LeafReaderContext> leaves, int topLevelDocId) throws IOException {
+        final LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(topLevelDocId, leaves));
+        final int doc = topLevelDocId - leaf.docBase;
+        final Bits liveDocs = leaf.reader().getLiveDocs();
+        if (liveDocs != null && liveDocs.get(doc) == false) {
+            return Explanation.noMatch("Document " + topLevelDocId + " is deleted");
+        }
+        return weight.explain(leaf, doc);
+    }
+
     private static final Comparator<ScoreDoc> SCORE_DOC_COMPARATOR = new Comparator<ScoreDoc>() {
         @Override
         public int compare(ScoreDoc o1, ScoreDoc o2) {
@@ -168,8 +255,56 @@ public final class QueryRescorer implements Rescorer {
         return in;
     }
 
+    /**
+     * A range of hits to rescore, that is run once by whichever thread gets to it first.
+     */
+    private static final class Partition {
+        private final CheckedRunnable<IOException> task;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Exception failure;
+
+        Partition(CheckedRunnable<IOException> task) {
+            this.task = task;
+        }
+
+        void run() {
+            if (started.compareAndSet(false, true)) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    failure = e;
+                } finally {
+                    done.countDown();
+                }
+            }
+        }
+
+        void await() throws IOException {
+            boolean interrupted = false;
+            // the partition modifies the hits so we need to wait for it even if we are interrupted
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+
     public static class QueryRescoreContext extends RescoreContext {
         private Query query;
+        private Weight weight;
         private float queryWeight = 1.0f;
         private float rescoreQueryWeight = 1.0f;
         private QueryRescoreMode scoreMode;
@@ -192,6 +327,17 @@ public final class QueryRescorer implements Rescorer {
             return query;
         }
 
+        /**
+         * The weight of the rescore query, which is created once and shared by all segments and partitions that are rescored and by
+         * the explanations of the rescored hits.
+         */
+        Weight weight(IndexSearcher searcher) throws IOException {
+            if (weight == null) {
+                weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE, 1);
+            }
+            return weight;
+        }
+
         public float queryWeight() {
             return queryWeight;
         }
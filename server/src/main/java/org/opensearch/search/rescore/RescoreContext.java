@@ -33,10 +33,12 @@
 package org.opensearch.search.rescore;
 
 import org.apache.lucene.search.Query;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Context available to the rescore while it is running. Rescore
@@ -47,6 +49,8 @@ public class RescoreContext {
     private final int windowSize;
     private final Rescorer rescorer;
     private Set<Integer> rescoredDocs; //doc Ids for which rescoring was applied
+    private Executor executor = OpenSearchExecutors.newDirectExecutorService();
+    private int maxPartitions = 1;
 
     /**
      * Build the context.
@@ -71,6 +75,32 @@ public class RescoreContext {
         return windowSize;
     }
 
+    /**
+     * Lets the rescorer split its window into up to {@code maxPartitions} partitions that are rescored in parallel on the given
+     * executor. The window is rescored by the calling thread only by default.
+     */
+    public void setPartitions(Executor executor, int maxPartitions) {
+        if (maxPartitions < 1) {
+            throw new IllegalArgumentException("maxPartitions must be at least 1 but was [" + maxPartitions + "]");
+        }
+        this.executor = executor;
+        this.maxPartitions = maxPartitions;
+    }
+
+    /**
+     * The executor that partitions of the window can be rescored on.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The maximum number of partitions that the window can be split into.
+     */
+    public int getMaxPartitions() {
+        return maxPartitions;
+    }
+
     public void setRescoredDocs(Set<Integer> docIds) {
         rescoredDocs = docIds;
     }
@@ -50,6 +50,7 @@ public class RescorePhase {
         if (topDocs.scoreDocs.length == 0) {
             return;
         }
+        final long start = System.nanoTime();
         try {
             for (RescoreContext ctx : context.rescore()) {
                 topDocs = ctx.rescorer().rescore(topDocs, context.searcher(), ctx);
@@ -61,6 +62,10 @@ public class RescorePhase {
                     context.queryResult().sortValueFormats());
         } catch (IOException e) {
             throw new OpenSearchException("Rescore Phase Failed", e);
+        } finally {
+            if (context.getProfilers() != null) {
+                context.getProfilers().getCurrentQueryProfiler().addRescoreTime(System.nanoTime() - start);
+            }
         }
     }
 
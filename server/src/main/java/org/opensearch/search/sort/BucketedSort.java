@@ -107,6 +107,20 @@ public abstract class BucketedSort implements Releasable {
          * </p>
          */
         void swap(long lhs, long rhs);
+        /**
+         * {@code true} if the extra data at {@code lhs} is "better" than the
+         * extra data at {@code rhs}. This is only called for entries whose
+         * sort values are equal, so the extra data can act as a secondary
+         * sort key, like the doc id that {@code top_hits} breaks ties with.
+         * <p>
+         * Documents are collected in increasing doc id order so a document
+         * whose sort value ties with the worst competitive entry of a bucket
+         * never replaces it.
+         * </p>
+         */
+        default boolean betterThan(long lhs, long rhs) {
+            return false;
+        }
         /**
          * Prepare to load extra data from a leaf.
          */
@@ -276,6 +290,14 @@ public abstract class BucketedSort implements Releasable {
      */
     protected abstract void swap(long lhs, long rhs);
 
+    /**
+     * Compare the entries at two indices whose sort values compared to {@code cmp},
+     * breaking ties with the {@linkplain ExtraData}.
+     */
+    protected final boolean betterThan(int cmp, long lhs, long rhs) {
+        return cmp < 0 || (cmp == 0 && extra.betterThan(lhs, rhs));
+    }
+
     /**
      * Return a fairly human readable representation of the array backing the sort.
      * <p>
@@ -511,7 +533,7 @@ public abstract class BucketedSort implements Releasable {
 
         @Override
         protected final boolean betterThan(long lhs, long rhs) {
-            return getOrder().reverseMul() * Double.compare(values.get(lhs), values.get(rhs)) < 0;
+            return betterThan(getOrder().reverseMul() * Double.compare(values.get(lhs), values.get(rhs)), lhs, rhs);
         }
 
         @Override
@@ -602,7 +624,7 @@ public abstract class BucketedSort implements Releasable {
 
         @Override
         protected final boolean betterThan(long lhs, long rhs) {
-            return getOrder().reverseMul() * Float.compare(values.get(lhs), values.get(rhs)) < 0;
+            return betterThan(getOrder().reverseMul() * Float.compare(values.get(lhs), values.get(rhs)), lhs, rhs);
         }
 
         @Override
@@ -677,7 +699,7 @@ public abstract class BucketedSort implements Releasable {
 
         @Override
         protected final boolean betterThan(long lhs, long rhs) {
-            return getOrder().reverseMul() * Long.compare(values.get(lhs), values.get(rhs)) < 0;
+            return betterThan(getOrder().reverseMul() * Long.compare(values.get(lhs), values.get(rhs)), lhs, rhs);
         }
 
         @Override
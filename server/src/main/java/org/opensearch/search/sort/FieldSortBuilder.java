@@ -37,6 +37,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiTerms;
 import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchParseException;
@@ -46,6 +47,7 @@ import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.time.DateMathParser;
 import org.opensearch.common.time.DateUtils;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.xcontent.ObjectParser;
 import org.opensearch.common.xcontent.ObjectParser.ValueType;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -463,13 +465,7 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
         if (fieldType.isSearchable() == false) {
             return false;
         }
-        DocValueFormat docValueFormat = bottomSortValues.getSortValueFormats()[0];
-        final DateMathParser dateMathParser;
-        if (docValueFormat instanceof DocValueFormat.DateTime) {
-            dateMathParser = ((DocValueFormat.DateTime) docValueFormat).getDateMathParser();
-        } else {
-            dateMathParser = null;
-        }
+        DateMathParser dateMathParser = bottomSortDateMathParser(bottomSortValues);
         Object bottomSortValue =  bottomSortValues.getFormattedSortValues()[0];
         Object minValue = order() == SortOrder.DESC ? bottomSortValue : null;
         Object maxValue = order() == SortOrder.DESC ? null : bottomSortValue;
@@ -483,8 +479,53 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
         }
     }
 
+    /**
+     * Returns a query that matches the documents whose primary sort value is at least as competitive as the
+     * primary sort value provided in the <code>bottomSortValues</code>, or <code>null</code> if the other documents
+     * can't be excluded efficiently. The query can only be built on non-nested indexed numeric or date fields.
+     */
+    public Query buildBottomSortQuery(QueryShardContext context, SearchSortValuesAndFormats bottomSortValues) {
+        if (bottomSortValues == null || bottomSortValues.getRawSortValues().length == 0) {
+            return null;
+        }
+
+        // the sum of the values of a document can be more competitive than each of its values
+        if (canRewriteToMatchNone() == false || sortMode == SortMode.SUM) {
+            return null;
+        }
+        MappedFieldType fieldType = context.fieldMapper(fieldName);
+        if (fieldType instanceof NumberFieldType == false && fieldType instanceof DateFieldType == false) {
+            // unmapped or not indexed with points
+            return null;
+        }
+        if (fieldType.isSearchable() == false) {
+            return null;
+        }
+        Object bottomSortValue = bottomSortValues.getFormattedSortValues()[0];
+        if (bottomSortValue == null) {
+            return null;
+        }
+        Object minValue = order() == SortOrder.DESC ? bottomSortValue : null;
+        Object maxValue = order() == SortOrder.DESC ? null : bottomSortValue;
+        try {
+            return fieldType.rangeQuery(minValue, maxValue, true, true, null, null, bottomSortDateMathParser(bottomSortValues), context);
+        } catch (OpenSearchParseException | IllegalArgumentException exc) {
+            // can happen if the sort field is mapped differently in another search index
+            return null;
+        }
+    }
+
+    private static DateMathParser bottomSortDateMathParser(SearchSortValuesAndFormats bottomSortValues) {
+        DocValueFormat docValueFormat = bottomSortValues.getSortValueFormats()[0];
+        if (docValueFormat instanceof DocValueFormat.DateTime) {
+            return ((DocValueFormat.DateTime) docValueFormat).getDateMathParser();
+        }
+        return null;
+    }
+
     @Override
-    public BucketedSort buildBucketedSort(QueryShardContext context, int bucketSize, BucketedSort.ExtraData extra) throws IOException {
+    public BucketedSort buildBucketedSort(QueryShardContext context, BigArrays bigArrays, int bucketSize,
+            BucketedSort.ExtraData extra) throws IOException {
         if (DOC_FIELD_NAME.equals(fieldName)) {
             throw new IllegalArgumentException("sorting by _doc is not supported");
         }
@@ -507,11 +548,11 @@ public class FieldSortBuilder extends SortBuilder<FieldSortBuilder> {
             }
             IndexNumericFieldData numericFieldData = (IndexNumericFieldData) fieldData;
             NumericType resolvedType = resolveNumericType(numericType);
-            return numericFieldData.newBucketedSort(resolvedType, context.bigArrays(), missing, localSortMode(), nested, order,
+            return numericFieldData.newBucketedSort(resolvedType, bigArrays, missing, localSortMode(), nested, order,
                     fieldType.docValueFormat(null, null), bucketSize, extra);
         }
         try {
-            return fieldData.newBucketedSort(context.bigArrays(), missing, localSortMode(), nested, order,
+            return fieldData.newBucketedSort(bigArrays, missing, localSortMode(), nested, order,
                     fieldType.docValueFormat(null, null), bucketSize, extra);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("error building sort for field [" + fieldName + "] of type ["
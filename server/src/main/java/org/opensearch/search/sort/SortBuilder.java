@@ -41,6 +41,7 @@ import org.opensearch.common.ParsingException;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.NamedWriteable;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.index.fielddata.IndexFieldData.XFieldComparatorSource.Nested;
@@ -89,8 +90,9 @@ public abstract class SortBuilder<T extends SortBuilder<T>> implements NamedWrit
 
     /**
      * Create a {@linkplain BucketedSort} which is useful for sorting inside of aggregations.
+     * @param bigArrays the arrays to back the sort with, aggregations pass their circuit breaking arrays
      */
-    public abstract BucketedSort buildBucketedSort(QueryShardContext context,
+    public abstract BucketedSort buildBucketedSort(QueryShardContext context, BigArrays bigArrays,
             int bucketSize, BucketedSort.ExtraData extra) throws IOException;
 
     /**
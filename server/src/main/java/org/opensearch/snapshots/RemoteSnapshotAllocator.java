@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.AllocateUnassignedDecision;
+import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
+import org.opensearch.cluster.routing.allocation.FailedShard;
+import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+
+import java.util.List;
+
+/**
+ * Allocates the shards of indices that are mounted as searchable snapshots. Their copies hold no data on local disk, so rather than
+ * looking for the nodes that hold a copy like the {@link org.opensearch.gateway.GatewayAllocator} does, this allocator has a primary
+ * that lost its copy recover from the snapshot again, on whichever node the shards allocator picks. Replicas are left to the shards
+ * allocator as well, and recover from the repository too, see {@link org.opensearch.indices.recovery.PeerRecoveryTargetService}.
+ */
+public class RemoteSnapshotAllocator implements ExistingShardsAllocator {
+
+    public static final String ALLOCATOR_NAME = "remote_snapshot_allocator";
+
+    @Override
+    public void beforeAllocation(RoutingAllocation allocation) {
+    }
+
+    @Override
+    public void afterPrimariesBeforeReplicas(RoutingAllocation allocation) {
+    }
+
+    @Override
+    public void allocateUnassigned(ShardRouting shardRouting, RoutingAllocation allocation,
+                                   UnassignedAllocationHandler unassignedAllocationHandler) {
+        if (shardRouting.primary() && shardRouting.recoverySource().getType() == RecoverySource.Type.EXISTING_STORE) {
+            final IndexMetadata indexMetadata = allocation.metadata().getIndexSafe(shardRouting.index());
+            final RecoverySource recoverySource = new RecoverySource.SnapshotRecoverySource(
+                RecoverySource.SnapshotRecoverySource.NO_API_RESTORE_UUID, RestoreService.mountedSnapshot(indexMetadata.getSettings()),
+                indexMetadata.getCreationVersion(), RestoreService.mountedIndexId(indexMetadata.getSettings()));
+            unassignedAllocationHandler.updateUnassigned(shardRouting.unassignedInfo(), recoverySource, allocation.changes());
+        }
+    }
+
+    @Override
+    public AllocateUnassignedDecision explainUnassignedShardAllocation(ShardRouting unassignedShard, RoutingAllocation routingAllocation) {
+        return AllocateUnassignedDecision.NOT_TAKEN;
+    }
+
+    @Override
+    public void cleanCaches() {
+    }
+
+    @Override
+    public void applyStartedShards(List<ShardRouting> startedShards, RoutingAllocation allocation) {
+    }
+
+    @Override
+    public void applyFailedShards(List<FailedShard> failedShards, RoutingAllocation allocation) {
+    }
+
+    @Override
+    public int getNumberOfInFlightFetches() {
+        return 0;
+    }
+}
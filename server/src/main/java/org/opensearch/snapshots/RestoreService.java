@@ -73,6 +73,7 @@ import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Priority;
 import org.opensearch.common.UUIDs;
@@ -83,6 +84,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
@@ -91,6 +93,7 @@ import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.repositories.RepositoryData;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -224,6 +227,11 @@ public class RestoreService implements ClusterStateApplier {
 
                 // Make sure that we can restore from this snapshot
                 validateSnapshotRestorable(repositoryName, snapshotInfo);
+                final boolean isRemoteSnapshot = request.storageType() == RestoreSnapshotRequest.StorageType.REMOTE_SNAPSHOT;
+                if (isRemoteSnapshot && repository instanceof BlobStoreRepository == false) {
+                    throw new SnapshotRestoreException(repositoryName, snapshotName,
+                        "searchable snapshots can only be mounted from blob store repositories");
+                }
 
                 Metadata globalMetadata = null;
                 // Resolve the indices from the snapshot that need to be restored
@@ -324,6 +332,10 @@ public class RestoreService implements ClusterStateApplier {
                                 IndexMetadata snapshotIndexMetadata = metadata.index(index);
                                 snapshotIndexMetadata = updateIndexSettings(snapshotIndexMetadata,
                                     request.indexSettings(), request.ignoreIndexSettings());
+                                if (isRemoteSnapshot) {
+                                    snapshotIndexMetadata = addSnapshotToIndexSettings(snapshotIndexMetadata, snapshot,
+                                        recoverySource.index());
+                                }
                                 try {
                                     snapshotIndexMetadata = metadataIndexUpgradeService.upgradeIndexMetadata(snapshotIndexMetadata,
                                         minIndexCompatibilityVersion);
@@ -366,6 +378,12 @@ public class RestoreService implements ClusterStateApplier {
                                     mdBuilder.put(updatedIndexMetadata, true);
                                     renamedIndex = updatedIndexMetadata.getIndex();
                                 } else {
+                                    if (isRemoteSnapshot) {
+                                        throw new SnapshotRestoreException(snapshot, "cannot mount index [" + renamedIndexName
+                                            + "] as a searchable snapshot because an index with the same name already exists in the "
+                                            + "cluster. Either delete the existing index or mount the index under a different name by "
+                                            + "providing a rename pattern and replacement name");
+                                    }
                                     validateExistingIndex(currentIndexMetadata, snapshotIndexMetadata, renamedIndexName, partial);
                                     // Index exists and it's closed - open it in metadata and start recovery
                                     IndexMetadata.Builder indexMdBuilder =
@@ -605,6 +623,27 @@ public class RestoreService implements ClusterStateApplier {
                         return builder.settings(settingsBuilder).build();
                     }
 
+                    /**
+                     * Turns the restored index into a searchable snapshot of the given snapshot: its shards read their files from the
+                     * repository and it is read-only, without replicas since every copy would read the same files.
+                     */
+                    private IndexMetadata addSnapshotToIndexSettings(IndexMetadata indexMetadata, Snapshot snapshot, IndexId indexId) {
+                        final Settings newSettings = Settings.builder()
+                            .put(indexMetadata.getSettings())
+                            .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), IndexModule.REMOTE_SNAPSHOT_STORE_TYPE)
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), snapshot.getRepository())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), snapshot.getSnapshotId().getUUID())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), snapshot.getSnapshotId().getName())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), indexId.getId())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_NAME.getKey(), indexId.getName())
+                            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                            .put(IndexMetadata.SETTING_AUTO_EXPAND_REPLICAS, false)
+                            .put(IndexMetadata.SETTING_BLOCKS_WRITE, true)
+                            .put(ExistingShardsAllocator.EXISTING_SHARDS_ALLOCATOR_SETTING.getKey(), RemoteSnapshotAllocator.ALLOCATOR_NAME)
+                            .build();
+                        return IndexMetadata.builder(indexMetadata).settings(newSettings).build();
+                    }
+
                     @Override
                     public void onFailure(String source, Exception e) {
                         logger.warn(() -> new ParameterizedMessage("[{}] failed to restore snapshot", snapshotId), e);
@@ -956,6 +995,41 @@ public class RestoreService implements ClusterStateApplier {
         return false;
     }
 
+    /**
+     * Returns the indices that are mounted as searchable snapshots from the given repository and whose snapshot matches the given
+     * predicate. Their shards read the files of the snapshot from the repository for as long as they exist.
+     */
+    public static Set<Index> mountedIndices(final ClusterState currentState, final String repository,
+                                            final Predicate<SnapshotId> snapshotsToCheck) {
+        final Set<Index> indices = new HashSet<>();
+        for (IndexMetadata indexMetadata : currentState.metadata()) {
+            final Settings settings = indexMetadata.getSettings();
+            if (IndexModule.REMOTE_SNAPSHOT_STORE_TYPE.equals(IndexModule.INDEX_STORE_TYPE_SETTING.get(settings))
+                && repository.equals(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(settings))
+                && snapshotsToCheck.test(mountedSnapshot(settings).getSnapshotId())) {
+                indices.add(indexMetadata.getIndex());
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * The snapshot that an index with the given settings was mounted from as a searchable snapshot.
+     */
+    static Snapshot mountedSnapshot(Settings settings) {
+        return new Snapshot(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(settings),
+            new SnapshotId(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.get(settings),
+                IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(settings)));
+    }
+
+    /**
+     * The index in the snapshot that an index with the given settings was mounted from as a searchable snapshot.
+     */
+    static IndexId mountedIndexId(Settings settings) {
+        return new IndexId(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_NAME.get(settings),
+            IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.get(settings));
+    }
+
     /**
      * Returns the indices that are currently being restored and that are contained in the indices-to-check set.
      */
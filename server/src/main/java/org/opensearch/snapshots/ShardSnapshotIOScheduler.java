@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Schedules the shard snapshots that run on a data node. A shard snapshot holds an upload slot of its repository and an upload slot
+ * of the data path of its shard while it runs, so that a slow repository can't occupy all threads of the snapshot thread pool and
+ * snapshots can't saturate a disk that recoveries and indexing need as well.
+ * <p>
+ * Queued shard snapshots are started in weighted fair queueing order: every shard snapshot of a repository is tagged with a virtual
+ * finish time that is {@code 1 / weight} later than that of the previous shard snapshot of the repository, and the queued shard
+ * snapshot with the earliest finish time whose repository and data path both have a free slot is started first. Repositories thus
+ * start shard snapshots in proportion to their weight while they compete for the node, and shard snapshots that wait for a busy
+ * repository or data path don't hold up those of other repositories or data paths.
+ * <p>
+ * Repositories and data paths are only tracked while they have queued or running shard snapshots, so their statistics cover the
+ * shard snapshots since they last became busy.
+ */
+final class ShardSnapshotIOScheduler {
+
+    private static final Logger logger = LogManager.getLogger(ShardSnapshotIOScheduler.class);
+
+    private final Executor executor;
+
+    private final LongSupplier relativeTimeInMillis;
+
+    private final TreeSet<Task> queue = new TreeSet<>(Comparator.comparingDouble((Task task) -> task.finishTag)
+        .thenComparingLong(task -> task.sequence));
+
+    private final Map<String, QueueState> repositories = new HashMap<>();
+
+    private final Map<String, QueueState> dataPaths = new HashMap<>();
+
+    private double virtualTime;
+
+    private long sequence;
+
+    private int maxPerRepository;
+
+    private int maxPerDataPath;
+
+    ShardSnapshotIOScheduler(Executor executor, LongSupplier relativeTimeInMillis, int maxPerRepository, int maxPerDataPath) {
+        this.executor = executor;
+        this.relativeTimeInMillis = relativeTimeInMillis;
+        this.maxPerRepository = maxPerRepository;
+        this.maxPerDataPath = maxPerDataPath;
+    }
+
+    void setMaxPerRepository(int maxPerRepository) {
+        synchronized (this) {
+            this.maxPerRepository = maxPerRepository;
+        }
+        dispatch();
+    }
+
+    void setMaxPerDataPath(int maxPerDataPath) {
+        synchronized (this) {
+            this.maxPerDataPath = maxPerDataPath;
+        }
+        dispatch();
+    }
+
+    /**
+     * Runs the given shard snapshot on the executor once a slot of the given repository and of the given data path is free. The shard
+     * snapshot must {@link Slot#release release} the slot that it is passed once it completed, successfully or not. The shard snapshot
+     * is failed if it can't be handed to the executor.
+     *
+     * @param repository name of the repository that the shard is snapshotted to
+     * @param weight     share of the node's shard snapshots that the repository gets relative to other repositories, at least 1
+     * @param dataPath   data path of the shard
+     * @param task       the shard snapshot
+     */
+    void schedule(String repository, int weight, String dataPath, ActionListener<Slot> task) {
+        assert weight >= 1 : "weight must be at least 1 but was [" + weight + "]";
+        synchronized (this) {
+            final QueueState repositoryState = repositories.computeIfAbsent(repository, k -> new QueueState(repositories, k));
+            final QueueState dataPathState = dataPaths.computeIfAbsent(dataPath, k -> new QueueState(dataPaths, k));
+            final double startTag = Math.max(virtualTime, repositoryState.lastFinishTag);
+            repositoryState.lastFinishTag = startTag + 1.0 / weight;
+            repositoryState.queued++;
+            dataPathState.queued++;
+            queue.add(new Task(repositoryState, dataPathState, startTag, repositoryState.lastFinishTag, sequence++, task));
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        final List<Task> toStart = new ArrayList<>();
+        synchronized (this) {
+            final Iterator<Task> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                final Task task = iterator.next();
+                if (task.repository.active < maxPerRepository && task.dataPath.active < maxPerDataPath) {
+                    iterator.remove();
+                    virtualTime = Math.max(virtualTime, task.startTag);
+                    for (QueueState state : new QueueState[] { task.repository, task.dataPath }) {
+                        state.queued--;
+                        state.active++;
+                    }
+                    toStart.add(task);
+                }
+            }
+        }
+        for (Task task : toStart) {
+            final Slot slot = new Slot(task.repository, task.dataPath, relativeTimeInMillis.getAsLong());
+            try {
+                executor.execute(() -> task.task.onResponse(slot));
+            } catch (Exception e) {
+                // only happens when the node shuts down, don't start any further shard snapshots
+                logger.debug("failed to start shard snapshot", e);
+                slot.releaseSlots(0L);
+                task.task.onFailure(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the current queue depths and the throughput of the shard snapshots of each repository and data path.
+     */
+    synchronized ShardSnapshotIOStats stats() {
+        final Map<String, ShardSnapshotIOStats.QueueStats> repositoryStats = new HashMap<>();
+        repositories.forEach((name, state) -> repositoryStats.put(name, state.stats()));
+        final Map<String, ShardSnapshotIOStats.QueueStats> dataPathStats = new HashMap<>();
+        dataPaths.forEach((path, state) -> dataPathStats.put(path, state.stats()));
+        return new ShardSnapshotIOStats(repositoryStats, dataPathStats);
+    }
+
+    /**
+     * The upload slots that a running shard snapshot holds.
+     */
+    final class Slot {
+
+        private final QueueState repository;
+
+        private final QueueState dataPath;
+
+        private final long startTimeMillis;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Slot(QueueState repository, QueueState dataPath, long startTimeMillis) {
+            this.repository = repository;
+            this.dataPath = dataPath;
+            this.startTimeMillis = startTimeMillis;
+        }
+
+        /**
+         * Releases the slots and starts the next queued shard snapshots that can run.
+         *
+         * @param uploadedBytes the number of bytes that the shard snapshot uploaded
+         */
+        void release(long uploadedBytes) {
+            if (releaseSlots(uploadedBytes)) {
+                dispatch();
+            }
+        }
+
+        private boolean releaseSlots(long uploadedBytes) {
+            if (released.compareAndSet(false, true) == false) {
+                assert false : "slot released twice";
+                return false;
+            }
+            final long uploadTimeMillis = Math.max(0L, relativeTimeInMillis.getAsLong() - startTimeMillis);
+            synchronized (ShardSnapshotIOScheduler.this) {
+                for (QueueState state : new QueueState[] { repository, dataPath }) {
+                    state.active--;
+                    state.completed++;
+                    state.uploadedBytes += uploadedBytes;
+                    state.uploadTimeMillis += uploadTimeMillis;
+                    state.removeIfIdle();
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class QueueState {
+
+        // the map that holds this state, and its key there
+        private final Map<String, QueueState> states;
+
+        private final String key;
+
+        private int queued;
+
+        private int active;
+
+        private long completed;
+
+        private long uploadedBytes;
+
+        private long uploadTimeMillis;
+
+        private double lastFinishTag;
+
+        QueueState(Map<String, QueueState> states, String key) {
+            this.states = states;
+            this.key = key;
+        }
+
+        void removeIfIdle() {
+            if (queued == 0 && active == 0) {
+                states.remove(key, this);
+            }
+        }
+
+        ShardSnapshotIOStats.QueueStats stats() {
+            return new ShardSnapshotIOStats.QueueStats(queued, active, completed, uploadedBytes, uploadTimeMillis);
+        }
+    }
+
+    private static final class Task {
+
+        private final QueueState repository;
+
+        private final QueueState dataPath;
+
+        private final double startTag;
+
+        private final double finishTag;
+
+        private final long sequence;
+
+        private final ActionListener<Slot> task;
+
+        Task(QueueState repository, QueueState dataPath, double startTag, double finishTag, long sequence, ActionListener<Slot> task) {
+            this.repository = repository;
+            this.dataPath = dataPath;
+            this.startTag = startTag;
+            this.finishTag = finishTag;
+            this.sequence = sequence;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.common.ParseField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ConstructingObjectParser;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentParserUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.opensearch.common.xcontent.ConstructingObjectParser.constructorArg;
+
+/**
+ * The queue depths and throughput of the shard snapshots of a data node, per repository and per data path, see
+ * {@link SnapshotShardsService}.
+ */
+public class ShardSnapshotIOStats implements Writeable, ToXContentFragment {
+
+    private static final String REPOSITORIES = "repositories";
+    private static final String DATA_PATHS = "data_paths";
+
+    private final Map<String, QueueStats> repositories;
+    private final Map<String, QueueStats> dataPaths;
+
+    public ShardSnapshotIOStats(Map<String, QueueStats> repositories, Map<String, QueueStats> dataPaths) {
+        this.repositories = Collections.unmodifiableMap(repositories);
+        this.dataPaths = Collections.unmodifiableMap(dataPaths);
+    }
+
+    public ShardSnapshotIOStats(StreamInput in) throws IOException {
+        repositories = in.readMap(StreamInput::readString, QueueStats::new);
+        dataPaths = in.readMap(StreamInput::readString, QueueStats::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeMap(repositories, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        out.writeMap(dataPaths, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    /**
+     * The shard snapshots of each repository.
+     */
+    public Map<String, QueueStats> getRepositories() {
+        return repositories;
+    }
+
+    /**
+     * The shard snapshots of each data path.
+     */
+    public Map<String, QueueStats> getDataPaths() {
+        return dataPaths;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(REPOSITORIES);
+        for (Map.Entry<String, QueueStats> entry : repositories.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue(), params);
+        }
+        builder.endObject();
+        builder.startObject(DATA_PATHS);
+        for (Map.Entry<String, QueueStats> entry : dataPaths.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue(), params);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public static ShardSnapshotIOStats fromXContent(XContentParser parser) throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        Map<String, QueueStats> repositories = Collections.emptyMap();
+        Map<String, QueueStats> dataPaths = Collections.emptyMap();
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.FIELD_NAME, parser.currentToken(), parser);
+            final String field = parser.currentName();
+            parser.nextToken();
+            if (REPOSITORIES.equals(field)) {
+                repositories = parseQueues(parser);
+            } else if (DATA_PATHS.equals(field)) {
+                dataPaths = parseQueues(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new ShardSnapshotIOStats(repositories, dataPaths);
+    }
+
+    private static Map<String, QueueStats> parseQueues(XContentParser parser) throws IOException {
+        XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        final Map<String, QueueStats> queues = new HashMap<>();
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.FIELD_NAME, parser.currentToken(), parser);
+            final String name = parser.currentName();
+            parser.nextToken();
+            queues.put(name, QueueStats.PARSER.parse(parser, null));
+        }
+        return queues;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShardSnapshotIOStats that = (ShardSnapshotIOStats) o;
+        return repositories.equals(that.repositories) && dataPaths.equals(that.dataPaths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(repositories, dataPaths);
+    }
+
+    /**
+     * The shard snapshots of a repository or data path.
+     */
+    public static class QueueStats implements Writeable, ToXContentObject {
+
+        private static final String QUEUED = "queued";
+        private static final String ACTIVE = "active";
+        private static final String COMPLETED = "completed";
+        private static final String UPLOADED_IN_BYTES = "uploaded_in_bytes";
+        private static final String UPLOAD_TIME_IN_MILLIS = "upload_time_in_millis";
+
+        static final ConstructingObjectParser<QueueStats, Void> PARSER = new ConstructingObjectParser<>("shard_snapshot_queue_stats",
+            true, args -> new QueueStats((int) args[0], (int) args[1], (long) args[2], (long) args[3], (long) args[4]));
+
+        static {
+            PARSER.declareInt(constructorArg(), new ParseField(QUEUED));
+            PARSER.declareInt(constructorArg(), new ParseField(ACTIVE));
+            PARSER.declareLong(constructorArg(), new ParseField(COMPLETED));
+            PARSER.declareLong(constructorArg(), new ParseField(UPLOADED_IN_BYTES));
+            PARSER.declareLong(constructorArg(), new ParseField(UPLOAD_TIME_IN_MILLIS));
+        }
+
+        private final int queued;
+        private final int active;
+        private final long completed;
+        private final long uploadedBytes;
+        private final long uploadTimeMillis;
+
+        public QueueStats(int queued, int active, long completed, long uploadedBytes, long uploadTimeMillis) {
+            this.queued = queued;
+            this.active = active;
+            this.completed = completed;
+            this.uploadedBytes = uploadedBytes;
+            this.uploadTimeMillis = uploadTimeMillis;
+        }
+
+        public QueueStats(StreamInput in) throws IOException {
+            queued = in.readVInt();
+            active = in.readVInt();
+            completed = in.readVLong();
+            uploadedBytes = in.readVLong();
+            uploadTimeMillis = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(queued);
+            out.writeVInt(active);
+            out.writeVLong(completed);
+            out.writeVLong(uploadedBytes);
+            out.writeVLong(uploadTimeMillis);
+        }
+
+        /**
+         * The number of shard snapshots that wait for a free slot.
+         */
+        public int getQueued() {
+            return queued;
+        }
+
+        /**
+         * The number of running shard snapshots.
+         */
+        public int getActive() {
+            return active;
+        }
+
+        /**
+         * The number of shard snapshots that completed, successfully or not.
+         */
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * The number of bytes that the completed shard snapshots uploaded.
+         */
+        public long getUploadedBytes() {
+            return uploadedBytes;
+        }
+
+        /**
+         * The time that the completed shard snapshots ran for, in milliseconds.
+         */
+        public long getUploadTimeMillis() {
+            return uploadTimeMillis;
+        }
+
+        /**
+         * The average number of bytes per second that the completed shard snapshots uploaded.
+         */
+        public long getThroughputBytesPerSec() {
+            return uploadTimeMillis == 0L ? 0L : (long) (uploadedBytes * 1000.0 / uploadTimeMillis);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(QUEUED, queued);
+            builder.field(ACTIVE, active);
+            builder.field(COMPLETED, completed);
+            builder.humanReadableField(UPLOADED_IN_BYTES, "uploaded", new ByteSizeValue(uploadedBytes));
+            builder.humanReadableField(UPLOAD_TIME_IN_MILLIS, "upload_time", new TimeValue(uploadTimeMillis));
+            builder.humanReadableField("throughput_in_bytes_per_sec", "throughput_per_sec", new ByteSizeValue(getThroughputBytesPerSec()));
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            QueueStats that = (QueueStats) o;
+            return queued == that.queued
+                && active == that.active
+                && completed == that.completed
+                && uploadedBytes == that.uploadedBytes
+                && uploadTimeMillis == that.uploadTimeMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queued, active, completed, uploadedBytes, uploadTimeMillis);
+        }
+    }
+}
@@ -51,8 +51,10 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.component.AbstractLifecycleComponent;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexService;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexEventListener;
@@ -66,6 +68,7 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.RepositoryMissingException;
 import org.opensearch.repositories.ShardGenerations;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportException;
@@ -100,8 +103,40 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
 
     private final ThreadPool threadPool;
 
+    /**
+     * The maximum number of shard snapshots of a repository that run concurrently on a data node. Defaults to one less than the size of
+     * the snapshot thread pool, so that a single repository leaves a thread to the shard snapshots of other repositories.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_REPOSITORY_SETTING =
+        new Setting<>("snapshot.max_concurrent_shard_snapshots_per_repository",
+            (s) -> Integer.toString(Math.max(1, ThreadPool.snapshotThreadPoolSize(s) - 1)),
+            (s) -> Setting.parseInt(s, 1, "snapshot.max_concurrent_shard_snapshots_per_repository"),
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * The maximum number of shard snapshots of shards on the same data path that run concurrently on a data node. Defaults to the size
+     * of the snapshot thread pool.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_DATA_PATH_SETTING =
+        new Setting<>("snapshot.max_concurrent_shard_snapshots_per_data_path",
+            (s) -> Integer.toString(ThreadPool.snapshotThreadPoolSize(s)),
+            (s) -> Setting.parseInt(s, 1, "snapshot.max_concurrent_shard_snapshots_per_data_path"),
+            Setting.Property.Dynamic, Setting.Property.NodeScope);
+
+    /**
+     * Repository setting for the share of a data node's shard snapshots that the repository gets, relative to the weights of other
+     * repositories, while shard snapshots of several repositories wait for the node, see {@link ShardSnapshotIOScheduler}.
+     */
+    public static final Setting<Integer> SHARD_SNAPSHOT_WEIGHT_SETTING =
+        Setting.intSetting("shard_snapshot_weight", 1, 1, 100, Setting.Property.NodeScope);
+
+    // data path of shards that are not allocated to the node anymore, their snapshots fail right away
+    private static final String UNKNOWN_DATA_PATH = "_unknown";
+
     private final Map<Snapshot, Map<ShardId, IndexShardSnapshotStatus>> shardSnapshots = new HashMap<>();
 
+    private final ShardSnapshotIOScheduler ioScheduler;
+
     // A map of snapshots to the shardIds that we already reported to the master as failed
     private final TransportRequestDeduplicator<UpdateIndexShardSnapshotStatusRequest> remoteFailedRequestDeduplicator =
         new TransportRequestDeduplicator<>();
@@ -113,6 +148,13 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
         this.transportService = transportService;
         this.clusterService = clusterService;
         this.threadPool = transportService.getThreadPool();
+        this.ioScheduler = new ShardSnapshotIOScheduler(command -> threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(command),
+            threadPool::relativeTimeInMillis, MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_REPOSITORY_SETTING.get(settings),
+            MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_DATA_PATH_SETTING.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_REPOSITORY_SETTING,
+            ioScheduler::setMaxPerRepository);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_DATA_PATH_SETTING,
+            ioScheduler::setMaxPerDataPath);
         if (DiscoveryNode.isDataNode(settings)) {
             // this is only useful on the nodes that can hold data
             clusterService.addListener(this);
@@ -187,6 +229,13 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
         }
     }
 
+    /**
+     * Returns the queue depths and throughput of the shard snapshots on this node, per repository and per data path.
+     */
+    public ShardSnapshotIOStats ioStats() {
+        return ioScheduler.stats();
+    }
+
     private void cancelRemoved(SnapshotsInProgress snapshotsInProgress) {
         // First, remove snapshots that are no longer there
         Iterator<Map.Entry<Snapshot, Map<ShardId, IndexShardSnapshotStatus>>> it = shardSnapshots.entrySet().iterator();
@@ -257,49 +306,82 @@ public class SnapshotShardsService extends AbstractLifecycleComponent implements
     }
 
     private void startNewShards(SnapshotsInProgress.Entry entry, Map<ShardId, IndexShardSnapshotStatus> startedShards) {
-        threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(() -> {
-            final Snapshot snapshot = entry.snapshot();
-            final Map<String, IndexId> indicesMap =
-                entry.indices().stream().collect(Collectors.toMap(IndexId::getName, Function.identity()));
-            for (final Map.Entry<ShardId, IndexShardSnapshotStatus> shardEntry : startedShards.entrySet()) {
-                final ShardId shardId = shardEntry.getKey();
-                final IndexShardSnapshotStatus snapshotStatus = shardEntry.getValue();
-                final IndexId indexId = indicesMap.get(shardId.getIndexName());
-                assert indexId != null;
-                assert SnapshotsService.useShardGenerations(entry.version()) ||
-                        ShardGenerations.fixShardGeneration(snapshotStatus.generation()) == null :
-                        "Found non-null, non-numeric shard generation [" + snapshotStatus.generation() +
-                                "] for snapshot with old-format compatibility";
-                snapshot(shardId, snapshot, indexId, entry.userMetadata(), snapshotStatus, entry.version(),
-                    new ActionListener<String>() {
-                        @Override
-                        public void onResponse(String newGeneration) {
-                            assert newGeneration != null;
-                            assert newGeneration.equals(snapshotStatus.generation());
-                            if (logger.isDebugEnabled()) {
-                                final IndexShardSnapshotStatus.Copy lastSnapshotStatus = snapshotStatus.asCopy();
-                                logger.debug("snapshot [{}] completed to [{}] with [{}] at generation [{}]",
-                                    snapshot, snapshot.getRepository(), lastSnapshotStatus, snapshotStatus.generation());
-                            }
-                            notifySuccessfulSnapshotShard(snapshot, shardId, newGeneration);
-                        }
+        final Snapshot snapshot = entry.snapshot();
+        final Map<String, IndexId> indicesMap =
+            entry.indices().stream().collect(Collectors.toMap(IndexId::getName, Function.identity()));
+        final int weight = shardSnapshotWeight(snapshot.getRepository());
+        for (final Map.Entry<ShardId, IndexShardSnapshotStatus> shardEntry : startedShards.entrySet()) {
+            final ShardId shardId = shardEntry.getKey();
+            final IndexShardSnapshotStatus snapshotStatus = shardEntry.getValue();
+            final IndexId indexId = indicesMap.get(shardId.getIndexName());
+            assert indexId != null;
+            assert SnapshotsService.useShardGenerations(entry.version()) ||
+                    ShardGenerations.fixShardGeneration(snapshotStatus.generation()) == null :
+                    "Found non-null, non-numeric shard generation [" + snapshotStatus.generation() +
+                            "] for snapshot with old-format compatibility";
+            final ActionListener<String> shardListener = new ActionListener<String>() {
+                @Override
+                public void onResponse(String newGeneration) {
+                    assert newGeneration != null;
+                    assert newGeneration.equals(snapshotStatus.generation());
+                    if (logger.isDebugEnabled()) {
+                        final IndexShardSnapshotStatus.Copy lastSnapshotStatus = snapshotStatus.asCopy();
+                        logger.debug("snapshot [{}] completed to [{}] with [{}] at generation [{}]",
+                            snapshot, snapshot.getRepository(), lastSnapshotStatus, snapshotStatus.generation());
+                    }
+                    notifySuccessfulSnapshotShard(snapshot, shardId, newGeneration);
+                }
 
-                        @Override
-                        public void onFailure(Exception e) {
-                            final String failure;
-                            if (e instanceof AbortedSnapshotException) {
-                                failure = "aborted";
-                                logger.debug(() -> new ParameterizedMessage("[{}][{}] aborted shard snapshot", shardId, snapshot), e);
-                            } else {
-                                failure = summarizeFailure(e);
-                                logger.warn(() -> new ParameterizedMessage("[{}][{}] failed to snapshot shard", shardId, snapshot), e);
-                            }
-                            snapshotStatus.moveToFailed(threadPool.absoluteTimeInMillis(), failure);
-                            notifyFailedSnapshotShard(snapshot, shardId, failure);
-                        }
-                    });
-            }
-        });
+                @Override
+                public void onFailure(Exception e) {
+                    final String failure;
+                    if (e instanceof AbortedSnapshotException) {
+                        failure = "aborted";
+                        logger.debug(() -> new ParameterizedMessage("[{}][{}] aborted shard snapshot", shardId, snapshot), e);
+                    } else {
+                        failure = summarizeFailure(e);
+                        logger.warn(() -> new ParameterizedMessage("[{}][{}] failed to snapshot shard", shardId, snapshot), e);
+                    }
+                    snapshotStatus.moveToFailed(threadPool.absoluteTimeInMillis(), failure);
+                    notifyFailedSnapshotShard(snapshot, shardId, failure);
+                }
+            };
+            ioScheduler.schedule(snapshot.getRepository(), weight, dataPath(shardId), new ActionListener<ShardSnapshotIOScheduler.Slot>() {
+                @Override
+                public void onResponse(ShardSnapshotIOScheduler.Slot slot) {
+                    final ActionListener<String> listener =
+                        ActionListener.runAfter(shardListener, () -> slot.release(snapshotStatus.asCopy().getProcessedSize()));
+                    if (snapshotStatus.isAborted()) {
+                        // the snapshot was aborted while the shard was waiting for a slot
+                        listener.onFailure(new AbortedSnapshotException());
+                    } else {
+                        snapshot(shardId, snapshot, indexId, entry.userMetadata(), snapshotStatus, entry.version(), listener);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    shardListener.onFailure(e);
+                }
+            });
+        }
+    }
+
+    private int shardSnapshotWeight(String repositoryName) {
+        try {
+            return SHARD_SNAPSHOT_WEIGHT_SETTING.get(repositoriesService.repository(repositoryName).getMetadata().settings());
+        } catch (RepositoryMissingException e) {
+            // the shard snapshots fail once they run
+        } catch (IllegalArgumentException e) {
+            logger.warn(() -> new ParameterizedMessage("[{}] invalid shard snapshot weight, using the default", repositoryName), e);
+        }
+        return SHARD_SNAPSHOT_WEIGHT_SETTING.getDefault(Settings.EMPTY);
+    }
+
+    private String dataPath(ShardId shardId) {
+        final IndexService indexService = indicesService.indexService(shardId.getIndex());
+        final IndexShard indexShard = indexService == null ? null : indexService.getShardOrNull(shardId.id());
+        return indexShard == null ? UNKNOWN_DATA_PATH : indexShard.shardPath().getDataPath().toString();
     }
 
     //package private for testing
@@ -158,6 +158,10 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
 
     public static final Version MULTI_DELETE_VERSION = LegacyESVersion.V_7_8_0;
 
+    public static final Version REPOSITORY_DATA_DELTA_VERSION = Version.V_1_0_0;
+
+    public static final Version SHARD_DATA_COMPRESSION_VERSION = Version.V_1_0_0;
+
     private static final Logger logger = LogManager.getLogger(SnapshotsService.class);
 
     public static final String UPDATE_SNAPSHOT_STATUS_ACTION_NAME = "internal:cluster/snapshot/update_snapshot_status";
@@ -2106,6 +2110,13 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
                             "cannot delete snapshot while it is being cloned");
                     }
                 }
+                // the shards of mounted indices keep reading the files of their snapshot from the repository
+                final Set<Index> mountedIndices = RestoreService.mountedIndices(currentState, repoName, snapshotIds::contains);
+                if (mountedIndices.isEmpty() == false) {
+                    throw new SnapshotException(repoName, snapshotIds.toString(),
+                        "cannot delete snapshots that back the searchable snapshot indices " + mountedIndices
+                            + ", delete these indices first");
+                }
                 // Snapshot ids that will have to be physically deleted from the repository
                 final Set<SnapshotId> snapshotIdsRequiringCleanup = new HashSet<>(snapshotIds);
                 final SnapshotsInProgress updatedSnapshots;
@@ -2290,6 +2301,26 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
         return repositoryMetaVersion.onOrAfter(INDEX_GEN_IN_REPO_DATA_VERSION);
     }
 
+    /**
+     * Checks whether the metadata version supports writing {@link RepositoryData} as changes to a previous generation of it.
+     *
+     * @param repositoryMetaVersion version to check
+     * @return true if version supports reading {@link RepositoryData} deltas
+     */
+    public static boolean useRepositoryDataDeltas(Version repositoryMetaVersion) {
+        return repositoryMetaVersion.onOrAfter(REPOSITORY_DATA_DELTA_VERSION);
+    }
+
+    /**
+     * Checks whether the metadata version supports writing compressed shard data to the repository.
+     *
+     * @param repositoryMetaVersion version to check
+     * @return true if version supports reading the compression of the files of shard snapshots
+     */
+    public static boolean useShardDataCompression(Version repositoryMetaVersion) {
+        return repositoryMetaVersion.onOrAfter(SHARD_DATA_COMPRESSION_VERSION);
+    }
+
     /** Deletes snapshot from repository
      *
      * @param deleteEntry       delete entry in cluster state
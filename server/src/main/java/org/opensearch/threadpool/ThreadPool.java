@@ -474,6 +474,14 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         return ((allocatedProcessors * 3) / 2) + 1;
     }
 
+    /**
+     * Returns the maximum number of threads of the {@link Names#SNAPSHOT} thread pool for the given node settings.
+     */
+    public static int snapshotThreadPoolSize(final Settings settings) {
+        final int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        return settings.getAsInt("thread_pool." + Names.SNAPSHOT + ".max", halfAllocatedProcessorsMaxFive(allocatedProcessors));
+    }
+
     class LoggingRunnable implements Runnable {
 
         private final Runnable runnable;
@@ -67,20 +67,42 @@ abstract class OutboundMessage extends NetworkMessage {
             variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
         }
 
+        // The trailing bytes of a thin message are sent as they are, so whether it can be compressed is only known once it is written
+        byte messageStatus = status;
+        BytesStreamOutput thinStream = null;
+        BytesReference trailingBytes = BytesArray.EMPTY;
+        if (TransportStatus.isCompress(status) && message instanceof ThinWriteable) {
+            thinStream = new BytesStreamOutput();
+            thinStream.setVersion(version);
+            thinStream.setFeatures(bytesStream.getFeatures());
+            if (variableHeaderLength == -1) {
+                writeVariableHeader(thinStream);
+            }
+            trailingBytes = ((ThinWriteable) message).writeThin(thinStream);
+            if (trailingBytes.length() > 0) {
+                messageStatus = TransportStatus.unsetCompress(messageStatus);
+            }
+        }
+
         try (CompressibleBytesOutputStream stream =
-                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(messageStatus))) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
-            if (variableHeaderLength == -1) {
-                writeVariableHeader(stream);
+            if (thinStream != null) {
+                thinStream.bytes().writeTo(stream);
+                reference = withTrailingBytes(stream.materializeBytes(), trailingBytes);
+            } else {
+                if (variableHeaderLength == -1) {
+                    writeVariableHeader(stream);
+                }
+                reference = writeMessage(stream);
             }
-            reference = writeMessage(stream);
         }
 
         bytesStream.seek(0);
         final int contentSize = reference.length() - TcpHeader.headerSize(version);
-        TcpHeader.writeHeader(bytesStream, requestId, status, version, contentSize, variableHeaderLength);
+        TcpHeader.writeHeader(bytesStream, requestId, messageStatus, version, contentSize, variableHeaderLength);
         return reference;
     }
 
@@ -94,6 +116,8 @@ abstract class OutboundMessage extends NetworkMessage {
             BytesTransportRequest bRequest = (BytesTransportRequest) message;
             bRequest.writeThin(stream);
             zeroCopyBuffer = bRequest.bytes;
+        } else if (message instanceof ThinWriteable) {
+            zeroCopyBuffer = ((ThinWriteable) message).writeThin(stream);
         } else if (message instanceof RemoteTransportException) {
             stream.writeException((RemoteTransportException) message);
             zeroCopyBuffer = BytesArray.EMPTY;
@@ -106,7 +130,10 @@ abstract class OutboundMessage extends NetworkMessage {
         // are written. Otherwise we barf on the decompressing end when we read past EOF on purpose in the
         // #validateRequest method. this might be a problem in deflate after all but it's important to write
         // the marker bytes.
-        final BytesReference message = stream.materializeBytes();
+        return withTrailingBytes(stream.materializeBytes(), zeroCopyBuffer);
+    }
+
+    private static BytesReference withTrailingBytes(BytesReference message, BytesReference zeroCopyBuffer) {
         if (zeroCopyBuffer.length() == 0) {
             return message;
         } else {
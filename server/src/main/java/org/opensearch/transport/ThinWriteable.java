@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * A message that may end with a block of bytes which the transport appends to the serialized message as they are, without copying them
+ * into the message, so that the network layer can send them straight from where they are stored. A message with such trailing bytes is
+ * sent uncompressed even if compression is enabled. Like a {@link BytesTransportRequest}, the receiver reads such a message through its
+ * regular {@link Writeable.Reader}.
+ */
+public interface ThinWriteable extends Writeable {
+
+    /**
+     * Writes this message except for its trailing bytes, which are returned so that they can be appended to the written message. Returns
+     * empty bytes if the whole message was written, e.g. because the stream's version does not support the thin format or because there is
+     * nothing to gain from sending the trailing bytes as they are.
+     */
+    BytesReference writeThin(StreamOutput out) throws IOException;
+}
@@ -38,10 +38,12 @@ public class TransportRequestOptions {
 
     private final TimeValue timeout;
     private final Type type;
+    private final boolean compress;
 
-    private TransportRequestOptions(TimeValue timeout, Type type) {
+    private TransportRequestOptions(TimeValue timeout, Type type, boolean compress) {
         this.timeout = timeout;
         this.type = type;
+        this.compress = compress;
     }
 
     public TimeValue timeout() {
@@ -52,6 +54,13 @@ public class TransportRequestOptions {
         return this.type;
     }
 
+    /**
+     * Whether the request is compressed even if compression is not enabled for the connection it is sent on.
+     */
+    public boolean compress() {
+        return this.compress;
+    }
+
     public static final TransportRequestOptions EMPTY = new TransportRequestOptions.Builder().build();
 
     public enum Type {
@@ -69,6 +78,7 @@ public class TransportRequestOptions {
     public static class Builder {
         private TimeValue timeout;
         private Type type = Type.REG;
+        private boolean compress = false;
 
         private Builder() {
         }
@@ -87,8 +97,13 @@ public class TransportRequestOptions {
             return this;
         }
 
+        public Builder withCompress(boolean compress) {
+            this.compress = compress;
+            return this;
+        }
+
         public TransportRequestOptions build() {
-            return new TransportRequestOptions(timeout, type);
+            return new TransportRequestOptions(timeout, type, compress);
         }
     }
 }
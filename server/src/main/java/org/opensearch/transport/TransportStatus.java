@@ -71,6 +71,11 @@ public final class TransportStatus {
         return value;
     }
 
+    static byte unsetCompress(byte value) { // pkg private since it's only used internally
+        value &= ~STATUS_COMPRESS;
+        return value;
+    }
+
     static boolean isHandshake(byte value) { // pkg private since it's only used internally
         return (value & STATUS_HANDSHAKE) != 0;
     }
@@ -60,6 +60,7 @@ import org.apache.lucene.search.highlight.DefaultEncoder;
 import org.apache.lucene.store.Directory;
 import org.opensearch.common.Strings;
 import org.opensearch.common.lucene.search.MultiPhrasePrefixQuery;
+import org.opensearch.search.fetch.subphase.highlight.LimitTokenOffsetAnalyzer;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.text.BreakIterator;
@@ -106,7 +107,8 @@ public class CustomUnifiedHighlighterTests extends OpenSearchTestCase {
             expectedPassages.length,
             name -> "text".equals(name),
             Integer.MAX_VALUE,
-            Integer.MAX_VALUE
+            Integer.MAX_VALUE,
+            null
         );
         final Snippet[] snippets = highlighter.highlightField(getOnlyLeafReader(reader), topDocs.scoreDocs[0].doc, () -> rawValue);
         assertEquals(snippets.length, expectedPassages.length);
@@ -137,6 +139,62 @@ public class CustomUnifiedHighlighterTests extends OpenSearchTestCase {
             BreakIterator.getSentenceInstance(Locale.ROOT), 0, expectedPassages);
     }
 
+    public void testQueryMaxAnalyzedOffset() throws Exception {
+        final String text = "This is a test with highlighting at the beginning. "
+            + "The highlighting term also appears in a sentence that is far away from the start.";
+        final int maxOffset = text.indexOf("The highlighting");
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig(new StandardAnalyzer());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), dir, iwc);
+        Document doc = new Document();
+        // no offsets are indexed, so the text has to be analyzed again to highlight it
+        doc.add(new Field("text", text, TextField.TYPE_STORED));
+        iw.addDocument(doc);
+        DirectoryReader reader = iw.getReader();
+        IndexSearcher searcher = newSearcher(reader);
+        iw.close();
+        TopDocs topDocs = searcher.search(new MatchAllDocsQuery(), 1, Sort.INDEXORDER);
+        Query query = new TermQuery(new Term("text", "highlighting"));
+
+        CustomUnifiedHighlighter refusing = buildAnalyzingHighlighter(searcher, new StandardAnalyzer(), query, maxOffset, null);
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> refusing.highlightField(getOnlyLeafReader(reader), topDocs.scoreDocs[0].doc, () -> text));
+        assertThat(e.getMessage().contains("max_analyzed_offset"), equalTo(true));
+
+        Analyzer limited = new LimitTokenOffsetAnalyzer(new StandardAnalyzer(), maxOffset);
+        CustomUnifiedHighlighter truncating = buildAnalyzingHighlighter(searcher, limited, query, Integer.MAX_VALUE, maxOffset);
+        Snippet[] snippets = truncating.highlightField(getOnlyLeafReader(reader), topDocs.scoreDocs[0].doc, () -> text);
+        assertThat(snippets.length, equalTo(1));
+        assertThat(snippets[0].getText(), equalTo("This is a test with <b>highlighting</b> at the beginning."));
+        assertThat(truncating.getReanalyzedFields(), equalTo(1L));
+        assertThat(truncating.getReanalyzedChars(), equalTo((long) maxOffset));
+        assertThat(truncating.getTruncatedFields(), equalTo(1L));
+        reader.close();
+        dir.close();
+    }
+
+    private static CustomUnifiedHighlighter buildAnalyzingHighlighter(IndexSearcher searcher, Analyzer analyzer, Query query,
+                                                                      int maxAnalyzedOffset, Integer queryMaxAnalyzedOffset)
+        throws Exception {
+        return new CustomUnifiedHighlighter(
+            searcher,
+            analyzer,
+            UnifiedHighlighter.OffsetSource.ANALYSIS,
+            new CustomPassageFormatter("<b>", "</b>", new DefaultEncoder()),
+            Locale.ROOT,
+            BreakIterator.getSentenceInstance(Locale.ROOT),
+            "index",
+            "text",
+            query,
+            0,
+            5,
+            name -> "text".equals(name),
+            Integer.MAX_VALUE,
+            maxAnalyzedOffset,
+            queryMaxAnalyzedOffset
+        );
+    }
+
     public void testNoMatchSize() throws Exception {
         final String[] inputs = {
             "This is a test. Just a test highlighting from unified. Feel free to ignore."
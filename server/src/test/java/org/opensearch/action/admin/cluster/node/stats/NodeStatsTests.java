@@ -32,15 +32,23 @@
 
 package org.opensearch.action.admin.cluster.node.stats;
 
+import org.opensearch.cluster.action.shard.ShardStateBatchingStats;
+import org.opensearch.cluster.coordination.ClusterStatePublicationStats;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.MasterServiceStats;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
+import org.opensearch.gateway.PersistedClusterStateStats;
 import org.opensearch.http.HttpStats;
+import org.opensearch.index.mapper.MappingDeduplicationStats;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.SearchableSnapshotStats;
 import org.opensearch.indices.breaker.AllCircuitBreakerStats;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
+import org.opensearch.indices.recovery.RecoveryThrottlingStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.monitor.jvm.JvmStats;
@@ -223,6 +231,7 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(deviceStats.readOperations(), deserializedDeviceStats.readOperations());
                         assertEquals(deviceStats.writeKilobytes(), deserializedDeviceStats.writeKilobytes());
                         assertEquals(deviceStats.writeOperations(), deserializedDeviceStats.writeOperations());
+                        assertEquals(deviceStats.ioTimeInMillis(), deserializedDeviceStats.ioTimeInMillis());
                     }
                 }
                 if (nodeStats.getTransport() == null) {
@@ -274,6 +283,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(queueStats.getTotal(), deserializedDiscoveryStats.getQueueStats().getTotal());
                         assertEquals(queueStats.getPending(), deserializedDiscoveryStats.getQueueStats().getPending());
                     }
+                    assertEquals(discoveryStats.getPublicationStats(), deserializedDiscoveryStats.getPublicationStats());
+                    assertEquals(discoveryStats.getPersistedStateStats(), deserializedDiscoveryStats.getPersistedStateStats());
                 }
                 IngestStats ingestStats = nodeStats.getIngestStats();
                 IngestStats deserializedIngestStats = deserializedNodeStats.getIngestStats();
@@ -326,6 +337,11 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(aStats.responseTime, bStats.responseTime, 0.01);
                     });
                 }
+                assertEquals(nodeStats.getMappingDeduplicationStats(), deserializedNodeStats.getMappingDeduplicationStats());
+                assertEquals(nodeStats.getMasterServiceStats(), deserializedNodeStats.getMasterServiceStats());
+                assertEquals(nodeStats.getShardStateBatchingStats(), deserializedNodeStats.getShardStateBatchingStats());
+                assertEquals(nodeStats.getSearchableSnapshotStats(), deserializedNodeStats.getSearchableSnapshotStats());
+                assertEquals(nodeStats.getRecoveryThrottlingStats(), deserializedNodeStats.getRecoveryThrottlingStats());
                 ScriptCacheStats scriptCacheStats = nodeStats.getScriptCacheStats();
                 ScriptCacheStats deserializedScriptCacheStats = deserializedNodeStats.getScriptCacheStats();
                 if (scriptCacheStats == null) {
@@ -444,7 +460,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
                                 randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), null);
                 deviceStatsArray[i] =
                     new FsInfo.DeviceStats(randomInt(), randomInt(), randomAlphaOfLengthBetween(3, 10), randomNonNegativeLong(),
-                        randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), previousDeviceStats);
+                        randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                        previousDeviceStats);
             }
             FsInfo.IoStats ioStats = new FsInfo.IoStats(deviceStatsArray);
             int numPaths = randomIntBetween(0, 10);
@@ -480,6 +497,16 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     randomNonNegativeLong(),
                     randomNonNegativeLong(),
                     randomNonNegativeLong())
+                : null,
+                randomBoolean()
+                ? new ClusterStatePublicationStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong())
+                : null,
+                randomBoolean()
+                ? new PersistedClusterStateStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
                 : null)
             : null;
         IngestStats ingestStats = null;
@@ -529,10 +556,47 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        MappingDeduplicationStats mappingDeduplicationStats = frequently()
+            ? new MappingDeduplicationStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+            : null;
+        MasterServiceStats masterServiceStats = null;
+        if (frequently()) {
+            int numTaskTypes = randomIntBetween(0, 5);
+            Map<String, MasterServiceStats.TaskTypeStats> taskTypeStats = new HashMap<>(numTaskTypes);
+            for (int i = 0; i < numTaskTypes; i++) {
+                taskTypeStats.put(randomAlphaOfLengthBetween(3, 10), new MasterServiceStats.TaskTypeStats(randomNonNegativeLong(),
+                    randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong()));
+            }
+            masterServiceStats = new MasterServiceStats(randomNonNegativeLong(), taskTypeStats);
+        }
+        ShardStateBatchingStats shardStateBatchingStats = frequently()
+            ? new ShardStateBatchingStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+            : null;
+        SearchableSnapshotStats searchableSnapshotStats = null;
+        if (frequently()) {
+            int numShards = randomIntBetween(0, 3);
+            List<SearchableSnapshotStats.ShardStats> shardStats = new ArrayList<>(numShards);
+            for (int i = 0; i < numShards; i++) {
+                shardStats.add(new SearchableSnapshotStats.ShardStats(new ShardId(randomAlphaOfLength(5), randomAlphaOfLength(10), i),
+                    randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomNonNegativeLong()));
+            }
+            searchableSnapshotStats = new SearchableSnapshotStats(randomNonNegativeLong(), randomNonNegativeLong(),
+                randomNonNegativeLong(), randomNonNegativeLong(), shardStats);
+        }
+        RecoveryThrottlingStats recoveryThrottlingStats = frequently()
+            ? new RecoveryThrottlingStats(randomBoolean(), randomLong(), randomLong(), randomIntBetween(1, 5), randomIntBetween(1, 5),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, 1000), randomIntBetween(0, 1000),
+                randomDoubleBetween(-1, 1, true), randomLong())
+            : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, mappingDeduplicationStats,
+                masterServiceStats, shardStateBatchingStats, searchableSnapshotStats, recoveryThrottlingStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
@@ -108,6 +108,10 @@ public class RestoreSnapshotRequestTests extends AbstractWireSerializingTestCase
             instance.snapshotUuid(randomBoolean() ? null : randomAlphaOfLength(10));
         }
 
+        if (randomBoolean()) {
+            instance.storageType(randomFrom(RestoreSnapshotRequest.StorageType.values()));
+        }
+
         return instance;
     }
 
@@ -34,13 +34,16 @@ package org.opensearch.action.admin.cluster.snapshots.status;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.test.AbstractXContentTestCase;
 import org.opensearch.action.admin.cluster.snapshots.status.SnapshotStatus;
 import org.opensearch.action.admin.cluster.snapshots.status.SnapshotsStatusResponse;
+import org.opensearch.snapshots.ShardSnapshotIOStats;
 
 public class SnapshotsStatusResponseTests extends AbstractXContentTestCase<SnapshotsStatusResponse> {
 
@@ -51,8 +54,10 @@ public class SnapshotsStatusResponseTests extends AbstractXContentTestCase<Snaps
 
     @Override
     protected Predicate<String> getRandomFieldsExcludeFilter() {
-        // Do not place random fields in the indices field or shards field since their fields correspond to names.
-        return (s) -> s.endsWith("shards") || s.endsWith("indices");
+        // Do not place random fields in the indices, shards, io_scheduler, repositories or data_paths fields since their fields
+        // correspond to names.
+        return (s) -> s.endsWith("shards") || s.endsWith("indices") || s.endsWith("io_scheduler") || s.endsWith("repositories")
+            || s.endsWith("data_paths");
     }
 
     @Override
@@ -67,6 +72,19 @@ public class SnapshotsStatusResponseTests extends AbstractXContentTestCase<Snaps
         for (int idx = 0; idx < randomIntBetween(0, 5); idx++) {
             snapshotStatuses.add(statusBuilder.createTestInstance());
         }
-        return new SnapshotsStatusResponse(snapshotStatuses);
+        Map<String, ShardSnapshotIOStats> ioStats = new HashMap<>();
+        for (int idx = 0; idx < randomIntBetween(0, 3); idx++) {
+            ioStats.put(randomAlphaOfLength(10), new ShardSnapshotIOStats(randomQueueStats(), randomQueueStats()));
+        }
+        return new SnapshotsStatusResponse(snapshotStatuses, ioStats);
+    }
+
+    private static Map<String, ShardSnapshotIOStats.QueueStats> randomQueueStats() {
+        Map<String, ShardSnapshotIOStats.QueueStats> queues = new HashMap<>();
+        for (int idx = 0; idx < randomIntBetween(0, 3); idx++) {
+            queues.put(randomAlphaOfLength(10), new ShardSnapshotIOStats.QueueStats(randomIntBetween(0, 100), randomIntBetween(0, 100),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()));
+        }
+        return queues;
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.action.search;
 
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.text.Text;
@@ -40,8 +41,13 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.InnerHitBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.metrics.InternalTopHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.internal.InternalSearchResponse;
@@ -50,9 +56,11 @@ import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -136,7 +144,7 @@ public class ExpandSearchPhaseTests extends OpenSearchTestCase {
     }
 
     public void testFailOneItemFailsEntirePhase() throws IOException {
-        AtomicBoolean executedMultiSearch = new AtomicBoolean(false);
+        AtomicInteger executedMultiSearches = new AtomicInteger();
 
         SearchHits collapsedHits = new SearchHits(new SearchHit[]{new SearchHit(2, "ID", new Text("type"),
             Collections.emptyMap(), Collections.emptyMap()), new SearchHit(3, "ID", new Text("type"),
@@ -148,7 +156,8 @@ public class ExpandSearchPhaseTests extends OpenSearchTestCase {
         mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
             @Override
             void sendExecuteMultiSearch(MultiSearchRequest request, SearchTask task, ActionListener<MultiSearchResponse> listener) {
-                assertTrue(executedMultiSearch.compareAndSet(false, true));
+                // the failed batch is retried group by group, which fails the phase
+                assertThat(executedMultiSearches.incrementAndGet(), Matchers.lessThanOrEqualTo(2));
                 InternalSearchResponse internalSearchResponse = new InternalSearchResponse(collapsedHits,
                     null, null, null, false, null, 1);
                 SearchResponse searchResponse = new SearchResponse(internalSearchResponse, null, 1, 1, 0, 0,
@@ -173,6 +182,133 @@ public class ExpandSearchPhaseTests extends OpenSearchTestCase {
         assertEquals("boom", mockSearchPhaseContext.phaseFailure.get().getMessage());
         assertNotNull(mockSearchPhaseContext.phaseFailure.get());
         assertNull(mockSearchPhaseContext.searchResponse.get());
+        assertEquals(2, executedMultiSearches.get());
+    }
+
+    public void testFailedBatchedExpansionIsRetriedGroupByGroup() throws IOException {
+        final List<SearchHits> groupHits = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            groupHits.add(new SearchHits(new SearchHit[]{new SearchHit(i, "ID" + i, new Text("type"), Collections.emptyMap(),
+                Collections.emptyMap())}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0F));
+        }
+        AtomicInteger executedMultiSearches = new AtomicInteger();
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(1);
+        mockSearchPhaseContext.getRequest().source(new SearchSourceBuilder()
+            .collapse(new CollapseBuilder("someField").setInnerHits(new InnerHitBuilder().setName("innerHit"))));
+        mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
+            @Override
+            void sendExecuteMultiSearch(MultiSearchRequest request, SearchTask task, ActionListener<MultiSearchResponse> listener) {
+                final List<MultiSearchResponse.Item> mSearchResponses = new ArrayList<>();
+                if (executedMultiSearches.incrementAndGet() == 1) {
+                    // e.g. an index limits the inner result window below the size of the inner hits
+                    assertEquals(1, request.requests().size());
+                    mSearchResponses.add(new MultiSearchResponse.Item(null,
+                        new IllegalArgumentException("Top hits result window is too large")));
+                } else {
+                    assertEquals(2, request.requests().size());
+                    for (SearchHits hits : groupHits) {
+                        mockSearchPhaseContext.sendSearchResponse(new InternalSearchResponse(hits, null, null, null, false, null, 1), null);
+                        mSearchResponses.add(new MultiSearchResponse.Item(mockSearchPhaseContext.searchResponse.get(), null));
+                    }
+                }
+                listener.onResponse(
+                    new MultiSearchResponse(mSearchResponses.toArray(new MultiSearchResponse.Item[0]), randomIntBetween(1, 10000)));
+            }
+        };
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (String collapseValue : Arrays.asList("a", "b")) {
+            hits.add(new SearchHit(hits.size(), "ID", new Text("type"), Collections.singletonMap("someField",
+                new DocumentField("someField", Collections.singletonList(collapseValue))), Collections.emptyMap()));
+        }
+        InternalSearchResponse internalSearchResponse = new InternalSearchResponse(new SearchHits(hits.toArray(new SearchHit[0]),
+            new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO), 1.0F), null, null, null, false, null, 1);
+        ExpandSearchPhase phase = new ExpandSearchPhase(mockSearchPhaseContext, internalSearchResponse, null);
+        phase.run();
+        mockSearchPhaseContext.assertNoFailure();
+        assertEquals(2, executedMultiSearches.get());
+        SearchHit[] expandedHits = mockSearchPhaseContext.searchResponse.get().getHits().getHits();
+        assertSame(groupHits.get(0), expandedHits[0].getInnerHits().get("innerHit"));
+        assertSame(groupHits.get(1), expandedHits[1].getInnerHits().get("innerHit"));
+    }
+
+    public void testBatchedExpansion() throws IOException {
+        final int numInnerHits = randomIntBetween(1, 3);
+        final boolean hasMissingGroup = randomBoolean();
+        final QueryBuilder originalQuery = randomBoolean() ? null : QueryBuilders.termQuery("foo", "bar");
+        final QueryBuilder postFilter = randomBoolean() ? null : QueryBuilders.existsQuery("baz");
+        final List<SearchHits> groupHits = new ArrayList<>();
+        for (int i = 0; i < 2 * numInnerHits; i++) {
+            groupHits.add(new SearchHits(new SearchHit[]{new SearchHit(i, "ID" + i, new Text("type"), Collections.emptyMap(),
+                Collections.emptyMap())}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0F));
+        }
+        AtomicBoolean executedMultiSearch = new AtomicBoolean(false);
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(1);
+        mockSearchPhaseContext.getRequest().source(new SearchSourceBuilder()
+            .query(originalQuery)
+            .postFilter(postFilter)
+            .collapse(new CollapseBuilder("someField")
+                .setInnerHits(IntStream.range(0, numInnerHits).mapToObj(hitNum -> new InnerHitBuilder().setName("innerHit" + hitNum))
+                    .collect(Collectors.toList()))));
+        mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
+            @Override
+            void sendExecuteMultiSearch(MultiSearchRequest request, SearchTask task, ActionListener<MultiSearchResponse> listener) {
+                assertTrue(executedMultiSearch.compareAndSet(false, true));
+                // a single search per inner hits definition expands the groups of all hits
+                assertEquals(numInnerHits, request.requests().size());
+                List<MultiSearchResponse.Item> mSearchResponses = new ArrayList<>(numInnerHits);
+                for (int innerHitNum = 0; innerHitNum < numInnerHits; innerHitNum++) {
+                    SearchRequest searchRequest = request.requests().get(innerHitNum);
+                    assertEquals(0, searchRequest.source().size());
+                    assertNull(searchRequest.source().postFilter());
+                    BoolQueryBuilder expandQuery = (BoolQueryBuilder) searchRequest.source().query();
+                    BoolQueryBuilder groupsQuery = (BoolQueryBuilder) expandQuery.filter().get(0);
+                    assertThat(groupsQuery.should().get(0), Matchers.equalTo(QueryBuilders.termsQuery("someField", "b", "a")));
+                    assertEquals(hasMissingGroup ? 2 : 1, groupsQuery.should().size());
+                    assertEquals(postFilter == null ? 1 : 2, expandQuery.filter().size());
+                    assertEquals(originalQuery == null ? 0 : 1, expandQuery.must().size());
+                    assertEquals(hasMissingGroup ? 2 : 1, searchRequest.source().aggregations().count());
+
+                    List<StringTerms.Bucket> buckets = new ArrayList<>();
+                    for (int group = 0; group < 2; group++) {
+                        InternalTopHits topHits = new InternalTopHits("_expand_group_hits", 0, 3, null,
+                            groupHits.get(innerHitNum * 2 + group), null);
+                        buckets.add(new StringTerms.Bucket(new BytesRef(group == 0 ? "a" : "b"), 1,
+                            InternalAggregations.from(Collections.singletonList(topHits)), false, 0, DocValueFormat.RAW));
+                    }
+                    StringTerms terms = new StringTerms("_expand_groups", BucketOrder.key(true), BucketOrder.key(true), 2, 1, null,
+                        DocValueFormat.RAW, 2, false, 0, buckets, 0);
+                    InternalSearchResponse internalSearchResponse = new InternalSearchResponse(SearchHits.empty(false),
+                        InternalAggregations.from(Collections.singletonList(terms)), null, null, false, null, 1);
+                    mockSearchPhaseContext.sendSearchResponse(internalSearchResponse, null);
+                    mSearchResponses.add(new MultiSearchResponse.Item(mockSearchPhaseContext.searchResponse.get(), null));
+                }
+                listener.onResponse(
+                    new MultiSearchResponse(mSearchResponses.toArray(new MultiSearchResponse.Item[0]), randomIntBetween(1, 10000)));
+            }
+        };
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (String collapseValue : hasMissingGroup ? Arrays.asList("b", null, "a") : Arrays.asList("b", "a")) {
+            hits.add(new SearchHit(hits.size(), "ID", new Text("type"), Collections.singletonMap("someField",
+                new DocumentField("someField", Collections.singletonList(collapseValue))), Collections.emptyMap()));
+        }
+        InternalSearchResponse internalSearchResponse = new InternalSearchResponse(new SearchHits(hits.toArray(new SearchHit[0]),
+            new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO), 1.0F), null, null, null, false, null, 1);
+        ExpandSearchPhase phase = new ExpandSearchPhase(mockSearchPhaseContext, internalSearchResponse, null);
+        phase.run();
+        mockSearchPhaseContext.assertNoFailure();
+        assertTrue(executedMultiSearch.get());
+        SearchHit[] expandedHits = mockSearchPhaseContext.searchResponse.get().getHits().getHits();
+        for (int innerHitNum = 0; innerHitNum < numInnerHits; innerHitNum++) {
+            String name = "innerHit" + innerHitNum;
+            assertSame(groupHits.get(innerHitNum * 2 + 1), expandedHits[0].getInnerHits().get(name));
+            assertSame(groupHits.get(innerHitNum * 2), expandedHits[expandedHits.length - 1].getInnerHits().get(name));
+            if (hasMissingGroup) {
+                // the response has no missing group, as if its documents had been deleted since the query phase
+                assertEquals(0, expandedHits[1].getInnerHits().get(name).getHits().length);
+            }
+        }
     }
 
     public void testSkipPhase() throws IOException {
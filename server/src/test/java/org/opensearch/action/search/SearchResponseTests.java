@@ -124,6 +124,7 @@ public class SearchResponseTests extends OpenSearchTestCase {
         int totalShards = randomIntBetween(1, Integer.MAX_VALUE);
         int successfulShards = randomIntBetween(0, totalShards);
         int skippedShards = randomIntBetween(0, totalShards);
+        int bottomSortFilteredShards = randomBoolean() ? 0 : randomIntBetween(0, successfulShards);
         InternalSearchResponse internalSearchResponse;
         if (minimal == false) {
             SearchHits hits = SearchHitsTests.createTestItem(true, true);
@@ -131,7 +132,7 @@ public class SearchResponseTests extends OpenSearchTestCase {
             Suggest suggest = SuggestTests.createTestItem();
             SearchProfileShardResults profileShardResults = SearchProfileShardResultsTests.createTestItem();
             internalSearchResponse = new InternalSearchResponse(hits, aggregations, suggest, profileShardResults,
-                timedOut, terminatedEarly, numReducePhases);
+                timedOut, terminatedEarly, numReducePhases, bottomSortFilteredShards);
         } else {
             internalSearchResponse = InternalSearchResponse.empty();
         }
@@ -304,6 +305,7 @@ public class SearchResponseTests extends OpenSearchTestCase {
         assertEquals(searchResponse.getFailedShards(), deserialized.getFailedShards());
         assertEquals(searchResponse.getTotalShards(), deserialized.getTotalShards());
         assertEquals(searchResponse.getSkippedShards(), deserialized.getSkippedShards());
+        assertEquals(searchResponse.getBottomSortFilteredShards(), deserialized.getBottomSortFilteredShards());
         assertEquals(searchResponse.getClusters(), deserialized.getClusters());
     }
 
@@ -40,6 +40,9 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.support.replication.ClusterStateCreationUtils;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateObserver;
+import org.opensearch.cluster.ClusterStateTaskConfig;
+import org.opensearch.cluster.ClusterStateTaskExecutor;
+import org.opensearch.cluster.ClusterStateTaskListener;
 import org.opensearch.cluster.NotMasterException;
 import org.opensearch.cluster.action.shard.ShardStateAction.FailedShardEntry;
 import org.opensearch.cluster.action.shard.ShardStateAction.StartedShardEntry;
@@ -52,10 +55,12 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardsIterator;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Priority;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
@@ -75,7 +80,9 @@ import org.junit.BeforeClass;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
@@ -92,6 +99,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -453,6 +461,71 @@ public class ShardStateActionTests extends OpenSearchTestCase {
         assertNull(listener.failure.get());
     }
 
+    public void testShardStateTasksAreBatchedWithinDelay() throws InterruptedException {
+        setState(clusterService, ClusterStateCreationUtils.stateWithActivePrimary("test", true, randomInt(5)));
+
+        final List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        final ClusterStateTaskExecutor<String> executor = new ClusterStateTaskExecutor<String>() {
+            @Override
+            public ClusterTasksResult<String> execute(ClusterState currentState, List<String> tasks) {
+                executedBatches.add(tasks);
+                return ClusterTasksResult.<String>builder().successes(tasks).build(currentState);
+            }
+
+            @Override
+            public boolean runOnlyOnMaster() {
+                return false;
+            }
+        };
+        final ShardStateAction.ShardStateTaskQueue<String> queue = new ShardStateAction.ShardStateTaskQueue<>(clusterService,
+            THREAD_POOL, () -> TimeValue.timeValueMillis(200), "test", ClusterStateTaskConfig.build(Priority.NORMAL), executor);
+
+        final int numberOfTasks = randomIntBetween(2, 10);
+        final CountDownLatch latch = new CountDownLatch(numberOfTasks);
+        for (int i = 0; i < numberOfTasks; i++) {
+            queue.submit("test [" + i + "]", "task-" + i, new ClusterStateTaskListener() {
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+
+                @Override
+                public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        assertThat(executedBatches, hasSize(1));
+        assertThat(executedBatches.get(0), hasSize(numberOfTasks));
+        assertThat(queue.batches.count(), equalTo(1L));
+        assertThat(queue.tasks.count(), equalTo((long) numberOfTasks));
+    }
+
+    public void testFollowUpReroutesAreCoalescedWithinDelay() throws InterruptedException {
+        final AtomicInteger reroutes = new AtomicInteger();
+        final AtomicReference<Priority> reroutePriority = new AtomicReference<>();
+        final ShardStateAction.DeferredRerouteService rerouteService = new ShardStateAction.DeferredRerouteService(
+            (reason, priority, listener) -> {
+                reroutes.incrementAndGet();
+                reroutePriority.set(priority);
+                listener.onResponse(clusterService.state());
+            }, THREAD_POOL, () -> TimeValue.timeValueMillis(200));
+
+        final int numberOfReroutes = randomIntBetween(2, 10);
+        final CountDownLatch latch = new CountDownLatch(numberOfReroutes);
+        for (int i = 0; i < numberOfReroutes; i++) {
+            rerouteService.reroute("test", i == 0 ? Priority.NORMAL : Priority.HIGH, ActionListener.wrap(latch::countDown));
+        }
+        latch.await();
+
+        assertThat(reroutes.get(), equalTo(1));
+        assertThat(reroutePriority.get(), equalTo(Priority.HIGH));
+        assertThat(rerouteService.requested.count(), equalTo((long) numberOfReroutes));
+        assertThat(rerouteService.submitted.count(), equalTo(1L));
+    }
+
     private ShardRouting getRandomShardRouting(String index) {
         IndexRoutingTable indexRoutingTable = clusterService.state().routingTable().index(index);
         ShardsIterator shardsIterator = indexRoutingTable.randomAllActiveShardsIt();
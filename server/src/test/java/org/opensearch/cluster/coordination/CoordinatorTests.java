@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.LogEvent;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.AbstractDiffable;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.block.ClusterBlock;
@@ -108,6 +109,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
@@ -1032,6 +1034,93 @@ public class CoordinatorTests extends AbstractCoordinatorTestCase {
         }
     }
 
+    public void testRelayedPublication() {
+        final Settings settings = Settings.builder()
+            .put(PublicationTransportHandler.PUBLISH_RELAY_FAN_OUT_SETTING.getKey(), randomIntBetween(1, 3)).build();
+        try (Cluster cluster = new Cluster(randomIntBetween(3, 7), false, settings)) {
+            cluster.runRandomly();
+            cluster.stabilise();
+
+            final ClusterNode leader = cluster.getAnyLeader();
+            final ClusterStatePublicationStats preLeaderStats = leader.coordinator.stats().getPublicationStats();
+            final long finalValue = randomLong();
+            logger.info("--> submitting value [{}] to [{}]", finalValue, leader);
+            leader.submitValue(finalValue);
+            cluster.stabilise(DEFAULT_CLUSTER_STATE_UPDATE_DELAY);
+
+            for (final ClusterNode clusterNode : cluster.clusterNodes) {
+                assertThat(clusterNode.getId() + " has the applied value", value(clusterNode.getLastAppliedClusterState()),
+                    is(finalValue));
+            }
+
+            final ClusterStatePublicationStats postLeaderStats = leader.coordinator.stats().getPublicationStats();
+            assertThat(postLeaderStats.getCommittedCount(), greaterThan(preLeaderStats.getCommittedCount()));
+            final long nonMasterNodes = cluster.clusterNodes.stream().filter(cn -> cn.getLocalNode().isMasterNode() == false).count();
+            if (nonMasterNodes >= 2) {
+                assertThat(postLeaderStats.getRelayRequestsSent(), greaterThan(preLeaderStats.getRelayRequestsSent()));
+                assertThat(postLeaderStats.getRelayedPublishRequests(), greaterThan(preLeaderStats.getRelayedPublishRequests()));
+                assertThat(cluster.clusterNodes.stream().mapToLong(cn -> cn.coordinator.stats().getPublicationStats()
+                    .getRelayRequestsReceived()).sum(), greaterThan(0L));
+            } else {
+                assertThat(postLeaderStats.getRelayRequestsSent(), equalTo(preLeaderStats.getRelayRequestsSent()));
+            }
+        }
+    }
+
+    public void testRelayedPublicationFallsBackToDirectPublicationOnRelayTimeout() {
+        final long relayTimeoutMillis = randomLongBetween(1000, 5000);
+        final Settings settings = Settings.builder()
+            .put(PublicationTransportHandler.PUBLISH_RELAY_FAN_OUT_SETTING.getKey(), randomIntBetween(1, 3))
+            .put(PublicationTransportHandler.PUBLISH_RELAY_TIMEOUT_SETTING.getKey(), relayTimeoutMillis + "ms").build();
+        try (Cluster cluster = new Cluster(randomIntBetween(3, 7), false, settings)) {
+            cluster.runRandomly();
+            cluster.stabilise();
+
+            // relays only forward to nodes that are not master-eligible, so connecting these nodes to each other and then dropping
+            // the requests between them means that every relayed publish request reaches the relay but none of its targets
+            final List<ClusterNode> nonMasterNodes = cluster.clusterNodes.stream()
+                .filter(cn -> cn.getLocalNode().isMasterNode() == false).collect(Collectors.toList());
+            for (ClusterNode sender : nonMasterNodes) {
+                for (ClusterNode destination : nonMasterNodes) {
+                    if (sender != destination) {
+                        sender.onNode(() -> sender.transportService.connectToNode(destination.getLocalNode(),
+                            ActionListener.wrap(() -> {}))).run();
+                    }
+                }
+            }
+            cluster.runFor(DEFAULT_DELAY_VARIABILITY * 2, "connecting nodes that are not master-eligible to each other");
+            for (ClusterNode sender : nonMasterNodes) {
+                for (ClusterNode destination : nonMasterNodes) {
+                    if (sender != destination) {
+                        assertTrue(sender.transportService.nodeConnected(destination.getLocalNode()));
+                        cluster.blackholeConnectionsFrom(sender, destination);
+                    }
+                }
+            }
+
+            final ClusterNode leader = cluster.getAnyLeader();
+            final ClusterStatePublicationStats preLeaderStats = leader.coordinator.stats().getPublicationStats();
+            final long finalValue = randomLong();
+            logger.info("--> submitting value [{}] to [{}]", finalValue, leader);
+            leader.submitValue(finalValue);
+            // well within the publish timeout, so the nodes behind a relay must have received the state directly from the master
+            cluster.runFor(relayTimeoutMillis + 2 * DEFAULT_CLUSTER_STATE_UPDATE_DELAY, "publishing via relays that time out");
+
+            for (final ClusterNode clusterNode : cluster.clusterNodes) {
+                assertThat(clusterNode.getId() + " has the applied value", value(clusterNode.getLastAppliedClusterState()),
+                    is(finalValue));
+            }
+
+            final ClusterStatePublicationStats postLeaderStats = leader.coordinator.stats().getPublicationStats();
+            if (nonMasterNodes.size() >= 2) {
+                assertThat(postLeaderStats.getRelayRequestsSent(), greaterThan(preLeaderStats.getRelayRequestsSent()));
+            }
+
+            cluster.clearBlackholedConnections();
+            cluster.stabilise();
+        }
+    }
+
     /**
      * Simulates a situation where a follower becomes disconnected from the leader, but only for such a short time where
      * it becomes candidate and puts up a NO_MASTER_BLOCK, but then receives a follower check from the leader. If the leader
@@ -39,6 +39,7 @@ import org.opensearch.cluster.metadata.ProcessClusterEventTimeoutException;
 import org.opensearch.common.Priority;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.common.util.concurrent.PrioritizedOpenSearchThreadPoolExecutor;
 import org.junit.Before;
 
@@ -51,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -73,10 +75,23 @@ public class TaskBatcherTests extends TaskExecutorTests {
 
     class TestTaskBatcher extends TaskBatcher {
 
+        volatile TimeValue starvationThreshold = TimeValue.MINUS_ONE;
+        final Map<String, Integer> maxPendingTasks = new ConcurrentHashMap<>();
+
         TestTaskBatcher(Logger logger, PrioritizedOpenSearchThreadPoolExecutor threadExecutor) {
             super(logger, threadExecutor);
         }
 
+        @Override
+        protected TimeValue getStarvationThreshold() {
+            return starvationThreshold;
+        }
+
+        @Override
+        protected int getMaxPendingTasks(String taskType) {
+            return maxPendingTasks.getOrDefault(taskType, -1);
+        }
+
         @Override
         protected void run(Object batchingKey, List<? extends BatchedTask> tasks, String tasksSummary) {
             List<UpdateTask> updateTasks = (List) tasks;
@@ -341,6 +356,116 @@ public class TaskBatcherTests extends TaskExecutorTests {
         latch.await();
     }
 
+    public void testTaskType() {
+        assertThat(TaskBatcher.taskType("put-mapping"), equalTo("put-mapping"));
+        assertThat(TaskBatcher.taskType("put-mapping [index]"), equalTo("put-mapping"));
+        assertThat(TaskBatcher.taskType("shard-started StartedShardEntry{}"), equalTo("shard-started"));
+        assertThat(TaskBatcher.taskType("create-index-template-v2[template]"), equalTo("create-index-template-v2"));
+        assertThat(TaskBatcher.taskType("delete-index ([index])"), equalTo("delete-index"));
+        assertThat(TaskBatcher.taskType("[index] source"), equalTo("[index] source"));
+    }
+
+    public void testPendingTasksAreThrottledPerType() throws InterruptedException {
+        taskBatcher.maxPendingTasks.put("throttled", 2);
+        final CountDownLatch latch = new CountDownLatch(3);
+        final TestListener listener = new TestListener() {
+            @Override
+            public void processed(String source) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        final TestExecutor<SimpleTask> executor = tasks -> {};
+        final ClusterStateTaskConfig config = ClusterStateTaskConfig.build(Priority.NORMAL);
+        try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
+            submitTask("blocking", blockingTask);
+
+            submitTask("throttled [1]", new SimpleTask(1), config, executor, listener);
+            submitTask("throttled [2]", new SimpleTask(2), config, executor, listener);
+            final OpenSearchRejectedExecutionException e = expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> submitTask("throttled [3]", new SimpleTask(3), config, executor, listener));
+            assertThat(e.getMessage(), containsString("there are already [2] pending tasks of type [throttled]"));
+            submitTask("unthrottled [4]", new SimpleTask(4), config, executor, listener);
+
+            final MasterServiceStats.TaskTypeStats throttledStats = taskBatcher.stats().getTaskTypeStats().get("throttled");
+            assertThat(throttledStats.getPending(), equalTo(2L));
+            assertThat(throttledStats.getThrottled(), equalTo(1L));
+            assertThat(throttledStats.getExecuted(), equalTo(0L));
+        }
+        latch.await();
+
+        final MasterServiceStats stats = taskBatcher.stats();
+        assertThat(stats.getTaskTypeStats().get("throttled").getPending(), equalTo(0L));
+        assertThat(stats.getTaskTypeStats().get("throttled").getExecuted(), equalTo(2L));
+        assertThat(stats.getTaskTypeStats().get("unthrottled").getExecuted(), equalTo(1L));
+        assertThat(stats.getTaskTypeStats().get("unthrottled").getThrottled(), equalTo(0L));
+    }
+
+    public void testRejectedTasksAreNotLeftPending() {
+        threadExecutor.shutdown();
+        final TestListener listener = new TestListener() {
+            @Override
+            public void processed(String source) {
+                throw new AssertionError("rejected task was processed");
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        final TestExecutor<SimpleTask> executor = tasks -> {};
+        final ClusterStateTaskConfig config = ClusterStateTaskConfig.build(Priority.NORMAL,
+            randomBoolean() ? TimeValue.timeValueSeconds(10) : null);
+        expectThrows(OpenSearchRejectedExecutionException.class,
+            () -> submitTask("rejected [1]", new SimpleTask(1), config, executor, listener));
+
+        assertThat(taskBatcher.stats().getTaskTypeStats().get("rejected").getPending(), equalTo(0L));
+        synchronized (taskBatcher.tasksPerBatchingKey) {
+            assertThat(taskBatcher.tasksPerBatchingKey.keySet(), empty());
+        }
+    }
+
+    public void testStarvedBatchRunsAheadOfHigherPriorityBatch() throws InterruptedException {
+        final boolean starvationProtection = randomBoolean();
+        if (starvationProtection) {
+            taskBatcher.starvationThreshold = TimeValue.ZERO;
+        }
+        final List<String> executionOrder = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        final TestListener listener = new TestListener() {
+            @Override
+            public void processed(String source) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        final TestExecutor<String> executorA = executionOrder::addAll;
+        final TestExecutor<String> executorB = executionOrder::addAll;
+        try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
+            submitTask("blocking", blockingTask);
+            submitTask("low", "low", ClusterStateTaskConfig.build(Priority.LOW), executorA, listener);
+            submitTask("high", "high", ClusterStateTaskConfig.build(Priority.HIGH), executorB, listener);
+        }
+        latch.await();
+
+        if (starvationProtection) {
+            assertThat(executionOrder, equalTo(Arrays.asList("low", "high")));
+            assertThat(taskBatcher.stats().getStarvedBatchesPromoted(), equalTo(1L));
+        } else {
+            assertThat(executionOrder, equalTo(Arrays.asList("high", "low")));
+            assertThat(taskBatcher.stats().getStarvedBatchesPromoted(), equalTo(0L));
+        }
+    }
+
     private static class SimpleTask {
         private final int id;
 
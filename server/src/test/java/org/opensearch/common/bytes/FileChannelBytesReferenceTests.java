@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.bytes;
+
+import org.opensearch.core.internal.io.IOUtils;
+import org.junit.After;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileChannelBytesReferenceTests extends AbstractBytesReferenceTestCase {
+
+    private final List<FileChannel> channels = new ArrayList<>();
+
+    @After
+    public void closeChannels() throws IOException {
+        IOUtils.close(channels);
+    }
+
+    @Override
+    protected BytesReference newBytesReference(int length) throws IOException {
+        return newBytesReference(length, randomInt(length));
+    }
+
+    @Override
+    protected BytesReference newBytesReferenceWithOffsetOfZero(int length) throws IOException {
+        return newBytesReference(length, 0);
+    }
+
+    private BytesReference newBytesReference(int length, int offset) throws IOException {
+        final Path file = createTempFile();
+        Files.write(file, randomByteArrayOfLength(length + offset + between(0, 10)));
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        channels.add(channel);
+        return new FileChannelBytesReference(channel, offset, length);
+    }
+
+    @Override
+    public void testSliceArrayOffset() throws IOException {
+        // slices read their own bytes from the file rather than sharing those of the sliced reference
+    }
+
+    @Override
+    public void testSliceToBytesRef() throws IOException {
+        // slices read their own bytes from the file rather than sharing those of the sliced reference
+    }
+
+    public void testTrailingFileRegion() throws IOException {
+        final FileChannelBytesReference fileRegion = (FileChannelBytesReference) newBytesReference(between(1, 100));
+        final BytesReference header = new BytesArray(randomByteArrayOfLength(between(1, 10)));
+        assertSame(fileRegion, FileChannelBytesReference.trailingFileRegion(fileRegion));
+        assertSame(fileRegion, FileChannelBytesReference.trailingFileRegion(CompositeBytesReference.of(header, fileRegion)));
+        assertNull(FileChannelBytesReference.trailingFileRegion(CompositeBytesReference.of(fileRegion, header)));
+        assertNull(FileChannelBytesReference.trailingFileRegion(header));
+    }
+
+    public void testReadPastEndOfFile() throws IOException {
+        final Path file = createTempFile();
+        final int length = between(0, 100);
+        Files.write(file, randomByteArrayOfLength(length));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final BytesReference reference = new FileChannelBytesReference(channel, between(0, length), length + 1);
+            expectThrows(UncheckedIOException.class, reference::toBytesRef);
+        }
+    }
+}
@@ -50,7 +50,9 @@ import java.util.concurrent.CountDownLatch;
  */
 public class DeflateCompressTests extends OpenSearchTestCase {
 
-    private final Compressor compressor = new DeflateCompressor();
+    protected Compressor compressor() {
+        return new DeflateCompressor();
+    }
 
     public void testRandom() throws IOException {
         Random r = random();
@@ -396,7 +398,7 @@ public class DeflateCompressTests extends OpenSearchTestCase {
 
     private void doTest(byte bytes[]) throws IOException {
         InputStream rawIn = new ByteArrayInputStream(bytes);
-        Compressor c = compressor;
+        Compressor c = compressor();
 
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         final Random r = random();
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Runs the streaming compression tests against {@link LZ4Compressor}.
+ */
+public class LZ4CompressTests extends DeflateCompressTests {
+
+    @Override
+    protected Compressor compressor() {
+        return new LZ4Compressor();
+    }
+
+    public void testCompressUncompress() throws IOException {
+        final Compressor compressor = compressor();
+        final byte[] bytes = randomRepetitiveBytes(between(0, 3 * LZ4Compressor.BLOCK_SIZE));
+        final BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        assertTrue(compressor.isCompressed(compressed));
+        assertFalse(new DeflateCompressor().isCompressed(compressed));
+        if (bytes.length > 1024) {
+            assertThat(compressed.length(), lessThan(bytes.length));
+        }
+        assertThat(compressor.uncompress(compressed), equalTo(new BytesArray(bytes)));
+    }
+
+    public void testSingleByteWrites() throws IOException {
+        final byte[] bytes = randomRepetitiveBytes(between(0, 2 * LZ4Compressor.BLOCK_SIZE));
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = LZ4Compressor.outputStream(compressed)) {
+            for (byte b : bytes) {
+                out.write(b);
+            }
+        }
+        final ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        try (InputStream in = LZ4Compressor.inputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                uncompressed.write(b);
+            }
+        }
+        assertArrayEquals(bytes, uncompressed.toByteArray());
+    }
+
+    public void testTruncatedStream() throws IOException {
+        final byte[] bytes = randomRepetitiveBytes(between(1, 2 * LZ4Compressor.BLOCK_SIZE));
+        final byte[] compressed = BytesReference.toBytes(compressor().compress(new BytesArray(bytes)));
+        final byte[] truncated = Arrays.copyOf(compressed, between(compressor().headerLength(), compressed.length - 1));
+        try (InputStream in = LZ4Compressor.inputStream(new ByteArrayInputStream(truncated))) {
+            final byte[] buffer = new byte[1024];
+            expectThrows(EOFException.class, () -> {
+                while (in.read(buffer) != -1) {
+                    // read until the end of the truncated stream
+                }
+            });
+        }
+    }
+
+    public void testNotCompressed() {
+        final byte[] bytes = randomByteArrayOfLength(between(1, 100));
+        bytes[0] = 'X';
+        expectThrows(IllegalArgumentException.class, () -> LZ4Compressor.inputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private static byte[] randomRepetitiveBytes(int length) {
+        final byte[] bytes = new byte[length];
+        final byte[] pattern = randomByteArrayOfLength(between(1, 64));
+        for (int i = 0; i < length; i++) {
+            bytes[i] = rarely() ? randomByte() : pattern[i % pattern.length];
+        }
+        return bytes;
+    }
+}
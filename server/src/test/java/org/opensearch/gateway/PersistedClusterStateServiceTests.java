@@ -84,6 +84,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -148,7 +149,7 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
 
     private static void writeState(Writer writer, long currentTerm, ClusterState clusterState,
                                    ClusterState previousState) throws IOException {
-        if (randomBoolean() || clusterState.term() != previousState.term() || writer.fullStateWritten == false) {
+        if (randomBoolean() || writer.fullStateWritten == false) {
             writer.writeFullStateAndCommit(currentTerm, clusterState);
         } else {
             writer.writeIncrementalStateAndCommit(currentTerm, previousState, clusterState);
@@ -751,6 +752,60 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSkipsUnchangedIndexMetadataInstancesAcrossTerms() throws IOException {
+        try (NodeEnvironment nodeEnvironment = newNodeEnvironment(createDataPaths())) {
+            final PersistedClusterStateService persistedClusterStateService = newPersistedClusterStateService(nodeEnvironment);
+            final long oldTerm = randomLongBetween(1L, Long.MAX_VALUE - 1);
+            final long newTerm = randomLongBetween(oldTerm + 1, Long.MAX_VALUE);
+
+            try (Writer writer = persistedClusterStateService.createWriter()) {
+                ClusterState clusterState = loadPersistedClusterState(persistedClusterStateService);
+                final Metadata.Builder metadata = Metadata.builder(clusterState.metadata())
+                    .coordinationMetadata(CoordinationMetadata.builder(clusterState.coordinationMetadata()).term(oldTerm).build());
+                for (String indexName : new String[] { "unchanged", "changed" }) {
+                    metadata.put(IndexMetadata.builder(indexName)
+                        .settings(Settings.builder()
+                            .put(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.getKey(), 1)
+                            .put(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.getKey(), 1)
+                            .put(IndexMetadata.SETTING_INDEX_VERSION_CREATED.getKey(), Version.CURRENT)
+                            .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID(random()))));
+                }
+                final ClusterState oldTermState = ClusterState.builder(clusterState).metadata(metadata).incrementVersion().build();
+                writer.writeFullStateAndCommit(0L, oldTermState);
+                final PersistedClusterStateStats statsAfterFullWrite = persistedClusterStateService.getStats();
+                assertThat(statsAfterFullWrite.getFullWriteCount(), equalTo(1L));
+                assertThat(statsAfterFullWrite.getIndicesWritten(), equalTo(2L));
+                assertThat(statsAfterFullWrite.getLastWriteSizeInBytes(), greaterThan(0L));
+
+                // a new master may publish different metadata for an index at the same version, which must still be written
+                final IndexMetadata changed = oldTermState.metadata().index("changed");
+                final ClusterState newTermState = ClusterState.builder(oldTermState)
+                    .metadata(Metadata.builder(oldTermState.metadata())
+                        .coordinationMetadata(CoordinationMetadata.builder(oldTermState.coordinationMetadata()).term(newTerm).build())
+                        .put(IndexMetadata.builder(changed).settings(Settings.builder()
+                            .put(changed.getSettings())
+                            .put(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.getKey(), 2)).build(), false))
+                    .incrementVersion().build();
+                writer.writeIncrementalStateAndCommit(0L, oldTermState, newTermState);
+
+                final PersistedClusterStateStats statsAfterIncrementalWrite = persistedClusterStateService.getStats();
+                assertThat(statsAfterIncrementalWrite.getFullWriteCount(), equalTo(1L));
+                assertThat(statsAfterIncrementalWrite.getIncrementalWriteCount(), equalTo(1L));
+                assertThat(statsAfterIncrementalWrite.getIndicesWritten(), equalTo(3L));
+                assertThat(statsAfterIncrementalWrite.getIndicesSkipped(), equalTo(1L));
+                assertThat(statsAfterIncrementalWrite.getIncrementalWriteSizeInBytes(),
+                    lessThan(statsAfterIncrementalWrite.getFullWriteSizeInBytes()));
+            }
+
+            final ClusterState clusterState = loadPersistedClusterState(persistedClusterStateService);
+            assertThat(clusterState.metadata().coordinationMetadata().term(), equalTo(newTerm));
+            assertThat(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.get(clusterState.metadata().index("changed").getSettings()),
+                equalTo(2));
+            assertThat(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.get(clusterState.metadata().index("unchanged").getSettings()),
+                equalTo(1));
+        }
+    }
+
     public void testReloadsMetadataAcrossMultipleSegments() throws IOException {
         try (NodeEnvironment nodeEnvironment = newNodeEnvironment(createDataPaths())) {
             final PersistedClusterStateService persistedClusterStateService = newPersistedClusterStateService(nodeEnvironment);
@@ -77,6 +77,7 @@ import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.engine.InternalEngineTests;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.mapper.MappingSourceInterner;
 import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.shard.IndexEventListener;
@@ -181,7 +182,7 @@ public class IndexModuleTests extends OpenSearchTestCase {
 
     private IndexService newIndexService(IndexModule module) throws IOException {
         return module.newIndexService(CREATE_INDEX, nodeEnvironment, xContentRegistry(), deleter, circuitBreakerService, bigArrays,
-                threadPool, scriptService, clusterService, null, indicesQueryCache, mapperRegistry,
+                threadPool, scriptService, clusterService, null, indicesQueryCache, mapperRegistry, new MappingSourceInterner(),
                 new IndicesFieldDataCache(settings, listener), writableRegistry(), () -> false, null);
     }
 
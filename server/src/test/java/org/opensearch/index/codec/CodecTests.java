@@ -34,6 +34,7 @@ package org.opensearch.index.codec;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.perfield.PerFieldPostingsFormat;
 import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.apache.lucene.codecs.lucene87.Lucene87StoredFieldsFormat;
@@ -43,15 +44,21 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.suggest.document.Completion84PostingsFormat;
+import org.apache.lucene.search.suggest.document.CompletionTerms;
+import org.apache.lucene.search.suggest.document.SuggestField;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LuceneTestCase.SuppressCodecs;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.mapper.MapperRegistry;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.test.OpenSearchTestCase;
@@ -60,7 +67,9 @@ import org.opensearch.test.IndexSettingsModule;
 import java.io.IOException;
 import java.util.Collections;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 
 @SuppressCodecs("*") // we test against default codec so never get a random one here!
 public class CodecTests extends OpenSearchTestCase {
@@ -84,6 +93,39 @@ public class CodecTests extends OpenSearchTestCase {
         assertStoredFieldsFormatCompressionEquals(Lucene87StoredFieldsFormat.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testCompletionFstOffHeap() throws Exception {
+        final long onHeapBytes = assertCompletionFormatEquals(new Completion84PostingsFormat().getName(), Settings.EMPTY);
+        final long offHeapBytes = assertCompletionFormatEquals(Completion84OffHeapPostingsFormat.NAME,
+            Settings.builder().put(IndexSettings.INDEX_COMPLETION_FST_OFF_HEAP_SETTING.getKey(), true).build());
+        assertThat(offHeapBytes, lessThan(onHeapBytes));
+    }
+
+    // write suggestions to a memory mapped directory, return the heap memory that their FST uses once it is loaded
+    private long assertCompletionFormatEquals(String expected, Settings indexSettings) throws Exception {
+        final MapperRegistry mapperRegistry = new IndicesModule(Collections.emptyList()).getMapperRegistry();
+        final MapperService mapperService = createMapperService(indexSettings, mapperRegistry);
+        mapperService.merge("_doc", new CompressedXContent("{\"_doc\":{\"properties\":{\"suggest\":{\"type\":\"completion\"}}}}"),
+            MapperService.MergeReason.MAPPING_UPDATE);
+        try (Directory dir = new MMapDirectory(createTempDir())) {
+            IndexWriterConfig iwc = newIndexWriterConfig();
+            iwc.setCodec(new CodecService(mapperService, LogManager.getLogger("test")).codec("default"));
+            try (IndexWriter iw = new IndexWriter(dir, iwc)) {
+                for (int i = 0; i < 1000; i++) {
+                    Document doc = new Document();
+                    doc.add(new SuggestField("suggest", "suggestion" + i, i));
+                    iw.addDocument(doc);
+                }
+                iw.forceMerge(1);
+            }
+            try (DirectoryReader ir = DirectoryReader.open(dir)) {
+                SegmentReader sr = (SegmentReader) ir.leaves().get(0).reader();
+                assertThat(sr.getFieldInfos().fieldInfo("suggest").getAttribute(PerFieldPostingsFormat.PER_FIELD_FORMAT_KEY),
+                    equalTo(expected));
+                return ((CompletionTerms) sr.terms("suggest")).suggester().ramBytesUsed();
+            }
+        }
+    }
+
     private void assertDVCompressionEquals(Lucene80DocValuesFormat.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
         IndexWriterConfig iwc = newIndexWriterConfig(null);
@@ -122,16 +164,20 @@ public class CodecTests extends OpenSearchTestCase {
     }
 
     private CodecService createCodecService() throws IOException {
+        MapperRegistry mapperRegistry = new MapperRegistry(Collections.emptyMap(), Collections.emptyMap(), MapperPlugin.NOOP_FIELD_FILTER);
+        return new CodecService(createMapperService(Settings.EMPTY, mapperRegistry), LogManager.getLogger("test"));
+    }
+
+    private MapperService createMapperService(Settings indexSettings, MapperRegistry mapperRegistry) throws IOException {
         Settings nodeSettings = Settings.builder()
                 .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir())
                 .build();
-        IndexSettings settings = IndexSettingsModule.newIndexSettings("_na", nodeSettings);
+        IndexSettings settings = IndexSettingsModule.newIndexSettings("_na",
+                Settings.builder().put(nodeSettings).put(indexSettings).build());
         SimilarityService similarityService = new SimilarityService(settings, null, Collections.emptyMap());
         IndexAnalyzers indexAnalyzers = createTestAnalysis(settings, nodeSettings).indexAnalyzers;
-        MapperRegistry mapperRegistry = new MapperRegistry(Collections.emptyMap(), Collections.emptyMap(), MapperPlugin.NOOP_FIELD_FILTER);
-        MapperService service = new MapperService(settings, indexAnalyzers, xContentRegistry(), similarityService, mapperRegistry,
+        return new MapperService(settings, indexAnalyzers, xContentRegistry(), similarityService, mapperRegistry,
                 () -> null, () -> false, null);
-        return new CodecService(service, LogManager.getLogger("test"));
     }
 
 }
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.engine;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.IndexSettings;
@@ -39,6 +40,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.translog.SnapshotMatchers;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.test.FieldMaskingReader;
 import org.opensearch.test.IndexSettingsModule;
 import org.junit.Before;
 
@@ -305,6 +307,66 @@ public class LuceneChangesSnapshotTests extends EngineTestCase {
         return operations;
     }
 
+    /**
+     * Batches of at least 10 adjacent documents read their source through the sequential stored fields reader, smaller ones don't, and
+     * both return the same operations.
+     */
+    public void testSequentialStoredFieldsReaderThreshold() throws Exception {
+        final int numDocs = between(20, 100);
+        for (int i = 0; i < numDocs; i++) {
+            engine.index(indexForDoc(testParsedDocument(Integer.toString(i), null, testDocumentWithTextField(),
+                new BytesArray("{ \"value\" : \"" + i + "\" }"), null)));
+        }
+        engine.refresh("test");
+        for (int batchSize : new int[] { 9, 10, between(11, numDocs) }) {
+            Engine.Searcher searcher = engine.acquireSearcher("test", Engine.SearcherScope.INTERNAL);
+            try (LuceneChangesSnapshot snapshot = new LuceneChangesSnapshot(searcher, mapperService, batchSize, 0, numDocs - 1, true)) {
+                searcher = null;
+                assertThatOperationsMatchDocs(snapshot, numDocs, batchSize, true);
+            } finally {
+                IOUtils.close(searcher);
+            }
+        }
+    }
+
+    /**
+     * Readers that hide the codec reader of a segment fall back to the regular stored fields reader.
+     */
+    public void testSequentialStoredFieldsReaderRequiresCodecReader() throws Exception {
+        final int numDocs = between(20, 100);
+        for (int i = 0; i < numDocs; i++) {
+            engine.index(indexForDoc(testParsedDocument(Integer.toString(i), null, testDocumentWithTextField(),
+                new BytesArray("{ \"value\" : \"" + i + "\" }"), null)));
+        }
+        engine.refresh("test");
+        Engine.Searcher searcher = engine.acquireSearcher("test", Engine.SearcherScope.INTERNAL);
+        try {
+            final Engine.Searcher wrapped = new Engine.Searcher("test", new FieldMaskingReader("_masked", searcher.getDirectoryReader()),
+                searcher.getSimilarity(), searcher.getQueryCache(), searcher.getQueryCachingPolicy(), searcher);
+            try (LuceneChangesSnapshot snapshot = new LuceneChangesSnapshot(wrapped, mapperService, numDocs, 0, numDocs - 1, true)) {
+                searcher = null;
+                assertThatOperationsMatchDocs(snapshot, numDocs, numDocs, false);
+            }
+        } finally {
+            IOUtils.close(searcher);
+        }
+    }
+
+    private static void assertThatOperationsMatchDocs(LuceneChangesSnapshot snapshot, int numDocs, int batchSize,
+                                                      boolean codecReader) throws IOException {
+        for (int i = 0; i < numDocs; i++) {
+            final Translog.Operation op = snapshot.next();
+            assertNotNull(op);
+            final int batchStart = i - i % batchSize;
+            final boolean sequentialBatch = Math.min(batchSize, numDocs - batchStart) >= 10;
+            assertThat("operation [" + i + "]", snapshot.usesSequentialStoredFieldsReader(), equalTo(codecReader && sequentialBatch));
+            assertThat(op.seqNo(), equalTo((long) i));
+            assertThat(((Translog.Index) op).id(), equalTo(Integer.toString(i)));
+            assertThat(((Translog.Index) op).source().utf8ToString(), equalTo("{ \"value\" : \"" + i + "\" }"));
+        }
+        assertNull(snapshot.next());
+    }
+
     public void testOverFlow() throws Exception {
         long fromSeqNo = randomLongBetween(0, 5);
         long toSeqNo = randomLongBetween(Long.MAX_VALUE - 5, Long.MAX_VALUE);
@@ -54,6 +54,7 @@ import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.mapper.KeywordFieldMapper.KeywordFieldType;
 import org.opensearch.index.mapper.MapperService.MergeReason;
 import org.opensearch.index.mapper.NumberFieldMapper.NumberFieldType;
+import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.InvalidTypeNameException;
 import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
 import org.opensearch.plugins.AnalysisPlugin;
@@ -69,6 +70,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -151,6 +153,57 @@ public class MapperServiceTests extends OpenSearchSingleNodeTestCase {
         assertThat("field was not created by mapping update", mapperService.fieldType("field0"), notNullValue());
     }
 
+    public void testIdenticalMappingsShareSource() throws Throwable {
+        final CompressedXContent mapping = createMappingSpecifyingNumberOfFields(randomIntBetween(1, 10));
+        final MapperService first = createIndex("test1").mapperService();
+        first.merge("_doc", mapping, MergeReason.MAPPING_UPDATE);
+        final MapperService second = createIndex("test2").mapperService();
+        second.merge("_doc", mapping, MergeReason.MAPPING_UPDATE);
+        assertSame(first.documentMapper().mappingSource(), second.documentMapper().mappingSource());
+
+        final MappingDeduplicationStats stats = getInstanceFromNode(IndicesService.class).mappingDeduplicationStats();
+        assertEquals(2, stats.getMappings());
+        assertEquals(1, stats.getUniqueMappingSources());
+        final long size = first.documentMapper().mappingSource().compressed().length;
+        assertEquals(2 * size, stats.getTotalMappingSourceSizeInBytes());
+        assertEquals(size, stats.getSavedMappingSourceSizeInBytes());
+        assertThat(stats.getHits(), greaterThan(0L));
+    }
+
+    public void testIndicesCreatedWithIdenticalMappingsShareSourceUntilTheyDiverge() throws Throwable {
+        final int numFields = randomIntBetween(1, 10);
+        final String[] fields = new String[2 * numFields];
+        for (int i = 0; i < numFields; i++) {
+            fields[2 * i] = "field" + i;
+            fields[2 * i + 1] = "type=keyword";
+        }
+        final IndexService first = createIndex("test1", Settings.EMPTY, "_doc", (Object[]) fields);
+        final IndexService second = createIndex("test2", Settings.EMPTY, "_doc", (Object[]) fields);
+        final IndexService other = createIndex("test3", Settings.EMPTY, "_doc", "other", "type=long");
+
+        final CompressedXContent shared = first.mapperService().documentMapper().mappingSource();
+        assertSame(shared, second.mapperService().documentMapper().mappingSource());
+        assertNotSame(shared, other.mapperService().documentMapper().mappingSource());
+        // the indices still parse their mappings separately
+        assertNotSame(first.mapperService().documentMapper(), second.mapperService().documentMapper());
+        assertNotSame(first.mapperService().fieldType("field0"), second.mapperService().fieldType("field0"));
+
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        MappingDeduplicationStats stats = indicesService.mappingDeduplicationStats();
+        assertEquals(3, stats.getMappings());
+        assertEquals(2, stats.getUniqueMappingSources());
+        assertEquals(shared.compressed().length, stats.getSavedMappingSourceSizeInBytes());
+
+        client().admin().indices().preparePutMapping("test2").setType("_doc").setSource("added", "type=keyword").get();
+        assertNotSame(shared, second.mapperService().documentMapper().mappingSource());
+        assertSame(shared, first.mapperService().documentMapper().mappingSource());
+
+        stats = indicesService.mappingDeduplicationStats();
+        assertEquals(3, stats.getMappings());
+        assertEquals(3, stats.getUniqueMappingSources());
+        assertEquals(0, stats.getSavedMappingSourceSizeInBytes());
+    }
+
     /**
      * Test that we can have at least the number of fields in new mappings that are defined by "index.mapping.total_fields.limit".
      * Any additional field should trigger an IllegalArgumentException.
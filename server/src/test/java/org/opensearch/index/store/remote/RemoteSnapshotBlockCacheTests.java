@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class RemoteSnapshotBlockCacheTests extends OpenSearchTestCase {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private RemoteSnapshotBlockCache newCache(Path path, int blocks) throws IOException {
+        return new RemoteSnapshotBlockCache(Settings.builder()
+            .put(RemoteSnapshotBlockCache.SIZE_SETTING.getKey(), (BLOCK_SIZE * blocks) + "b")
+            .put(RemoteSnapshotBlockCache.BLOCK_SIZE_SETTING.getKey(), BLOCK_SIZE + "b")
+            .build(), path);
+    }
+
+    public void testReadsAreServedFromCache() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final byte[] block = randomByteArrayOfLength(BLOCK_SIZE);
+        final AtomicInteger downloads = new AtomicInteger();
+        try (RemoteSnapshotBlockCache cache = newCache(createTempDir(), 4)) {
+            final RemoteSnapshotBlockCache.BlockKey key = new RemoteSnapshotBlockCache.BlockKey("repo", "path/__blob", 0);
+            final int iterations = between(2, 10);
+            for (int i = 0; i < iterations; i++) {
+                final int position = between(0, BLOCK_SIZE - 1);
+                final ByteBuffer buffer = ByteBuffer.allocate(between(1, BLOCK_SIZE * 2));
+                final int read = cache.read(shardId, key, BLOCK_SIZE, () -> {
+                    downloads.incrementAndGet();
+                    return new BytesArray(block).streamInput();
+                }, position, buffer);
+                assertThat(read, equalTo(Math.min(buffer.capacity(), BLOCK_SIZE - position)));
+                assertArrayEquals(Arrays.copyOfRange(block, position, position + read), Arrays.copyOf(buffer.array(), read));
+            }
+            assertThat(downloads.get(), equalTo(1));
+
+            final SearchableSnapshotStats stats = cache.stats();
+            assertThat(stats.getCachedBlocks(), equalTo(1L));
+            assertThat(stats.getUsedInBytes(), equalTo((long) BLOCK_SIZE));
+            assertThat(stats.getShards().size(), equalTo(1));
+            final SearchableSnapshotStats.ShardStats shardStats = stats.getShards().get(0);
+            assertThat(shardStats.getShardId(), equalTo(shardId));
+            assertThat(shardStats.getMisses(), equalTo(1L));
+            assertThat(shardStats.getHits(), equalTo((long) iterations - 1));
+            assertThat(shardStats.getBytesDownloaded(), equalTo((long) BLOCK_SIZE));
+
+            cache.onShardClosed(shardId);
+            assertThat(cache.stats().getShards().size(), equalTo(0));
+        }
+    }
+
+    public void testEvictedBlocksAreDeleted() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final Path path = createTempDir();
+        final int capacity = between(1, 4);
+        try (RemoteSnapshotBlockCache cache = newCache(path, capacity)) {
+            final int blocks = capacity + between(1, 4);
+            for (int i = 0; i < blocks; i++) {
+                cache.prefetch(shardId, new RemoteSnapshotBlockCache.BlockKey("repo", "path/__blob", i), BLOCK_SIZE,
+                    () -> new BytesArray(randomByteArrayOfLength(BLOCK_SIZE)).streamInput());
+            }
+            final SearchableSnapshotStats stats = cache.stats();
+            assertThat(stats.getCachedBlocks(), equalTo((long) capacity));
+            assertThat(stats.getEvictions(), equalTo((long) (blocks - capacity)));
+            assertThat(stats.getShards().get(0).getPrefetched(), equalTo((long) blocks));
+            assertThat(stats.getShards().get(0).getMisses(), equalTo(0L));
+            try (Stream<Path> files = Files.list(path)) {
+                assertThat(files.count(), equalTo((long) capacity));
+            }
+        }
+        assertFalse(Files.exists(path));
+    }
+
+    public void testFailedDownloadIsNotCached() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final Path path = createTempDir();
+        try (RemoteSnapshotBlockCache cache = newCache(path, 4)) {
+            final RemoteSnapshotBlockCache.BlockKey key = new RemoteSnapshotBlockCache.BlockKey("repo", "path/__blob", 0);
+            // the blob is shorter than expected
+            expectThrows(IOException.class, () -> cache.read(shardId, key, BLOCK_SIZE,
+                () -> new BytesArray(randomByteArrayOfLength(BLOCK_SIZE - 1)).streamInput(), 0, ByteBuffer.allocate(1)));
+            assertThat(cache.stats().getCachedBlocks(), equalTo(0L));
+            try (Stream<Path> files = Files.list(path)) {
+                assertThat(files.count(), equalTo(0L));
+            }
+        }
+    }
+}
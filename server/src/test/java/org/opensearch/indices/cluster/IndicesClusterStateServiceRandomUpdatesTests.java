@@ -510,7 +510,7 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
         final RepositoriesService repositoriesService = new RepositoriesService(settings, clusterService,
             transportService, Collections.emptyMap(), Collections.emptyMap(), threadPool);
         final PeerRecoveryTargetService recoveryTargetService = new PeerRecoveryTargetService(threadPool,
-            transportService, null, clusterService);
+            transportService, null, clusterService, repositoriesService);
         final ShardStateAction shardStateAction = mock(ShardStateAction.class);
         final PrimaryReplicaSyncer primaryReplicaSyncer = mock(PrimaryReplicaSyncer.class);
         return new IndicesClusterStateService(
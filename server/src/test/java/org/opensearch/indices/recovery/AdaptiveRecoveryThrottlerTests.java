@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.indices.recovery.AdaptiveRecoveryThrottler.LoadSample;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class AdaptiveRecoveryThrottlerTests extends OpenSearchTestCase {
+
+    private static final LoadSample IDLE = new LoadSample(0, 4, 0, 4, 0.1d, 1024);
+
+    private final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+    private final RecoverySettings recoverySettings = new RecoverySettings(Settings.builder()
+        .put(RecoverySettings.INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING.getKey(), "40mb")
+        .put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.getKey(), 4)
+        .build(), clusterSettings);
+
+    private AdaptiveRecoveryThrottler newThrottler(Settings settings) {
+        return new AdaptiveRecoveryThrottler(Settings.builder().put(AdaptiveRecoveryThrottler.ENABLED_SETTING.getKey(), true)
+            .put(settings).build(), clusterSettings, recoverySettings, null, null, null);
+    }
+
+    public void testBacksOffUnderLoadAndRecovers() {
+        final AdaptiveRecoveryThrottler throttler = newThrottler(Settings.builder()
+            .put(AdaptiveRecoveryThrottler.MIN_BYTES_PER_SEC_SETTING.getKey(), "8mb").build());
+        final LoadSample load = randomFrom(
+            new LoadSample(5, 4, 0, 4, 0.1d, 1024),
+            new LoadSample(0, 4, 5, 4, 0.1d, 1024),
+            new LoadSample(0, 4, 0, 4, 0.9d, 1024));
+
+        throttler.adjust(load);
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(20, ByteSizeUnit.MB)));
+        assertThat(recoverySettings.getEffectiveMaxConcurrentFileChunks(), equalTo(3));
+        throttler.adjust(load);
+        throttler.adjust(load);
+        throttler.adjust(load);
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(8, ByteSizeUnit.MB)));
+        assertThat(recoverySettings.getEffectiveMaxConcurrentFileChunks(), equalTo(1));
+        assertThat(recoverySettings.rateLimiter().getMBPerSec(), equalTo(8.0d));
+
+        throttler.adjust(IDLE);
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(12, ByteSizeUnit.MB)));
+        assertThat(recoverySettings.getEffectiveMaxConcurrentFileChunks(), equalTo(2));
+        for (int i = 0; i < 10; i++) {
+            throttler.adjust(IDLE);
+        }
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(40, ByteSizeUnit.MB)));
+        assertThat(recoverySettings.getEffectiveMaxConcurrentFileChunks(), equalTo(4));
+
+        final RecoveryThrottlingStats stats = throttler.stats();
+        assertTrue(stats.isAdaptive());
+        assertThat(stats.getDecreases(), equalTo(3L));
+        assertThat(stats.getIncreases(), equalTo(8L));
+        assertThat(stats.getEffectiveMaxBytesPerSec(), equalTo(stats.getMaxBytesPerSec()));
+        assertThat(stats.getEffectiveMaxConcurrentFileChunks(), equalTo(4));
+    }
+
+    public void testNetworkThroughputIsOnlyConsideredWithBudget() {
+        final AdaptiveRecoveryThrottler throttler = newThrottler(Settings.EMPTY);
+        final LoadSample busyNetwork = new LoadSample(0, 4, 0, 4, -1, new ByteSizeValue(1, ByteSizeUnit.GB).getBytes());
+        throttler.adjust(busyNetwork);
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(40, ByteSizeUnit.MB)));
+        assertThat(throttler.stats().getDecreases(), equalTo(0L));
+
+        clusterSettings.applySettings(Settings.builder()
+            .put(AdaptiveRecoveryThrottler.MAX_NETWORK_BYTES_PER_SEC_SETTING.getKey(), "100mb").build());
+        throttler.adjust(busyNetwork);
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(20, ByteSizeUnit.MB)));
+        assertThat(throttler.stats().getNetworkBytesPerSec(), equalTo(busyNetwork.networkBytesPerSec));
+    }
+
+    public void testDisablingRestoresConfiguredLimits() {
+        final AdaptiveRecoveryThrottler throttler = newThrottler(Settings.EMPTY);
+        clusterSettings.applySettings(Settings.builder().put(AdaptiveRecoveryThrottler.ENABLED_SETTING.getKey(), true).build());
+        throttler.adjust(new LoadSample(100, 4, 100, 4, 1.0d, -1));
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(20, ByteSizeUnit.MB)));
+        assertThat(recoverySettings.getEffectiveMaxConcurrentFileChunks(), equalTo(3));
+
+        clusterSettings.applySettings(Settings.builder().put(AdaptiveRecoveryThrottler.ENABLED_SETTING.getKey(), false).build());
+        assertThat(recoverySettings.getEffectiveMaxBytesPerSec(), equalTo(new ByteSizeValue(40, ByteSizeUnit.MB)));
+        assertThat(recoverySettings.getEffectiveMaxConcurrentFileChunks(), equalTo(4));
+        assertFalse(throttler.stats().isAdaptive());
+    }
+}
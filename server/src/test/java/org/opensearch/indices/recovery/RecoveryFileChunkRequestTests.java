@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.lucene.util.Version;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class RecoveryFileChunkRequestTests extends OpenSearchTestCase {
+
+    private static RecoveryFileChunkRequest randomRequest(BytesReference content) {
+        final StoreFileMetadata metadata = new StoreFileMetadata(randomAlphaOfLength(10), randomLongBetween(content.length(), 1 << 30),
+            randomAlphaOfLength(8), Version.LATEST);
+        return new RecoveryFileChunkRequest(randomNonNegativeLong(), randomNonNegativeLong(), new ShardId("test", "_na_", 0), metadata,
+            randomLongBetween(0, metadata.length() - content.length()), content, randomBoolean(), randomInt(100), randomNonNegativeLong());
+    }
+
+    private static void assertSameRequest(RecoveryFileChunkRequest expected, RecoveryFileChunkRequest actual) {
+        assertThat(actual.recoveryId(), equalTo(expected.recoveryId()));
+        assertThat(actual.shardId(), equalTo(expected.shardId()));
+        assertThat(actual.name(), equalTo(expected.name()));
+        assertThat(actual.length(), equalTo(expected.length()));
+        assertThat(actual.metadata().checksum(), equalTo(expected.metadata().checksum()));
+        assertThat(actual.position(), equalTo(expected.position()));
+        assertThat(actual.content(), equalTo(expected.content()));
+        assertThat(actual.lastChunk(), equalTo(expected.lastChunk()));
+        assertThat(actual.totalTranslogOps(), equalTo(expected.totalTranslogOps()));
+        assertThat(actual.sourceThrottleTimeInNanos(), equalTo(expected.sourceThrottleTimeInNanos()));
+    }
+
+    public void testSerialization() throws IOException {
+        final org.opensearch.Version version = VersionUtils.randomCompatibleVersion(random(), org.opensearch.Version.CURRENT);
+        final RecoveryFileChunkRequest request = randomRequest(new BytesArray(randomByteArrayOfLength(between(0, 1024))));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            if (randomBoolean()) {
+                request.writeTo(out);
+            } else {
+                // content on the heap is written inline so that the message can be compressed
+                assertThat(request.writeThin(out).length(), equalTo(0));
+            }
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                assertSameRequest(request, new RecoveryFileChunkRequest(in));
+            }
+        }
+    }
+
+    public void testThinSerialization() throws IOException {
+        final org.opensearch.Version version = VersionUtils.randomCompatibleVersion(random(), org.opensearch.Version.CURRENT);
+        final Path file = createTempFile();
+        final byte[] bytes = randomByteArrayOfLength(between(1, 1024));
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final int position = between(0, bytes.length - 1);
+            final BytesReference content = new FileChannelBytesReference(channel, position, between(0, bytes.length - position));
+            final RecoveryFileChunkRequest request = randomRequest(content);
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.setVersion(version);
+                final BytesReference trailingBytes = request.writeThin(out);
+                if (version.onOrAfter(org.opensearch.Version.V_1_0_0)) {
+                    assertSame(content, trailingBytes);
+                } else {
+                    assertThat(trailingBytes.length(), equalTo(0));
+                }
+                try (StreamInput in = CompositeBytesReference.of(out.bytes(), trailingBytes).streamInput()) {
+                    in.setVersion(version);
+                    final RecoveryFileChunkRequest deserialized = new RecoveryFileChunkRequest(in);
+                    assertSameRequest(request, deserialized);
+                    assertThat(deserialized.content(), equalTo(new BytesArray(bytes, position, content.length())));
+                }
+            }
+        }
+    }
+}
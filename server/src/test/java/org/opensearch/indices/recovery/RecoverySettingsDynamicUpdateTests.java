@@ -34,6 +34,8 @@ package org.opensearch.indices.recovery;
 
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.test.OpenSearchTestCase;
@@ -94,4 +96,33 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         ).build());
         assertEquals(new TimeValue(duration, timeUnit), recoverySettings.internalActionLongTimeout());
     }
+
+    public void testEffectiveLimitsAreCappedAndResetByConfiguredLimits() {
+        clusterSettings.applySettings(Settings.builder()
+            .put(RecoverySettings.INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING.getKey(), "20mb")
+            .put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.getKey(), 4).build());
+        recoverySettings.setEffectiveMaxBytesPerSec(new ByteSizeValue(5, ByteSizeUnit.MB));
+        recoverySettings.setEffectiveMaxConcurrentFileChunks(2);
+        assertEquals(new ByteSizeValue(5, ByteSizeUnit.MB), recoverySettings.getEffectiveMaxBytesPerSec());
+        assertEquals(5.0d, recoverySettings.rateLimiter().getMBPerSec(), 0.0d);
+        assertEquals(2, recoverySettings.getEffectiveMaxConcurrentFileChunks());
+
+        recoverySettings.setEffectiveMaxBytesPerSec(new ByteSizeValue(100, ByteSizeUnit.MB));
+        recoverySettings.setEffectiveMaxConcurrentFileChunks(10);
+        assertEquals(new ByteSizeValue(20, ByteSizeUnit.MB), recoverySettings.getEffectiveMaxBytesPerSec());
+        assertEquals(4, recoverySettings.getEffectiveMaxConcurrentFileChunks());
+
+        recoverySettings.setEffectiveMaxBytesPerSec(new ByteSizeValue(5, ByteSizeUnit.MB));
+        recoverySettings.setEffectiveMaxConcurrentFileChunks(1);
+        clusterSettings.applySettings(Settings.builder()
+            .put(RecoverySettings.INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING.getKey(), "30mb")
+            .put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.getKey(), 3).build());
+        assertEquals(new ByteSizeValue(30, ByteSizeUnit.MB), recoverySettings.getEffectiveMaxBytesPerSec());
+        assertEquals(3, recoverySettings.getEffectiveMaxConcurrentFileChunks());
+
+        clusterSettings.applySettings(Settings.builder()
+            .put(RecoverySettings.INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING.getKey(), 0).build());
+        recoverySettings.setEffectiveMaxBytesPerSec(new ByteSizeValue(5, ByteSizeUnit.MB));
+        assertNull(recoverySettings.rateLimiter());
+    }
 }
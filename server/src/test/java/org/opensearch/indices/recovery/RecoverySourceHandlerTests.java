@@ -59,6 +59,7 @@ import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.FileChannelBytesReference;
 import org.opensearch.common.io.FileSystemUtils;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.IndexOutputOutputStream;
@@ -68,6 +69,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.IndexSettings;
@@ -88,9 +90,13 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardRelocatedException;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshots;
+import org.opensearch.index.snapshots.blobstore.SnapshotFiles;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.repositories.IndexId;
 import org.opensearch.test.CorruptionUtils;
 import org.opensearch.test.DummyShardLock;
 import org.opensearch.test.OpenSearchTestCase;
@@ -134,6 +140,8 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyObject;
@@ -192,10 +200,19 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         }
         Store targetStore = newStore(createTempDir());
         MultiFileWriter multiFileWriter = new MultiFileWriter(targetStore, mock(RecoveryState.Index.class), "", logger, () -> {});
+        final boolean acceptsFileChannelChunks = randomBoolean();
         RecoveryTargetHandler target = new TestRecoveryTargetHandler() {
+            @Override
+            public boolean acceptsFileChannelChunks() {
+                return acceptsFileChannelChunks;
+            }
+
             @Override
             public void writeFileChunk(StoreFileMetadata md, long position, BytesReference content, boolean lastChunk,
                                        int totalTranslogOps, ActionListener<Void> listener) {
+                if (acceptsFileChannelChunks == false) {
+                    assertThat(content, not(instanceOf(FileChannelBytesReference.class)));
+                }
                 ActionListener.completeWith(listener, () -> {
                     multiFileWriter.writeFileChunk(md, position, content, lastChunk);
                     return null;
@@ -217,6 +234,75 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         IOUtils.close(reader, store, multiFileWriter, targetStore);
     }
 
+    public void testRestoreFilesFromSnapshot() throws Throwable {
+        final StartRecoveryRequest request = getStartRecoveryRequest();
+        final List<StoreFileMetadata> files = new ArrayList<>();
+        final List<FileInfo> snapshotFiles = new ArrayList<>();
+        final Set<String> expectedToSend = new HashSet<>();
+        final Set<String> expectedToRestore = new HashSet<>();
+        final int numFiles = between(1, 10);
+        for (int i = 0; i < numFiles; i++) {
+            final StoreFileMetadata md = new StoreFileMetadata("_" + i + ".cfs", between(1, 100), "checksum_" + i,
+                org.apache.lucene.util.Version.LATEST);
+            files.add(md);
+            switch (between(0, 2)) {
+                case 0:
+                    expectedToSend.add(md.name());
+                    break;
+                case 1:
+                    // a snapshotted file with the same name but different contents can't be used
+                    snapshotFiles.add(new FileInfo("__" + i, new StoreFileMetadata(md.name(), md.length(), "other",
+                        org.apache.lucene.util.Version.LATEST), null));
+                    expectedToSend.add(md.name());
+                    break;
+                default:
+                    snapshotFiles.add(new FileInfo("__" + i, md, null));
+                    expectedToRestore.add(md.name());
+                    break;
+            }
+        }
+        final ShardSnapshotFiles shardSnapshotFiles = new ShardSnapshotFiles("repo", new IndexId("index", "_na_"),
+            new BlobStoreIndexShardSnapshots(Collections.singletonList(new SnapshotFiles("snap", snapshotFiles, null))));
+
+        final Set<String> restored = ConcurrentCollections.newConcurrentSet();
+        final Set<String> failedToRestore = ConcurrentCollections.newConcurrentSet();
+        final int maxConcurrentDownloads = between(1, 5);
+        final AtomicInteger downloads = new AtomicInteger();
+        final RecoveryTargetHandler target = new TestRecoveryTargetHandler() {
+            @Override
+            public void restoreFileFromSnapshot(String repository, IndexId indexId, FileInfo fileInfo, ActionListener<Void> listener) {
+                assertThat(repository, equalTo("repo"));
+                assertThat(downloads.incrementAndGet(), lessThanOrEqualTo(maxConcurrentDownloads));
+                final boolean success = randomBoolean();
+                threadPool.generic().execute(() -> {
+                    downloads.decrementAndGet();
+                    if (success) {
+                        restored.add(fileInfo.physicalName());
+                        listener.onResponse(null);
+                    } else {
+                        failedToRestore.add(fileInfo.physicalName());
+                        listener.onFailure(new IOException("simulated"));
+                    }
+                });
+            }
+        };
+        final boolean snapshotFound = randomBoolean();
+        final RecoverySourceHandler handler = new RecoverySourceHandler(null, new AsyncRecoveryTarget(target, recoveryExecutor),
+            threadPool, request, between(1, 16), maxConcurrentDownloads, () -> Integer.MAX_VALUE, between(1, 5),
+            listener -> listener.onResponse(snapshotFound ? shardSnapshotFiles : null));
+        final PlainActionFuture<List<StoreFileMetadata>> future = new PlainActionFuture<>();
+        handler.restoreFilesFromSnapshot(files, future);
+        final Set<String> sent = future.actionGet().stream().map(StoreFileMetadata::name).collect(Collectors.toSet());
+        if (snapshotFound) {
+            assertThat(Sets.union(restored, failedToRestore), equalTo(expectedToRestore));
+            assertThat(sent, equalTo(Sets.union(expectedToSend, failedToRestore)));
+        } else {
+            assertThat(restored, hasSize(0));
+            assertThat(failedToRestore, hasSize(0));
+            assertThat(sent, equalTo(Sets.union(expectedToSend, expectedToRestore)));
+        }
+    }
+
     public StartRecoveryRequest getStartRecoveryRequest() throws IOException {
         Store.MetadataSnapshot metadataSnapshot = randomBoolean() ? Store.MetadataSnapshot.EMPTY :
             new Store.MetadataSnapshot(Collections.emptyMap(),
@@ -668,6 +754,49 @@ public class RecoverySourceHandlerTests extends OpenSearchTestCase {
         store.close();
     }
 
+    public void testSendFileChunksWithReducedConcurrency() throws Exception {
+        final IndexShard shard = mock(IndexShard.class);
+        when(shard.state()).thenReturn(IndexShardState.STARTED);
+        final List<FileChunkResponse> unrepliedChunks = new CopyOnWriteArrayList<>();
+        final AtomicInteger sentChunks = new AtomicInteger();
+        final TestRecoveryTargetHandler recoveryTarget = new TestRecoveryTargetHandler() {
+            final AtomicLong chunkNumberGenerator = new AtomicLong();
+            @Override
+            public void writeFileChunk(StoreFileMetadata md, long position, BytesReference content, boolean lastChunk,
+                                       int totalTranslogOps, ActionListener<Void> listener) {
+                unrepliedChunks.add(new FileChunkResponse(chunkNumberGenerator.getAndIncrement(), listener));
+                sentChunks.incrementAndGet();
+            }
+        };
+        final int maxConcurrentChunks = between(2, 8);
+        final AtomicInteger currentMaxConcurrentChunks = new AtomicInteger(maxConcurrentChunks);
+        final int chunkSize = between(1, 32);
+        final RecoverySourceHandler handler = new RecoverySourceHandler(shard, recoveryTarget, threadPool, getStartRecoveryRequest(),
+            chunkSize, maxConcurrentChunks, currentMaxConcurrentChunks::get, between(1, 10), null);
+        Store store = newStore(createTempDir(), false);
+        List<StoreFileMetadata> files = generateFiles(store, between(1, 10), () -> between(1, chunkSize * 20));
+        int totalChunks = files.stream().mapToInt(md -> ((int) md.length() + chunkSize - 1) / chunkSize).sum();
+        PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
+        handler.sendFiles(store, files.toArray(new StoreFileMetadata[0]), () -> 0, sendFilesFuture);
+        assertBusy(() -> assertThat(sentChunks.get(), equalTo(Math.min(totalChunks, maxConcurrentChunks))));
+
+        // once lowered, the new limit applies to the chunks that are sent after the in-flight ones are acknowledged
+        currentMaxConcurrentChunks.set(1);
+        while (sentChunks.get() < totalChunks || unrepliedChunks.isEmpty() == false) {
+            final List<FileChunkResponse> chunksToAck = new ArrayList<>(unrepliedChunks);
+            unrepliedChunks.removeAll(chunksToAck);
+            final int expectedSentChunks = Math.min(totalChunks, sentChunks.get() + 1);
+            final int expectedUnrepliedChunks = expectedSentChunks - sentChunks.get();
+            chunksToAck.forEach(c -> c.listener.onResponse(null));
+            assertBusy(() -> {
+                assertThat(sentChunks.get(), equalTo(expectedSentChunks));
+                assertThat(unrepliedChunks, hasSize(expectedUnrepliedChunks));
+            });
+        }
+        sendFilesFuture.actionGet();
+        store.close();
+    }
+
     public void testSendFileChunksStopOnError() throws Exception {
         final List<FileChunkResponse> unrepliedChunks = new CopyOnWriteArrayList<>();
         final AtomicInteger sentChunks = new AtomicInteger();
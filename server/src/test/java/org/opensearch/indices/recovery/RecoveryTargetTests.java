@@ -61,6 +61,7 @@ import static java.util.Collections.emptySet;
 import static org.opensearch.test.VersionUtils.randomVersion;
 import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -546,6 +547,37 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(readWriteIndex.error.get(), equalTo(null));
     }
 
+    public void testRecoveredFromSnapshotBytes() throws IOException {
+        final Index index = new Index();
+        index.start();
+        final int fromSnapshotLength = randomIntBetween(1, 1000);
+        final int fromSourceLength = randomIntBetween(1, 1000);
+        index.addFileDetail("from_snapshot", fromSnapshotLength, false);
+        index.addFileDetail("from_source", fromSourceLength, false);
+        index.setFileDetailsComplete();
+
+        final int partial = randomIntBetween(0, fromSnapshotLength - 1);
+        index.addRecoveredFromSnapshotBytesToFile("from_snapshot", partial);
+        assertThat(index.recoveredFromSnapshotBytes(), equalTo((long) partial));
+        // a failed download starts the file over, from the source or the repository
+        index.resetRecoveredBytesOfFile("from_snapshot");
+        assertThat(index.recoveredFromSnapshotBytes(), equalTo(0L));
+        assertThat(index.recoveredBytes(), equalTo(0L));
+
+        index.addRecoveredFromSnapshotBytesToFile("from_snapshot", fromSnapshotLength);
+        index.addRecoveredBytesToFile("from_source", fromSourceLength);
+        assertThat(index.recoveredFromSnapshotBytes(), equalTo((long) fromSnapshotLength));
+        assertThat(index.recoveredBytes(), equalTo((long) fromSnapshotLength + fromSourceLength));
+        assertThat(index.recoveredFileCount(), equalTo(2));
+        assertThat(index.bytesStillToRecover(), equalTo(0L));
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        index.writeTo(out);
+        final Index copy = new Index(out.bytes().streamInput());
+        assertThat(copy.recoveredFromSnapshotBytes(), equalTo((long) fromSnapshotLength));
+        assertThat(copy.fileDetails(), containsInAnyOrder(index.fileDetails().toArray()));
+    }
+
     public void testFileHashCodeAndEquals() {
         FileDetail f = new FileDetail("foo", randomIntBetween(0, 100), randomBoolean());
         FileDetail anotherFile = new FileDetail(f.name(), f.length(), f.reused());
@@ -46,6 +46,7 @@ public class DeviceStatsTests extends OpenSearchTestCase {
         final int sectorsRead = randomIntBetween(8 * readsCompleted, 16 * readsCompleted);
         final int writesCompleted = randomIntBetween(1, 1 << 16);
         final int sectorsWritten = randomIntBetween(8 * writesCompleted, 16 * writesCompleted);
+        final int ioTimeInMillis = randomIntBetween(1, 1 << 16);
 
         FsInfo.DeviceStats previous = new FsInfo.DeviceStats(
             majorDeviceNumber,
@@ -55,6 +56,7 @@ public class DeviceStatsTests extends OpenSearchTestCase {
             sectorsRead,
             writesCompleted,
             sectorsWritten,
+            ioTimeInMillis,
             null);
         FsInfo.DeviceStats current = new FsInfo.DeviceStats(
             majorDeviceNumber,
@@ -64,12 +66,14 @@ public class DeviceStatsTests extends OpenSearchTestCase {
             sectorsRead + 16384,
             writesCompleted + 2048,
             sectorsWritten + 32768,
+            ioTimeInMillis + 512,
             previous);
         assertThat(current.operations(), equalTo(1024L + 2048L));
         assertThat(current.readOperations(), equalTo(1024L));
         assertThat(current.writeOperations(), equalTo(2048L));
         assertThat(current.readKilobytes(), equalTo(16384L / 2));
         assertThat(current.writeKilobytes(), equalTo(32768L / 2));
+        assertThat(current.ioTimeInMillis(), equalTo(512L));
     }
 
 }
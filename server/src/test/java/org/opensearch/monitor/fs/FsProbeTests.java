@@ -202,6 +202,8 @@ public class FsProbeTests extends OpenSearchTestCase {
         assertThat(first.devicesStats[0].previousWritesCompleted, equalTo(-1L));
         assertThat(first.devicesStats[0].currentSectorsWritten, equalTo(118857776L));
         assertThat(first.devicesStats[0].previousSectorsWritten, equalTo(-1L));
+        assertThat(first.devicesStats[0].currentIOTimeInMillis, equalTo(1918440L));
+        assertThat(first.devicesStats[0].previousIOTimeInMillis, equalTo(-1L));
         assertThat(first.devicesStats[1].majorDeviceNumber, equalTo(253));
         assertThat(first.devicesStats[1].minorDeviceNumber, equalTo(2));
         assertThat(first.devicesStats[1].deviceName, equalTo("dm-2"));
@@ -213,6 +215,8 @@ public class FsProbeTests extends OpenSearchTestCase {
         assertThat(first.devicesStats[1].previousWritesCompleted, equalTo(-1L));
         assertThat(first.devicesStats[1].currentSectorsWritten, equalTo(64126096L));
         assertThat(first.devicesStats[1].previousSectorsWritten, equalTo(-1L));
+        assertThat(first.devicesStats[1].currentIOTimeInMillis, equalTo(1058193L));
+        assertThat(first.devicesStats[1].previousIOTimeInMillis, equalTo(-1L));
 
         diskStats.set(Arrays.asList(
                 " 259       0 nvme0n1 336870 0 7928397 82876 10264393 0 182986405 52451610 0 2971042 52536492",
@@ -237,6 +241,7 @@ public class FsProbeTests extends OpenSearchTestCase {
         assertThat(second.devicesStats[0].previousWritesCompleted, equalTo(8398869L));
         assertThat(second.devicesStats[0].currentSectorsWritten, equalTo(118857776L));
         assertThat(second.devicesStats[0].previousSectorsWritten, equalTo(118857776L));
+        assertThat(second.devicesStats[0].ioTimeInMillis(), equalTo(4L));
         assertThat(second.devicesStats[1].majorDeviceNumber, equalTo(253));
         assertThat(second.devicesStats[1].minorDeviceNumber, equalTo(2));
         assertThat(second.devicesStats[1].deviceName, equalTo("dm-2"));
@@ -248,6 +253,7 @@ public class FsProbeTests extends OpenSearchTestCase {
         assertThat(second.devicesStats[1].previousWritesCompleted, equalTo(1371977L));
         assertThat(second.devicesStats[1].currentSectorsWritten, equalTo(64128568L));
         assertThat(second.devicesStats[1].previousSectorsWritten, equalTo(64126096L));
+        assertThat(second.devicesStats[1].ioTimeInMillis(), equalTo(154L));
 
         assertThat(second.totalOperations, equalTo(575L));
         assertThat(second.totalReadOperations, equalTo(261L));
@@ -47,6 +47,7 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -99,6 +100,56 @@ public class RepositoryDataTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDeltaXContent() throws IOException {
+        final RepositoryData base = generateRandomRepoData().withGenId(randomLongBetween(0, 500));
+        RepositoryData repositoryData = base;
+        if (randomBoolean()) {
+            repositoryData = repositoryData.removeSnapshots(randomSubsetOf(repositoryData.getSnapshotIds()), ShardGenerations.EMPTY);
+        }
+        if (randomBoolean() || repositoryData.equals(base)) {
+            final List<IndexId> indices = new ArrayList<>(randomSubsetOf(base.getIndices().values()));
+            indices.add(new IndexId(randomAlphaOfLength(9), UUIDs.randomBase64UUID(random())));
+            final ShardGenerations.Builder builder = ShardGenerations.builder();
+            for (IndexId indexId : indices) {
+                for (int i = 0; i < randomIntBetween(1, 10); i++) {
+                    builder.put(indexId, i, UUIDs.randomBase64UUID(random()));
+                }
+            }
+            final Map<IndexId, String> indexLookup =
+                indices.stream().collect(Collectors.toMap(Function.identity(), ind -> randomAlphaOfLength(256)));
+            repositoryData = repositoryData.addSnapshot(new SnapshotId(randomAlphaOfLength(8), UUIDs.randomBase64UUID(random())),
+                randomFrom(SnapshotState.values()), Version.CURRENT, builder.build(), indexLookup,
+                indexLookup.values().stream().collect(Collectors.toMap(Function.identity(), ignored -> UUIDs.randomBase64UUID(random()))));
+        }
+        final long gen = base.getGenId() + 1;
+        final List<Long> baseGenerations = randomBoolean() ? Collections.singletonList(base.getGenId())
+            : Arrays.asList(base.getGenId() - 1, base.getGenId());
+        final XContentBuilder builder = JsonXContent.contentBuilder();
+        repositoryData.withGenId(gen).snapshotsDeltaToXContent(builder, base, baseGenerations);
+        final BytesReference delta = BytesReference.bytes(builder);
+
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, delta)) {
+            assertEquals(baseGenerations, RepositoryData.baseGenerationsFromXContent(parser));
+        }
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, delta)) {
+            final RepositoryData fromXContent = RepositoryData.snapshotsFromXContent(parser, gen, randomBoolean(), baseGen -> {
+                assertEquals(base.getGenId(), baseGen.longValue());
+                return base;
+            });
+            assertEquals(repositoryData.withGenId(gen), fromXContent);
+        }
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, delta)) {
+            expectThrows(OpenSearchParseException.class, () -> RepositoryData.snapshotsFromXContent(parser, gen, randomBoolean()));
+        }
+
+        // complete repository data has no base generations
+        final XContentBuilder fullBuilder = JsonXContent.contentBuilder();
+        repositoryData.snapshotsToXContent(fullBuilder, Version.CURRENT);
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, BytesReference.bytes(fullBuilder))) {
+            assertEquals(Collections.emptyList(), RepositoryData.baseGenerationsFromXContent(parser));
+        }
+    }
+
     public void testAddSnapshots() {
         RepositoryData repositoryData = generateRandomRepoData();
         // test that adding the same snapshot id to the repository data throws an exception
@@ -34,6 +34,7 @@ package org.opensearch.repositories.blobstore;
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.TestUtil;
+import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.metadata.Metadata;
@@ -45,9 +46,12 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.env.Environment;
 import org.opensearch.env.TestEnvironment;
+import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
 import org.opensearch.index.shard.IndexShard;
@@ -55,6 +59,8 @@ import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.snapshots.IndexShardSnapshotFailedException;
+import org.opensearch.index.snapshots.IndexShardSnapshotStatus;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.recovery.RecoverySettings;
@@ -68,15 +74,21 @@ import org.opensearch.snapshots.SnapshotId;
 import org.opensearch.snapshots.SnapshotInfo;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 
 /**
  * This class tests the behavior of {@link BlobStoreRepository} when it
@@ -212,12 +224,174 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
         }
     }
 
-    /** Create a {@link Repository} with a random name **/
+    /**
+     * Files that are split into several parts are uploaded and restored part by part in parallel, and must be reassembled
+     * into the same file on restore.
+     */
+    public void testSnapshotAndRestoreMultiPartFiles() throws Exception {
+        final IndexId indexId = new IndexId(randomAlphaOfLength(10), UUIDs.randomBase64UUID());
+        final ShardId shardId = new ShardId(indexId.getName(), indexId.getId(), 0);
+
+        IndexShard shard = newShard(shardId, true);
+        IndexShard restoredShard = null;
+        try {
+            final int numDocs = scaledRandomIntBetween(50, 500);
+            recoverShardFromStore(shard);
+            for (int i = 0; i < numDocs; i++) {
+                indexDoc(shard, "_doc", Integer.toString(i));
+                if (rarely()) {
+                    flushShard(shard, false);
+                }
+            }
+            flushShard(shard, true);
+
+            final Repository repository = createRepository(Settings.builder()
+                .put(FsRepository.CHUNK_SIZE_SETTING.getKey(), new ByteSizeValue(randomIntBetween(128, 1024), ByteSizeUnit.BYTES))
+                .build());
+            final Snapshot snapshot = new Snapshot(repository.getMetadata().name(), new SnapshotId(randomAlphaOfLength(10), "_uuid"));
+            snapshotShard(shard, snapshot, repository);
+            final Set<String> blobs = ((BlobStoreRepository) repository).shardContainer(indexId, 0).listBlobs().keySet();
+            assertTrue("expected multi-part files in " + blobs, blobs.stream().anyMatch(blob -> blob.endsWith(".part1")));
+            final Store.MetadataSnapshot storeFiles = shard.snapshotStoreMetadata();
+
+            restoredShard = newShard(shardId, true);
+            recoverShardFromSnapshot(restoredShard, snapshot, repository);
+
+            final Directory directory = restoredShard.store().directory();
+            TestUtil.checkIndex(directory);
+            final Store.RecoveryDiff diff = restoredShard.store().getMetadata(null).recoveryDiff(storeFiles);
+            assertTrue("restored files differ from the snapshot: " + diff, diff.different.isEmpty() && diff.missing.isEmpty());
+            for (String file : directory.listAll()) {
+                assertFalse("temporary file [" + file + "] was left behind", file.endsWith(".tmp"));
+            }
+        } finally {
+            closeShards(shard);
+            if (restoredShard != null) {
+                closeShards(restoredShard);
+            }
+        }
+    }
+
+    /**
+     * Shard data that is compressed on upload must be restored to the same files, whether it was split into several parts or not.
+     */
+    public void testSnapshotAndRestoreCompressedShardData() throws Exception {
+        final IndexId indexId = new IndexId(randomAlphaOfLength(10), UUIDs.randomBase64UUID());
+        final ShardId shardId = new ShardId(indexId.getName(), indexId.getId(), 0);
+
+        IndexShard shard = newShard(shardId, true);
+        IndexShard restoredShard = null;
+        try {
+            final int numDocs = scaledRandomIntBetween(50, 500);
+            recoverShardFromStore(shard);
+            for (int i = 0; i < numDocs; i++) {
+                indexDoc(shard, "_doc", Integer.toString(i));
+                if (rarely()) {
+                    flushShard(shard, false);
+                }
+            }
+            flushShard(shard, true);
+
+            final ShardDataCompression compression = randomFrom(ShardDataCompression.LZ4, ShardDataCompression.DEFLATE);
+            final Settings.Builder repositorySettings = Settings.builder()
+                .put(BlobStoreRepository.SHARD_DATA_COMPRESSION_SETTING.getKey(), compression.codecName());
+            if (randomBoolean()) {
+                repositorySettings.put(FsRepository.CHUNK_SIZE_SETTING.getKey(),
+                    new ByteSizeValue(randomIntBetween(128, 1024), ByteSizeUnit.BYTES));
+            }
+            final Environment environment = createEnvironment();
+            final Repository repository = createRepository(repositorySettings.build(), environment);
+            final Snapshot snapshot = new Snapshot(repository.getMetadata().name(), new SnapshotId(randomAlphaOfLength(10), "_uuid"));
+            final Set<Path> tmpFiles = listTmpFiles(environment, compression);
+            snapshotShard(shard, snapshot, repository);
+            for (String file : shard.store().directory().listAll()) {
+                assertFalse("temporary file [" + file + "] was left behind", file.endsWith(".tmp"));
+            }
+            assertEquals("temporary files were left behind", tmpFiles, listTmpFiles(environment, compression));
+
+            final Map<String, Long> stats = repository.stats().snapshotStats;
+            assertThat(stats.get(BlobStoreRepository.SHARD_DATA_UNCOMPRESSED_BYTES_STAT), greaterThan(0L));
+            assertThat(stats.get(BlobStoreRepository.SHARD_DATA_COMPRESSED_BYTES_STAT), greaterThan(0L));
+            assertThat(stats.get(BlobStoreRepository.SHARD_DATA_COMPRESSION_TIME_STAT), greaterThan(0L));
+
+            final Store.MetadataSnapshot storeFiles = shard.snapshotStoreMetadata();
+            restoredShard = newShard(shardId, true);
+            recoverShardFromSnapshot(restoredShard, snapshot, repository);
+
+            final Directory directory = restoredShard.store().directory();
+            TestUtil.checkIndex(directory);
+            final Store.RecoveryDiff diff = restoredShard.store().getMetadata(null).recoveryDiff(storeFiles);
+            assertTrue("restored files differ from the snapshot: " + diff, diff.different.isEmpty() && diff.missing.isEmpty());
+        } finally {
+            closeShards(shard);
+            if (restoredShard != null) {
+                closeShards(restoredShard);
+            }
+        }
+    }
+
+    /**
+     * Nodes or snapshots of versions that can't read the compression of the files of a shard snapshot must keep shard data uncompressed.
+     */
+    public void testShardDataIsNotCompressedForOlderRepositoryVersions() throws Exception {
+        final IndexId indexId = new IndexId(randomAlphaOfLength(10), UUIDs.randomBase64UUID());
+        final ShardId shardId = new ShardId(indexId.getName(), indexId.getId(), 0);
+
+        IndexShard shard = newShard(shardId, true);
+        try {
+            recoverShardFromStore(shard);
+            final int numDocs = scaledRandomIntBetween(10, 100);
+            for (int i = 0; i < numDocs; i++) {
+                indexDoc(shard, "_doc", Integer.toString(i));
+            }
+            flushShard(shard, true);
+
+            final Repository repository = createRepository(Settings.builder()
+                .put(BlobStoreRepository.SHARD_DATA_COMPRESSION_SETTING.getKey(),
+                    randomFrom(ShardDataCompression.LZ4, ShardDataCompression.DEFLATE).codecName())
+                .build());
+            final SnapshotId snapshotId = new SnapshotId(randomAlphaOfLength(10), "_uuid");
+            final PlainActionFuture<String> future = PlainActionFuture.newFuture();
+            try (Engine.IndexCommitRef indexCommitRef = shard.acquireLastIndexCommit(true)) {
+                repository.snapshotShard(shard.store(), shard.mapperService(), snapshotId, indexId, indexCommitRef.getIndexCommit(),
+                    null, IndexShardSnapshotStatus.newInitializing(null), LegacyESVersion.V_7_10_0, Collections.emptyMap(), future);
+                future.actionGet();
+            }
+
+            final BlobStoreRepository blobStoreRepository = (BlobStoreRepository) repository;
+            final BlobStoreIndexShardSnapshot shardSnapshot =
+                blobStoreRepository.loadShardSnapshot(blobStoreRepository.shardContainer(indexId, shardId.id()), snapshotId);
+            for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : shardSnapshot.indexFiles()) {
+                assertNull("file [" + fileInfo.physicalName() + "] was compressed", fileInfo.compression());
+            }
+            assertThat(repository.stats().snapshotStats.keySet(), empty());
+        } finally {
+            closeShards(shard);
+        }
+    }
+
+    private static Set<Path> listTmpFiles(Environment environment, ShardDataCompression compression) throws IOException {
+        final Set<Path> files = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(environment.tmpFile(), "__*." + compression.codecName())) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
     private Repository createRepository() {
-        Settings settings = Settings.builder().put("location", randomAlphaOfLength(10)).build();
+        return createRepository(Settings.EMPTY);
+    }
+
+    /** Create a {@link Repository} with a random name **/
+    private Repository createRepository(Settings repositorySettings) {
+        return createRepository(repositorySettings, createEnvironment());
+    }
+
+    private Repository createRepository(Settings repositorySettings, Environment environment) {
+        Settings settings = Settings.builder().put("location", randomAlphaOfLength(10)).put(repositorySettings).build();
         RepositoryMetadata repositoryMetadata = new RepositoryMetadata(randomAlphaOfLength(10), FsRepository.TYPE, settings);
         final ClusterService clusterService = BlobStoreTestUtil.mockClusterService(repositoryMetadata);
-        final FsRepository repository = new FsRepository(repositoryMetadata, createEnvironment(), xContentRegistry(), clusterService,
+        final FsRepository repository = new FsRepository(repositoryMetadata, environment, xContentRegistry(), clusterService,
             new RecoverySettings(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS))) {
             @Override
             protected void assertSnapshotOrGenericThread() {
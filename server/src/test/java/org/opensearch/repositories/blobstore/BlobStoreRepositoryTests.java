@@ -40,14 +40,20 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.RepositoryMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.env.Environment;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.RepositoryPlugin;
 import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.IndexMetaDataGenerations;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.repositories.RepositoryData;
@@ -59,17 +65,31 @@ import org.opensearch.snapshots.SnapshotState;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.opensearch.repositories.RepositoryDataTests.generateRandomRepoData;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
 /**
@@ -152,6 +172,52 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
         assertThat(snapshotIds, equalTo(originalSnapshots));
     }
 
+    public void testIncrementalDelete() throws Exception {
+        final Client client = client();
+        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
+        final String repositoryName = "test-repo";
+        assertAcked(client.admin().cluster().preparePutRepository(repositoryName)
+            .setType(REPO_TYPE)
+            .setSettings(Settings.builder().put(node().settings()).put("location", location)
+                .put(BlobStoreRepository.INCREMENTAL_DELETE_SETTING.getKey(), true)));
+
+        final String indexName = "test-idx";
+        createIndex(indexName, Settings.builder().put("index.number_of_shards", 1).build());
+        ensureGreen();
+        final SnapshotId[] snapshotIds = new SnapshotId[2];
+        for (int i = 0; i < snapshotIds.length; i++) {
+            for (int doc = 0; doc < randomIntBetween(10, 20); doc++) {
+                client().prepareIndex(indexName, "type1").setSource("text", "sometext").get();
+            }
+            client().admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).get();
+            snapshotIds[i] = client.admin().cluster().prepareCreateSnapshot(repositoryName, "test-snap-" + i)
+                .setWaitForCompletion(true).setIndices(indexName).get().getSnapshotInfo().snapshotId();
+        }
+
+        assertAcked(client.admin().cluster().prepareDeleteSnapshot(repositoryName, snapshotIds[0].getName()).get());
+
+        final BlobStoreRepository repository =
+            (BlobStoreRepository) getInstanceFromNode(RepositoriesService.class).repository(repositoryName);
+        final RepositoryData repositoryData = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        final BlobContainer shardContainer = repository.shardContainer(repositoryData.resolveIndexId(indexName), 0);
+        final Set<String> referencedBlobs = new HashSet<>();
+        for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : repository.loadShardSnapshot(shardContainer, snapshotIds[1]).indexFiles()) {
+            for (int i = 0; i < fileInfo.numberOfParts(); i++) {
+                referencedBlobs.add(fileInfo.partName(i));
+            }
+        }
+        final Set<String> blobs = shardContainer.listBlobs().keySet();
+        assertThat(blobs, not(hasItem(String.format(Locale.ROOT, BlobStoreRepository.SNAPSHOT_NAME_FORMAT, snapshotIds[0].getUUID()))));
+        assertThat(blobs.stream().filter(blob -> blob.startsWith(BlobStoreRepository.INDEX_FILE_PREFIX)).count(), equalTo(1L));
+        for (String blob : blobs) {
+            if (blob.startsWith("__")) {
+                assertThat(referencedBlobs, hasItem(blob));
+            }
+        }
+        assertThat(repository.stats().snapshotStats.get(BlobStoreRepository.SHARD_LISTINGS_AVOIDED_STAT), equalTo(1L));
+        assertFalse(repository.stats().requestCounts.containsKey(BlobStoreRepository.SHARD_LISTINGS_AVOIDED_STAT));
+    }
+
     public void testReadAndWriteSnapshotsThroughIndexFile() throws Exception {
         final BlobStoreRepository repository = setupRepo();
         final long pendingGeneration = repository.metadata.pendingGeneration();
@@ -206,6 +272,77 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
         assertThat(repository.readSnapshotIndexLatestBlob(), equalTo(expectedGeneration + 2L));
     }
 
+    public void testRepositoryDataDeltas() throws Exception {
+        final int maxDeltas = randomIntBetween(1, 3);
+        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
+        final BlobStoreRepository repository = setupRepo(location,
+            Settings.builder().put(BlobStoreRepository.MAX_REPOSITORY_DATA_DELTAS_SETTING.getKey(), maxDeltas).build());
+
+        RepositoryData repositoryData = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        for (int i = 0; i < 3 * (maxDeltas + 1); i++) {
+            if (repositoryData.getSnapshotIds().isEmpty() || randomBoolean()) {
+                repositoryData = addRandomSnapshotsToRepoData(repositoryData, true);
+            } else {
+                repositoryData = repositoryData.removeSnapshots(
+                    Collections.singleton(randomFrom(repositoryData.getSnapshotIds())), ShardGenerations.EMPTY);
+            }
+            writeIndexGen(repository, repositoryData, repositoryData.getGenId());
+            final RepositoryData written = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+            assertEquals(repositoryData.withGenId(written.getGenId()), written);
+            repositoryData = written;
+
+            // the first generation holds the complete repository data, the following ones only hold the changes until the maximum
+            // number of changes is reached and the complete repository data is written again
+            final List<Long> baseGenerations = new ArrayList<>();
+            assertEquals(written, readRepositoryData(location, written.getGenId(), baseGenerations));
+            assertThat(baseGenerations, hasSize(i % (maxDeltas + 1)));
+            final Set<String> indexBlobs;
+            try (Stream<Path> files = Files.list(location)) {
+                indexBlobs = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(BlobStoreRepository.INDEX_FILE_PREFIX)).collect(Collectors.toSet());
+            }
+            assertThat(indexBlobs, hasItem(BlobStoreRepository.INDEX_FILE_PREFIX + written.getGenId()));
+            assertThat(indexBlobs.size(), lessThanOrEqualTo(baseGenerations.size() + 2));
+        }
+    }
+
+    public void testLargeRepositoryDataIsNotCached() throws Exception {
+        final BlobStoreRepository repository = setupRepo();
+        final RepositoryData small =
+            addRandomSnapshotsToRepoData(OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository), false);
+        writeIndexGen(repository, small, small.getGenId());
+        final RepositoryData cached = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertSame(cached, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+
+        // long snapshot names make for an index-N blob that is larger than the bound of the cache
+        final Map<String, SnapshotId> snapshotIds = new HashMap<>();
+        final Map<String, SnapshotState> snapshotStates = new HashMap<>();
+        final Map<String, Version> snapshotVersions = new HashMap<>();
+        for (int i = 0; i < 6000; i++) {
+            final SnapshotId snapshotId = new SnapshotId(randomAlphaOfLength(1024), UUIDs.randomBase64UUID());
+            snapshotIds.put(snapshotId.getUUID(), snapshotId);
+            snapshotStates.put(snapshotId.getUUID(), SnapshotState.SUCCESS);
+            snapshotVersions.put(snapshotId.getUUID(), Version.CURRENT);
+        }
+        final RepositoryData large = new RepositoryData(cached.getGenId(), snapshotIds, snapshotStates, snapshotVersions,
+            Collections.emptyMap(), ShardGenerations.EMPTY, IndexMetaDataGenerations.EMPTY);
+        writeIndexGen(repository, large, large.getGenId());
+        final RepositoryData read = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertEquals(large.withGenId(read.getGenId()), read);
+        assertNotSame(read, OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository));
+    }
+
+    private static RepositoryData readRepositoryData(Path location, long generation, List<Long> baseGenerations) throws IOException {
+        try (InputStream blob = Files.newInputStream(location.resolve(BlobStoreRepository.INDEX_FILE_PREFIX + generation));
+             XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                 LoggingDeprecationHandler.INSTANCE, blob)) {
+            return RepositoryData.snapshotsFromXContent(parser, generation, false, baseGen -> {
+                baseGenerations.add(0, baseGen);
+                return readRepositoryData(location, baseGen, baseGenerations);
+            });
+        }
+    }
+
     public void testRepositoryDataConcurrentModificationNotAllowed() {
         final BlobStoreRepository repository = setupRepo();
 
@@ -259,14 +396,18 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
     }
 
     private BlobStoreRepository setupRepo() {
+        return setupRepo(OpenSearchIntegTestCase.randomRepoPath(node().settings()), Settings.EMPTY);
+    }
+
+    private BlobStoreRepository setupRepo(Path location, Settings repositorySettings) {
         final Client client = client();
-        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
         final String repositoryName = "test-repo";
 
         AcknowledgedResponse putRepositoryResponse =
             client.admin().cluster().preparePutRepository(repositoryName)
                                     .setType(REPO_TYPE)
-                                    .setSettings(Settings.builder().put(node().settings()).put("location", location))
+                                    .setSettings(Settings.builder().put(node().settings()).put("location", location)
+                                        .put(repositorySettings))
                                     .get();
         assertThat(putRepositoryResponse.isAcknowledged(), equalTo(true));
 
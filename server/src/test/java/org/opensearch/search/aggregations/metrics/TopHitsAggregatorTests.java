@@ -49,16 +49,24 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.text.Text;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
+import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.AggregationBuilder;
@@ -66,9 +74,16 @@ import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.search.aggregations.AggregationBuilders.topHits;
@@ -232,6 +247,77 @@ public class TopHitsAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testSortOnNumericFieldInsideTerms() throws Exception {
+        NumberFieldMapper.NumberType numberType = randomFrom(NumberFieldMapper.NumberType.LONG, NumberFieldMapper.NumberType.DOUBLE);
+        MappedFieldType numberFieldType = new NumberFieldMapper.NumberFieldType("number", numberType);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 200; i++) {
+                    Document document = document(Integer.toString(i), "group-" + randomIntBetween(0, 20));
+                    if (randomBoolean()) {
+                        // few distinct values, so that many hits have to be ordered by doc id
+                        numberType.createFields("number", randomIntBetween(0, 5), true, true, false).forEach(document::add);
+                    }
+                    iw.addDocument(document);
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                SortOrder order = randomFrom(SortOrder.values());
+                int size = randomIntBetween(1, 5);
+                // a second sort collects the top hits of each bucket with its own top docs collector, which breaks ties by doc id too
+                Terms expected = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), terms("term").field("string").size(30)
+                    .subAggregation(topHits("top").sort("number", order).sort("_doc").size(size)),
+                    STRING_FIELD_TYPE, numberFieldType);
+                Terms actual = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), terms("term").field("string").size(30)
+                    .subAggregation(topHits("top").sort("number", order).size(size)), STRING_FIELD_TYPE, numberFieldType);
+                assertEquals(expected.getBuckets().size(), actual.getBuckets().size());
+                for (Terms.Bucket expectedBucket : expected.getBuckets()) {
+                    SearchHits expectedHits = ((TopHits) expectedBucket.getAggregations().get("top")).getHits();
+                    SearchHits actualHits = ((TopHits) actual.getBucketByKey(expectedBucket.getKeyAsString()).getAggregations().get("top"))
+                        .getHits();
+                    assertEquals(expectedHits.getTotalHits(), actualHits.getTotalHits());
+                    assertEquals(expectedHits.getHits().length, actualHits.getHits().length);
+                    for (int i = 0; i < expectedHits.getHits().length; i++) {
+                        assertEquals(expectedHits.getAt(i).getId(), actualHits.getAt(i).getId());
+                        assertEquals(expectedHits.getAt(i).getSortValues()[0], actualHits.getAt(i).getSortValues()[0]);
+                        assertEquals(Float.NaN, actualHits.getAt(i).getScore(), 0f);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testBucketedSortBuilder() {
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        MappedFieldType numberFieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+        when(queryShardContext.fieldMapper("number")).thenReturn(numberFieldType);
+        when(queryShardContext.fieldMapper("string")).thenReturn(STRING_FIELD_TYPE);
+        when(queryShardContext.getForField(numberFieldType)).thenReturn(
+            new SortedNumericIndexFieldData("number", IndexNumericFieldData.NumericType.LONG));
+        when(queryShardContext.getForField(STRING_FIELD_TYPE)).thenReturn(
+            new SortedSetOrdinalsIndexFieldData(null, "string", CoreValuesSourceType.BYTES, null, null));
+
+        FieldSortBuilder numberSort = SortBuilders.fieldSort("number");
+        Optional<SortAndFormats> sort = Optional.of(new SortAndFormats(new Sort(new SortField("number", SortField.Type.LONG)),
+            new DocValueFormat[] { DocValueFormat.RAW }));
+        assertSame(numberSort,
+            TopHitsAggregatorFactory.bucketedSortBuilder(Collections.singletonList(numberSort), sort, false, queryShardContext));
+        // the top hits need scores
+        assertNull(TopHitsAggregatorFactory.bucketedSortBuilder(Collections.singletonList(numberSort), sort, true, queryShardContext));
+        // the hits are sorted on more than one field
+        assertNull(TopHitsAggregatorFactory.bucketedSortBuilder(Arrays.asList(numberSort, SortBuilders.fieldSort("string")), sort,
+            false, queryShardContext));
+        // the field isn't numeric
+        assertNull(TopHitsAggregatorFactory.bucketedSortBuilder(Collections.singletonList(SortBuilders.fieldSort("string")), sort,
+            false, queryShardContext));
+        // the field is unmapped
+        assertNull(TopHitsAggregatorFactory.bucketedSortBuilder(Collections.singletonList(SortBuilders.fieldSort("unmapped")), sort,
+            false, queryShardContext));
+        assertNull(TopHitsAggregatorFactory.bucketedSortBuilder(Collections.singletonList(SortBuilders.scoreSort()), sort, false,
+            queryShardContext));
+    }
+
     public void testSortByScore() throws Exception {
         // just check that it does not fail with exceptions
         testCase(new MatchAllDocsQuery(), topHits("_name").sort("_score", SortOrder.DESC));
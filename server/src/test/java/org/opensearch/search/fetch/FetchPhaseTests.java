@@ -51,5 +51,11 @@ public class FetchPhaseTests extends OpenSearchTestCase {
             docs[i] = new FetchPhase.DocIdToIndex(start, i);
         }
         assertFalse(FetchPhase.hasSequentialDocs(docs));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, from, from));
+        if (from > 0) {
+            // the docs before the first gap are still sequential on their own
+            assertTrue(FetchPhase.hasSequentialDocs(docs, 0, from));
+            assertFalse(FetchPhase.hasSequentialDocs(docs, from - 1, 10));
+        }
     }
 }
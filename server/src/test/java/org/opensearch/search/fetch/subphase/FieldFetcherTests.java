@@ -43,6 +43,7 @@ import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -401,6 +402,116 @@ public class FieldFetcherTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testCanFetchFromDocValues() throws IOException {
+        MapperService mapperService = createMapperService();
+        assertTrue(canFetchFromDocValues(mapperService, "field", "integer_field", "date_field"));
+        assertTrue(canFetchFromDocValues(mapperService, "object.*"));
+        assertTrue(canFetchFromDocValues(mapperService, "unmapped"));
+        assertFalse(canFetchFromDocValues(mapperService, "field", "geo_point"));
+        assertFalse(canFetchFromDocValues(mapperService, "float_range"));
+        assertFalse(canFetchFromDocValues(mapperService, "*"));
+
+        XContentBuilder mapping = XContentFactory.jsonBuilder().startObject()
+            .startObject("properties")
+                .startObject("field").field("type", "keyword").field("doc_values", false).endObject()
+            .endObject()
+        .endObject();
+        MapperService noDocValuesMapperService = createIndex("no_doc_values", Settings.EMPTY, MapperService.SINGLE_MAPPING_NAME, mapping)
+            .mapperService();
+        assertFalse(canFetchFromDocValues(noDocValuesMapperService, "field"));
+    }
+
+    public void testCanFetchFromDocValuesExcludesKeywordWithIgnoreAbove() throws IOException {
+        MapperService mapperService = createKeywordMapperService("ignore_above", 20);
+        assertTrue(canFetchFromDocValues(mapperService, "plain"));
+        assertFalse(canFetchFromDocValues(mapperService, "field"));
+        assertFalse(canFetchFromDocValues(mapperService, "plain", "field"));
+    }
+
+    public void testCanFetchFromDocValuesExcludesKeywordWithNormalizer() throws IOException {
+        MapperService mapperService = createKeywordMapperService("normalizer", "lowercase");
+        assertTrue(canFetchFromDocValues(mapperService, "plain"));
+        assertFalse(canFetchFromDocValues(mapperService, "field"));
+        assertFalse(canFetchFromDocValues(mapperService, "plain", "field"));
+    }
+
+    public void testCanFetchFromDocValuesExcludesKeywordWithNullValue() throws IOException {
+        MapperService mapperService = createKeywordMapperService("null_value", "n/a");
+        assertTrue(canFetchFromDocValues(mapperService, "plain"));
+        assertFalse(canFetchFromDocValues(mapperService, "field"));
+        assertFalse(canFetchFromDocValues(mapperService, "plain", "field"));
+    }
+
+    public void testCanFetchFromDocValuesExcludesNumericAndDateWithNullValue() throws IOException {
+        XContentBuilder mapping = XContentFactory.jsonBuilder().startObject()
+            .startObject("properties")
+                .startObject("long").field("type", "long").endObject()
+                .startObject("long_null").field("type", "long").field("null_value", 0).endObject()
+                .startObject("date").field("type", "date").endObject()
+                .startObject("date_null").field("type", "date").field("null_value", "2020-01-01").endObject()
+            .endObject()
+        .endObject();
+        MapperService mapperService = createIndex("index", Settings.EMPTY, MapperService.SINGLE_MAPPING_NAME, mapping).mapperService();
+        assertTrue(canFetchFromDocValues(mapperService, "long", "date"));
+        assertFalse(canFetchFromDocValues(mapperService, "long_null"));
+        assertFalse(canFetchFromDocValues(mapperService, "date_null"));
+        assertFalse(canFetchFromDocValues(mapperService, "long", "date_null"));
+    }
+
+    public void testCanFetchFromDocValuesExcludesNestedFields() throws IOException {
+        XContentBuilder mapping = XContentFactory.jsonBuilder().startObject()
+            .startObject("properties")
+                .startObject("field").field("type", "keyword").endObject()
+                .startObject("object")
+                    .startObject("properties")
+                        .startObject("field").field("type", "keyword").endObject()
+                    .endObject()
+                .endObject()
+                .startObject("nested")
+                    .field("type", "nested")
+                    .startObject("properties")
+                        .startObject("field").field("type", "keyword").endObject()
+                        .startObject("object")
+                            .startObject("properties")
+                                .startObject("field").field("type", "long").endObject()
+                            .endObject()
+                        .endObject()
+                    .endObject()
+                .endObject()
+            .endObject()
+        .endObject();
+        MapperService mapperService = createIndex("index", Settings.EMPTY, MapperService.SINGLE_MAPPING_NAME, mapping).mapperService();
+        assertTrue(canFetchFromDocValues(mapperService, "field", "object.field"));
+        assertFalse(canFetchFromDocValues(mapperService, "nested.field"));
+        assertFalse(canFetchFromDocValues(mapperService, "nested.object.field"));
+        assertFalse(canFetchFromDocValues(mapperService, "field", "nested.*"));
+    }
+
+    /**
+     * Creates an index with a plain keyword field and a keyword field {@code field} that has the given mapping parameter.
+     */
+    private MapperService createKeywordMapperService(String parameter, Object value) throws IOException {
+        Settings settings = Settings.builder()
+            .put("index.analysis.normalizer.lowercase.type", "custom")
+            .putList("index.analysis.normalizer.lowercase.filter", "lowercase")
+            .build();
+        XContentBuilder mapping = XContentFactory.jsonBuilder().startObject()
+            .startObject("properties")
+                .startObject("plain").field("type", "keyword").endObject()
+                .startObject("field").field("type", "keyword").field(parameter, value).endObject()
+            .endObject()
+        .endObject();
+        return createIndex("index", settings, MapperService.SINGLE_MAPPING_NAME, mapping).mapperService();
+    }
+
+    private static boolean canFetchFromDocValues(MapperService mapperService, String... fieldPatterns) {
+        List<FieldAndFormat> fields = new ArrayList<>();
+        for (String fieldPattern : fieldPatterns) {
+            fields.add(new FieldAndFormat(fieldPattern, null));
+        }
+        return FieldFetcher.canFetchFromDocValues(mapperService, fields);
+    }
+
     private Map<String, DocumentField> fetchFields(MapperService mapperService, XContentBuilder source, String fieldPattern)
         throws IOException {
 
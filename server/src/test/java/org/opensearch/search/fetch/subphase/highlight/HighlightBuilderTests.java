@@ -325,6 +325,7 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
                 checkSame.accept(AbstractHighlighterBuilder::noMatchSize, FieldOptions::noMatchSize);
                 checkSame.accept(AbstractHighlighterBuilder::numOfFragments, FieldOptions::numberOfFragments);
                 checkSame.accept(AbstractHighlighterBuilder::phraseLimit, FieldOptions::phraseLimit);
+                checkSame.accept(AbstractHighlighterBuilder::maxAnalyzedOffset, FieldOptions::maxAnalyzedOffset);
                 checkSame.accept(AbstractHighlighterBuilder::highlighterType, FieldOptions::highlighterType);
                 checkSame.accept(AbstractHighlighterBuilder::highlightFilter, FieldOptions::highlightFilter);
                 checkSame.accept(AbstractHighlighterBuilder::preTags, FieldOptions::preTags);
@@ -479,6 +480,12 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
     /**
      * test ordinals of {@link Order}, since serialization depends on it
      */
+    public void testInvalidMaxAnalyzedOffset() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> new HighlightBuilder().maxAnalyzedOffset(randomIntBetween(-100, 0)));
+        assertEquals("[max_analyzed_offset] must be a positive integer", e.getMessage());
+    }
+
     public void testValidOrderOrdinals() {
         assertThat(Order.NONE.ordinal(), equalTo(0));
         assertThat(Order.SCORE.ordinal(), equalTo(1));
@@ -607,6 +614,9 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             highlightBuilder.phraseLimit(randomIntBetween(0, 10));
         }
+        if (randomBoolean()) {
+            highlightBuilder.maxAnalyzedOffset(randomIntBetween(1, 10));
+        }
         if (randomBoolean()) {
             int items = randomIntBetween(0, 5);
             Map<String, Object> options = new HashMap<>(items);
@@ -633,7 +643,7 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static void mutateCommonOptions(AbstractHighlighterBuilder highlightBuilder) {
-        switch (randomIntBetween(1, 16)) {
+        switch (randomIntBetween(1, 17)) {
         case 1:
             highlightBuilder.preTags(randomStringArray(4, 6));
             break;
@@ -691,6 +701,9 @@ public class HighlightBuilderTests extends OpenSearchTestCase {
         case 16:
             highlightBuilder.requireFieldMatch(toggleOrSet(highlightBuilder.requireFieldMatch()));
             break;
+        case 17:
+            highlightBuilder.maxAnalyzedOffset(randomIntBetween(11, 20));
+            break;
         }
     }
 
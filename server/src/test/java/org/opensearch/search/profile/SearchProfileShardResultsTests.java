@@ -67,7 +67,9 @@ public class SearchProfileShardResultsTests  extends OpenSearchTestCase {
                 queryProfileResults.add(QueryProfileShardResultTests.createTestItem());
             }
             AggregationProfileShardResult aggProfileShardResult = AggregationProfileShardResultTests.createTestItem(1);
-            searchProfileResults.put(randomAlphaOfLengthBetween(5, 10), new ProfileShardResult(queryProfileResults, aggProfileShardResult));
+            ProfileResult fetchProfileResult = randomBoolean() ? null : ProfileResultTests.createTestItem(2);
+            searchProfileResults.put(randomAlphaOfLengthBetween(5, 10),
+                new ProfileShardResult(queryProfileResults, aggProfileShardResult, fetchProfileResult));
         }
         return new SearchProfileShardResults(searchProfileResults);
     }
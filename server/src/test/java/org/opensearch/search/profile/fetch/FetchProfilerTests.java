@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.fetch;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.search.fetch.FetchSubPhase;
+import org.opensearch.search.fetch.FetchSubPhaseProcessor;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.Timer;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+public class FetchProfilerTests extends OpenSearchTestCase {
+
+    public void testProfile() throws Exception {
+        FetchProfiler profiler = new FetchProfiler();
+        profiler.start();
+
+        AtomicInteger nextReaderCalls = new AtomicInteger();
+        AtomicInteger processCalls = new AtomicInteger();
+        FetchSubPhaseProcessor processor = profiler.profile("TestPhase", new FetchSubPhaseProcessor() {
+            @Override
+            public void setNextReader(LeafReaderContext readerContext) {
+                nextReaderCalls.incrementAndGet();
+            }
+
+            @Override
+            public void process(FetchSubPhase.HitContext hitContext) {
+                processCalls.incrementAndGet();
+            }
+
+            @Override
+            public void collectDebugInfo(BiConsumer<String, Object> add) {
+                add.accept("processed", processCalls.get());
+            }
+        });
+        FetchSubPhaseProcessor otherProcessor = profiler.profile("OtherPhase", new FetchSubPhaseProcessor() {
+            @Override
+            public void setNextReader(LeafReaderContext readerContext) {
+            }
+
+            @Override
+            public void process(FetchSubPhase.HitContext hitContext) {
+            }
+        });
+
+        int hits = randomIntBetween(1, 10);
+        processor.setNextReader(null);
+        for (int i = 0; i < hits; i++) {
+            Timer timer = profiler.getBreakdown().getTimer(FetchTimingType.LOAD_STORED_FIELDS);
+            timer.start();
+            timer.stop();
+            processor.process(null);
+        }
+        profiler.getBreakdown().addDebugInfo("key", "value");
+        profiler.stop();
+
+        assertThat(nextReaderCalls.get(), equalTo(1));
+        assertThat(processCalls.get(), equalTo(hits));
+
+        ProfileResult result = profiler.getResult();
+        assertThat(result.getQueryName(), equalTo("fetch"));
+        assertThat(result.getTime(), greaterThan(0L));
+        assertThat(result.getTimeBreakdown().get("load_stored_fields_count"), equalTo((long) hits));
+        assertThat(result.getTimeBreakdown().get("next_reader_count"), equalTo(0L));
+        assertThat(result.getDebugInfo().get("key"), equalTo("value"));
+        assertThat(result.getProfiledChildren(), hasSize(2));
+
+        ProfileResult subPhase = result.getProfiledChildren().get(0);
+        assertThat(subPhase.getQueryName(), equalTo("TestPhase"));
+        assertThat(subPhase.getTimeBreakdown().get("next_reader_count"), equalTo(1L));
+        assertThat(subPhase.getTimeBreakdown().get("process_count"), equalTo((long) hits));
+        assertThat(subPhase.getDebugInfo().get("processed"), equalTo(hits));
+        Map<String, Long> breakdown = subPhase.getTimeBreakdown();
+        assertThat(subPhase.getTime(), equalTo(breakdown.get("next_reader") + breakdown.get("process")));
+
+        ProfileResult otherSubPhase = result.getProfiledChildren().get(1);
+        assertThat(otherSubPhase.getQueryName(), equalTo("OtherPhase"));
+        assertThat(otherSubPhase.getTimeBreakdown().get("process_count"), equalTo(0L));
+        assertThat(otherSubPhase.getTime(), equalTo(0L));
+        assertThat(otherSubPhase.getDebugInfo().isEmpty(), equalTo(true));
+
+        // the same sub phase is profiled by a single child, for instance when a fetch phase moves to another segment
+        profiler.profile("TestPhase", otherProcessor);
+        assertThat(profiler.getResult().getProfiledChildren(), hasSize(2));
+    }
+}
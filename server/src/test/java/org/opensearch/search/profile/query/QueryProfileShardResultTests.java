@@ -61,7 +61,11 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        long rescoreTime = randomNonNegativeLong();
+        if (randomBoolean()) {
+            rescoreTime = rescoreTime % 1000;
+        }
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, rescoreTime, profileCollector);
     }
 
     public void testFromXContent() throws IOException {
@@ -34,11 +34,13 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.LatLonDocValuesField;
 import org.apache.lucene.document.LatLonPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
@@ -72,6 +74,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
@@ -87,6 +90,7 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.bkd.BKDConfig;
 import org.apache.lucene.util.bkd.BKDReader;
 import org.apache.lucene.util.bkd.BKDWriter;
@@ -120,6 +124,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -789,6 +794,96 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testNumericSortOptimizationWithPoints() throws Exception {
+        final String fieldName = "double-field";
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(fieldName, NumberFieldMapper.NumberType.DOUBLE);
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.fieldType(fieldName)).thenReturn(fieldType);
+        // each segment holds a distinct range of values, the segments are written in random order
+        final int numSegments = 5;
+        final int docsPerSegment = 2000;
+        final List<Integer> segmentOrder = new ArrayList<>();
+        for (int i = 0; i < numSegments; i++) {
+            segmentOrder.add(i);
+        }
+        Collections.shuffle(segmentOrder, random());
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(null).setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int segment : segmentOrder) {
+            for (int i = 0; i < docsPerSegment; i++) {
+                Document doc = new Document();
+                double value = segment * docsPerSegment + randomDoubleBetween(0, docsPerSegment, false);
+                doc.add(new DoublePoint(fieldName, value));
+                doc.add(new SortedNumericDocValuesField(fieldName, NumericUtils.doubleToSortableLong(value)));
+                writer.addDocument(doc);
+            }
+            writer.commit();
+        }
+        writer.close();
+        final IndexReader reader = DirectoryReader.open(dir);
+        final int numDocs = numSegments * docsPerSegment;
+
+        for (boolean reverse : new boolean[] { false, true }) {
+            final List<LeafReaderContext> searchedLeaves = new ArrayList<>();
+            ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true) {
+
+                @Override
+                public void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
+                    searchedLeaves.addAll(leaves);
+                    super.search(leaves, weight, collector);
+                }
+            };
+            TestSearchContext searchContext = spy(new TestSearchContext(null, indexShard, searcher));
+            when(searchContext.mapperService()).thenReturn(mapperService);
+            final SortField sortField = new SortedNumericSortField(fieldName, SortField.Type.DOUBLE, reverse);
+            sortField.setMissingValue(reverse ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+            searchContext.sort(new SortAndFormats(new Sort(sortField), new DocValueFormat[] { DocValueFormat.RAW }));
+            // a query whose hits can't be counted up-front
+            searchContext.parsedQuery(new ParsedQuery(DoublePoint.newRangeQuery(fieldName, 0, Double.MAX_VALUE)));
+            searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            searchContext.trackTotalHitsUpTo(10);
+            searchContext.setSize(10);
+            QueryPhase.executeInternal(searchContext);
+
+            assertTrue(sortField.getCanUsePoints());
+            // the segment with the most competitive values is searched first
+            final int expectedFirstSegment = reverse ? numSegments - 1 : 0;
+            assertThat(searchedLeaves.get(0).ord, equalTo(segmentOrder.indexOf(expectedFirstSegment)));
+            final TopDocs topDocs = searchContext.queryResult().topDocs().topDocs;
+            assertThat(topDocs.scoreDocs.length, equalTo(10));
+            // non-competitive documents were skipped
+            assertThat(topDocs.totalHits.relation, equalTo(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO));
+            assertThat(topDocs.totalHits.value, lessThan((long) numDocs));
+            double previous = reverse ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                double value = (double) ((FieldDoc) scoreDoc).fields[0];
+                if (reverse) {
+                    assertThat(value, lessThanOrEqualTo(previous));
+                    assertThat(value, greaterThanOrEqualTo((double) (numSegments - 1) * docsPerSegment));
+                } else {
+                    assertThat(value, greaterThanOrEqualTo(previous));
+                    assertThat(value, lessThan((double) docsPerSegment));
+                }
+                previous = value;
+            }
+        }
+
+        // sorts that cast the values of the field don't use the points of the field
+        TestSearchContext searchContext = spy(new TestSearchContext(null, indexShard, newContextSearcher(reader)));
+        when(searchContext.mapperService()).thenReturn(mapperService);
+        final SortField longSortField = new SortedNumericSortField(fieldName, SortField.Type.LONG);
+        searchContext.sort(new SortAndFormats(new Sort(longSortField), new DocValueFormat[] { DocValueFormat.RAW }));
+        searchContext.parsedQuery(new ParsedQuery(new MatchAllDocsQuery()));
+        searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        searchContext.setSize(10);
+        QueryPhase.executeInternal(searchContext);
+        assertFalse(longSortField.getCanUsePoints());
+
+        reader.close();
+        dir.close();
+    }
+
     public void testIndexHasDuplicateData() throws IOException {
         int docsCount = 5000;
         int maxPointsInLeafNode = 40;
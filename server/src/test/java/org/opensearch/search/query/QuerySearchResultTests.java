@@ -84,6 +84,7 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             result.terminatedEarly(randomBoolean());
         }
+        result.bottomSortFiltered(randomBoolean());
         TopDocs topDocs = new TopDocs(new TotalHits(randomLongBetween(0, Long.MAX_VALUE), TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
         result.topDocs(new TopDocsAndMaxScore(topDocs, randomBoolean() ? Float.NaN : randomFloat()), new DocValueFormat[0]);
         result.size(randomInt());
@@ -113,6 +114,7 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
             assertEquals(aggs.asList(), deserializedAggs.asList());
         }
         assertEquals(querySearchResult.terminatedEarly(), deserialized.terminatedEarly());
+        assertEquals(querySearchResult.bottomSortFiltered(), deserialized.bottomSortFiltered());
     }
 
     public void testReadFromPre_7_1_0() throws IOException {
@@ -48,11 +48,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThan;
@@ -261,6 +264,29 @@ public abstract class BucketedSortTestCase<T extends BucketedSort> extends OpenS
         assertThat(counter.count, lessThan((long)(bucketSize + values.length * Math.log(bucketSize) / Math.log(2))));
     }
 
+    public void testExtraBreaksTies() throws IOException {
+        int bucketSize = between(2, 50);
+        double[] values = new double[1000];
+        int[] docs = new int[values.length];
+        for (int doc = 0; doc < values.length; doc++) {
+            // the last docs replace hits that tie with other competitive hits
+            values[doc] = doc < values.length - bucketSize / 2 ? between(0, 1) : 2;
+            docs[doc] = doc;
+        }
+        try (Extra extra = new Extra(bigArrays(), docs, true);
+                T sort = build(SortOrder.DESC, bucketSize, extra, values)) {
+            BucketedSort.Leaf leaf = sort.forLeaf(null);
+            for (int doc = 0; doc < values.length; doc++) {
+                leaf.collect(doc, 0);
+            }
+            // ties are broken by the lower extra data, like the lower doc id wins ties of top hits
+            assertThat(sort.getValues(0, extra.valueBuilder()), containsInAnyOrder(IntStream.range(0, values.length).boxed()
+                    .sorted(Comparator.comparingDouble((Integer doc) -> values[doc]).reversed().thenComparing(Comparator.naturalOrder()))
+                    .limit(bucketSize).map(doc -> equalTo(extraValue(doc, values[doc])))
+                    .collect(toList())));
+        }
+    }
+
     public void testTwoHitsTwoBucket() throws IOException {
         try (T sort = build(SortOrder.DESC, 2, new double[] {1, 2, 3, 4})) {
             BucketedSort.Leaf leaf = sort.forLeaf(null);
@@ -360,11 +386,17 @@ public abstract class BucketedSortTestCase<T extends BucketedSort> extends OpenS
 
         private final BigArrays bigArrays;
         private final int[] docValues;
+        private final boolean breakTies;
         private IntArray values;
 
         Extra(BigArrays bigArrays, int[] docValues) {
+            this(bigArrays, docValues, false);
+        }
+
+        Extra(BigArrays bigArrays, int[] docValues, boolean breakTies) {
             this.bigArrays = bigArrays;
             this.docValues = docValues;
+            this.breakTies = breakTies;
             values = bigArrays.newIntArray(1, false);
         }
 
@@ -379,6 +411,11 @@ public abstract class BucketedSortTestCase<T extends BucketedSort> extends OpenS
             values.set(rhs, tmp);
         }
 
+        @Override
+        public boolean betterThan(long lhs, long rhs) {
+            return breakTies && values.get(lhs) < values.get(rhs);
+        }
+
         @Override
         public Loader loader(LeafReaderContext ctx) throws IOException {
             return (index, doc) -> {
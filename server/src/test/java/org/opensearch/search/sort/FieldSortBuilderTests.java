@@ -654,6 +654,47 @@ public class FieldSortBuilderTests extends AbstractSortTestCase<FieldSortBuilder
         }
     }
 
+    public void testBuildBottomSortQuery() throws Exception {
+        try (Directory dir = newDirectory()) {
+            int numDocs = randomIntBetween(5, 50);
+            long[] values = new long[numDocs];
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), dir, new KeywordAnalyzer())) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    values[i] = randomLongBetween(1, Integer.MAX_VALUE);
+                    doc.add(new LongPoint("custom-date", values[i]));
+                    doc.add(new SortedNumericDocValuesField("custom-date", values[i]));
+                    writer.addDocument(doc);
+                }
+                try (DirectoryReader reader = writer.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    QueryShardContext context = createMockShardContext(searcher);
+                    long bottom = values[randomIntBetween(0, numDocs - 1)];
+                    SearchSortValuesAndFormats bottomSortValues =
+                        new SearchSortValuesAndFormats(new Object[] { bottom }, new DocValueFormat[] { DocValueFormat.RAW });
+                    FieldSortBuilder fieldSort = SortBuilders.fieldSort("custom-date");
+                    assertNull(fieldSort.buildBottomSortQuery(context, null));
+                    assertEquals(Arrays.stream(values).filter(v -> v <= bottom).count(),
+                        searcher.count(fieldSort.buildBottomSortQuery(context, bottomSortValues)));
+                    fieldSort.order(SortOrder.DESC);
+                    assertEquals(Arrays.stream(values).filter(v -> v >= bottom).count(),
+                        searcher.count(fieldSort.buildBottomSortQuery(context, bottomSortValues)));
+                    fieldSort.sortMode(SortMode.SUM);
+                    assertNull(fieldSort.buildBottomSortQuery(context, bottomSortValues));
+                    fieldSort.sortMode(SortMode.MAX);
+                    fieldSort.setNestedSort(new NestedSortBuilder("empty"));
+                    assertNull(fieldSort.buildBottomSortQuery(context, bottomSortValues));
+                    fieldSort.setNestedSort(null);
+                    fieldSort.missing("100");
+                    assertNull(fieldSort.buildBottomSortQuery(context, bottomSortValues));
+                    assertNull(SortBuilders.fieldSort("custom-keyword").buildBottomSortQuery(context,
+                        new SearchSortValuesAndFormats(new Object[] { new BytesRef("a") }, new DocValueFormat[] { DocValueFormat.RAW })));
+                    assertNull(SortBuilders.fieldSort(MAPPED_STRING_FIELDNAME).buildBottomSortQuery(context, bottomSortValues));
+                }
+            }
+        }
+    }
+
     @Override
     protected void assertWarnings(FieldSortBuilder testItem) {
         List<String> expectedWarnings = new ArrayList<>();
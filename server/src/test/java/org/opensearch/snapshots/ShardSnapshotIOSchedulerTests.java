@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class ShardSnapshotIOSchedulerTests extends OpenSearchTestCase {
+
+    private final List<Runnable> executed = new ArrayList<>();
+
+    private final List<String> started = new ArrayList<>();
+
+    private final List<ShardSnapshotIOScheduler.Slot> slots = new ArrayList<>();
+
+    private final AtomicLong time = new AtomicLong();
+
+    private ShardSnapshotIOScheduler scheduler(int maxPerRepository, int maxPerDataPath) {
+        return new ShardSnapshotIOScheduler(executed::add, time::get, maxPerRepository, maxPerDataPath);
+    }
+
+    private void schedule(ShardSnapshotIOScheduler scheduler, String repository, int weight, String dataPath, String name) {
+        scheduler.schedule(repository, weight, dataPath, ActionListener.wrap(slot -> {
+            started.add(name);
+            slots.add(slot);
+        }, e -> { throw new AssertionError(e); }));
+    }
+
+    private void runExecuted() {
+        final List<Runnable> toRun = new ArrayList<>(executed);
+        executed.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    public void testLimitsPerRepository() {
+        final ShardSnapshotIOScheduler scheduler = scheduler(2, 10);
+        for (int i = 0; i < 5; i++) {
+            schedule(scheduler, "repo", 1, "path-" + i, "shard-" + i);
+        }
+        runExecuted();
+        assertThat(started, contains("shard-0", "shard-1"));
+        assertThat(scheduler.stats().getRepositories().get("repo"), equalTo(new ShardSnapshotIOStats.QueueStats(3, 2, 0, 0, 0)));
+
+        time.addAndGet(1000L);
+        slots.get(0).release(500L);
+        runExecuted();
+        assertThat(started, contains("shard-0", "shard-1", "shard-2"));
+        final ShardSnapshotIOStats.QueueStats stats = scheduler.stats().getRepositories().get("repo");
+        assertThat(stats, equalTo(new ShardSnapshotIOStats.QueueStats(2, 2, 1, 500L, 1000L)));
+        assertThat(stats.getThroughputBytesPerSec(), equalTo(500L));
+        // the data path has no more shard snapshots, so it is no longer tracked
+        assertNull(scheduler.stats().getDataPaths().get("path-0"));
+
+        scheduler.setMaxPerRepository(5);
+        runExecuted();
+        assertThat(started, hasSize(5));
+    }
+
+    public void testLimitsPerDataPath() {
+        final ShardSnapshotIOScheduler scheduler = scheduler(10, 1);
+        schedule(scheduler, "repo-a", 1, "path-0", "a-0");
+        schedule(scheduler, "repo-b", 1, "path-0", "b-0");
+        schedule(scheduler, "repo-b", 1, "path-1", "b-1");
+        runExecuted();
+        // the shard snapshot on the busy data path does not hold up the one on the other data path
+        assertThat(started, contains("a-0", "b-1"));
+        assertThat(scheduler.stats().getDataPaths().get("path-0").getQueued(), equalTo(1));
+
+        slots.get(0).release(0L);
+        runExecuted();
+        assertThat(started, contains("a-0", "b-1", "b-0"));
+    }
+
+    public void testWeightedFairQueueing() {
+        final ShardSnapshotIOScheduler scheduler = scheduler(1, 1);
+        // occupy the only data path so that all following shard snapshots queue up
+        schedule(scheduler, "blocker", 1, "path", "blocker");
+        runExecuted();
+        for (int i = 0; i < 4; i++) {
+            schedule(scheduler, "slow", 1, "path", "slow-" + i);
+        }
+        for (int i = 0; i < 4; i++) {
+            schedule(scheduler, "fast", 3, "path", "fast-" + i);
+        }
+        final List<String> order = new ArrayList<>();
+        while (slots.isEmpty() == false) {
+            slots.remove(0).release(0L);
+            runExecuted();
+            if (slots.isEmpty() == false) {
+                order.add(started.get(started.size() - 1));
+            }
+        }
+        // the repository with three times the weight starts three shard snapshots for every shard snapshot of the other repository
+        assertThat(order, contains("fast-0", "fast-1", "slow-0", "fast-2", "fast-3", "slow-1", "slow-2", "slow-3"));
+        assertThat(executed, empty());
+    }
+
+    public void testSlotCanOnlyBeReleasedOnce() {
+        final ShardSnapshotIOScheduler scheduler = scheduler(1, 1);
+        schedule(scheduler, "repo", 1, "path", "shard-0");
+        schedule(scheduler, "repo", 1, "path", "shard-1");
+        runExecuted();
+        final ShardSnapshotIOScheduler.Slot slot = slots.get(0);
+        slot.release(0L);
+        expectThrows(AssertionError.class, () -> slot.release(0L));
+        assertThat(scheduler.stats().getRepositories().get("repo"), equalTo(new ShardSnapshotIOStats.QueueStats(0, 1, 1, 0L, 0L)));
+    }
+
+    public void testIdleRepositoriesAndDataPathsAreRemoved() {
+        final ShardSnapshotIOScheduler scheduler = scheduler(1, 1);
+        schedule(scheduler, "repo-a", 1, "path-0", "a-0");
+        schedule(scheduler, "repo-b", 1, "path-1", "b-0");
+        runExecuted();
+        slots.get(0).release(0L);
+        ShardSnapshotIOStats stats = scheduler.stats();
+        assertThat(stats.getRepositories().keySet(), contains("repo-b"));
+        assertThat(stats.getDataPaths().keySet(), contains("path-1"));
+
+        slots.get(1).release(0L);
+        stats = scheduler.stats();
+        assertTrue(stats.getRepositories().isEmpty());
+        assertTrue(stats.getDataPaths().isEmpty());
+
+        // a repository that becomes busy again is tracked again
+        schedule(scheduler, "repo-a", 1, "path-0", "a-1");
+        runExecuted();
+        assertThat(started, contains("a-0", "b-0", "a-1"));
+        assertThat(scheduler.stats().getRepositories().get("repo-a"), equalTo(new ShardSnapshotIOStats.QueueStats(0, 1, 0, 0L, 0L)));
+    }
+
+    public void testShardSnapshotFailsIfItCannotBeStarted() {
+        final ShardSnapshotIOScheduler scheduler = new ShardSnapshotIOScheduler(command -> {
+            throw new OpenSearchRejectedExecutionException("shutting down");
+        }, time::get, 1, 1);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        scheduler.schedule("repo", 1, "path", ActionListener.wrap(slot -> fail("must not start"), failure::set));
+        assertThat(failure.get(), instanceOf(OpenSearchRejectedExecutionException.class));
+        // the slots of the failed shard snapshot are free again
+        assertTrue(scheduler.stats().getRepositories().isEmpty());
+        assertTrue(scheduler.stats().getDataPaths().isEmpty());
+    }
+
+    public void testConcurrencyDefaultsFollowSnapshotThreadPoolSize() {
+        final Settings singleProcessor = Settings.builder().put("node.processors", 1).build();
+        assertThat(SnapshotShardsService.MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_REPOSITORY_SETTING.get(singleProcessor), equalTo(1));
+        assertThat(SnapshotShardsService.MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_DATA_PATH_SETTING.get(singleProcessor), equalTo(1));
+
+        final Settings largePool = Settings.builder().put("thread_pool.snapshot.max", 8).build();
+        assertThat(SnapshotShardsService.MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_REPOSITORY_SETTING.get(largePool), equalTo(7));
+        assertThat(SnapshotShardsService.MAX_CONCURRENT_SHARD_SNAPSHOTS_PER_DATA_PATH_SETTING.get(largePool), equalTo(8));
+    }
+}
@@ -43,6 +43,8 @@ import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
@@ -198,6 +200,26 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         assertEquals("header_value", header.getHeaders().v1().get("header"));
     }
 
+    public void testSendThinRequest() throws IOException {
+        long requestId = randomLongBetween(0, 300);
+        boolean compress = randomBoolean();
+        String value = randomAlphaOfLength(10);
+        BytesArray trailingBytes = new BytesArray(randomBoolean() ? new byte[0] : randomByteArrayOfLength(between(1, 100)));
+        handler.sendRequest(node, channel, requestId, "action", new ThinTestRequest(value, trailingBytes), options, Version.CURRENT,
+            compress, false);
+
+        pipeline.handleBytes(channel, new ReleasableBytesReference(channel.getMessageCaptor().get(), () -> {
+        }));
+        final Tuple<Header, BytesReference> tuple = message.get();
+        final Header header = tuple.v1();
+        final ThinTestRequest message = new ThinTestRequest(tuple.v2().streamInput());
+        assertEquals(requestId, header.getRequestId());
+        // only a thin request without trailing bytes is compressed
+        assertEquals(compress && trailingBytes.length() == 0, header.isCompressed());
+        assertEquals(value, message.value);
+        assertEquals(trailingBytes, message.trailingBytes);
+    }
+
     public void testSendResponse() throws IOException {
         ThreadContext threadContext = threadPool.getThreadContext();
         Version version = randomFrom(Version.CURRENT, Version.CURRENT.minimumCompatibilityVersion());
@@ -312,4 +334,34 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
 
         assertEquals("header_value", header.getHeaders().v1().get("header"));
     }
+
+    private static class ThinTestRequest extends TransportRequest implements ThinWriteable {
+
+        private final String value;
+        private final BytesReference trailingBytes;
+
+        ThinTestRequest(String value, BytesReference trailingBytes) {
+            this.value = value;
+            this.trailingBytes = trailingBytes;
+        }
+
+        ThinTestRequest(StreamInput in) throws IOException {
+            super(in);
+            value = in.readString();
+            trailingBytes = in.readBytesReference();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            writeThin(out).writeTo(out);
+        }
+
+        @Override
+        public BytesReference writeThin(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeString(value);
+            out.writeVInt(trailingBytes.length());
+            return trailingBytes;
+        }
+    }
 }
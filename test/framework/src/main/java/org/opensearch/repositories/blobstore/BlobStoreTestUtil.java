@@ -129,13 +129,9 @@ public final class BlobStoreTestUtil {
                 } catch (NoSuchFileException e) {
                     throw new AssertionError("Could not find index.latest blob for repo [" + repository + "]");
                 }
-                assertIndexGenerations(blobContainer, latestGen);
-                final RepositoryData repositoryData;
-                try (InputStream blob = blobContainer.readBlob(BlobStoreRepository.INDEX_FILE_PREFIX + latestGen);
-                     XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
-                         LoggingDeprecationHandler.INSTANCE, blob)) {
-                    repositoryData = RepositoryData.snapshotsFromXContent(parser, latestGen, false);
-                }
+                final Set<Long> baseGenerations = new HashSet<>();
+                final RepositoryData repositoryData = readRepositoryData(blobContainer, latestGen, baseGenerations);
+                assertIndexGenerations(blobContainer, latestGen, baseGenerations);
                 assertIndexUUIDs(repository, repositoryData);
                 assertSnapshotUUIDs(repository, repositoryData);
                 assertShardIndexGenerations(blobContainer, repositoryData.shardGenerations());
@@ -150,12 +146,28 @@ public final class BlobStoreTestUtil {
         }
     }
 
-    private static void assertIndexGenerations(BlobContainer repoRoot, long latestGen) throws IOException {
+    /**
+     * Reads the repository data of the given generation, adding the generations that its {@code index-N} blob holds the changes to to the
+     * given set.
+     */
+    private static RepositoryData readRepositoryData(BlobContainer repoRoot, long generation, Set<Long> baseGenerations)
+        throws IOException {
+        try (InputStream blob = repoRoot.readBlob(BlobStoreRepository.INDEX_FILE_PREFIX + generation);
+             XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                 LoggingDeprecationHandler.INSTANCE, blob)) {
+            return RepositoryData.snapshotsFromXContent(parser, generation, false, baseGen -> {
+                baseGenerations.add(baseGen);
+                return readRepositoryData(repoRoot, baseGen, baseGenerations);
+            });
+        }
+    }
+
+    private static void assertIndexGenerations(BlobContainer repoRoot, long latestGen, Set<Long> baseGenerations) throws IOException {
         final long[] indexGenerations = repoRoot.listBlobsByPrefix(BlobStoreRepository.INDEX_FILE_PREFIX).keySet().stream()
             .map(s -> s.replace(BlobStoreRepository.INDEX_FILE_PREFIX, ""))
             .mapToLong(Long::parseLong).sorted().toArray();
         assertEquals(latestGen, indexGenerations[indexGenerations.length - 1]);
-        assertTrue(indexGenerations.length <= 2);
+        assertTrue(indexGenerations.length <= 2 + baseGenerations.size());
     }
 
     private static void assertShardIndexGenerations(BlobContainer repoRoot, ShardGenerations shardGenerations) throws IOException {
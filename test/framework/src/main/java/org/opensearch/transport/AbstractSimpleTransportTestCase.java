@@ -113,6 +113,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -670,6 +671,51 @@ public abstract class AbstractSimpleTransportTestCase extends OpenSearchTestCase
         }
     }
 
+    public void testHelloWorldCompressedByRequestOptions() throws Exception {
+        try (MockTransportService serviceC = buildService("TS_C", CURRENT_VERSION, Settings.EMPTY)) {
+            serviceC.start();
+            serviceC.acceptIncomingRequests();
+
+            final String message = String.join("", Collections.nCopies(1 << 16, randomAlphaOfLength(1)));
+            serviceA.registerRequestHandler("internal:sayHello", ThreadPool.Names.GENERIC, StringMessageRequest::new,
+                (request, channel, task) -> {
+                    assertThat(request.message, equalTo(message));
+                    channel.sendResponse(new StringMessageResponse("hello"));
+                });
+
+            Settings settingsWithoutCompress = Settings.builder().put(TransportSettings.TRANSPORT_COMPRESS.getKey(), false).build();
+            serviceC.connectToNode(serviceA.getLocalDiscoNode(), ConnectionProfile.buildDefaultConnectionProfile(settingsWithoutCompress));
+            final long txSizeBefore = serviceC.transport.getStats().getTxSize().getBytes();
+
+            TransportFuture<StringMessageResponse> res = serviceC.submitRequest(nodeA, "internal:sayHello",
+                new StringMessageRequest(message), TransportRequestOptions.builder().withCompress(true).build(),
+                new TransportResponseHandler<StringMessageResponse>() {
+                    @Override
+                    public StringMessageResponse read(StreamInput in) throws IOException {
+                        return new StringMessageResponse(in);
+                    }
+
+                    @Override
+                    public String executor() {
+                        return ThreadPool.Names.GENERIC;
+                    }
+
+                    @Override
+                    public void handleResponse(StringMessageResponse response) {
+                    }
+
+                    @Override
+                    public void handleException(TransportException exp) {
+                        logger.error("Unexpected failure", exp);
+                        fail("got exception instead of a response: " + exp.getMessage());
+                    }
+                });
+
+            assertThat(res.get().message, equalTo("hello"));
+            assertThat(serviceC.transport.getStats().getTxSize().getBytes() - txSizeBefore, lessThan((long) message.length() / 10));
+        }
+    }
+
     public void testErrorMessage() {
         serviceA.registerRequestHandler("internal:sayHelloException", ThreadPool.Names.GENERIC, StringMessageRequest::new,
             (request, channel, task) -> {